@@ -0,0 +1,168 @@
+package org.rpgl.core;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.rpgl.condition.ConditionNode;
+import org.rpgl.condition.ConditionSequence;
+import org.rpgl.datapack.DatapackLoader;
+import org.rpgl.function.FunctionNode;
+import org.rpgl.json.JsonArray;
+import org.rpgl.json.JsonObject;
+import org.rpgl.subevent.DummySubevent;
+import org.rpgl.subevent.Subevent;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark comparing filter behaviors run through handlers generated by BehaviorHandlerCompiler against the same
+ * behaviors interpreted through a ConditionSequence and FunctionNodes. Run it with <code>gradle jmh</code>.
+ *
+ * @author Calvin Withun
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(2)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class BehaviorHandlerBenchmark {
+
+    private static final JsonArray ORIGIN_POINT = new JsonArray() {{
+        this.addDouble(0.0);
+        this.addDouble(0.0);
+        this.addDouble(0.0);
+    }};
+
+    private RPGLEffect effect;
+    private Subevent subevent;
+    private RPGLContext context;
+    private ConditionSequence interpretedConditions;
+    private FunctionNode[] interpretedFunctions;
+    private BehaviorHandler handler;
+
+    /**
+     * A context in which it is never any object's turn.
+     */
+    private static final class BenchmarkContext extends RPGLContext {
+
+        @Override
+        public boolean isObjectsTurn(RPGLObject object) {
+            return false;
+        }
+
+    }
+
+    @Setup
+    public void setup() throws Exception {
+        DatapackLoader.loadDatapacks(new File(System.getProperty("rpgl.datapacks")));
+        RPGLCore.initializeTesting();
+
+        RPGLObject object = RPGLFactory.newObject("debug:dummy", "benchmark-user");
+        this.effect = new RPGLEffect();
+        this.effect.setSource(object);
+        this.effect.setTarget(object);
+        this.context = new BenchmarkContext();
+        this.context.add(object);
+        this.subevent = new DummySubevent();
+        this.subevent.setSource(object);
+        this.subevent.prepare(this.context, ORIGIN_POINT);
+        this.subevent.setTarget(object);
+        this.subevent.addTag("benchmark");
+
+        this.interpretedConditions = ConditionSequence.compile(createConditions());
+        this.interpretedFunctions = FunctionNode.compileAll(createFunctions());
+
+        BehaviorHandlerCompiler.setEnabled(true);
+        this.handler = BehaviorHandlerCompiler.compile(
+                ConditionNode.compileAll(createConditions()),
+                FunctionNode.compileAll(createFunctions())
+        );
+        BehaviorHandlerCompiler.setEnabled(false);
+        if (this.handler == null) {
+            throw new IllegalStateException("no handler was generated for the benchmarked behavior");
+        }
+    }
+
+    @Benchmark
+    public boolean interpreted() throws Exception {
+        if (this.interpretedConditions.evaluate(this.effect, this.subevent, this.context, ORIGIN_POINT)) {
+            for (FunctionNode function : this.interpretedFunctions) {
+                function.execute(this.effect, this.subevent, this.context, ORIGIN_POINT);
+            }
+            return true;
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean compiled() throws Exception {
+        if (this.handler.evaluateConditions(this.effect, this.subevent, this.context, ORIGIN_POINT)) {
+            this.handler.executeFunctions(this.effect, this.subevent, this.context, ORIGIN_POINT);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * This helper method creates the Conditions of the benchmarked behavior.
+     *
+     * @return a JsonArray of Conditions
+     */
+    private static JsonArray createConditions() {
+        return new JsonArray() {{
+            /*[
+                { "condition": "true" },
+                { "condition": "subevent_has_tag", "tag": "benchmark" },
+                { "condition": "objects_match", "effect": "target", "subevent": "target" },
+                { "condition": "user_ids_match", "effect": "source", "subevent": "source" }
+            ]*/
+            this.addJsonObject(new JsonObject() {{
+                this.putString("condition", "true");
+            }});
+            this.addJsonObject(new JsonObject() {{
+                this.putString("condition", "subevent_has_tag");
+                this.putString("tag", "benchmark");
+            }});
+            this.addJsonObject(new JsonObject() {{
+                this.putString("condition", "objects_match");
+                this.putString("effect", "target");
+                this.putString("subevent", "target");
+            }});
+            this.addJsonObject(new JsonObject() {{
+                this.putString("condition", "user_ids_match");
+                this.putString("effect", "source");
+                this.putString("subevent", "source");
+            }});
+        }};
+    }
+
+    /**
+     * This helper method creates the Functions of the benchmarked behavior.
+     *
+     * @return a JsonArray of Functions
+     */
+    private static JsonArray createFunctions() {
+        return new JsonArray() {{
+            /*[
+                { "function": "dummy_function" },
+                { "function": "dummy_function" }
+            ]*/
+            this.addJsonObject(new JsonObject() {{
+                this.putString("function", "dummy_function");
+            }});
+            this.addJsonObject(new JsonObject() {{
+                this.putString("function", "dummy_function");
+            }});
+        }};
+    }
+
+}
@@ -6,6 +6,9 @@ import org.rpgl.json.JsonArray;
 import org.rpgl.json.JsonObject;
 import org.rpgl.subevent.Subevent;
 
+import java.util.HashSet;
+import java.util.Set;
+
 /**
  * This Condition evaluates true if all of its nested Conditions evaluate to true.
  *
@@ -17,6 +20,37 @@ public class All extends Condition {
         super("all");
     }
 
+    @Override
+    public ConditionCost getCost(ConditionNode conditionNode) {
+        ConditionSequence nestedConditions = conditionNode.getParameters();
+        return Condition.getMaximumCost(nestedConditions.getConditions());
+    }
+
+    @Override
+    public Set<String> getInvokedSubeventIds(JsonObject conditionJson) {
+        Set<String> invokedSubeventIds = new HashSet<>();
+        JsonArray nestedConditionList = conditionJson.getJsonArray("conditions");
+        for (int i = 0; i < nestedConditionList.size(); i++) {
+            JsonObject nestedConditionJson = nestedConditionList.getJsonObject(i);
+            invokedSubeventIds.addAll(Condition.CONDITIONS
+                    .get(nestedConditionJson.getString("condition"))
+                    .getInvokedSubeventIds(nestedConditionJson));
+        }
+        return invokedSubeventIds;
+    }
+
+    @Override
+    public boolean isTargetIndependent(JsonObject conditionJson) {
+        JsonArray nestedConditionList = conditionJson.getJsonArray("conditions");
+        for (int i = 0; i < nestedConditionList.size(); i++) {
+            JsonObject nestedConditionJson = nestedConditionList.getJsonObject(i);
+            if (!Condition.CONDITIONS.get(nestedConditionJson.getString("condition")).isTargetIndependent(nestedConditionJson)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public boolean run(RPGLEffect effect, Subevent subevent, JsonObject conditionJson, RPGLContext context, JsonArray originPoint) throws Exception {
         JsonArray nestedConditionList = conditionJson.getJsonArray("conditions");
@@ -31,4 +65,15 @@ public class All extends Condition {
         return true;
     }
 
+    @Override
+    protected Object parseParameters(JsonObject conditionJson) throws Exception {
+        return ConditionSequence.compile(conditionJson.getJsonArray("conditions"));
+    }
+
+    @Override
+    public boolean run(RPGLEffect effect, Subevent subevent, ConditionNode conditionNode, RPGLContext context, JsonArray originPoint) throws Exception {
+        ConditionSequence nestedConditions = conditionNode.getParameters();
+        return nestedConditions.evaluate(effect, subevent, context, originPoint);
+    }
+
 }
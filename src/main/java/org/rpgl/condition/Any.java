@@ -6,6 +6,9 @@ import org.rpgl.json.JsonArray;
 import org.rpgl.json.JsonObject;
 import org.rpgl.subevent.Subevent;
 
+import java.util.HashSet;
+import java.util.Set;
+
 /**
  * This Condition evaluates true if one or more of its nested Conditions evaluate to true.
  *
@@ -17,6 +20,37 @@ public class Any extends Condition {
         super("any");
     }
 
+    @Override
+    public ConditionCost getCost(ConditionNode conditionNode) {
+        ConditionNode[] nestedConditions = conditionNode.getParameters();
+        return Condition.getMaximumCost(nestedConditions);
+    }
+
+    @Override
+    public Set<String> getInvokedSubeventIds(JsonObject conditionJson) {
+        Set<String> invokedSubeventIds = new HashSet<>();
+        JsonArray nestedConditionList = conditionJson.getJsonArray("conditions");
+        for (int i = 0; i < nestedConditionList.size(); i++) {
+            JsonObject nestedConditionJson = nestedConditionList.getJsonObject(i);
+            invokedSubeventIds.addAll(Condition.CONDITIONS
+                    .get(nestedConditionJson.getString("condition"))
+                    .getInvokedSubeventIds(nestedConditionJson));
+        }
+        return invokedSubeventIds;
+    }
+
+    @Override
+    public boolean isTargetIndependent(JsonObject conditionJson) {
+        JsonArray nestedConditionList = conditionJson.getJsonArray("conditions");
+        for (int i = 0; i < nestedConditionList.size(); i++) {
+            JsonObject nestedConditionJson = nestedConditionList.getJsonObject(i);
+            if (!Condition.CONDITIONS.get(nestedConditionJson.getString("condition")).isTargetIndependent(nestedConditionJson)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public boolean run(RPGLEffect effect, Subevent subevent, JsonObject conditionJson, RPGLContext context, JsonArray originPoint) throws Exception {
         JsonArray nestedConditionArray = conditionJson.getJsonArray("conditions");
@@ -34,4 +68,24 @@ public class Any extends Condition {
         return false;
     }
 
+    @Override
+    protected Object parseParameters(JsonObject conditionJson) throws Exception {
+        return ConditionNode.compileAll(conditionJson.getJsonArray("conditions"));
+    }
+
+    @Override
+    public boolean run(RPGLEffect effect, Subevent subevent, ConditionNode conditionNode, RPGLContext context, JsonArray originPoint) throws Exception {
+        ConditionNode[] nestedConditions = conditionNode.getParameters();
+        if (nestedConditions.length == 0) {
+            return true;
+        }
+        for (ConditionNode nestedCondition : nestedConditions) {
+            // once a single element returns true, iteration can short-circuit
+            if (nestedCondition.evaluate(effect, subevent, context, originPoint)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
 }
@@ -10,6 +10,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * This Condition is dedicated to checking the ability score being used for a AbilitySubevent.
@@ -24,6 +25,21 @@ public class CheckAbility extends Condition {
         super("check_ability");
     }
 
+    @Override
+    public ConditionCost getCost(ConditionNode conditionNode) {
+        return ConditionCost.SUBEVENT;
+    }
+
+    @Override
+    public boolean isTargetIndependent(JsonObject conditionJson) {
+        return true;
+    }
+
+    @Override
+    public Set<String> getInvokedSubeventIds(JsonObject conditionJson) {
+        return Set.of();
+    }
+
     @Override
     public boolean run(RPGLEffect effect, Subevent subevent, JsonObject conditionJson, RPGLContext context, JsonArray originPoint) {
         if (subevent instanceof AbilitySubevent abilitySubevent) {
@@ -33,4 +49,18 @@ public class CheckAbility extends Condition {
         return false;
     }
 
+    @Override
+    protected Object parseParameters(JsonObject conditionJson) {
+        return conditionJson.getString("ability");
+    }
+
+    @Override
+    public boolean run(RPGLEffect effect, Subevent subevent, ConditionNode conditionNode, RPGLContext context, JsonArray originPoint) {
+        if (subevent instanceof AbilitySubevent abilitySubevent) {
+            return Objects.equals(abilitySubevent.getAbility(context), conditionNode.getParameters());
+        }
+        LOGGER.warn("Can not evaluate condition for " + subevent.getClass());
+        return false;
+    }
+
 }
@@ -1,5 +1,6 @@
 package org.rpgl.condition;
 
+import org.rpgl.core.ObjectSelector;
 import org.rpgl.core.RPGLContext;
 import org.rpgl.core.RPGLEffect;
 import org.rpgl.core.RPGLObject;
@@ -7,6 +8,8 @@ import org.rpgl.json.JsonArray;
 import org.rpgl.json.JsonObject;
 import org.rpgl.subevent.Subevent;
 
+import java.util.Set;
+
 /**
  * This Condition is dedicated to comparing an RPGLObject's ability score against a particular value.
  *
@@ -18,6 +21,16 @@ public class CheckAbilityScore extends Condition {
         super("check_ability_score");
     }
 
+    @Override
+    public ConditionCost getCost(ConditionNode conditionNode) {
+        return ConditionCost.DISPATCH;
+    }
+
+    @Override
+    public Set<String> getInvokedSubeventIds(JsonObject conditionJson) {
+        return Set.of("calculate_ability_score");
+    }
+
     @Override
     public boolean run(RPGLEffect effect, Subevent subevent, JsonObject conditionJson, RPGLContext context, JsonArray originPoint) throws Exception {
         RPGLObject object = RPGLEffect.getObject(effect, subevent, conditionJson.getJsonObject("object"));
@@ -28,4 +41,35 @@ public class CheckAbilityScore extends Condition {
         );
     }
 
+    @Override
+    protected Object parseParameters(JsonObject conditionJson) throws Exception {
+        return new Parameters(
+                ObjectSelector.parse(conditionJson.getJsonObject("object")),
+                conditionJson.getString("ability"),
+                conditionJson.getInteger("compare_to"),
+                Comparison.fromOperator(conditionJson.getString("comparison"))
+        );
+    }
+
+    @Override
+    public boolean run(RPGLEffect effect, Subevent subevent, ConditionNode conditionNode, RPGLContext context, JsonArray originPoint) throws Exception {
+        Parameters parameters = conditionNode.getParameters();
+        RPGLObject object = parameters.object().select(effect, subevent);
+        return parameters.comparison().test(
+                object.getAbilityScoreFromAbilityName(parameters.ability(), context),
+                parameters.compareTo()
+        );
+    }
+
+    /**
+     * The pre-parsed parameters of a CheckAbilityScore Condition.
+     *
+     * @param object the RPGLObject whose ability score is checked
+     * @param ability the ability whose score is checked
+     * @param compareTo the value the ability score is compared against
+     * @param comparison the comparison being made
+     */
+    private record Parameters(ObjectSelector object, String ability, int compareTo, Comparison comparison) {
+    }
+
 }
@@ -10,6 +10,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * This Condition is dedicated to checking the distance between two points.
@@ -24,6 +25,16 @@ public class CheckDistance extends Condition {
         super("check_distance");
     }
 
+    @Override
+    public ConditionCost getCost(ConditionNode conditionNode) {
+        return ConditionCost.LOOKUP;
+    }
+
+    @Override
+    public Set<String> getInvokedSubeventIds(JsonObject conditionJson) {
+        return Set.of();
+    }
+
     @Override
     public boolean run(RPGLEffect effect, Subevent subevent, JsonObject conditionJson, RPGLContext context, JsonArray originPoint) throws Exception {
         if (subevent instanceof Movement movement) {
@@ -1,5 +1,6 @@
 package org.rpgl.condition;
 
+import org.rpgl.core.ObjectSelector;
 import org.rpgl.core.RPGLContext;
 import org.rpgl.core.RPGLEffect;
 import org.rpgl.core.RPGLObject;
@@ -7,6 +8,8 @@ import org.rpgl.json.JsonArray;
 import org.rpgl.json.JsonObject;
 import org.rpgl.subevent.Subevent;
 
+import java.util.Set;
+
 /**
  * This Condition is dedicated to checking the level of an RPGLObject.
  *
@@ -18,6 +21,16 @@ public class CheckLevel extends Condition {
         super("check_level");
     }
 
+    @Override
+    public ConditionCost getCost(ConditionNode conditionNode) {
+        return ConditionCost.LOOKUP;
+    }
+
+    @Override
+    public Set<String> getInvokedSubeventIds(JsonObject conditionJson) {
+        return Set.of();
+    }
+
     @Override
     public boolean run(RPGLEffect effect, Subevent subevent, JsonObject conditionJson, RPGLContext context, JsonArray originPoint) throws Exception {
         RPGLObject object = RPGLEffect.getObject(effect, subevent, conditionJson.getJsonObject("object"));
@@ -29,4 +42,35 @@ public class CheckLevel extends Condition {
         );
     }
 
+    @Override
+    protected Object parseParameters(JsonObject conditionJson) throws Exception {
+        return new Parameters(
+                ObjectSelector.parse(conditionJson.getJsonObject("object")),
+                conditionJson.getString("class"),
+                conditionJson.getInteger("compare_to"),
+                Comparison.fromOperator(conditionJson.getString("comparison"))
+        );
+    }
+
+    @Override
+    public boolean run(RPGLEffect effect, Subevent subevent, ConditionNode conditionNode, RPGLContext context, JsonArray originPoint) throws Exception {
+        Parameters parameters = conditionNode.getParameters();
+        RPGLObject object = parameters.object().select(effect, subevent);
+        return parameters.comparison().test(
+                parameters.classId() == null ? object.getLevel() : object.getLevel(parameters.classId()),
+                parameters.compareTo()
+        );
+    }
+
+    /**
+     * The pre-parsed parameters of a CheckLevel Condition.
+     *
+     * @param object the RPGLObject whose level is checked
+     * @param classId the class whose level is checked, or null to check the object's total level
+     * @param compareTo the value the level is compared against
+     * @param comparison the comparison being made
+     */
+    private record Parameters(ObjectSelector object, String classId, int compareTo, Comparison comparison) {
+    }
+
 }
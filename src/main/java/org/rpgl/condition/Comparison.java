@@ -0,0 +1,72 @@
+package org.rpgl.condition;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This enum represents the comparison operators which may be used by Conditions which compare numeric values.
+ *
+ * @author Calvin Withun
+ */
+public enum Comparison {
+
+    EQUAL("="),
+    GREATER(">"),
+    LESS("<"),
+    GREATER_OR_EQUAL(">="),
+    LESS_OR_EQUAL("<=");
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(Comparison.class);
+
+    private final String operator;
+
+    Comparison(String operator) {
+        this.operator = operator;
+    }
+
+    /**
+     * Returns the Comparison represented by a comparison operator.
+     *
+     * @param operator a comparison operator (<code>"=", "<", "<=", ">", ">="</code>)
+     * @return a Comparison
+     *
+     * @throws Exception if an invalid comparison operator is provided
+     */
+    public static Comparison fromOperator(String operator) throws Exception {
+        for (Comparison comparison : values()) {
+            if (comparison.operator.equals(operator)) {
+                return comparison;
+            }
+        }
+        Exception e = new Exception("Illegal comparison value: " + operator);
+        LOGGER.error(e.getMessage());
+        throw e;
+    }
+
+    /**
+     * Returns the comparison operator represented by this Comparison.
+     *
+     * @return a comparison operator
+     */
+    public String getOperator() {
+        return this.operator;
+    }
+
+    /**
+     * This method compares two values using this Comparison.
+     *
+     * @param value the double being compared to another value
+     * @param target the double being compared against
+     * @return true if the comparison is satisfied
+     */
+    public boolean test(double value, double target) {
+        return switch (this) {
+            case EQUAL -> value == target;
+            case GREATER -> value > target;
+            case LESS -> value < target;
+            case GREATER_OR_EQUAL -> value >= target;
+            case LESS_OR_EQUAL -> value <= target;
+        };
+    }
+
+}
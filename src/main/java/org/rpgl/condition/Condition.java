@@ -2,18 +2,22 @@ package org.rpgl.condition;
 
 import org.rpgl.core.RPGLContext;
 import org.rpgl.core.RPGLEffect;
+import org.rpgl.core.RPGLRuntime;
+import org.rpgl.datapack.DatapackAnalyzer;
 import org.rpgl.exception.ConditionMismatchException;
 import org.rpgl.exception.DimensionMismatchException;
+import org.rpgl.function.Function;
 import org.rpgl.json.JsonArray;
 import org.rpgl.json.JsonObject;
 import org.rpgl.subevent.Subevent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Stack;
+import java.util.Set;
 
 /**
  * This class represents an abstract condition which must be met in order for an RPGLEffect to execute its Functions on
@@ -24,14 +28,17 @@ import java.util.Stack;
 public abstract class Condition {
 
     /**
-     * A map of all Conditions which can be used in the JSON of an RPGLEffect.
+     * A map of all Conditions which can be used in the JSON of an RPGLEffect. This map operates on the Conditions of
+     * the current RPGLRuntime.
      */
-    public static final Map<String, Condition> CONDITIONS = new HashMap<>();
+    public static final Map<String, Condition> CONDITIONS = RPGLRuntime.registry(RPGLRuntime::getConditions);
     private static final Logger LOGGER = LoggerFactory.getLogger(Condition.class);
-    private static final Stack<JsonObject> ACTIVE_CONDITIONS = new Stack<>();
 
-    private static boolean exitingConditionLoop = false;
-    private static JsonObject loopedConditionJson = null;
+    /**
+     * The condition loop detection state of each thread. Conditions evaluated as part of one Subevent are always
+     * evaluated on the same thread, so separate threads may process separate contexts concurrently.
+     */
+    private static final ThreadLocal<LoopState> LOOP_STATE = ThreadLocal.withInitial(LoopState::new);
 
     final String conditionId;
 
@@ -74,6 +81,16 @@ public abstract class Condition {
         this.conditionId = conditionId;
     }
 
+    /**
+     * Returns whether a condition loop is being backed out of on the current thread. While this is the case, every
+     * Condition evaluated on the current thread fails.
+     *
+     * @return true if a condition loop is being backed out of
+     */
+    public static boolean isExitingConditionLoop() {
+        return LOOP_STATE.get().exitingConditionLoop;
+    }
+
     /**
      * Verifies that the additional information provided to <code>evaluate(...)</code> is intended for the Condition
      * type being evaluated.
@@ -111,29 +128,133 @@ public abstract class Condition {
             JsonArray originPoint
     ) throws Exception {
         this.verifyCondition(conditionJson);
-        if (ACTIVE_CONDITIONS.contains(conditionJson)) {
+        return this.evaluateVerified(effect, subevent, conditionJson, null, context, originPoint);
+    }
+
+    /**
+     * This method facilitates the evaluation of a compiled Condition. Compiled Conditions were verified when they were
+     * compiled, and run using their pre-parsed parameters.
+     *
+     * @param effect the RPGLEffect containing this Condition
+     * @param subevent a Subevent being invoked
+     * @param conditionNode a ConditionNode compiled by this Condition
+     * @param context the context in which the Condition is being invoked
+     * @param originPoint the point from which the passed subevent emanates
+     * @return true if the condition is satisfied. Note that if a subevent-condition loop is formed, this method will
+     * return false until that loop is exited.
+     *
+     * @throws Exception if an exception occurs
+     */
+    public boolean evaluate(
+            RPGLEffect effect,
+            Subevent subevent,
+            ConditionNode conditionNode,
+            RPGLContext context,
+            JsonArray originPoint
+    ) throws Exception {
+        return this.evaluateVerified(effect, subevent, conditionNode.getConditionJson(), conditionNode, context, originPoint);
+    }
+
+    /**
+     * This method compiles the JSON data of this Condition into a ConditionNode, parsing its parameters ahead of time.
+     *
+     * @param conditionJson a JsonObject containing additional information necessary for the Condition to be evaluated
+     * @return a ConditionNode
+     *
+     * @throws Exception if an exception occurs
+     */
+    public ConditionNode compile(JsonObject conditionJson) throws Exception {
+        this.verifyCondition(conditionJson);
+        return new ConditionNode(this, conditionJson, this.parseParameters(conditionJson));
+    }
+
+    /**
+     * This helper method evaluates a verified Condition, consulting the Subevent's ConditionBatch if it has one.
+     *
+     * @param effect the RPGLEffect containing this Condition
+     * @param subevent a Subevent being invoked
+     * @param conditionJson a JsonObject containing additional information necessary for the Condition to be evaluated
+     * @param conditionNode the ConditionNode being evaluated, or null if the Condition is not compiled
+     * @param context the context in which the Condition is being invoked
+     * @param originPoint the point from which the passed subevent emanates
+     * @return the result of the Condition
+     *
+     * @throws Exception if an exception occurs
+     */
+    private boolean evaluateVerified(
+            RPGLEffect effect,
+            Subevent subevent,
+            JsonObject conditionJson,
+            ConditionNode conditionNode,
+            RPGLContext context,
+            JsonArray originPoint
+    ) throws Exception {
+        ConditionBatch conditionBatch = subevent == null ? null : subevent.getConditionBatch();
+        if (conditionBatch != null
+                && !LOOP_STATE.get().exitingConditionLoop
+                && (conditionNode == null ? this.isTargetIndependent(conditionJson) : conditionNode.isTargetIndependent())) {
+            // target-independent conditions never nest, so they can neither start nor end a loop back-out
+            Boolean batchedResult = conditionBatch.get(effect, conditionJson);
+            if (batchedResult == null) {
+                batchedResult = this.evaluateUnbatched(effect, subevent, conditionJson, conditionNode, context, originPoint);
+                conditionBatch.put(effect, conditionJson, batchedResult);
+            }
+            return batchedResult;
+        }
+        return this.evaluateUnbatched(effect, subevent, conditionJson, conditionNode, context, originPoint);
+    }
+
+    /**
+     * This helper method evaluates a verified Condition without consulting the Subevent's ConditionBatch.
+     *
+     * @param effect the RPGLEffect containing this Condition
+     * @param subevent a Subevent being invoked
+     * @param conditionJson a JsonObject containing additional information necessary for the Condition to be evaluated
+     * @param conditionNode the ConditionNode being evaluated, or null if the Condition is not compiled
+     * @param context the context in which the Condition is being invoked
+     * @param originPoint the point from which the passed subevent emanates
+     * @return the result of the Condition
+     *
+     * @throws Exception if an exception occurs
+     */
+    private boolean evaluateUnbatched(
+            RPGLEffect effect,
+            Subevent subevent,
+            JsonObject conditionJson,
+            ConditionNode conditionNode,
+            RPGLContext context,
+            JsonArray originPoint
+    ) throws Exception {
+        LoopState loopState = LOOP_STATE.get();
+        if (conditionNode != null && subevent != null && !DatapackAnalyzer.isSubeventCyclic(subevent.getSubeventId())) {
+            // this condition can not be evaluated again from within itself, so it can neither start nor end a loop
+            boolean result = this.run(effect, subevent, conditionNode, context, originPoint);
+            return result && !loopState.exitingConditionLoop;
+        }
+        // conditions are identified by the map backing their JSON data, which compiled and interpreted evaluation share
+        Object conditionKey = conditionJson.asMap();
+        if (!loopState.activeConditions.add(conditionKey)) {
             // begin the back-out if you detect a loop
-            exitingConditionLoop = true;
-            loopedConditionJson = conditionJson;
+            loopState.exitingConditionLoop = true;
+            loopState.loopedCondition = conditionKey;
             return false;
         } else {
             // else proceed as usual
-            ACTIVE_CONDITIONS.push(conditionJson);
             boolean result;
             try {
-                result = this.run(effect, subevent, conditionJson, context, originPoint);
-            } catch (Exception e) {
-                ACTIVE_CONDITIONS.pop();
-                throw e;
+                result = conditionNode == null
+                        ? this.run(effect, subevent, conditionJson, context, originPoint)
+                        : this.run(effect, subevent, conditionNode, context, originPoint);
+            } finally {
+                loopState.activeConditions.remove(conditionKey);
             }
-            ACTIVE_CONDITIONS.pop();
 
-            if (exitingConditionLoop) {
+            if (loopState.exitingConditionLoop) {
                 // back out and fail the condition if you are exiting a loop
-                if (Objects.equals(loopedConditionJson, conditionJson)) {
+                if (loopState.loopedCondition == conditionKey) {
                     // end the back-out if you have reached the start of the loop
-                    exitingConditionLoop = false;
-                    loopedConditionJson = null;
+                    loopState.exitingConditionLoop = false;
+                    loopState.loopedCondition = null;
                 }
                 return false;
             }
@@ -141,6 +262,20 @@ public abstract class Condition {
         }
     }
 
+    /**
+     * Returns whether this Condition only reads data which is shared by every clone of a Subevent fanned out to
+     * different targets: the RPGLEffect, and the source, origin item, and prepared payload of the Subevent. Such
+     * Conditions are evaluated once per ConditionBatch rather than once per target. Conditions which read the target
+     * of the Subevent, invoke Subevents of their own, or read data which RPGLEffects may change during processing must
+     * return false, which is the default.
+     *
+     * @param conditionJson a JsonObject containing additional information necessary for the Condition to be evaluated
+     * @return true if the Condition's result is the same for every Subevent in a ConditionBatch
+     */
+    public boolean isTargetIndependent(@SuppressWarnings("unused") JsonObject conditionJson) {
+        return false;
+    }
+
     /**
      * This method contains the logic definitive of the Condition.
      *
@@ -160,10 +295,88 @@ public abstract class Condition {
             JsonArray originPoint
     ) throws Exception;
 
+    /**
+     * This method contains the logic definitive of the Condition, for use when the Condition has been compiled. By
+     * default, this method runs the Condition using the JSON data it was compiled from. Conditions which pre-parse their
+     * parameters override this method to read those parameters from the passed ConditionNode instead.
+     *
+     * @param effect the RPGLEffect containing this Condition
+     * @param subevent a Subevent being invoked
+     * @param conditionNode a ConditionNode compiled by this Condition
+     * @param context the context in which the Condition is being invoked
+     * @param originPoint the point from which the passed subevent emanates
+     *
+     * @throws Exception if an exception occurs
+     */
+    public boolean run(
+            RPGLEffect effect,
+            Subevent subevent,
+            ConditionNode conditionNode,
+            RPGLContext context,
+            JsonArray originPoint
+    ) throws Exception {
+        return this.run(effect, subevent, conditionNode.getConditionJson(), context, originPoint);
+    }
+
+    /**
+     * Returns the static cost class of this Condition, which is used to order compiled Conditions. Conditions which
+     * invoke Subevents of their own, or which otherwise have side effects, must return
+     * <code>ConditionCost.DISPATCH</code>. By default, a Condition is assumed to have side effects, so Conditions which
+     * only read data should override this method.
+     *
+     * @param conditionNode a ConditionNode compiled by this Condition
+     * @return a ConditionCost
+     */
+    public ConditionCost getCost(@SuppressWarnings("unused") ConditionNode conditionNode) {
+        return ConditionCost.DISPATCH;
+    }
+
+    /**
+     * Returns the IDs of the Subevents this Condition may invoke while it is being evaluated. This is used to detect
+     * which Conditions could form a loop (see <code>DatapackAnalyzer</code>). By default, a Condition is assumed to be
+     * able to invoke any Subevent, so Conditions which invoke few or no Subevents should override this method.
+     *
+     * @param conditionJson a JsonObject containing additional information necessary for the Condition to be evaluated
+     * @return a Set of subevent IDs, which includes <code>Function.ANY_SUBEVENT</code> if any Subevent may be invoked
+     */
+    public Set<String> getInvokedSubeventIds(@SuppressWarnings("unused") JsonObject conditionJson) {
+        return Set.of(Function.ANY_SUBEVENT);
+    }
+
+    /**
+     * This method parses the parameters of this Condition ahead of time, when it is compiled. The returned object is
+     * made available to <code>run(...)</code> through <code>ConditionNode.getParameters()</code>. By default, no
+     * parameters are parsed.
+     *
+     * @param conditionJson a JsonObject containing additional information necessary for the Condition to be evaluated
+     * @return the pre-parsed parameters of the Condition, or null
+     *
+     * @throws Exception if an exception occurs
+     */
+    protected Object parseParameters(@SuppressWarnings("unused") JsonObject conditionJson) throws Exception {
+        return null;
+    }
+
     // =================================================================================================================
     // Condition helper methods
     // =================================================================================================================
 
+    /**
+     * This helper method returns the most expensive cost class among a collection of compiled Conditions.
+     *
+     * @param conditionNodes an array of ConditionNodes
+     * @return the most expensive ConditionCost, or <code>ConditionCost.CONSTANT</code> if the array is empty
+     */
+    static ConditionCost getMaximumCost(ConditionNode[] conditionNodes) {
+        ConditionCost maximumCost = ConditionCost.CONSTANT;
+        for (ConditionNode conditionNode : conditionNodes) {
+            if (conditionNode.getCost().compareTo(maximumCost) > 0) {
+                maximumCost = conditionNode.getCost();
+            }
+        }
+        return maximumCost;
+    }
+
     /**
      * This helper method compares two integer values in accordance with a specified comparison operator.
      *
@@ -175,23 +388,7 @@ public abstract class Condition {
      * @throws Exception if an invalid comparison operator is provided
      */
     public static boolean compareValues(double value, double target, String comparison) throws Exception {
-        switch(comparison) {
-            case "=":
-                return value == target;
-            case ">":
-                return value > target;
-            case "<":
-                return value < target;
-            case ">=":
-                return value >= target;
-            case "<=":
-                return value <= target;
-            default: {
-                Exception e = new Exception("Illegal comparison value: " + comparison);
-                LOGGER.error(e.getMessage());
-                throw e;
-            }
-        }
+        return Comparison.fromOperator(comparison).test(value, target);
     }
 
     /**
@@ -246,4 +443,16 @@ public abstract class Condition {
         return sum;
     }
 
+    /**
+     * The condition loop detection state of a single thread. Conditions are tracked by identity, so checking whether a
+     * Condition is already being evaluated takes constant time.
+     */
+    private static final class LoopState {
+
+        private final Set<Object> activeConditions = Collections.newSetFromMap(new IdentityHashMap<>());
+        private boolean exitingConditionLoop = false;
+        private Object loopedCondition = null;
+
+    }
+
 }
@@ -0,0 +1,79 @@
+package org.rpgl.condition;
+
+import org.rpgl.core.CalculationMemo;
+import org.rpgl.core.RPGLEffect;
+import org.rpgl.json.JsonObject;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This class stores the results of target-independent Conditions for a batch of Subevents which were cloned from the
+ * same prepared Subevent for different targets. A target-independent Condition only reads data which is shared by
+ * every Subevent in the batch (see <code>Condition.isTargetIndependent(...)</code>), so it only needs to be evaluated
+ * once per RPGLEffect for the whole batch.
+ *
+ * @author Calvin Withun
+ */
+public final class ConditionBatch {
+
+    /**
+     * Incremented whenever data read by a target-independent Condition may have changed. Results stored by a batch are
+     * discarded when this value changes.
+     */
+    private static final AtomicLong INPUT_VERSION = new AtomicLong();
+
+    private final Map<RPGLEffect, Map<Object, Boolean>> results;
+    private long version;
+
+    /**
+     * Constructor for ConditionBatch.
+     */
+    public ConditionBatch() {
+        this.results = new IdentityHashMap<>();
+        this.version = INPUT_VERSION.get();
+    }
+
+    /**
+     * This method informs every ConditionBatch that data read by target-independent Conditions may have changed. This
+     * includes the tags of RPGLItems, the user IDs of RPGLObjects, and the source, target, and origin item of
+     * RPGLEffects. Results memoized by a CalculationMemo are discarded as well.
+     */
+    public static void invalidate() {
+        INPUT_VERSION.incrementAndGet();
+        CalculationMemo.invalidate();
+    }
+
+    /**
+     * Returns the stored result of a Condition evaluated for an RPGLEffect, or null if no result is stored.
+     *
+     * @param effect the RPGLEffect the Condition belongs to
+     * @param conditionJson the JSON data of the Condition
+     * @return the stored result, or null
+     */
+    synchronized Boolean get(RPGLEffect effect, JsonObject conditionJson) {
+        long version = INPUT_VERSION.get();
+        if (this.version != version) {
+            this.results.clear();
+            this.version = version;
+            return null;
+        }
+        Map<Object, Boolean> effectResults = this.results.get(effect);
+        return effectResults == null ? null : effectResults.get(conditionJson.asMap());
+    }
+
+    /**
+     * Stores the result of a Condition evaluated for an RPGLEffect.
+     *
+     * @param effect the RPGLEffect the Condition belongs to
+     * @param conditionJson the JSON data of the Condition
+     * @param result the result of the Condition
+     */
+    synchronized void put(RPGLEffect effect, JsonObject conditionJson, boolean result) {
+        if (this.version == INPUT_VERSION.get()) {
+            this.results.computeIfAbsent(effect, k -> new IdentityHashMap<>()).put(conditionJson.asMap(), result);
+        }
+    }
+
+}
@@ -0,0 +1,44 @@
+package org.rpgl.condition;
+
+/**
+ * This enum classifies how expensive a Condition is to evaluate. Each class carries an estimate of the time a Condition
+ * of that class takes to evaluate, which is used to order Conditions.
+ *
+ * @author Calvin Withun
+ */
+public enum ConditionCost {
+
+    /**
+     * The Condition does not read any data.
+     */
+    CONSTANT(10),
+    /**
+     * The Condition only reads data belonging to the Subevent or the RPGLEffect.
+     */
+    SUBEVENT(50),
+    /**
+     * The Condition reads data belonging to RPGLObjects or RPGLItems, which may require UUIDTable lookups.
+     */
+    LOOKUP(500),
+    /**
+     * The Condition invokes Subevents of its own, such as <code>CalculateAbilityScore</code> or
+     * <code>CalculateReach</code>, or otherwise may have side effects. Such Conditions are never reordered.
+     */
+    DISPATCH(20000);
+
+    private final long estimatedNanos;
+
+    ConditionCost(long estimatedNanos) {
+        this.estimatedNanos = estimatedNanos;
+    }
+
+    /**
+     * Returns the estimated time taken to evaluate a Condition of this class.
+     *
+     * @return a number of nanoseconds
+     */
+    public long getEstimatedNanos() {
+        return this.estimatedNanos;
+    }
+
+}
@@ -0,0 +1,185 @@
+package org.rpgl.condition;
+
+import org.rpgl.core.RPGLContext;
+import org.rpgl.core.RPGLEffect;
+import org.rpgl.exception.ConditionMismatchException;
+import org.rpgl.json.JsonArray;
+import org.rpgl.json.JsonObject;
+import org.rpgl.subevent.Subevent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class is a compiled form of the JSON data of a Condition. It is bound directly to the Condition it names, and
+ * holds any parameters that Condition parsed when it was compiled, so that evaluating it requires neither a lookup in
+ * <code>Condition.CONDITIONS</code> nor re-reading its parameters from JSON.
+ *
+ * @author Calvin Withun
+ */
+public final class ConditionNode {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConditionNode.class);
+
+    /**
+     * The number of evaluations a ConditionNode must be profiled for before its failure rate is trusted.
+     */
+    private static final int MINIMUM_PROFILED_EVALUATIONS = 64;
+
+    private final Condition condition;
+    private final JsonObject conditionJson;
+    private final Object parameters;
+    private final boolean targetIndependent;
+    private final ConditionCost cost;
+    private final LongAdder profiledEvaluations;
+    private final LongAdder profiledFailures;
+
+    /**
+     * Constructor for ConditionNode. ConditionNodes should be created via <code>ConditionNode.compile(...)</code>.
+     *
+     * @param condition the Condition named by the passed JSON data
+     * @param conditionJson the JSON data of the Condition
+     * @param parameters the pre-parsed parameters of the Condition, or null
+     */
+    ConditionNode(Condition condition, JsonObject conditionJson, Object parameters) {
+        this.condition = condition;
+        this.conditionJson = conditionJson;
+        this.parameters = parameters;
+        this.targetIndependent = condition.isTargetIndependent(conditionJson);
+        this.cost = condition.getCost(this);
+        this.profiledEvaluations = new LongAdder();
+        this.profiledFailures = new LongAdder();
+    }
+
+    /**
+     * This method compiles the JSON data of a Condition into a ConditionNode.
+     *
+     * @param conditionJson a JsonObject containing additional information necessary for the Condition to be evaluated
+     * @return a ConditionNode
+     *
+     * @throws Exception if the named Condition does not exist, or if it fails to compile
+     */
+    public static ConditionNode compile(JsonObject conditionJson) throws Exception {
+        Condition condition = Condition.CONDITIONS.get(conditionJson.getString("condition"));
+        if (condition == null) {
+            ConditionMismatchException e = new ConditionMismatchException("<any>", conditionJson.getString("condition"));
+            LOGGER.error(e.getMessage());
+            throw e;
+        }
+        return condition.compile(conditionJson);
+    }
+
+    /**
+     * This method compiles an array of Condition JSON data into an array of ConditionNodes.
+     *
+     * @param conditionJsonArray an array of JsonObjects defining Conditions
+     * @return an array of ConditionNodes
+     *
+     * @throws Exception if any Condition fails to compile
+     */
+    public static ConditionNode[] compileAll(JsonArray conditionJsonArray) throws Exception {
+        ConditionNode[] conditionNodes = new ConditionNode[conditionJsonArray.size()];
+        for (int i = 0; i < conditionNodes.length; i++) {
+            conditionNodes[i] = compile(conditionJsonArray.getJsonObject(i));
+        }
+        return conditionNodes;
+    }
+
+    /**
+     * This method evaluates the compiled Condition.
+     *
+     * @param effect the RPGLEffect containing this Condition
+     * @param subevent a Subevent being invoked
+     * @param context the context in which the Condition is being invoked
+     * @param originPoint the point from which the passed subevent emanates
+     * @return true if the condition is satisfied
+     *
+     * @throws Exception if an exception occurs
+     */
+    public boolean evaluate(RPGLEffect effect, Subevent subevent, RPGLContext context, JsonArray originPoint) throws Exception {
+        return this.condition.evaluate(effect, subevent, this, context, originPoint);
+    }
+
+    /**
+     * This method evaluates the compiled Condition, recording how often it is satisfied.
+     *
+     * @param effect the RPGLEffect containing this Condition
+     * @param subevent a Subevent being invoked
+     * @param context the context in which the Condition is being invoked
+     * @param originPoint the point from which the passed subevent emanates
+     * @return true if the condition is satisfied
+     *
+     * @throws Exception if an exception occurs
+     */
+    boolean evaluateProfiled(RPGLEffect effect, Subevent subevent, RPGLContext context, JsonArray originPoint) throws Exception {
+        boolean result = this.evaluate(effect, subevent, context, originPoint);
+        this.profiledEvaluations.increment();
+        if (!result) {
+            this.profiledFailures.increment();
+        }
+        return result;
+    }
+
+    /**
+     * Returns the static cost class of the compiled Condition.
+     *
+     * @return a ConditionCost
+     */
+    public ConditionCost getCost() {
+        return this.cost;
+    }
+
+    /**
+     * Returns the fraction of evaluations in which the compiled Condition was not satisfied. This is measured once the
+     * node has been profiled, and otherwise assumed to be one half.
+     *
+     * @return a value between 0 and 1
+     */
+    public double getFailureRate() {
+        long profiledEvaluations = this.profiledEvaluations.sum();
+        if (profiledEvaluations < MINIMUM_PROFILED_EVALUATIONS) {
+            return 0.5;
+        }
+        return (double) this.profiledFailures.sum() / profiledEvaluations;
+    }
+
+    /**
+     * Returns the Condition this node is bound to.
+     *
+     * @return a Condition
+     */
+    public Condition getCondition() {
+        return this.condition;
+    }
+
+    /**
+     * Returns the JSON data this node was compiled from.
+     *
+     * @return a JsonObject
+     */
+    public JsonObject getConditionJson() {
+        return this.conditionJson;
+    }
+
+    /**
+     * Returns whether the compiled Condition is target-independent (see <code>Condition.isTargetIndependent(...)</code>).
+     *
+     * @return true if the compiled Condition is target-independent
+     */
+    public boolean isTargetIndependent() {
+        return this.targetIndependent;
+    }
+
+    /**
+     * Returns the parameters parsed by the Condition when this node was compiled.
+     *
+     * @param <T> the type of the parameters
+     * @return the pre-parsed parameters, or null
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getParameters() {
+        return (T) this.parameters;
+    }
+
+}
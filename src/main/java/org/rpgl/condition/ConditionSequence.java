@@ -0,0 +1,134 @@
+package org.rpgl.condition;
+
+import org.rpgl.core.RPGLContext;
+import org.rpgl.core.RPGLEffect;
+import org.rpgl.json.JsonArray;
+import org.rpgl.subevent.Subevent;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This class represents a sequence of compiled Conditions which must all be satisfied. Evaluation stops at the first
+ * Condition which is not satisfied, and the Conditions are ordered so that cheap, selective Conditions are evaluated
+ * first.
+ * <br>
+ * <br>
+ * Conditions are initially ordered by their static ConditionCost. As the sequence is evaluated, each Condition records
+ * how often it is satisfied, and the sequence periodically reorders itself by the expected cost of reaching a failing
+ * Condition. Conditions of cost class DISPATCH may have side effects, so they are always evaluated last and in the order
+ * they were declared. Every other Condition only reads data, so the order in which those are evaluated never changes
+ * the result of the sequence, or whether any Condition of cost class DISPATCH is evaluated.
+ * <br>
+ * <br>
+ * Sequences belonging to shared effect rules are evaluated from many threads at once. Profiles are updated atomically,
+ * and each new evaluation order is published in a single write.
+ *
+ * @author Calvin Withun
+ */
+public final class ConditionSequence {
+
+    /**
+     * The number of evaluations between attempts to reorder a sequence.
+     */
+    static final int REORDER_INTERVAL = 256;
+
+    private final ConditionNode[] declaredOrder;
+    private volatile ConditionNode[] evaluationOrder;
+    private final AtomicInteger evaluationCount;
+
+    /**
+     * Constructor for ConditionSequence.
+     *
+     * @param conditions the compiled Conditions of the sequence, in the order they were declared
+     */
+    public ConditionSequence(ConditionNode[] conditions) {
+        this.declaredOrder = conditions;
+        this.evaluationOrder = order(conditions);
+        this.evaluationCount = new AtomicInteger();
+    }
+
+    /**
+     * This method compiles an array of Condition JSON data into a ConditionSequence.
+     *
+     * @param conditionJsonArray an array of JsonObjects defining Conditions
+     * @return a ConditionSequence
+     *
+     * @throws Exception if any Condition fails to compile
+     */
+    public static ConditionSequence compile(JsonArray conditionJsonArray) throws Exception {
+        return new ConditionSequence(ConditionNode.compileAll(conditionJsonArray));
+    }
+
+    /**
+     * This method evaluates the Conditions in this sequence, stopping at the first one which is not satisfied.
+     *
+     * @param effect the RPGLEffect containing these Conditions
+     * @param subevent a Subevent being invoked
+     * @param context the context in which the Conditions are being evaluated
+     * @param originPoint the point from which the passed subevent emanates
+     * @return true if every Condition is satisfied
+     *
+     * @throws Exception if an exception occurs
+     */
+    public boolean evaluate(RPGLEffect effect, Subevent subevent, RPGLContext context, JsonArray originPoint) throws Exception {
+        if (this.evaluationCount.incrementAndGet() % REORDER_INTERVAL == 0) {
+            this.evaluationOrder = order(this.declaredOrder);
+        }
+        for (ConditionNode condition : this.evaluationOrder) {
+            if (!condition.evaluateProfiled(effect, subevent, context, originPoint)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the compiled Conditions in this sequence, in the order they were declared.
+     *
+     * @return an array of ConditionNodes
+     */
+    public ConditionNode[] getConditions() {
+        return this.declaredOrder.clone();
+    }
+
+    /**
+     * Returns the compiled Conditions in this sequence, in the order they are currently evaluated.
+     *
+     * @return an array of ConditionNodes
+     */
+    public ConditionNode[] getEvaluationOrder() {
+        return this.evaluationOrder.clone();
+    }
+
+    /**
+     * This helper method orders Conditions by the expected cost of evaluating them before reaching one which fails.
+     * Conditions of cost class DISPATCH are kept last, in their declared order.
+     *
+     * @param conditions an array of ConditionNodes in declared order
+     * @return a new array of ConditionNodes in evaluation order
+     */
+    private static ConditionNode[] order(ConditionNode[] conditions) {
+        ConditionNode[] ordered = conditions.clone();
+        // a stable sort keeps Conditions of equal rank, and every DISPATCH Condition, in declared order
+        Arrays.sort(ordered, Comparator
+                .comparing((ConditionNode condition) -> condition.getCost() == ConditionCost.DISPATCH)
+                .thenComparingDouble(condition -> condition.getCost() == ConditionCost.DISPATCH ? 0.0 : rank(condition))
+        );
+        return ordered;
+    }
+
+    /**
+     * This helper method calculates the rank of a Condition in a conjunction. Evaluating Conditions in ascending order
+     * of expected cost divided by probability of failure minimizes the expected cost of the conjunction. The cost of a
+     * Condition is estimated from its cost class rather than measured, so that its rank does not depend on timing.
+     *
+     * @param condition a ConditionNode
+     * @return the rank of the Condition
+     */
+    private static double rank(ConditionNode condition) {
+        return condition.getCost().getEstimatedNanos() / Math.max(condition.getFailureRate(), 0.001);
+    }
+
+}
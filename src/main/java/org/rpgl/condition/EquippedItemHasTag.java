@@ -10,6 +10,7 @@ import org.rpgl.subevent.Subevent;
 import org.rpgl.uuidtable.UUIDTable;
 
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * This Condition is dedicated to evaluating whether any of an indicated set of equipment slots contain an item with a
@@ -23,6 +24,16 @@ public class EquippedItemHasTag extends Condition {
         super("equipped_item_has_tag");
     }
 
+    @Override
+    public ConditionCost getCost(ConditionNode conditionNode) {
+        return ConditionCost.LOOKUP;
+    }
+
+    @Override
+    public Set<String> getInvokedSubeventIds(JsonObject conditionJson) {
+        return Set.of();
+    }
+
     @Override
     public boolean run(RPGLEffect effect, Subevent subevent, JsonObject conditionJson, RPGLContext context, JsonArray originPoint) throws Exception {
         RPGLObject object = RPGLEffect.getObject(effect, subevent, conditionJson.getJsonObject("object"));
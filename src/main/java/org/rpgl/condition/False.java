@@ -6,6 +6,8 @@ import org.rpgl.json.JsonArray;
 import org.rpgl.json.JsonObject;
 import org.rpgl.subevent.Subevent;
 
+import java.util.Set;
+
 /**
  * This Condition always evaluates false.
  *
@@ -17,6 +19,21 @@ public class False extends Condition {
         super("false");
     }
 
+    @Override
+    public ConditionCost getCost(ConditionNode conditionNode) {
+        return ConditionCost.CONSTANT;
+    }
+
+    @Override
+    public boolean isTargetIndependent(JsonObject conditionJson) {
+        return true;
+    }
+
+    @Override
+    public Set<String> getInvokedSubeventIds(JsonObject conditionJson) {
+        return Set.of();
+    }
+
     @Override
     public boolean run(RPGLEffect effect, Subevent subevent, JsonObject conditionJson, RPGLContext context, JsonArray originPoint) {
         return false;
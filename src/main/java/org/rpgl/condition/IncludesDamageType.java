@@ -9,6 +9,8 @@ import org.rpgl.subevent.Subevent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Set;
+
 /**
  * This Condition is dedicated to checking if a DamageAffinity Subevent includes a given damage type.
  *
@@ -22,6 +24,16 @@ public class IncludesDamageType extends Condition {
         super("includes_damage_type");
     }
 
+    @Override
+    public ConditionCost getCost(ConditionNode conditionNode) {
+        return ConditionCost.SUBEVENT;
+    }
+
+    @Override
+    public Set<String> getInvokedSubeventIds(JsonObject conditionJson) {
+        return Set.of();
+    }
+
     @Override
     public boolean run(RPGLEffect effect, Subevent subevent, JsonObject conditionJson, RPGLContext context, JsonArray originPoint) {
         if (subevent instanceof DamageTypeSubevent damageTypeSubevent) {
@@ -6,6 +6,8 @@ import org.rpgl.json.JsonArray;
 import org.rpgl.json.JsonObject;
 import org.rpgl.subevent.Subevent;
 
+import java.util.Set;
+
 /**
  * This Condition evaluates true if its nested Condition evaluates false.
  *
@@ -17,6 +19,24 @@ public class Invert extends Condition {
         super("invert");
     }
 
+    @Override
+    public ConditionCost getCost(ConditionNode conditionNode) {
+        ConditionNode nestedCondition = conditionNode.getParameters();
+        return nestedCondition.getCost();
+    }
+
+    @Override
+    public Set<String> getInvokedSubeventIds(JsonObject conditionJson) {
+        JsonObject nestedConditionJson = conditionJson.getJsonObject("invert");
+        return Condition.CONDITIONS.get(nestedConditionJson.getString("condition")).getInvokedSubeventIds(nestedConditionJson);
+    }
+
+    @Override
+    public boolean isTargetIndependent(JsonObject conditionJson) {
+        JsonObject nestedConditionJson = conditionJson.getJsonObject("invert");
+        return Condition.CONDITIONS.get(nestedConditionJson.getString("condition")).isTargetIndependent(nestedConditionJson);
+    }
+
     @Override
     public boolean run(RPGLEffect effect, Subevent subevent, JsonObject conditionJson, RPGLContext context, JsonArray originPoint) throws Exception {
         JsonObject nestedConditionJson = conditionJson.getJsonObject("invert");
@@ -24,4 +44,16 @@ public class Invert extends Condition {
                 .get(nestedConditionJson.getString("condition"))
                 .evaluate(effect, subevent, nestedConditionJson, context, originPoint);
     }
+
+    @Override
+    protected Object parseParameters(JsonObject conditionJson) throws Exception {
+        return ConditionNode.compile(conditionJson.getJsonObject("invert"));
+    }
+
+    @Override
+    public boolean run(RPGLEffect effect, Subevent subevent, ConditionNode conditionNode, RPGLContext context, JsonArray originPoint) throws Exception {
+        ConditionNode nestedCondition = conditionNode.getParameters();
+        return !nestedCondition.evaluate(effect, subevent, context, originPoint);
+    }
+
 }
@@ -6,6 +6,8 @@ import org.rpgl.json.JsonArray;
 import org.rpgl.json.JsonObject;
 import org.rpgl.subevent.Subevent;
 
+import java.util.Set;
+
 /**
  * This Condition is dedicated to determining whether it is an RPGLObject's turn.
  *
@@ -17,6 +19,16 @@ public class IsObjectsTurn extends Condition {
         super("is_objects_turn");
     }
 
+    @Override
+    public ConditionCost getCost(ConditionNode conditionNode) {
+        return ConditionCost.LOOKUP;
+    }
+
+    @Override
+    public Set<String> getInvokedSubeventIds(JsonObject conditionJson) {
+        return Set.of();
+    }
+
     @Override
     public boolean run(RPGLEffect effect, Subevent subevent, JsonObject conditionJson, RPGLContext context, JsonArray originPoint) throws Exception {
         return context.isObjectsTurn(RPGLEffect.getObject(effect, subevent, conditionJson.getJsonObject("object")));
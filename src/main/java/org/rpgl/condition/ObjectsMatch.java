@@ -1,13 +1,16 @@
 package org.rpgl.condition;
 
+import org.rpgl.core.ObjectSelector;
 import org.rpgl.core.RPGLContext;
 import org.rpgl.core.RPGLEffect;
 import org.rpgl.core.RPGLObject;
 import org.rpgl.json.JsonArray;
 import org.rpgl.json.JsonObject;
+import org.rpgl.json.JsonObjectBuilder;
 import org.rpgl.subevent.Subevent;
 
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * This Condition is dedicated to comparing two RPGLObjects to see if they are the same.
@@ -20,17 +23,57 @@ public class ObjectsMatch extends Condition {
         super("objects_match");
     }
 
+    @Override
+    public boolean isTargetIndependent(JsonObject conditionJson) {
+        return !"target".equals(conditionJson.getString("subevent"));
+    }
+
+    @Override
+    public ConditionCost getCost(ConditionNode conditionNode) {
+        return ConditionCost.LOOKUP;
+    }
+
+    @Override
+    public Set<String> getInvokedSubeventIds(JsonObject conditionJson) {
+        return Set.of();
+    }
+
     @Override
     public boolean run(RPGLEffect effect, Subevent subevent, JsonObject conditionJson, RPGLContext context, JsonArray originPoint) throws Exception {
-        RPGLObject effectObject = RPGLEffect.getObject(effect, subevent, new JsonObject() {{
-            this.putString("from", "effect");
-            this.putString("object", conditionJson.getString("effect"));
-        }});
-        RPGLObject subeventObject = RPGLEffect.getObject(effect, subevent, new JsonObject() {{
-            this.putString("from", "subevent");
-            this.putString("object", conditionJson.getString("subevent"));
-        }});
+        RPGLObject effectObject = RPGLEffect.getObject(effect, subevent, JsonObjectBuilder.createTransient()
+                .putString("from", "effect")
+                .putString("object", conditionJson.getString("effect"))
+                .build());
+        RPGLObject subeventObject = RPGLEffect.getObject(effect, subevent, JsonObjectBuilder.createTransient()
+                .putString("from", "subevent")
+                .putString("object", conditionJson.getString("subevent"))
+                .build());
         return Objects.equals(effectObject, subeventObject);
     }
 
+    @Override
+    protected Object parseParameters(JsonObject conditionJson) {
+        return new Parameters(
+                ObjectSelector.of("effect", conditionJson.getString("effect")),
+                ObjectSelector.of("subevent", conditionJson.getString("subevent"))
+        );
+    }
+
+    @Override
+    public boolean run(RPGLEffect effect, Subevent subevent, ConditionNode conditionNode, RPGLContext context, JsonArray originPoint) throws Exception {
+        Parameters parameters = conditionNode.getParameters();
+        RPGLObject effectObject = parameters.effectObject().select(effect, subevent);
+        RPGLObject subeventObject = parameters.subeventObject().select(effect, subevent);
+        return Objects.equals(effectObject, subeventObject);
+    }
+
+    /**
+     * The pre-parsed parameters of a ObjectsMatch Condition.
+     *
+     * @param effectObject the RPGLObject selected from the RPGLEffect
+     * @param subeventObject the RPGLObject selected from the Subevent
+     */
+    private record Parameters(ObjectSelector effectObject, ObjectSelector subeventObject) {
+    }
+
 }
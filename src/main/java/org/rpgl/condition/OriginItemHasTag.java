@@ -9,6 +9,7 @@ import org.rpgl.subevent.Subevent;
 import org.rpgl.uuidtable.UUIDTable;
 
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * This Condition is dedicated to evaluating whether an origin item has a particular tag.
@@ -21,6 +22,21 @@ public class OriginItemHasTag extends Condition {
         super("origin_item_has_tag");
     }
 
+    @Override
+    public boolean isTargetIndependent(JsonObject conditionJson) {
+        return true;
+    }
+
+    @Override
+    public ConditionCost getCost(ConditionNode conditionNode) {
+        return ConditionCost.LOOKUP;
+    }
+
+    @Override
+    public Set<String> getInvokedSubeventIds(JsonObject conditionJson) {
+        return Set.of();
+    }
+
     @Override
     public boolean run(RPGLEffect effect, Subevent subevent, JsonObject conditionJson, RPGLContext context, JsonArray originPoint) throws Exception {
         String originItemAlias = conditionJson.getString("origin_item");
@@ -7,6 +7,7 @@ import org.rpgl.json.JsonObject;
 import org.rpgl.subevent.Subevent;
 
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * This Condition is dedicated to comparing the origin items of an RPGLEvent and an RPGLEffect to determine if the
@@ -20,6 +21,21 @@ public class OriginItemsMatch extends Condition {
         super("origin_items_match");
     }
 
+    @Override
+    public ConditionCost getCost(ConditionNode conditionNode) {
+        return ConditionCost.SUBEVENT;
+    }
+
+    @Override
+    public boolean isTargetIndependent(JsonObject conditionJson) {
+        return true;
+    }
+
+    @Override
+    public Set<String> getInvokedSubeventIds(JsonObject conditionJson) {
+        return Set.of();
+    }
+
     @Override
     public boolean run(RPGLEffect effect, Subevent subevent, JsonObject conditionJson, RPGLContext context, JsonArray originPoint) throws Exception {
         String effectOriginItem = effect.getOriginItem();
@@ -6,6 +6,8 @@ import org.rpgl.json.JsonArray;
 import org.rpgl.json.JsonObject;
 import org.rpgl.subevent.Subevent;
 
+import java.util.Set;
+
 /**
  * This Condition evaluates true if the subevent contains a specified tag.
  *
@@ -17,9 +19,29 @@ public class SubeventHasTag extends Condition {
         super("subevent_has_tag");
     }
 
+    @Override
+    public ConditionCost getCost(ConditionNode conditionNode) {
+        return ConditionCost.SUBEVENT;
+    }
+
+    @Override
+    public Set<String> getInvokedSubeventIds(JsonObject conditionJson) {
+        return Set.of();
+    }
+
     @Override
     public boolean run(RPGLEffect effect, Subevent subevent, JsonObject conditionJson, RPGLContext context, JsonArray originPoint) {
         return subevent.hasTag(conditionJson.getString("tag"));
     }
 
+    @Override
+    protected Object parseParameters(JsonObject conditionJson) {
+        return conditionJson.getString("tag");
+    }
+
+    @Override
+    public boolean run(RPGLEffect effect, Subevent subevent, ConditionNode conditionNode, RPGLContext context, JsonArray originPoint) {
+        return subevent.hasTag(conditionNode.getParameters());
+    }
+
 }
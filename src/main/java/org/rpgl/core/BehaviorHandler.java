@@ -0,0 +1,42 @@
+package org.rpgl.core;
+
+import org.rpgl.json.JsonArray;
+import org.rpgl.subevent.Subevent;
+
+/**
+ * This interface is implemented by the classes which BehaviorHandlerCompiler generates for compiled subevent filter
+ * behaviors. Each generated class calls directly into the Conditions and Functions of one behavior shape, so that the
+ * calls it makes are monomorphic and can be inlined by the JIT compiler.
+ *
+ * @author Calvin Withun
+ */
+public interface BehaviorHandler {
+
+    /**
+     * This method runs the Conditions of a behavior, stopping at the first one which is not satisfied. Conditions are
+     * run directly, without condition loop detection or ConditionBatch bookkeeping, so this method must only be called
+     * when neither is required.
+     *
+     * @param effect the RPGLEffect containing the behavior
+     * @param subevent a Subevent being invoked
+     * @param context the context in which the Conditions are being evaluated
+     * @param originPoint the point from which the passed subevent emanates
+     * @return true if every Condition is satisfied
+     *
+     * @throws Exception if an exception occurs
+     */
+    boolean evaluateConditions(RPGLEffect effect, Subevent subevent, RPGLContext context, JsonArray originPoint) throws Exception;
+
+    /**
+     * This method runs the Functions of a behavior, in the order they were declared.
+     *
+     * @param effect the RPGLEffect containing the behavior
+     * @param subevent a Subevent being invoked
+     * @param context the context in which the Functions are being executed
+     * @param originPoint the point from which the passed subevent emanates
+     *
+     * @throws Exception if an exception occurs
+     */
+    void executeFunctions(RPGLEffect effect, Subevent subevent, RPGLContext context, JsonArray originPoint) throws Exception;
+
+}
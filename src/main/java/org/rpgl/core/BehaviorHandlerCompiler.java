@@ -0,0 +1,593 @@
+package org.rpgl.core;
+
+import org.rpgl.condition.Condition;
+import org.rpgl.condition.ConditionNode;
+import org.rpgl.function.Function;
+import org.rpgl.function.FunctionNode;
+import org.rpgl.json.JsonArray;
+import org.rpgl.json.JsonObject;
+import org.rpgl.subevent.Subevent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This class is an optional compiler which turns compiled subevent filter behaviors into generated BehaviorHandler
+ * classes. Calls to <code>Condition.run(...)</code> and <code>Function.run(...)</code> made by the engine itself are
+ * shared by every Condition and Function type, so the JIT compiler sees dozens of receiver types at those call sites
+ * and can not inline any of them. A generated handler instead calls the <code>run(...)</code> method of each concrete
+ * Condition and Function class from a call site of its own, so every call it makes is monomorphic.
+ * <br>
+ * <br>
+ * One hidden class is generated for each distinct shape of behavior, i.e. for each sequence of Condition and Function
+ * classes, and is shared by every behavior of that shape. Behaviors naming a Condition or Function class which the
+ * generated code can not link against, such as a non-public class, are not compiled, and are interpreted instead.
+ * The compiler is disabled by default.
+ *
+ * @author Calvin Withun
+ */
+public final class BehaviorHandlerCompiler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BehaviorHandlerCompiler.class);
+
+    /**
+     * The internal name given to generated handler classes. The JVM appends a unique suffix to each hidden class.
+     */
+    private static final String HANDLER_NAME = "org/rpgl/core/GeneratedBehaviorHandler";
+
+    /**
+     * The generated handler constructors, keyed by behavior shape.
+     */
+    private static final Map<List<String>, Constructor<?>> HANDLER_CONSTRUCTORS = new ConcurrentHashMap<>();
+
+    private static volatile boolean enabled = false;
+
+    /**
+     * A direct call to the <code>run(...)</code> method of a Condition or Function.
+     *
+     * @param receiver the Condition or Function being called
+     * @param parameterType the type of its compiled parameter, either a node type or JsonObject
+     * @param parameter the ConditionNode, FunctionNode, or JsonObject passed to the call
+     */
+    private record Call(Object receiver, Class<?> parameterType, Object parameter) {
+    }
+
+    private BehaviorHandlerCompiler() {
+    }
+
+    /**
+     * This method enables or disables the compiler. Subevent filters which were compiled while the compiler was
+     * disabled are not affected.
+     *
+     * @param enabled whether behaviors should be compiled into generated handlers
+     */
+    public static void setEnabled(boolean enabled) {
+        BehaviorHandlerCompiler.enabled = enabled;
+    }
+
+    /**
+     * Returns whether the compiler is enabled.
+     *
+     * @return true if behaviors are compiled into generated handlers
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * This method compiles a behavior into a generated BehaviorHandler. The handler runs the passed Conditions in the
+     * order given, so the Conditions should already be ordered by cost.
+     *
+     * @param conditions the compiled Conditions of a behavior, in evaluation order
+     * @param functions the compiled Functions of a behavior, in declared order
+     * @return a BehaviorHandler, or null if the compiler is disabled or the behavior can not be compiled
+     */
+    public static BehaviorHandler compile(ConditionNode[] conditions, FunctionNode[] functions) {
+        if (!enabled) {
+            return null;
+        }
+        try {
+            List<Call> conditionCalls = new ArrayList<>(conditions.length);
+            for (ConditionNode condition : conditions) {
+                Call call = createCall(condition.getCondition(), Condition.class, ConditionNode.class, condition, condition.getConditionJson());
+                if (call == null) {
+                    return null;
+                }
+                conditionCalls.add(call);
+            }
+            List<Call> functionCalls = new ArrayList<>(functions.length);
+            for (FunctionNode function : functions) {
+                Call call = createCall(function.getFunction(), Function.class, FunctionNode.class, function, function.getFunctionJson());
+                if (call == null) {
+                    return null;
+                }
+                functionCalls.add(call);
+            }
+
+            List<String> shape = new ArrayList<>();
+            List<Object> data = new ArrayList<>();
+            for (Call call : conditionCalls) {
+                shape.add("condition:" + call.receiver().getClass().getName() + ":" + call.parameterType().getName());
+                data.add(call.receiver());
+                data.add(call.parameter());
+            }
+            for (Call call : functionCalls) {
+                shape.add("function:" + call.receiver().getClass().getName() + ":" + call.parameterType().getName());
+                data.add(call.receiver());
+                data.add(call.parameter());
+            }
+
+            Constructor<?> constructor = HANDLER_CONSTRUCTORS.get(shape);
+            if (constructor == null) {
+                constructor = defineHandlerClass(conditionCalls, functionCalls);
+                Constructor<?> existingConstructor = HANDLER_CONSTRUCTORS.putIfAbsent(List.copyOf(shape), constructor);
+                if (existingConstructor != null) {
+                    constructor = existingConstructor;
+                }
+            }
+            return (BehaviorHandler) constructor.newInstance((Object) data.toArray());
+        } catch (Exception | LinkageError e) {
+            LOGGER.warn("could not generate behavior handler, falling back to interpretation: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Returns the number of handler classes which have been generated.
+     *
+     * @return the number of generated handler classes
+     */
+    public static int getHandlerClassCount() {
+        return HANDLER_CONSTRUCTORS.size();
+    }
+
+    /**
+     * This method generates and defines a single handler class which calls every passed Condition and Function which
+     * generated code can link against. Unlike <code>compile(...)</code>, this method does not fall back to
+     * interpretation, so any error raised while the JVM verifies the generated class is thrown to the caller. It is used
+     * to verify the code generated for each Condition and Function class.
+     *
+     * @param conditions a collection of Conditions
+     * @param functions a collection of Functions
+     * @return the generated class
+     *
+     * @throws Exception if an exception occurs
+     */
+    static Class<?> generateHandlerClass(Collection<Condition> conditions, Collection<Function> functions) throws Exception {
+        List<Call> conditionCalls = new ArrayList<>(conditions.size());
+        for (Condition condition : conditions) {
+            Call call = createCall(condition, Condition.class, ConditionNode.class, null, null);
+            if (call != null) {
+                conditionCalls.add(call);
+            }
+        }
+        List<Call> functionCalls = new ArrayList<>(functions.size());
+        for (Function function : functions) {
+            Call call = createCall(function, Function.class, FunctionNode.class, null, null);
+            if (call != null) {
+                functionCalls.add(call);
+            }
+        }
+        return defineHandlerClass(conditionCalls, functionCalls).getDeclaringClass();
+    }
+
+    /**
+     * This helper method creates a direct call to a Condition or Function. If its class overrides the compiled
+     * <code>run(...)</code> method, that method is called with the node. Otherwise, the JSON <code>run(...)</code> method
+     * is called with the node's JSON data, so that the default compiled method does not re-dispatch from a shared call
+     * site.
+     *
+     * @param receiver a Condition or Function
+     * @param baseClass Condition or Function
+     * @param nodeClass ConditionNode or FunctionNode
+     * @param node the compiled node
+     * @param json the JSON data the node was compiled from
+     * @return a Call, or null if the generated code can not link against the receiver's class
+     *
+     * @throws NoSuchMethodException if the receiver's class has no compiled <code>run(...)</code> method
+     */
+    private static Call createCall(Object receiver, Class<?> baseClass, Class<?> nodeClass, Object node, JsonObject json)
+            throws NoSuchMethodException {
+        Class<?> receiverClass = receiver.getClass();
+        if (!isLinkable(receiverClass)) {
+            return null;
+        }
+        Class<?> declaringClass = receiverClass
+                .getMethod("run", RPGLEffect.class, Subevent.class, nodeClass, RPGLContext.class, JsonArray.class)
+                .getDeclaringClass();
+        return declaringClass == baseClass
+                ? new Call(receiver, JsonObject.class, json)
+                : new Call(receiver, nodeClass, node);
+    }
+
+    /**
+     * Returns whether a class generated in this package can link against the passed class.
+     *
+     * @param receiverClass the class of a Condition or Function
+     * @return true if the class is public, and visible to the class loader which defines generated handlers
+     */
+    private static boolean isLinkable(Class<?> receiverClass) {
+        if (!Modifier.isPublic(receiverClass.getModifiers()) || receiverClass.isHidden()) {
+            return false;
+        }
+        try {
+            return Class.forName(receiverClass.getName(), false, BehaviorHandlerCompiler.class.getClassLoader()) == receiverClass;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    /**
+     * This helper method generates and defines a hidden handler class for a behavior shape.
+     *
+     * @param conditionCalls the Condition calls of the behavior
+     * @param functionCalls the Function calls of the behavior
+     * @return the constructor of the generated class, which takes the receivers and parameters of each call in order
+     *
+     * @throws Exception if an exception occurs
+     */
+    private static Constructor<?> defineHandlerClass(List<Call> conditionCalls, List<Call> functionCalls) throws Exception {
+        ClassWriter classWriter = new ClassWriter();
+        List<String[]> fields = new ArrayList<>();
+        for (int i = 0; i < conditionCalls.size(); i++) {
+            fields.add(new String[] { "c" + i, descriptor(conditionCalls.get(i).receiver().getClass()) });
+            fields.add(new String[] { "p" + i, descriptor(conditionCalls.get(i).parameterType()) });
+        }
+        for (int i = 0; i < functionCalls.size(); i++) {
+            fields.add(new String[] { "f" + i, descriptor(functionCalls.get(i).receiver().getClass()) });
+            fields.add(new String[] { "q" + i, descriptor(functionCalls.get(i).parameterType()) });
+        }
+        for (String[] field : fields) {
+            classWriter.addField(field[0], field[1]);
+        }
+
+        // constructor: assigns each field from the data array
+        Code constructor = new Code();
+        constructor.op(Op.ALOAD_0);
+        constructor.op(Op.INVOKESPECIAL, classWriter.methodRef("java/lang/Object", "<init>", "()V"));
+        for (int i = 0; i < fields.size(); i++) {
+            String[] field = fields.get(i);
+            constructor.op(Op.ALOAD_0);
+            constructor.op(Op.ALOAD_1);
+            constructor.pushInt(i);
+            constructor.op(Op.AALOAD);
+            constructor.op(Op.CHECKCAST, classWriter.classRef(field[1].substring(1, field[1].length() - 1)));
+            constructor.op(Op.PUTFIELD, classWriter.fieldRef(HANDLER_NAME, field[0], field[1]));
+        }
+        constructor.op(Op.RETURN);
+        classWriter.addMethod("<init>", "([Ljava/lang/Object;)V", 3, 2, constructor);
+
+        // evaluateConditions: returns false at the first condition which is not satisfied
+        Code evaluateConditions = new Code();
+        for (int i = 0; i < conditionCalls.size(); i++) {
+            Call call = conditionCalls.get(i);
+            evaluateConditions.call(classWriter, "c" + i, "p" + i, call, "Z");
+            evaluateConditions.op(Op.IFNE, 5);
+            evaluateConditions.op(Op.ICONST_0);
+            evaluateConditions.op(Op.IRETURN);
+        }
+        evaluateConditions.op(Op.ICONST_1);
+        evaluateConditions.op(Op.IRETURN);
+        classWriter.addMethod("evaluateConditions", handlerDescriptor("Z"), 6, 5, evaluateConditions);
+
+        // executeFunctions: runs every function in order
+        Code executeFunctions = new Code();
+        for (int i = 0; i < functionCalls.size(); i++) {
+            executeFunctions.call(classWriter, "f" + i, "q" + i, functionCalls.get(i), "V");
+        }
+        executeFunctions.op(Op.RETURN);
+        classWriter.addMethod("executeFunctions", handlerDescriptor("V"), 6, 5, executeFunctions);
+
+        byte[] bytes = classWriter.toByteArray(HANDLER_NAME, "java/lang/Object", "org/rpgl/core/BehaviorHandler");
+        Class<?> handlerClass = MethodHandles.lookup().defineHiddenClass(bytes, true).lookupClass();
+        return handlerClass.getConstructor(Object[].class);
+    }
+
+    /**
+     * Returns the descriptor of the methods of BehaviorHandler.
+     *
+     * @param returnDescriptor the descriptor of the method's return type
+     * @return a method descriptor
+     */
+    private static String handlerDescriptor(String returnDescriptor) {
+        return "(" + descriptor(RPGLEffect.class)
+                + descriptor(Subevent.class)
+                + descriptor(RPGLContext.class)
+                + descriptor(JsonArray.class)
+                + ")" + returnDescriptor;
+    }
+
+    /**
+     * Returns the descriptor of the <code>run(...)</code> method called by a Call.
+     *
+     * @param call a Call
+     * @param returnDescriptor the descriptor of the method's return type
+     * @return a method descriptor
+     */
+    private static String runDescriptor(Call call, String returnDescriptor) {
+        return "(" + descriptor(RPGLEffect.class)
+                + descriptor(Subevent.class)
+                + descriptor(call.parameterType())
+                + descriptor(RPGLContext.class)
+                + descriptor(JsonArray.class)
+                + ")" + returnDescriptor;
+    }
+
+    /**
+     * Returns the descriptor of a class.
+     *
+     * @param clazz a class which is not an array or primitive type
+     * @return a field descriptor
+     */
+    private static String descriptor(Class<?> clazz) {
+        return "L" + internalName(clazz) + ";";
+    }
+
+    /**
+     * Returns the internal name of a class.
+     *
+     * @param clazz a class which is not an array or primitive type
+     * @return an internal name
+     */
+    private static String internalName(Class<?> clazz) {
+        return clazz.getName().replace('.', '/');
+    }
+
+    // =================================================================================================================
+    // Class file writing
+    // =================================================================================================================
+
+    /**
+     * The JVM opcodes used by generated handlers.
+     */
+    private static final class Op {
+        static final int ICONST_0 = 0x03;
+        static final int ICONST_1 = 0x04;
+        static final int BIPUSH = 0x10;
+        static final int SIPUSH = 0x11;
+        static final int ALOAD = 0x19;
+        static final int ALOAD_0 = 0x2a;
+        static final int ALOAD_1 = 0x2b;
+        static final int ALOAD_2 = 0x2c;
+        static final int ALOAD_3 = 0x2d;
+        static final int AALOAD = 0x32;
+        static final int IFNE = 0x9a;
+        static final int IRETURN = 0xac;
+        static final int RETURN = 0xb1;
+        static final int GETFIELD = 0xb4;
+        static final int PUTFIELD = 0xb5;
+        static final int INVOKEVIRTUAL = 0xb6;
+        static final int INVOKESPECIAL = 0xb7;
+        static final int CHECKCAST = 0xc0;
+    }
+
+    /**
+     * The bytecode of a single generated method.
+     */
+    private static final class Code {
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        /**
+         * This method appends an opcode with no operands.
+         *
+         * @param opcode an opcode
+         */
+        void op(int opcode) {
+            this.bytes.write(opcode);
+        }
+
+        /**
+         * This method appends an opcode with a two-byte operand.
+         *
+         * @param opcode an opcode
+         * @param operand a constant pool index or branch offset
+         */
+        void op(int opcode, int operand) {
+            this.bytes.write(opcode);
+            this.bytes.write(operand >> 8);
+            this.bytes.write(operand);
+        }
+
+        /**
+         * This method appends instructions pushing an int constant.
+         *
+         * @param value a non-negative int which fits in a short
+         */
+        void pushInt(int value) {
+            if (value <= 5) {
+                this.bytes.write(Op.ICONST_0 + value);
+            } else if (value <= Byte.MAX_VALUE) {
+                this.bytes.write(Op.BIPUSH);
+                this.bytes.write(value);
+            } else {
+                this.op(Op.SIPUSH, value);
+            }
+        }
+
+        /**
+         * This method appends a direct call to the <code>run(...)</code> method of a Condition or Function, reading the
+         * receiver and parameter from fields and forwarding the handler method's own arguments.
+         *
+         * @param classWriter the class being written
+         * @param receiverField the field holding the receiver
+         * @param parameterField the field holding the parameter
+         * @param call the Call
+         * @param returnDescriptor the descriptor of the method's return type
+         *
+         * @throws IOException if an exception occurs
+         */
+        void call(ClassWriter classWriter, String receiverField, String parameterField, Call call, String returnDescriptor)
+                throws IOException {
+            String receiverClass = internalName(call.receiver().getClass());
+            this.op(Op.ALOAD_0);
+            this.op(Op.GETFIELD, classWriter.fieldRef(HANDLER_NAME, receiverField, "L" + receiverClass + ";"));
+            this.op(Op.ALOAD_1);
+            this.op(Op.ALOAD_2);
+            this.op(Op.ALOAD_0);
+            this.op(Op.GETFIELD, classWriter.fieldRef(HANDLER_NAME, parameterField, descriptor(call.parameterType())));
+            this.op(Op.ALOAD_3);
+            this.bytes.write(Op.ALOAD);
+            this.bytes.write(4);
+            this.op(Op.INVOKEVIRTUAL, classWriter.methodRef(receiverClass, "run", runDescriptor(call, returnDescriptor)));
+        }
+
+        byte[] toByteArray() {
+            return this.bytes.toByteArray();
+        }
+
+    }
+
+    /**
+     * A minimal class file writer. Classes are written in class file version 49, which does not require stack map
+     * frames, since generated handlers contain only forward branches between straight-line calls.
+     */
+    private static final class ClassWriter {
+
+        private static final int CONSTANT_UTF8 = 1;
+        private static final int CONSTANT_CLASS = 7;
+        private static final int CONSTANT_FIELDREF = 9;
+        private static final int CONSTANT_METHODREF = 10;
+        private static final int CONSTANT_NAME_AND_TYPE = 12;
+
+        private final ByteArrayOutputStream constantPoolBytes = new ByteArrayOutputStream();
+        private final DataOutputStream constantPool = new DataOutputStream(this.constantPoolBytes);
+        private final Map<String, Integer> constants = new HashMap<>();
+        private int constantCount = 1;
+
+        private final ByteArrayOutputStream fieldBytes = new ByteArrayOutputStream();
+        private final DataOutputStream fieldOutput = new DataOutputStream(this.fieldBytes);
+        private int fieldCount = 0;
+
+        private final ByteArrayOutputStream methodBytes = new ByteArrayOutputStream();
+        private final DataOutputStream methodOutput = new DataOutputStream(this.methodBytes);
+        private int methodCount = 0;
+
+        int utf8(String value) throws IOException {
+            Integer index = this.constants.get("utf8:" + value);
+            if (index == null) {
+                this.constantPool.writeByte(CONSTANT_UTF8);
+                this.constantPool.writeUTF(value);
+                index = this.register("utf8:" + value);
+            }
+            return index;
+        }
+
+        int classRef(String internalName) throws IOException {
+            Integer index = this.constants.get("class:" + internalName);
+            if (index == null) {
+                int nameIndex = this.utf8(internalName);
+                this.constantPool.writeByte(CONSTANT_CLASS);
+                this.constantPool.writeShort(nameIndex);
+                index = this.register("class:" + internalName);
+            }
+            return index;
+        }
+
+        int fieldRef(String owner, String name, String descriptor) throws IOException {
+            return this.memberRef(CONSTANT_FIELDREF, owner, name, descriptor);
+        }
+
+        int methodRef(String owner, String name, String descriptor) throws IOException {
+            return this.memberRef(CONSTANT_METHODREF, owner, name, descriptor);
+        }
+
+        void addField(String name, String descriptor) throws IOException {
+            this.fieldOutput.writeShort(Modifier.PRIVATE | Modifier.FINAL);
+            this.fieldOutput.writeShort(this.utf8(name));
+            this.fieldOutput.writeShort(this.utf8(descriptor));
+            this.fieldOutput.writeShort(0);
+            this.fieldCount++;
+        }
+
+        void addMethod(String name, String descriptor, int maxStack, int maxLocals, Code code) throws IOException {
+            byte[] bytecode = code.toByteArray();
+            this.methodOutput.writeShort(Modifier.PUBLIC);
+            this.methodOutput.writeShort(this.utf8(name));
+            this.methodOutput.writeShort(this.utf8(descriptor));
+            this.methodOutput.writeShort(1);
+            this.methodOutput.writeShort(this.utf8("Code"));
+            this.methodOutput.writeInt(12 + bytecode.length);
+            this.methodOutput.writeShort(maxStack);
+            this.methodOutput.writeShort(maxLocals);
+            this.methodOutput.writeInt(bytecode.length);
+            this.methodOutput.write(bytecode);
+            this.methodOutput.writeShort(0); // exception table
+            this.methodOutput.writeShort(0); // attributes
+            this.methodCount++;
+        }
+
+        byte[] toByteArray(String thisClass, String superClass, String interfaceName) throws IOException {
+            int thisIndex = this.classRef(thisClass);
+            int superIndex = this.classRef(superClass);
+            int interfaceIndex = this.classRef(interfaceName);
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream output = new DataOutputStream(bytes);
+            output.writeInt(0xCAFEBABE);
+            output.writeShort(0); // minor version
+            output.writeShort(49); // major version
+            output.writeShort(this.constantCount);
+            output.write(this.constantPoolBytes.toByteArray());
+            output.writeShort(Modifier.PUBLIC | Modifier.FINAL | 0x0020); // ACC_SUPER
+            output.writeShort(thisIndex);
+            output.writeShort(superIndex);
+            output.writeShort(1);
+            output.writeShort(interfaceIndex);
+            output.writeShort(this.fieldCount);
+            output.write(this.fieldBytes.toByteArray());
+            output.writeShort(this.methodCount);
+            output.write(this.methodBytes.toByteArray());
+            output.writeShort(0); // attributes
+            return bytes.toByteArray();
+        }
+
+        private int memberRef(int tag, String owner, String name, String descriptor) throws IOException {
+            String key = tag + ":" + owner + "." + name + descriptor;
+            Integer index = this.constants.get(key);
+            if (index == null) {
+                int classIndex = this.classRef(owner);
+                int nameAndTypeIndex = this.nameAndType(name, descriptor);
+                this.constantPool.writeByte(tag);
+                this.constantPool.writeShort(classIndex);
+                this.constantPool.writeShort(nameAndTypeIndex);
+                index = this.register(key);
+            }
+            return index;
+        }
+
+        private int nameAndType(String name, String descriptor) throws IOException {
+            String key = "nameAndType:" + name + descriptor;
+            Integer index = this.constants.get(key);
+            if (index == null) {
+                int nameIndex = this.utf8(name);
+                int descriptorIndex = this.utf8(descriptor);
+                this.constantPool.writeByte(CONSTANT_NAME_AND_TYPE);
+                this.constantPool.writeShort(nameIndex);
+                this.constantPool.writeShort(descriptorIndex);
+                index = this.register(key);
+            }
+            return index;
+        }
+
+        private int register(String key) {
+            int index = this.constantCount++;
+            this.constants.put(key, index);
+            return index;
+        }
+
+    }
+
+}
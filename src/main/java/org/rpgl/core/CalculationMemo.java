@@ -0,0 +1,157 @@
+package org.rpgl.core;
+
+import org.rpgl.condition.Condition;
+import org.rpgl.datapack.DatapackAnalyzer;
+import org.rpgl.json.JsonArray;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class memoizes the results of calculations, such as ability scores and proficiency bonuses, which are made
+ * repeatedly while an RPGLEvent is being invoked. A memo is open on a thread for the duration of each call to
+ * <code>RPGLObject.invokeEvent(...)</code> in a context which enables memoized calculations (see
+ * <code>RPGLContext.setMemoizedCalculations(...)</code>), and calculations made outside of such an RPGLEvent are never
+ * memoized.
+ * <br>
+ * <br>
+ * Memoized results are discarded whenever the state they may depend on could have changed. This includes the
+ * completion of any Subevent which modifies state (see <code>Subevent.modifiesState()</code>), the execution of
+ * Functions in response to any other Subevent, changes to the effects or tags of any UUIDTableElement, and changes to
+ * the position of any RPGLObject. Results are also keyed by the tags of the RPGLObject they were calculated for, so that
+ * a result is never reused after those tags are edited directly. Calculations whose Subevent could be
+ * part of a condition loop (see <code>DatapackAnalyzer</code>) are never memoized, since their results may depend on
+ * which Conditions are being evaluated when they are made.
+ *
+ * @author Calvin Withun
+ */
+public final class CalculationMemo {
+
+    private static final ThreadLocal<CalculationMemo> CURRENT = new ThreadLocal<>();
+
+    private final RPGLRuntime runtime;
+    private final Map<Key, Integer> results;
+    private long epoch;
+
+    /**
+     * The identity of a memoized calculation.
+     *
+     * @param subeventId the ID of the calculation Subevent
+     * @param objectUuid the UUID of the RPGLObject the calculation is made for
+     * @param parameter the parameter of the calculation, or null
+     * @param tags the tags of the RPGLObject the calculation is made for
+     * @param context the context in which the calculation is made
+     */
+    private record Key(String subeventId, String objectUuid, String parameter, List<Object> tags, RPGLContext context) {
+    }
+
+    /**
+     * A calculation to be memoized.
+     */
+    @FunctionalInterface
+    public interface Calculator {
+
+        /**
+         * This method makes the calculation.
+         *
+         * @return the result of the calculation
+         *
+         * @throws Exception if an exception occurs
+         */
+        int calculate() throws Exception;
+
+    }
+
+    /**
+     * Constructor for CalculationMemo. Memos should be opened via <code>CalculationMemo.open()</code>.
+     */
+    private CalculationMemo() {
+        this.runtime = RPGLRuntime.current();
+        this.results = new HashMap<>();
+        this.epoch = this.runtime.getCalculationEpoch();
+    }
+
+    /**
+     * This method opens a memo on the current thread, unless one is already open.
+     *
+     * @return a Scope, which closes the memo if it was opened by this call
+     */
+    public static Scope open() {
+        if (CURRENT.get() != null) {
+            return new Scope(false);
+        }
+        CURRENT.set(new CalculationMemo());
+        return new Scope(true);
+    }
+
+    /**
+     * This method discards every result memoized in the current runtime. Memos open in other runtimes are unaffected.
+     */
+    public static void invalidate() {
+        RPGLRuntime.current().invalidateCalculations();
+    }
+
+    /**
+     * This method returns the memoized result of a calculation if there is one, and otherwise makes the calculation
+     * and memoizes its result. If no memo is open on the current thread, or if the memo was opened in a runtime other
+     * than the current one, the calculation is always made.
+     *
+     * @param subeventId the ID of the calculation Subevent
+     * @param object the RPGLObject the calculation is made for
+     * @param parameter the parameter of the calculation, or null
+     * @param context the context in which the calculation is made
+     * @param calculator the calculation
+     * @return the result of the calculation
+     *
+     * @throws Exception if an exception occurs
+     */
+    public static int calculate(String subeventId, RPGLObject object, String parameter, RPGLContext context, Calculator calculator) throws Exception {
+        CalculationMemo memo = CURRENT.get();
+        if (memo == null
+                || memo.runtime != RPGLRuntime.current()
+                || Condition.isExitingConditionLoop()
+                || DatapackAnalyzer.isSubeventCyclic(subeventId)) {
+            return calculator.calculate();
+        }
+        long epoch = memo.runtime.getCalculationEpoch();
+        if (memo.epoch != epoch) {
+            memo.results.clear();
+            memo.epoch = epoch;
+        }
+        JsonArray tags = object.getTags();
+        // the object's live tags are only used to look results up, and are copied into keys which are kept
+        Key key = new Key(subeventId, object.getUuid(), parameter, tags == null ? List.of() : tags.asList(), context);
+        Integer result = memo.results.get(key);
+        if (result == null) {
+            Key memoizedKey = new Key(subeventId, key.objectUuid(), parameter, List.copyOf(key.tags()), context);
+            result = calculator.calculate();
+            // results are only kept if nothing they depend on changed while they were calculated
+            if (memo.runtime.getCalculationEpoch() == epoch && !Condition.isExitingConditionLoop()) {
+                memo.results.put(memoizedKey, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The scope of an open memo.
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final boolean owner;
+
+        private Scope(boolean owner) {
+            this.owner = owner;
+        }
+
+        @Override
+        public void close() {
+            if (this.owner) {
+                CURRENT.remove();
+            }
+        }
+
+    }
+
+}
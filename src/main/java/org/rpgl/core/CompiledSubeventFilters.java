@@ -0,0 +1,151 @@
+package org.rpgl.core;
+
+import org.rpgl.condition.Condition;
+import org.rpgl.condition.ConditionSequence;
+import org.rpgl.datapack.DatapackAnalyzer;
+import org.rpgl.function.FunctionNode;
+import org.rpgl.json.JsonArray;
+import org.rpgl.json.JsonObject;
+import org.rpgl.subevent.Subevent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * This class is a compiled form of the subevent filters of an RPGLEffect. Each filter behavior is compiled into arrays
+ * of ConditionNodes and FunctionNodes which are bound directly to the Conditions and Functions they name, so that
+ * processing a Subevent does not require looking up those Conditions and Functions by ID, or re-reading any parameters
+ * they were able to parse ahead of time. If the BehaviorHandlerCompiler is enabled, each behavior is also compiled
+ * into a generated BehaviorHandler, which is used whenever condition loop detection and ConditionBatches are not
+ * required.
+ *
+ * @author Calvin Withun
+ */
+public final class CompiledSubeventFilters {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CompiledSubeventFilters.class);
+
+    private final Map<String, List<Behavior>> behaviors;
+
+    /**
+     * A compiled subevent filter behavior.
+     *
+     * @param conditions the compiled Conditions of the behavior
+     * @param functions the compiled Functions of the behavior
+     * @param handler the generated handler of the behavior, or null if it has none
+     */
+    public record Behavior(ConditionSequence conditions, FunctionNode[] functions, BehaviorHandler handler) {
+
+        /**
+         * This method evaluates the Conditions of this behavior.
+         *
+         * @param effect the RPGLEffect containing this behavior
+         * @param subevent a Subevent being invoked
+         * @param context the context in which the Conditions are being evaluated
+         * @param originPoint the point from which the passed subevent emanates
+         * @return true if every Condition is satisfied
+         *
+         * @throws Exception if an exception occurs
+         */
+        public boolean evaluateConditions(RPGLEffect effect, Subevent subevent, RPGLContext context, JsonArray originPoint) throws Exception {
+            if (this.handler != null
+                    && subevent.getConditionBatch() == null
+                    && !Condition.isExitingConditionLoop()
+                    && !DatapackAnalyzer.isSubeventCyclic(subevent.getSubeventId())) {
+                // no loop detection or batching is needed, so the generated handler may run the Conditions directly
+                return this.handler.evaluateConditions(effect, subevent, context, originPoint);
+            }
+            return this.conditions.evaluate(effect, subevent, context, originPoint);
+        }
+
+        /**
+         * This method executes the Functions of this behavior.
+         *
+         * @param effect the RPGLEffect containing this behavior
+         * @param subevent a Subevent being invoked
+         * @param context the context in which the Functions are being executed
+         * @param originPoint the point from which the passed subevent emanates
+         *
+         * @throws Exception if an exception occurs
+         */
+        public void executeFunctions(RPGLEffect effect, Subevent subevent, RPGLContext context, JsonArray originPoint) throws Exception {
+            if (this.handler != null) {
+                this.handler.executeFunctions(effect, subevent, context, originPoint);
+            } else {
+                for (FunctionNode function : this.functions) {
+                    function.execute(effect, subevent, context, originPoint);
+                }
+            }
+        }
+
+    }
+
+    /**
+     * Constructor for CompiledSubeventFilters. CompiledSubeventFilters should be created via
+     * <code>CompiledSubeventFilters.compile(...)</code>.
+     *
+     * @param behaviors the compiled behaviors, keyed by subevent ID
+     */
+    private CompiledSubeventFilters(Map<String, List<Behavior>> behaviors) {
+        this.behaviors = behaviors;
+    }
+
+    /**
+     * This method compiles the subevent filters of an RPGLEffect. If any Condition or Function in the filters cannot be
+     * compiled, null is returned, and the filters should be interpreted from their JSON data instead.
+     *
+     * @param subeventFilters the subevent filters of an RPGLEffect
+     * @return a CompiledSubeventFilters, or null if the filters could not be compiled
+     */
+    public static CompiledSubeventFilters compile(JsonObject subeventFilters) {
+        DatapackAnalyzer.registerSubeventFilters(subeventFilters);
+        Map<String, List<Behavior>> behaviors = new HashMap<>();
+        try {
+            for (String subeventId : subeventFilters.asMap().keySet()) {
+                JsonArray filterBehaviors = subeventFilters.getJsonArray(subeventId);
+                List<Behavior> compiledBehaviors = new ArrayList<>(filterBehaviors.size());
+                for (int i = 0; i < filterBehaviors.size(); i++) {
+                    JsonObject filterBehavior = filterBehaviors.getJsonObject(i);
+                    ConditionSequence conditions = ConditionSequence.compile(filterBehavior.getJsonArray("conditions"));
+                    FunctionNode[] functions = FunctionNode.compileAll(filterBehavior.getJsonArray("functions"));
+                    compiledBehaviors.add(new Behavior(
+                            conditions,
+                            functions,
+                            BehaviorHandlerCompiler.compile(conditions.getEvaluationOrder(), functions)
+                    ));
+                }
+                behaviors.put(subeventId, Collections.unmodifiableList(compiledBehaviors));
+            }
+        } catch (Exception e) {
+            LOGGER.warn("could not compile subevent filters, falling back to interpretation: " + e.getMessage());
+            return null;
+        }
+        return new CompiledSubeventFilters(behaviors);
+    }
+
+    /**
+     * Returns the compiled behaviors filtering the passed subevent ID.
+     *
+     * @param subeventId a subevent ID
+     * @return a List of Behaviors, which is empty if no behaviors filter the subevent ID
+     */
+    public List<Behavior> get(String subeventId) {
+        return this.behaviors.getOrDefault(subeventId, List.of());
+    }
+
+    /**
+     * Returns the IDs of the subevents filtered by these compiled behaviors.
+     *
+     * @return a Set of subevent IDs
+     */
+    public Set<String> getSubeventIds() {
+        return Collections.unmodifiableSet(this.behaviors.keySet());
+    }
+
+}
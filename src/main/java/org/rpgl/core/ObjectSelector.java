@@ -0,0 +1,92 @@
+package org.rpgl.core;
+
+import org.rpgl.json.JsonObject;
+import org.rpgl.json.JsonObjectBuilder;
+import org.rpgl.subevent.Subevent;
+import org.rpgl.uuidtable.UUIDTable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+
+/**
+ * This record is a pre-parsed form of the JSON instructions used to isolate the source or target of an RPGLEffect or a
+ * Subevent (see <code>RPGLEffect.getObject(...)</code>).
+ *
+ * @param from <code>"effect"</code> or <code>"subevent"</code>
+ * @param object <code>"source"</code> or <code>"target"</code>
+ * @param asOrigin whether the origin object of the isolated RPGLObject should be returned instead
+ * @param instructions the JSON instructions this selector was parsed from
+ *
+ * @author Calvin Withun
+ */
+public record ObjectSelector(String from, String object, boolean asOrigin, JsonObject instructions) {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ObjectSelector.class);
+
+    /**
+     * This method parses JSON instructions into an ObjectSelector.
+     *
+     * @param instructions the JSON data instructing which RPGLObject should be isolated
+     * @return an ObjectSelector
+     */
+    public static ObjectSelector parse(JsonObject instructions) {
+        return new ObjectSelector(
+                instructions.getString("from"),
+                instructions.getString("object"),
+                Objects.requireNonNullElse(instructions.getBoolean("as_origin"), false),
+                instructions
+        );
+    }
+
+    /**
+     * This method creates an ObjectSelector which isolates the source or target of an RPGLEffect or a Subevent.
+     *
+     * @param from <code>"effect"</code> or <code>"subevent"</code>
+     * @param object <code>"source"</code> or <code>"target"</code>
+     * @return an ObjectSelector
+     */
+    public static ObjectSelector of(String from, String object) {
+        return parse(JsonObjectBuilder.create()
+                .putString("from", from)
+                .putString("object", object)
+                .build());
+    }
+
+    /**
+     * This method isolates the RPGLObject described by this selector.
+     *
+     * @param effect the RPGLEffect processing subevent
+     * @param subevent the Subevent being processed
+     * @return a RPGLObject
+     *
+     * @throws Exception if an exception occurs
+     */
+    public RPGLObject select(RPGLEffect effect, Subevent subevent) throws Exception {
+        RPGLObject object = null;
+        if ("subevent".equals(this.from)) {
+            if ("source".equals(this.object)) {
+                object = subevent.getSource();
+            } else if ("target".equals(this.object)) {
+                object = subevent.getTarget();
+            }
+        } else if ("effect".equals(this.from)) {
+            if ("source".equals(this.object)) {
+                object = effect.getSource();
+            } else if ("target".equals(this.object)) {
+                object = effect.getTarget();
+            }
+        }
+        if (object != null) {
+            if (this.asOrigin) {
+                return UUIDTable.getObject(object.getOriginObject());
+            } else {
+                return object;
+            }
+        }
+        Exception e = new Exception("could not isolate an RPGLObject: " + this.instructions);
+        LOGGER.error(e.getMessage());
+        throw e;
+    }
+
+}
@@ -4,6 +4,7 @@ import org.rpgl.datapack.DatapackContent;
 import org.rpgl.datapack.RPGLClassTO;
 import org.rpgl.json.JsonArray;
 import org.rpgl.json.JsonObject;
+import org.rpgl.json.JsonObjectBuilder;
 import org.rpgl.uuidtable.UUIDTable;
 
 import java.util.HashMap;
@@ -177,12 +178,12 @@ public class RPGLClass extends DatapackContent {
         // TODO check for meeting multiclassing requirements
         int level = object.getLevel(this.getId()) + 1;
         if (level == 1) {
-            object.getClasses().addJsonObject(new JsonObject() {{
-                this.putString("name", getName());
-                this.putString("id", getId());
-                this.putInteger("level", level);
-                this.putJsonObject("additional_nested_classes", new JsonObject());
-            }});
+            object.getClasses().addJsonObject(JsonObjectBuilder.create()
+                    .putString("name", this.getName())
+                    .putString("id", this.getId())
+                    .putInteger("level", level)
+                    .putJsonObject("additional_nested_classes", new JsonObject())
+                    .build());
         } else {
             JsonArray classes = object.getClasses();
             for (int i = 0; i < classes.size(); i++) {
@@ -1,12 +1,18 @@
 package org.rpgl.core;
 
+import org.rpgl.condition.ConditionBatch;
+import org.rpgl.json.JsonArena;
 import org.rpgl.json.JsonArray;
+import org.rpgl.math.DiceSource;
 import org.rpgl.subevent.Subevent;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * This class represents the context in which actions take place in this library. Typically, there will exist one
@@ -14,15 +20,76 @@ import java.util.Map;
  * more sense to break it into several lighter RPGLContext objects. Conversely, if there are many light RPGLContexts
  * covering a large area, but an RPGLEvent is invoked which covers area delegated to distinct RPGLContexts, it would
  * make sense to create a temporary RPGLContext to represent the union of several smaller RPGLContext objects.
+ * RPGLRegionContext and RPGLContextUnion exist to support these two strategies respectively.
  *
  * @author Calvin Withun
  */
 public abstract class RPGLContext {
 
+    /**
+     * Records whether each RPGLContext subclass overrides <code>viewCompletedSubevent(...)</code>.
+     */
+    private static final ClassValue<Boolean> VIEWS_COMPLETED_SUBEVENTS = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("viewCompletedSubevent", Subevent.class).getDeclaringClass() != RPGLContext.class;
+            } catch (NoSuchMethodException e) {
+                return true;
+            }
+        }
+    };
+
+    /**
+     * The objects in this context, in the order they were added. Subevents are processed by objects in this order, so
+     * that seeded invocations are reproducible regardless of the objects' UUIDs.
+     */
     private final Map<String, RPGLObject> contextObjects;
 
+    private final RPGLRuntime runtime;
+
+    private JsonArena jsonArena;
+
+    private volatile DiceSource diceSource;
+
+    private boolean batchedDispatch;
+
+    private boolean memoizedCalculations;
+
+    private volatile RPGLSubeventPublisher subeventPublisher;
+
+    private volatile Subscriptions subscriptions;
+
+    /**
+     * The subevent IDs which RPGLEffects or RPGLResources in context are subscribed to, as of a particular subscription
+     * version of the context's runtime.
+     *
+     * @param version the subscription version the subevent IDs were collected at
+     * @param subeventIds the subscribed subevent IDs
+     */
+    private record Subscriptions(long version, Set<String> subeventIds) {
+    }
+
     public RPGLContext() {
-        this.contextObjects = new HashMap<>();
+        this.contextObjects = new LinkedHashMap<>();
+        this.runtime = RPGLRuntime.current();
+        this.jsonArena = null;
+        this.diceSource = this.runtime.getDiceSource().split();
+        this.batchedDispatch = false;
+        this.memoizedCalculations = false;
+        this.subeventPublisher = null;
+        this.subscriptions = null;
+    }
+
+    /**
+     * This method informs every RPGLContext of the current runtime that the RPGLEffects or RPGLResources which may
+     * respond to Subevents have changed. RPGL calls this method itself whenever effects, resources, equipment, subevent
+     * filters, or refresh criteria are assigned through their respective methods. Code which adds such data by editing
+     * JSON directly must call this method afterwards. Results memoized by a CalculationMemo in the current runtime are
+     * discarded as well.
+     */
+    public static void invalidateSubscriptions() {
+        RPGLRuntime.current().invalidateSubscriptions();
     }
 
     public abstract boolean isObjectsTurn(RPGLObject object);
@@ -38,15 +105,253 @@ public abstract class RPGLContext {
      * @throws Exception if an exception occurs
      */
     public void processSubevent(Subevent subevent, RPGLContext context, JsonArray originPoint) throws Exception {
+        if (!this.isSubscribed(subevent.getSubeventId())) {
+            return;
+        }
         boolean wasProcessed;
         do {
             wasProcessed = false;
-            for (Map.Entry<String, RPGLObject> contextObjectsEntry : this.contextObjects.entrySet()) {
-                wasProcessed |= contextObjectsEntry.getValue().processSubevent(subevent, context, originPoint);
+            for (RPGLObject contextObject : this.getDispatchObjects(subevent, originPoint)) {
+                wasProcessed |= contextObject.processSubevent(subevent, context, originPoint);
             }
         } while (wasProcessed);
     }
 
+    /**
+     * Returns the RPGLObjects in context whose RPGLEffects are given the chance to respond to a Subevent. By default,
+     * this is every RPGLObject in context. Subclasses may narrow this down, for example to the RPGLObjects near the
+     * passed origin point, so long as the source and target of the Subevent are always included.
+     *
+     * @param subevent a Subevent being processed
+     * @param originPoint the point from which the passed subevent emanates
+     * @return the RPGLObjects to which the passed Subevent should be propagated
+     */
+    protected Collection<RPGLObject> getDispatchObjects(@SuppressWarnings("unused") Subevent subevent,
+                                                        @SuppressWarnings("unused") JsonArray originPoint) {
+        return this.contextObjects.values();
+    }
+
+    /**
+     * Returns whether any RPGLEffect or RPGLResource in context is able to respond to Subevents with the passed ID.
+     * Subevents which nobody is subscribed to are not propagated to the objects in context at all.
+     *
+     * @param subeventId a subevent ID
+     * @return true if an RPGLEffect subevent filter or RPGLResource refresh criterion in context names the subevent ID
+     */
+    public boolean isSubscribed(String subeventId) {
+        Subscriptions subscriptions = this.subscriptions;
+        long version = this.runtime.getSubscriptionVersion();
+        if (subscriptions == null || subscriptions.version() != version) {
+            subscriptions = new Subscriptions(version, this.collectSubscriptions());
+            this.subscriptions = subscriptions;
+        }
+        return subscriptions.subeventIds().contains(subeventId);
+    }
+
+    /**
+     * Returns whether a Subevent with the passed ID can be observed by anything other than the code which invokes it.
+     * This is the case if something in context is subscribed to it, or if this context views or publishes completed
+     * Subevents.
+     * Subevent payload data which only exists to be read by observers (such as inherited tags) need not be built for
+     * Subevents which are not observed.
+     *
+     * @param subeventId a subevent ID
+     * @return true if a Subevent with the passed ID can be observed in this context
+     */
+    public boolean isObserved(String subeventId) {
+        return VIEWS_COMPLETED_SUBEVENTS.get(this.getClass())
+                || this.subeventPublisher != null
+                || this.isSubscribed(subeventId);
+    }
+
+    /**
+     * This helper method collects the subevent IDs named by the subevent filters of every RPGLEffect, and the refresh
+     * criteria of every RPGLResource, belonging to an RPGLObject in context.
+     *
+     * @return a set of subevent IDs
+     */
+    private Set<String> collectSubscriptions() {
+        Set<String> subeventIds = new HashSet<>();
+        for (RPGLObject object : this.getContextObjects()) {
+            for (RPGLEffect effect : object.getEffectObjects()) {
+                if (effect != null) {
+                    subeventIds.addAll(effect.getSubeventFilters().asMap().keySet());
+                }
+            }
+            for (RPGLResource resource : object.getResourceObjects()) {
+                if (resource != null) {
+                    JsonArray refreshCriterion = resource.getRefreshCriterion();
+                    for (int i = 0; i < refreshCriterion.size(); i++) {
+                        subeventIds.add(refreshCriterion.getJsonObject(i).getString("subevent"));
+                    }
+                }
+            }
+        }
+        return subeventIds;
+    }
+
+    /**
+     * This method reports a completed Subevent to the context. The Subevent is passed to
+     * <code>viewCompletedSubevent(...)</code>, and then published to any subscribers of this context's Subevent stream.
+     *
+     * @param subevent a completed Subevent
+     */
+    public void reportCompletedSubevent(Subevent subevent) {
+        this.viewCompletedSubevent(subevent);
+        RPGLSubeventPublisher subeventPublisher = this.subeventPublisher;
+        if (subeventPublisher != null) {
+            subeventPublisher.publish(subevent);
+        }
+    }
+
+    /**
+     * This method distributes a prepared Subevent to each of the passed targets, invoking one clone of the Subevent per
+     * target. Clones are invoked one after another in the order of the passed targets, so that any state they share
+     * (such as their source, or resources exhausted along the way) is read and written in the same order every time.
+     * If batched dispatch is enabled, the clones share a ConditionBatch.
+     *
+     * @param subevent a prepared Subevent
+     * @param targets the RPGLObjects targeted by the passed Subevent
+     * @param originPoint the point from which the passed subevent emanates
+     * @return a list of the invoked clones of the passed Subevent, in target order
+     *
+     * @throws Exception if an exception occurs
+     */
+    public List<Subevent> fanOut(Subevent subevent, RPGLObject[] targets, JsonArray originPoint) throws Exception {
+        List<Subevent> invokedSubevents = new ArrayList<>(targets.length);
+        ConditionBatch conditionBatch = this.batchedDispatch && targets.length > 1 ? new ConditionBatch() : null;
+        for (RPGLObject target : targets) {
+            Subevent clone = subevent.clone().setTarget(target).setConditionBatch(conditionBatch);
+            invokedSubevents.add(clone.invoke(this, originPoint));
+        }
+        return invokedSubevents;
+    }
+
+    /**
+     * Returns the RPGLRuntime this context belongs to. This is the runtime which was current when the context was
+     * created, and it is bound on any thread which does work in this context on the context's behalf.
+     *
+     * @return a RPGLRuntime
+     */
+    public RPGLRuntime getRuntime() {
+        return this.runtime;
+    }
+
+    /**
+     * Enables or disables batched dispatch. While batched dispatch is enabled, the clones of a Subevent fanned out to
+     * more than one target share a ConditionBatch, so each target-independent Condition of an RPGLEffect is evaluated
+     * once for the whole batch rather than once per target. Batched dispatch is disabled by default.
+     *
+     * @param batchedDispatch whether fanned out Subevents should share target-independent Condition results
+     */
+    public void setBatchedDispatch(boolean batchedDispatch) {
+        this.batchedDispatch = batchedDispatch;
+    }
+
+    /**
+     * Enables or disables memoized calculations. While memoized calculations are enabled, each RPGLEvent invoked in
+     * this context opens a CalculationMemo, so an ability score or proficiency bonus calculated more than once during
+     * the invocation is only dispatched the first time. Later requests for the same calculation reuse its result
+     * without invoking a Subevent, so they are not passed to <code>viewCompletedSubevent(...)</code> or published, and
+     * RPGLEffects or RPGLResources which respond to them (including those which roll dice in response) do not respond
+     * again. Memoized calculations are disabled by default.
+     *
+     * @param memoizedCalculations whether calculations made while invoking RPGLEvents should be memoized
+     */
+    public void setMemoizedCalculations(boolean memoizedCalculations) {
+        this.memoizedCalculations = memoizedCalculations;
+    }
+
+    /**
+     * Returns whether calculations made while invoking RPGLEvents in this context are memoized.
+     *
+     * @return true if memoized calculations are enabled
+     */
+    public boolean isMemoizingCalculations() {
+        return this.memoizedCalculations;
+    }
+
+    /**
+     * Returns whether batched dispatch is enabled for this context.
+     *
+     * @return true if fanned out Subevents share target-independent Condition results
+     */
+    public boolean isBatchedDispatch() {
+        return this.batchedDispatch;
+    }
+
+    /**
+     * Assigns a RPGLSubeventPublisher to this context. While a publisher is assigned, every completed Subevent is
+     * captured as a SubeventRecord and published to its subscribers, in addition to being passed to
+     * <code>viewCompletedSubevent(...)</code>. Passing null stops publishing, which is the default behavior.
+     *
+     * @param subeventPublisher a RPGLSubeventPublisher, or null
+     */
+    public void setSubeventPublisher(RPGLSubeventPublisher subeventPublisher) {
+        this.subeventPublisher = subeventPublisher;
+    }
+
+    /**
+     * Returns the RPGLSubeventPublisher assigned to this context, or null if there is none.
+     *
+     * @return a RPGLSubeventPublisher, or null
+     */
+    public RPGLSubeventPublisher getSubeventPublisher() {
+        return this.subeventPublisher;
+    }
+
+    /**
+     * This method delivers any completed Subevents which are waiting to be published as part of an incomplete batch.
+     * RPGL calls this method itself once every RPGLEvent invocation completes.
+     */
+    public void flushCompletedSubevents() {
+        RPGLSubeventPublisher subeventPublisher = this.subeventPublisher;
+        if (subeventPublisher != null) {
+            subeventPublisher.flush();
+        }
+    }
+
+    /**
+     * Assigns a JsonArena to this context. While a JsonArena is assigned, each RPGLEvent invoked in this context opens
+     * a scope on it, so the payloads of the Subevents it produces are recycled once the invocation completes. Note
+     * that this means Subevents passed to <code>viewCompletedSubevent(...)</code> must not be retained beyond the
+     * invocation of the RPGLEvent which produced them. Passing null disables pooling, which is the default behavior.
+     *
+     * @param jsonArena a JsonArena, or null
+     */
+    public void setJsonArena(JsonArena jsonArena) {
+        this.jsonArena = jsonArena;
+    }
+
+    /**
+     * Returns the JsonArena assigned to this context, or null if Subevent payloads are not pooled.
+     *
+     * @return a JsonArena, or null
+     */
+    public JsonArena getJsonArena() {
+        return this.jsonArena;
+    }
+
+    /**
+     * Assigns a DiceSource to this context, such as a seeded DiceSource for a reproducible encounter. Each RPGLEvent
+     * invoked in this context draws its random numbers from this DiceSource. By default, a context splits its
+     * DiceSource from the DiceSource of its RPGLRuntime when it is created.
+     *
+     * @param diceSource a DiceSource
+     */
+    public void setDiceSource(DiceSource diceSource) {
+        this.diceSource = diceSource;
+    }
+
+    /**
+     * Returns the DiceSource assigned to this context.
+     *
+     * @return a DiceSource
+     */
+    public DiceSource getDiceSource() {
+        return this.diceSource;
+    }
+
     /**
      * Adds a RPGLObject to the context
      *
@@ -54,6 +359,8 @@ public abstract class RPGLContext {
      */
     public void add(RPGLObject object) {
         this.contextObjects.putIfAbsent(object.getUuid(), object);
+        this.subscriptions = null;
+        CalculationMemo.invalidate();
     }
 
     /**
@@ -63,6 +370,8 @@ public abstract class RPGLContext {
      */
     public void remove(RPGLObject object) {
         this.contextObjects.remove(object.getUuid());
+        this.subscriptions = null;
+        CalculationMemo.invalidate();
     }
 
     /**
@@ -71,7 +380,21 @@ public abstract class RPGLContext {
      * @param other a RPGLContext
      */
     public void merge(RPGLContext other) {
-        this.contextObjects.putAll(other.contextObjects);
+        for (RPGLObject object : other.getContextObjects()) {
+            this.contextObjects.put(object.getUuid(), object);
+        }
+        this.subscriptions = null;
+        CalculationMemo.invalidate();
+    }
+
+    /**
+     * Returns whether a RPGLObject is in context.
+     *
+     * @param object a RPGLObject
+     * @return true if the passed object is in context
+     */
+    public boolean contains(RPGLObject object) {
+        return this.contextObjects.containsKey(object.getUuid());
     }
 
     /**
@@ -102,6 +425,8 @@ public abstract class RPGLContext {
      */
     public void clear() {
         this.contextObjects.clear();
+        this.subscriptions = null;
+        CalculationMemo.invalidate();
     }
 
 }
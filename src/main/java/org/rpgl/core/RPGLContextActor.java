@@ -0,0 +1,204 @@
+package org.rpgl.core;
+
+import org.rpgl.json.JsonArray;
+import org.rpgl.json.JsonObject;
+import org.rpgl.math.Die;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This class owns a RPGLContext and serializes all work done in it. Callers submit commands to the actor's mailbox and
+ * receive futures in return, and the actor runs those commands one at a time, in submission order, on its executor.
+ * Because each context is only ever touched by its own actor, separate encounters may progress in parallel across
+ * cores, while the code running inside any one context remains single-threaded.
+ * <br>
+ * <br>
+ * Actors do not hold on to a thread while their mailbox is empty, so a single executor may be shared by a very large
+ * number of actors. RPGLObjects should only belong to one actor's context at a time. Commands run with the RPGLRuntime
+ * of the actor's context bound, so actors belonging to different runtimes may share an executor.
+ *
+ * @author Calvin Withun
+ */
+public class RPGLContextActor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RPGLContextActor.class);
+
+    /**
+     * The maximum number of commands an actor runs before yielding its thread to other actors.
+     */
+    private static final int MAXIMUM_BATCH_SIZE = 64;
+
+    /**
+     * The executor shared by actors constructed without one. Its threads are daemon threads, and are discarded when
+     * idle.
+     */
+    private static final ExecutorService SHARED_EXECUTOR = Executors.newCachedThreadPool(new ThreadFactory() {
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "rpgl-actor-" + this.threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
+    private final RPGLContext context;
+    private final Executor executor;
+    private final Queue<Runnable> mailbox;
+    private final AtomicBoolean scheduled;
+
+    /**
+     * A unit of work to be run inside an actor's context.
+     *
+     * @param <T> the type of the command's result
+     */
+    @FunctionalInterface
+    public interface Command<T> {
+
+        /**
+         * This method runs the command.
+         *
+         * @param context the context owned by the actor running the command
+         * @return the result of the command
+         *
+         * @throws Exception if an exception occurs
+         */
+        T execute(RPGLContext context) throws Exception;
+
+    }
+
+    /**
+     * Constructor for RPGLContextActor. Commands are run on an executor shared by every actor constructed this way.
+     *
+     * @param context the RPGLContext to be owned by the actor
+     */
+    public RPGLContextActor(RPGLContext context) {
+        this(context, SHARED_EXECUTOR);
+    }
+
+    /**
+     * Constructor for RPGLContextActor.
+     *
+     * @param context the RPGLContext to be owned by the actor
+     * @param executor the executor on which commands are run
+     */
+    public RPGLContextActor(RPGLContext context, Executor executor) {
+        this.context = context;
+        this.executor = executor;
+        this.mailbox = new ConcurrentLinkedQueue<>();
+        this.scheduled = new AtomicBoolean(false);
+    }
+
+    /**
+     * Returns the RPGLContext owned by this actor. The context should only be accessed by commands submitted to this
+     * actor.
+     *
+     * @return a RPGLContext
+     */
+    public RPGLContext getContext() {
+        return this.context;
+    }
+
+    /**
+     * This method submits a command to this actor's mailbox. The command is run after every command submitted before
+     * it has completed.
+     *
+     * @param command a command
+     * @param <T> the type of the command's result
+     * @return a future completed with the command's result, or completed exceptionally if the command throws anything
+     */
+    public <T> CompletableFuture<T> submit(Command<T> command) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        this.mailbox.add(() -> {
+            try (RPGLRuntime.Binding binding = this.context.getRuntime().bind();
+                 Die.Binding diceBinding = Die.bind(this.context.getDiceSource())) {
+                future.complete(command.execute(this.context));
+            } catch (Throwable e) {
+                // Errors are caught as well, so that the future always completes and the rest of the batch still runs
+                LOGGER.error(e.getMessage());
+                future.completeExceptionally(e);
+            }
+        });
+        this.schedule();
+        return future;
+    }
+
+    /**
+     * This method submits a command which invokes a RPGLEvent in this actor's context.
+     *
+     * @param source the RPGLObject invoking the event
+     * @param originPoint the point from which the event emanates
+     * @param targets the targets of the event
+     * @param event the event being invoked
+     * @param resources the resources spent to invoke the event
+     * @return a future completed once the event has been invoked
+     */
+    public CompletableFuture<Void> invokeEvent(RPGLObject source, JsonArray originPoint, RPGLObject[] targets, RPGLEvent event, List<RPGLResource> resources) {
+        return this.submit(context -> {
+            source.invokeEvent(originPoint, targets, event, resources, context);
+            return null;
+        });
+    }
+
+    /**
+     * This method submits a command which moves a RPGLObject in this actor's context.
+     *
+     * @param object the RPGLObject being moved
+     * @param destination the point to which the object is moving
+     * @return a future completed with the moved object
+     */
+    public CompletableFuture<RPGLObject> move(RPGLObject object, JsonArray destination) {
+        return this.submit(context -> object.move(context, destination));
+    }
+
+    /**
+     * This method submits a command which levels up a RPGLObject in this actor's context.
+     *
+     * @param object the RPGLObject being leveled up
+     * @param classId the class being leveled up
+     * @param choices the choices made while leveling up
+     * @return a future completed with the leveled up object
+     */
+    public CompletableFuture<RPGLObject> levelUp(RPGLObject object, String classId, JsonObject choices) {
+        return this.submit(context -> object.levelUp(classId, choices));
+    }
+
+    /**
+     * This helper method schedules this actor's mailbox to be drained, unless it is already scheduled.
+     */
+    private void schedule() {
+        if (!this.mailbox.isEmpty() && this.scheduled.compareAndSet(false, true)) {
+            this.executor.execute(this::drain);
+        }
+    }
+
+    /**
+     * This helper method runs commands from this actor's mailbox until it is empty or the batch size is reached, and
+     * then reschedules itself if any commands remain.
+     */
+    private void drain() {
+        try {
+            Runnable command;
+            int commandsRun = 0;
+            while (commandsRun++ < MAXIMUM_BATCH_SIZE && (command = this.mailbox.poll()) != null) {
+                command.run();
+            }
+        } finally {
+            this.scheduled.set(false);
+            this.schedule();
+        }
+    }
+
+}
@@ -0,0 +1,132 @@
+package org.rpgl.core;
+
+import org.rpgl.json.JsonArray;
+import org.rpgl.subevent.Subevent;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * This class represents the union of several RPGLContexts, for use when an RPGLEvent is invoked which covers area
+ * delegated to more than one of them. A RPGLContextUnion is a view: it does not copy the RPGLObjects of its member
+ * contexts, so it is cheap to create for a single RPGLEvent and discard afterwards. Subevents processed in a union are
+ * propagated to the RPGLObjects each member context would propagate them to, so member RPGLRegionContexts continue to
+ * route Subevents by region.
+ *
+ * @author Calvin Withun
+ */
+public class RPGLContextUnion extends RPGLContext {
+
+    private final List<RPGLContext> members;
+
+    /**
+     * Constructor for RPGLContextUnion.
+     *
+     * @param members the RPGLContexts to be viewed as one
+     */
+    public RPGLContextUnion(RPGLContext... members) {
+        super();
+        this.members = List.of(members);
+    }
+
+    /**
+     * Returns the RPGLContexts viewed by this union.
+     *
+     * @return a list of RPGLContexts
+     */
+    public List<RPGLContext> getMembers() {
+        return this.members;
+    }
+
+    /**
+     * Returns whether it is a RPGLObject's turn in the first member context which contains it.
+     *
+     * @param object a RPGLObject
+     * @return true if it is the passed object's turn
+     */
+    @Override
+    public boolean isObjectsTurn(RPGLObject object) {
+        for (RPGLContext member : this.members) {
+            if (member.contains(object)) {
+                return member.isObjectsTurn(object);
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected Collection<RPGLObject> getDispatchObjects(Subevent subevent, JsonArray originPoint) {
+        Set<RPGLObject> dispatchObjects = new LinkedHashSet<>();
+        for (RPGLContext member : this.members) {
+            dispatchObjects.addAll(member.getDispatchObjects(subevent, originPoint));
+        }
+        return dispatchObjects;
+    }
+
+    @Override
+    public boolean contains(RPGLObject object) {
+        for (RPGLContext member : this.members) {
+            if (member.contains(object)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public List<RPGLObject> getContextObjects() {
+        Set<RPGLObject> objects = new LinkedHashSet<>();
+        for (RPGLContext member : this.members) {
+            objects.addAll(member.getContextObjects());
+        }
+        return new ArrayList<>(objects);
+    }
+
+    /**
+     * Adds a RPGLObject to the first member context of this union.
+     *
+     * @param object a RPGLObject
+     */
+    @Override
+    public void add(RPGLObject object) {
+        if (!this.contains(object)) {
+            this.members.get(0).add(object);
+        }
+    }
+
+    /**
+     * Removes a RPGLObject from every member context of this union.
+     *
+     * @param object a RPGLObject
+     */
+    @Override
+    public void remove(RPGLObject object) {
+        for (RPGLContext member : this.members) {
+            member.remove(object);
+        }
+    }
+
+    /**
+     * Adds the RPGLObjects from another context to the first member context of this union.
+     *
+     * @param other a RPGLContext
+     */
+    @Override
+    public void merge(RPGLContext other) {
+        this.members.get(0).merge(other);
+    }
+
+    /**
+     * Clears all objects from every member context of this union.
+     */
+    @Override
+    public void clear() {
+        for (RPGLContext member : this.members) {
+            member.clear();
+        }
+    }
+
+}
@@ -1,14 +1,13 @@
 package org.rpgl.core;
 
 import org.rpgl.condition.Condition;
+import org.rpgl.condition.ConditionBatch;
 import org.rpgl.datapack.RPGLEffectTO;
 import org.rpgl.function.Function;
 import org.rpgl.json.JsonArray;
 import org.rpgl.json.JsonObject;
 import org.rpgl.subevent.Subevent;
 import org.rpgl.uuidtable.UUIDTable;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import java.util.Map;
 import java.util.Objects;
@@ -22,7 +21,17 @@ import java.util.Objects;
  */
 public class RPGLEffect extends RPGLTaggable {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(RPGLEffect.class);
+    private volatile CompiledFilters compiledFilters;
+    private volatile RPGLEffectRules rules;
+
+    /**
+     * The compiled form of an RPGLEffect's subevent filters.
+     *
+     * @param source the subevent filter data which was compiled
+     * @param filters the compiled subevent filters, or null if they could not be compiled
+     */
+    private record CompiledFilters(Object source, CompiledSubeventFilters filters) {
+    }
 
     /**
      * Returns the RPGLEffect Subevent filters.
@@ -42,6 +51,8 @@ public class RPGLEffect extends RPGLTaggable {
     @SuppressWarnings("UnusedReturnValue")
     public RPGLEffect setSubeventFilters(JsonObject subeventFilters) {
         super.putJsonObject(RPGLEffectTO.SUBEVENT_FILTERS_ALIAS, subeventFilters);
+        this.compiledFilters = null;
+        RPGLContext.invalidateSubscriptions();
         return this;
     }
 
@@ -63,6 +74,7 @@ public class RPGLEffect extends RPGLTaggable {
     @SuppressWarnings("UnusedReturnValue")
     public RPGLEffect setSource(RPGLObject source) {
         super.putString(RPGLEffectTO.SOURCE_ALIAS, source.getUuid());
+        ConditionBatch.invalidate();
         return this;
     }
 
@@ -84,6 +96,7 @@ public class RPGLEffect extends RPGLTaggable {
     @SuppressWarnings("UnusedReturnValue")
     public RPGLEffect setTarget(RPGLObject target) {
         super.putString(RPGLEffectTO.TARGET_ALIAS, target.getUuid());
+        ConditionBatch.invalidate();
         return this;
     }
 
@@ -105,6 +118,7 @@ public class RPGLEffect extends RPGLTaggable {
     @SuppressWarnings("UnusedReturnValue")
     public RPGLEffect setOriginItem(String originItem) {
         super.putString(RPGLEffectTO.ORIGIN_ITEM_ALIAS, originItem);
+        ConditionBatch.invalidate();
         return this;
     }
 
@@ -125,6 +139,18 @@ public class RPGLEffect extends RPGLTaggable {
      * @throws Exception if an exception occurs
      */
     public boolean processSubevent(Subevent subevent, RPGLContext context, JsonArray originPoint) throws Exception {
+        CompiledSubeventFilters compiledSubeventFilters = this.getCompiledSubeventFilters();
+        if (compiledSubeventFilters != null) {
+            for (CompiledSubeventFilters.Behavior behavior : compiledSubeventFilters.get(subevent.getSubeventId())) {
+                if (!subevent.effectAlreadyApplied(this) && behavior.evaluateConditions(this, subevent, context, originPoint)) {
+                    behavior.executeFunctions(this, subevent, context, originPoint);
+                    subevent.addModifyingEffect(this);
+                    invalidateCalculations(subevent);
+                    return true;
+                }
+            }
+            return false;
+        }
         JsonObject subeventFilters = this.getSubeventFilters();
         for (Map.Entry<String, ?> subeventFilterEntry : subeventFilters.asMap().entrySet()) {
             if (Objects.equals(subevent.getSubeventId(), subeventFilterEntry.getKey())) {
@@ -136,6 +162,7 @@ public class RPGLEffect extends RPGLTaggable {
                         JsonArray functionJsonArray = matchedFilterBehavior.getJsonArray("functions");
                         executeFunctions(subevent, functionJsonArray, context, originPoint);
                         subevent.addModifyingEffect(this);
+                        invalidateCalculations(subevent);
                         return true;
                     }
                 }
@@ -144,6 +171,50 @@ public class RPGLEffect extends RPGLTaggable {
         return false;
     }
 
+    /**
+     * Returns the rule definition this RPGLEffect shares with the other RPGLEffects created from its template.
+     *
+     * @return a RPGLEffectRules, or null if this RPGLEffect was not created from a template
+     */
+    public RPGLEffectRules getRules() {
+        return this.rules;
+    }
+
+    /**
+     * Sets the rule definition this RPGLEffect shares with the other RPGLEffects created from its template. This is
+     * called by <code>RPGLEffectTemplate.setup(...)</code>.
+     *
+     * @param rules a RPGLEffectRules
+     */
+    void setRules(RPGLEffectRules rules) {
+        this.rules = rules;
+        this.compiledFilters = null;
+    }
+
+    /**
+     * Returns the compiled form of this RPGLEffect's subevent filters. The filters are compiled the first time they are
+     * needed, and again whenever they are replaced. Note that the compiled filters are not updated if the filters are
+     * modified in place rather than replaced. While this RPGLEffect uses the subevent filters of its shared rule
+     * definition, the compiled filters of that rule definition are used instead.
+     *
+     * @return a CompiledSubeventFilters, or null if the filters could not be compiled and must be interpreted instead
+     */
+    CompiledSubeventFilters getCompiledSubeventFilters() {
+        JsonObject subeventFilters = this.getSubeventFilters();
+        CompiledFilters compiledFilters = this.compiledFilters;
+        if (compiledFilters == null || compiledFilters.source() != subeventFilters.asMap()) {
+            RPGLEffectRules rules = this.rules;
+            compiledFilters = new CompiledFilters(
+                    subeventFilters.asMap(),
+                    rules != null && rules.getSubeventFilters() != null && rules.getSubeventFilters().asMap() == subeventFilters.asMap()
+                            ? rules.getCompiledSubeventFilters()
+                            : CompiledSubeventFilters.compile(subeventFilters)
+            );
+            this.compiledFilters = compiledFilters;
+        }
+        return compiledFilters.filters();
+    }
+
     /**
      * This helper method evaluates a given collection of Conditions on a given RPGLObject source and target.
      *
@@ -156,14 +227,30 @@ public class RPGLEffect extends RPGLTaggable {
      * @throws Exception if an exception occurs
      */
     boolean evaluateConditions(Subevent subevent, JsonArray conditions, RPGLContext context, JsonArray originPoint) throws Exception {
-        boolean conditionsMet = true;
         for (int i = 0; i < conditions.size(); i++) {
             JsonObject conditionJson = conditions.getJsonObject(i);
-            conditionsMet &= Condition.CONDITIONS
+            // once a single condition returns false, iteration can short-circuit
+            if (!Condition.CONDITIONS
                     .get(conditionJson.getString("condition"))
-                    .evaluate(this, subevent, conditionJson, context, originPoint);
+                    .evaluate(this, subevent, conditionJson, context, originPoint)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * This helper method discards memoized calculations after this RPGLEffect's Functions were executed in response to
+     * a Subevent which does not modify state. Subevents which modify state discard memoized calculations once they
+     * complete, but Functions may change state (such as by ending their own RPGLEffect) while responding to any
+     * Subevent.
+     *
+     * @param subevent the Subevent the Functions were executed in response to
+     */
+    private static void invalidateCalculations(Subevent subevent) {
+        if (!subevent.modifiesState()) {
+            CalculationMemo.invalidate();
         }
-        return conditionsMet;
     }
 
     /**
@@ -197,32 +284,7 @@ public class RPGLEffect extends RPGLTaggable {
      * @throws Exception if an exception occurs
      */
     public static RPGLObject getObject(RPGLEffect effect, Subevent subevent, JsonObject instructions) throws Exception {
-        String fromAlias = instructions.getString("from");
-        String objectAlias = instructions.getString("object");
-        RPGLObject object = null;
-        if ("subevent".equals(fromAlias)) {
-            if ("source".equals(objectAlias)) {
-                object = subevent.getSource();
-            } else if ("target".equals(objectAlias)) {
-                object = subevent.getTarget();
-            }
-        } else if ("effect".equals(fromAlias)) {
-            if ("source".equals(objectAlias)) {
-                object = effect.getSource();
-            } else if ("target".equals(objectAlias)) {
-                object = effect.getTarget();
-            }
-        }
-        if (object != null) {
-            if (Objects.requireNonNullElse(instructions.getBoolean("as_origin"), false)) {
-                return UUIDTable.getObject(object.getOriginObject());
-            } else {
-                return object;
-            }
-        }
-        Exception e = new Exception("could not isolate an RPGLObject: " + instructions);
-        LOGGER.error(e.getMessage());
-        throw e;
+        return ObjectSelector.parse(instructions).select(effect, subevent);
     }
 
 }
@@ -0,0 +1,122 @@
+package org.rpgl.core;
+
+import org.rpgl.datapack.DatapackContentTO;
+import org.rpgl.datapack.RPGLEffectTO;
+import org.rpgl.json.FrozenJson;
+import org.rpgl.json.JsonObject;
+
+/**
+ * This class represents the rule definition shared by every RPGLEffect created from one RPGLEffectTemplate: its
+ * subevent filters, metadata, name, and description. The JSON data of a rule definition is frozen, and each RPGLEffect
+ * references it rather than storing a copy of its own, so that an RPGLEffect only needs to store its UUID, source,
+ * target, origin item, and tags. Subevent filters are compiled once per rule definition rather than once per
+ * RPGLEffect.
+ * <br>
+ * <br>
+ * Since the shared data is referenced from each RPGLEffect's own JSON data, RPGLEffects are serialized exactly as they
+ * were before. An RPGLEffect which replaces its subevent filters stops using the shared compiled filters.
+ *
+ * @author Calvin Withun
+ */
+public final class RPGLEffectRules {
+
+    private final JsonObject subeventFilters;
+    private final JsonObject metadata;
+    private final String name;
+    private final String description;
+    private volatile CompiledFilters compiledFilters;
+
+    /**
+     * The compiled form of a rule definition's subevent filters.
+     *
+     * @param filters the compiled subevent filters, or null if they could not be compiled
+     */
+    private record CompiledFilters(CompiledSubeventFilters filters) {
+    }
+
+    /**
+     * Constructor for RPGLEffectRules. The rule definition is frozen from a copy of the passed template data.
+     *
+     * @param templateData the JSON data of an RPGLEffectTemplate
+     */
+    RPGLEffectRules(JsonObject templateData) {
+        JsonObject subeventFilters = templateData.getJsonObject(RPGLEffectTO.SUBEVENT_FILTERS_ALIAS);
+        JsonObject metadata = templateData.getJsonObject(DatapackContentTO.METADATA_ALIAS);
+        this.subeventFilters = subeventFilters == null ? null : FrozenJson.freeze(subeventFilters);
+        this.metadata = metadata == null ? null : FrozenJson.freeze(metadata);
+        this.name = templateData.getString(DatapackContentTO.NAME_ALIAS);
+        this.description = templateData.getString(DatapackContentTO.DESCRIPTION_ALIAS);
+    }
+
+    /**
+     * Returns the frozen subevent filters of this rule definition.
+     *
+     * @return a frozen JsonObject, or null if the template has no subevent filters
+     */
+    public JsonObject getSubeventFilters() {
+        return this.subeventFilters;
+    }
+
+    /**
+     * Returns the frozen metadata of this rule definition.
+     *
+     * @return a frozen JsonObject, or null if the template has no metadata
+     */
+    public JsonObject getMetadata() {
+        return this.metadata;
+    }
+
+    /**
+     * Returns the name of this rule definition.
+     *
+     * @return a String, or null if the template has no name
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Returns the description of this rule definition.
+     *
+     * @return a String, or null if the template has no description
+     */
+    public String getDescription() {
+        return this.description;
+    }
+
+    /**
+     * This method stores this rule definition in the JSON data of an object by reference.
+     *
+     * @param object the JSON data of an RPGLEffect being created
+     */
+    void shareWith(JsonObject object) {
+        if (this.subeventFilters != null) {
+            object.asMap().put(RPGLEffectTO.SUBEVENT_FILTERS_ALIAS, this.subeventFilters.asMap());
+        }
+        if (this.metadata != null) {
+            object.asMap().put(DatapackContentTO.METADATA_ALIAS, this.metadata.asMap());
+        }
+        if (this.name != null) {
+            object.putString(DatapackContentTO.NAME_ALIAS, this.name);
+        }
+        if (this.description != null) {
+            object.putString(DatapackContentTO.DESCRIPTION_ALIAS, this.description);
+        }
+    }
+
+    /**
+     * Returns the compiled form of this rule definition's subevent filters. The filters are compiled the first time
+     * they are needed, and are shared by every RPGLEffect using this rule definition.
+     *
+     * @return a CompiledSubeventFilters, or null if the filters could not be compiled and must be interpreted instead
+     */
+    CompiledSubeventFilters getCompiledSubeventFilters() {
+        CompiledFilters compiledFilters = this.compiledFilters;
+        if (compiledFilters == null) {
+            compiledFilters = new CompiledFilters(CompiledSubeventFilters.compile(this.subeventFilters));
+            this.compiledFilters = compiledFilters;
+        }
+        return compiledFilters.filters();
+    }
+
+}
@@ -1,17 +1,36 @@
 package org.rpgl.core;
 
+import org.rpgl.datapack.DatapackContentTO;
+import org.rpgl.datapack.RPGLEffectTO;
 import org.rpgl.json.JsonArray;
 import org.rpgl.json.JsonObject;
 import org.rpgl.uuidtable.UUIDTable;
 
+import java.util.HashMap;
+import java.util.Objects;
+
 /**
  * This class is used to contain a "template" to be used in the creation of new RPGLEffect objects. Data stored in this
- * object is copied and then processed to create a specific RPGLEffect defined somewhere in a datapack.
+ * object is copied and then processed to create a specific RPGLEffect defined somewhere in a datapack. The rule
+ * definition of the template (see <code>RPGLEffectRules</code>) is not copied, but shared by reference between every
+ * RPGLEffect created from the template.
  *
  * @author Calvin Withun
  */
 public class RPGLEffectTemplate extends RPGLTemplate {
 
+    private volatile SharedRules sharedRules;
+
+    /**
+     * The rule definition shared by the RPGLEffects created from a template.
+     *
+     * @param subeventFiltersSource the template subevent filter data the rules were created from
+     * @param metadataSource the template metadata the rules were created from
+     * @param rules the shared rule definition
+     */
+    private record SharedRules(Object subeventFiltersSource, Object metadataSource, RPGLEffectRules rules) {
+    }
+
     public RPGLEffectTemplate() {
         super();
     }
@@ -29,9 +48,48 @@ public class RPGLEffectTemplate extends RPGLTemplate {
         return effect;
     }
 
+    /**
+     * This method copies the template data to an RPGLEffect being constructed. Everything but the rule definition of
+     * the template is copied, and the rule definition is stored by reference, replacing any the RPGLEffect already had.
+     *
+     * @param effect an RPGLEffect being prepared for creation
+     */
     @Override
     public void setup(JsonObject effect) {
-        super.setup(effect);
+        RPGLEffectRules rules = this.getRules();
+        JsonObject instanceData = new JsonObject(new HashMap<>(this.asMap()));
+        instanceData.asMap().remove(RPGLEffectTO.SUBEVENT_FILTERS_ALIAS);
+        instanceData.asMap().remove(DatapackContentTO.METADATA_ALIAS);
+        effect.join(instanceData);
+        rules.shareWith(effect);
+        if (effect instanceof RPGLEffect rpglEffect) {
+            rpglEffect.setRules(rules);
+        }
+    }
+
+    /**
+     * Returns the rule definition shared by the RPGLEffects created from this template. The rule definition is created
+     * the first time it is needed, and again whenever the template's subevent filters, metadata, name, or description
+     * are replaced. Note that the rule definition is not updated if the template's data is modified in place rather
+     * than replaced.
+     *
+     * @return a RPGLEffectRules
+     */
+    public RPGLEffectRules getRules() {
+        JsonObject subeventFilters = this.getJsonObject(RPGLEffectTO.SUBEVENT_FILTERS_ALIAS);
+        JsonObject metadata = this.getJsonObject(DatapackContentTO.METADATA_ALIAS);
+        Object subeventFiltersSource = subeventFilters == null ? null : subeventFilters.asMap();
+        Object metadataSource = metadata == null ? null : metadata.asMap();
+        SharedRules sharedRules = this.sharedRules;
+        if (sharedRules == null
+                || sharedRules.subeventFiltersSource() != subeventFiltersSource
+                || sharedRules.metadataSource() != metadataSource
+                || !Objects.equals(sharedRules.rules().getName(), this.getString(DatapackContentTO.NAME_ALIAS))
+                || !Objects.equals(sharedRules.rules().getDescription(), this.getString(DatapackContentTO.DESCRIPTION_ALIAS))) {
+            sharedRules = new SharedRules(subeventFiltersSource, metadataSource, new RPGLEffectRules(this));
+            this.sharedRules = sharedRules;
+        }
+        return sharedRules.rules();
     }
 
     @Override
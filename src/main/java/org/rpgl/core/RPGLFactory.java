@@ -2,6 +2,7 @@ package org.rpgl.core;
 
 import org.rpgl.datapack.DatapackLoader;
 import org.rpgl.json.JsonArray;
+import org.rpgl.json.JsonArrayBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -157,15 +158,12 @@ public final class RPGLFactory {
      * @return a new RPGLObject object
      */
     public static RPGLObject newObject(String objectId, String userId) {
-        return newObject(objectId, userId, new JsonArray() {{
-            this.addDouble(0d);
-            this.addDouble(0d);
-            this.addDouble(0d);
-        }}, new JsonArray() {{
-            this.addDouble(0d);
-            this.addDouble(0d);
-            this.addDouble(0d);
-        }});
+        return newObject(
+                objectId,
+                userId,
+                JsonArrayBuilder.create().addDouble(0d).addDouble(0d).addDouble(0d).build(),
+                JsonArrayBuilder.create().addDouble(0d).addDouble(0d).addDouble(0d).build()
+        );
     }
 
     /**
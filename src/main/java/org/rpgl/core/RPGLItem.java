@@ -144,6 +144,7 @@ public class RPGLItem extends RPGLTaggable {
     @SuppressWarnings("UnusedReturnValue")
     public RPGLItem setEquippedEffects(JsonArray equippedEffects) {
         super.putJsonArray(RPGLItemTO.EQUIPPED_EFFECTS_ALIAS, equippedEffects);
+        RPGLContext.invalidateSubscriptions();
         return this;
     }
 
@@ -165,6 +166,7 @@ public class RPGLItem extends RPGLTaggable {
     @SuppressWarnings("UnusedReturnValue")
     public RPGLItem setEquippedResources(JsonArray equippedResources) {
         super.putJsonArray(RPGLItemTO.EQUIPPED_RESOURCES_ALIAS, equippedResources);
+        RPGLContext.invalidateSubscriptions();
         return this;
     }
 
@@ -1,8 +1,13 @@
 package org.rpgl.core;
 
+import org.rpgl.condition.ConditionBatch;
 import org.rpgl.datapack.RPGLObjectTO;
+import org.rpgl.json.JsonArena;
 import org.rpgl.json.JsonArray;
+import org.rpgl.json.JsonArrayBuilder;
 import org.rpgl.json.JsonObject;
+import org.rpgl.json.JsonObjectBuilder;
+import org.rpgl.math.Die;
 import org.rpgl.subevent.AbilityCheck;
 import org.rpgl.subevent.CalculateAbilityScore;
 import org.rpgl.subevent.CalculateBaseArmorClass;
@@ -16,14 +21,22 @@ import org.rpgl.subevent.HealingDelivery;
 import org.rpgl.subevent.InfoSubevent;
 import org.rpgl.subevent.Movement;
 import org.rpgl.subevent.Subevent;
+import org.rpgl.subevent.SubeventRecord;
 import org.rpgl.subevent.TemporaryHitPointsDelivery;
 import org.rpgl.uuidtable.UUIDTable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * This class represents anything which might appear on a battle map. Examples of this include buildings, Goblins, and
@@ -33,6 +46,8 @@ import java.util.Objects;
  */
 public class RPGLObject extends RPGLTaggable {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(RPGLObject.class);
+
     /**
      * Returns the RPGLObject's ability scores.
      *
@@ -94,6 +109,7 @@ public class RPGLObject extends RPGLTaggable {
     @SuppressWarnings("UnusedReturnValue")
     public RPGLObject setEquippedItems(JsonObject equippedItems) {
         super.putJsonObject(RPGLObjectTO.EQUIPPED_ITEMS_ALIAS, equippedItems);
+        RPGLContext.invalidateSubscriptions();
         return this;
     }
 
@@ -157,6 +173,7 @@ public class RPGLObject extends RPGLTaggable {
     @SuppressWarnings("UnusedReturnValue")
     public RPGLObject setEffects(JsonArray effects) {
         super.putJsonArray(RPGLObjectTO.EFFECTS_ALIAS, effects);
+        RPGLContext.invalidateSubscriptions();
         return this;
     }
 
@@ -199,6 +216,7 @@ public class RPGLObject extends RPGLTaggable {
     @SuppressWarnings("UnusedReturnValue")
     public RPGLObject setResources(JsonArray resources) {
         super.putJsonArray(RPGLObjectTO.RESOURCES_ALIAS, resources);
+        RPGLContext.invalidateSubscriptions();
         return this;
     }
 
@@ -283,6 +301,7 @@ public class RPGLObject extends RPGLTaggable {
     @SuppressWarnings("UnusedReturnValue")
     public RPGLObject setUserId(String userId) {
         super.putString(RPGLObjectTO.USER_ID, userId);
+        ConditionBatch.invalidate();
         return this;
     }
 
@@ -303,6 +322,7 @@ public class RPGLObject extends RPGLTaggable {
     @SuppressWarnings("UnusedReturnValue")
     public RPGLObject setOriginObject(String originObject) {
         super.putString(RPGLObjectTO.ORIGIN_OBJECT_ALIAS, originObject);
+        RPGLContext.invalidateSubscriptions();
         return this;
     }
 
@@ -323,6 +343,7 @@ public class RPGLObject extends RPGLTaggable {
     @SuppressWarnings("UnusedReturnValue")
     public RPGLObject setProxy(Boolean proxy) {
         super.putBoolean(RPGLObjectTO.PROXY_ALIAS, proxy);
+        RPGLContext.invalidateSubscriptions();
         return this;
     }
 
@@ -343,6 +364,7 @@ public class RPGLObject extends RPGLTaggable {
     @SuppressWarnings("UnusedReturnValue")
     public RPGLObject setPosition(JsonArray position) {
         super.putJsonArray(RPGLObjectTO.POSITION_ALIAS, position);
+        RPGLRegionContext.invalidatePositions();
         return this;
     }
 
@@ -426,6 +448,19 @@ public class RPGLObject extends RPGLTaggable {
         return events;
     }
 
+    /**
+     * This method collects the RPGLEvents available to the RPGLObject in the same way as
+     * <code>getEventObjects(...)</code>, but does so as a task on the passed executor rather than on the calling
+     * thread.
+     *
+     * @param context the RPGLContext in which the RPGLObject's events are being collected
+     * @param executor the executor on which the events are collected
+     * @return a future completed with a List of RPGLEvent objects, or completed exceptionally if collection fails
+     */
+    public CompletableFuture<List<RPGLEvent>> getEventObjectsAsync(RPGLContext context, Executor executor) {
+        return supplyAsync(() -> this.getEventObjects(context), context, executor);
+    }
+
     /**
      * Returns a List of all RPGLEffect objects associated with the RPGLObject. This includes RPGLEffects granted by
      * equipped items.
@@ -494,34 +529,112 @@ public class RPGLObject extends RPGLTaggable {
      * @throws Exception if an exception occurs.
      */
     public void invokeEvent(JsonArray originPoint, RPGLObject[] targets, RPGLEvent event, List<RPGLResource> resources, RPGLContext context) throws Exception {
-        for (RPGLResource resource : resources) {
-            resource.exhaust();
-        }
-        event.scale(resources);
-
-        RPGLObject source;
-        if (event.getString("source") != null) {
-            // events with a source pre-assigned via AddEvent take priority
-            source = UUIDTable.getObject(event.getString("source"));
-        } else if (this.getProxy()) {
-            // proxy objects set their origin object as the source for any events they invoke
-            source = UUIDTable.getObject(this.getOriginObject());
-        } else {
-            // ordinary event invocation sets the calling object as the source
-            source = this;
-        }
+        this.invokeEventSubevents(originPoint, targets, event, resources, context, null);
+    }
+
+    /**
+     * This method invokes an RPGLEvent in the same way as <code>invokeEvent(...)</code>, but does so as a task on the
+     * passed executor rather than on the calling thread. The returned future is completed with snapshots of the
+     * Subevents invoked on each target, in the order they were invoked. The snapshots are taken before any JsonArena
+     * assigned to the context releases the Subevents' payloads, so they remain valid after the invocation completes.
+     * <br>
+     * <br>
+     * Note that RPGL does not serialize separate invocations made in the same context. Callers which may invoke several
+     * events in one context at once should do so through a RPGLContextActor.
+     *
+     * @param originPoint the point from which the passed event emanates
+     * @param targets an array of RPGLObjects targeted by the RPGLEvent being invoked
+     * @param event the RPGLEvent being invoked
+     * @param resources a list of resources to be exhausted through the invocation of the passed event
+     * @param context the RPGLContext in which the RPGLEvent is invoked
+     * @param executor the executor on which the RPGLEvent is invoked
+     * @return a future completed with SubeventRecords of the invoked Subevents, or completed exceptionally if the
+     *         invocation fails
+     */
+    public CompletableFuture<List<SubeventRecord>> invokeEventAsync(JsonArray originPoint, RPGLObject[] targets, RPGLEvent event, List<RPGLResource> resources, RPGLContext context, Executor executor) {
+        return supplyAsync(() -> {
+            List<SubeventRecord> records = new ArrayList<>();
+            this.invokeEventSubevents(originPoint, targets, event, resources, context, records);
+            return records;
+        }, context, executor);
+    }
 
-        JsonArray subeventJsonArray = event.getJsonArray("subevents");
-        for (int i = 0; i < subeventJsonArray.size(); i++) {
-            JsonObject subeventJson = subeventJsonArray.getJsonObject(i);
-            Subevent subevent = Subevent.SUBEVENTS.get(subeventJson.getString("subevent"))
-                    .clone(subeventJson)
-                    .setSource(source)
-                    .setOriginItem(event.getOriginItem())
-                    .prepare(context, originPoint);
-            for (RPGLObject target : targets) {
-                subevent.clone().setTarget(target).invoke(context, originPoint);
+    /**
+     * This method invokes an RPGLEvent in the same way as <code>invokeEventAsync(...)</code>, completing the returned
+     * future exceptionally with a TimeoutException if the invocation does not complete within the passed timeout. A
+     * timeout does not interrupt the invocation itself, which continues in the background.
+     *
+     * @param originPoint the point from which the passed event emanates
+     * @param targets an array of RPGLObjects targeted by the RPGLEvent being invoked
+     * @param event the RPGLEvent being invoked
+     * @param resources a list of resources to be exhausted through the invocation of the passed event
+     * @param context the RPGLContext in which the RPGLEvent is invoked
+     * @param executor the executor on which the RPGLEvent is invoked
+     * @param timeout how long to wait for the invocation to complete
+     * @return a future completed with SubeventRecords of the invoked Subevents, or completed exceptionally if the
+     *         invocation fails or times out
+     */
+    public CompletableFuture<List<SubeventRecord>> invokeEventAsync(JsonArray originPoint, RPGLObject[] targets, RPGLEvent event, List<RPGLResource> resources, RPGLContext context, Executor executor, Duration timeout) {
+        return this.invokeEventAsync(originPoint, targets, event, resources, context, executor)
+                .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * This helper method exhausts resources and then invokes an RPGLEvent.
+     *
+     * @param originPoint the point from which the passed event emanates
+     * @param targets an array of RPGLObjects targeted by the RPGLEvent being invoked
+     * @param event the RPGLEvent being invoked
+     * @param resources a list of resources to be exhausted through the invocation of the passed event
+     * @param context the RPGLContext in which the RPGLEvent is invoked
+     * @param records a List to which SubeventRecords of the Subevents invoked on each target are added in the order
+     *                they were invoked, or null if none are needed
+     *
+     * @throws Exception if an exception occurs.
+     */
+    private void invokeEventSubevents(JsonArray originPoint, RPGLObject[] targets, RPGLEvent event, List<RPGLResource> resources, RPGLContext context, List<SubeventRecord> records) throws Exception {
+        RPGLTransaction.track(this);
+        RPGLTransaction.track(targets);
+        RPGLTransaction.track(resources.toArray(new RPGLResource[0]));
+        JsonArena jsonArena = context.getJsonArena();
+        try (JsonArena.Scope scope = jsonArena == null ? null : jsonArena.open();
+             Die.Binding diceBinding = Die.bind(context.getDiceSource());
+             CalculationMemo.Scope memoScope = context.isMemoizingCalculations() ? CalculationMemo.open() : null) {
+            for (RPGLResource resource : resources) {
+                resource.exhaust();
             }
+            event.scale(resources);
+
+            RPGLObject source;
+            if (event.getString("source") != null) {
+                // events with a source pre-assigned via AddEvent take priority
+                source = UUIDTable.getObject(event.getString("source"));
+            } else if (this.getProxy()) {
+                // proxy objects set their origin object as the source for any events they invoke
+                source = UUIDTable.getObject(this.getOriginObject());
+            } else {
+                // ordinary event invocation sets the calling object as the source
+                source = this;
+            }
+
+            JsonArray subeventJsonArray = event.getJsonArray("subevents");
+            for (int i = 0; i < subeventJsonArray.size(); i++) {
+                JsonObject subeventJson = subeventJsonArray.getJsonObject(i);
+                Subevent subevent = Subevent.SUBEVENTS.get(subeventJson.getString("subevent"))
+                        .clone(subeventJson)
+                        .setSource(source)
+                        .setOriginItem(event.getOriginItem())
+                        .prepare(context, originPoint);
+                List<Subevent> invokedSubevents = context.fanOut(subevent, targets, originPoint);
+                if (records != null) {
+                    // snapshots are taken before the arena scope closes and releases the Subevents' payloads
+                    for (Subevent invokedSubevent : invokedSubevents) {
+                        records.add(SubeventRecord.of(invokedSubevent));
+                    }
+                }
+            }
+        } finally {
+            context.flushCompletedSubevents();
         }
     }
 
@@ -536,6 +649,7 @@ public class RPGLObject extends RPGLTaggable {
      * @throws Exception if an exception occurs
      */
     public boolean processSubevent(Subevent subevent, RPGLContext context, JsonArray originPoint) throws Exception {
+        RPGLTransaction.track(this);
         boolean wasSubeventProcessed = false;
         for (RPGLEffect effect : getEffectObjects()) {
             wasSubeventProcessed |= effect.processSubevent(subevent, context, originPoint);
@@ -556,6 +670,7 @@ public class RPGLObject extends RPGLTaggable {
     public void addEffect(RPGLEffect effect) {
         if (!this.getEffects().asList().contains(effect.getUuid())) {
             this.getEffects().addString(effect.getUuid());
+            RPGLContext.invalidateSubscriptions();
         }
     }
 
@@ -567,7 +682,11 @@ public class RPGLObject extends RPGLTaggable {
      * @return true if the effect was removed, false otherwise
      */
     public boolean removeEffect(String effectUuid) {
-        return this.getEffects().asList().remove(effectUuid);
+        if (this.getEffects().asList().remove(effectUuid)) {
+            RPGLContext.invalidateSubscriptions();
+            return true;
+        }
+        return false;
     }
 
     /**
@@ -580,6 +699,7 @@ public class RPGLObject extends RPGLTaggable {
     public RPGLObject addResource(RPGLResource resource) {
         if (!this.getResources().asList().contains(resource.getUuid())) {
             this.getResources().addString(resource.getUuid());
+            RPGLContext.invalidateSubscriptions();
         }
         return this;
     }
@@ -605,12 +725,13 @@ public class RPGLObject extends RPGLTaggable {
      * @throws Exception if an exception occurs.
      */
     public int getEffectiveProficiencyBonus(RPGLContext context) throws Exception {
-        return new CalculateProficiencyBonus()
+        return CalculationMemo.calculate("calculate_proficiency_bonus", this, null, context, () -> new CalculateProficiencyBonus()
                 .setSource(this)
                 .prepare(context, this.getPosition())
                 .setTarget(this)
                 .invoke(context, this.getPosition())
-                .get();
+                .get()
+        );
     }
 
     /**
@@ -623,15 +744,16 @@ public class RPGLObject extends RPGLTaggable {
      * @throws Exception if an exception occurs
      */
     public int getAbilityScoreFromAbilityName(String ability, RPGLContext context) throws Exception {
-        return new CalculateAbilityScore()
-                .joinSubeventData(new JsonObject() {{
-                    this.putString("ability", ability);
-                }})
+        return CalculationMemo.calculate("calculate_ability_score", this, ability, context, () -> new CalculateAbilityScore()
+                .joinSubeventData(JsonObjectBuilder.createTransient()
+                        .putString("ability", ability)
+                        .build())
                 .setSource(this)
                 .prepare(context, this.getPosition())
                 .setTarget(this)
                 .invoke(context, this.getPosition())
-                .get();
+                .get()
+        );
     }
 
     /**
@@ -783,17 +905,14 @@ public class RPGLObject extends RPGLTaggable {
      * @throws Exception if an exception occurs
      */
     public InfoSubevent invokeInfoSubevent(RPGLContext context, String... tags) throws Exception {
+        JsonArrayBuilder subeventTags = JsonArrayBuilder.createTransient();
+        for (String tag : tags) {
+            subeventTags.addString(tag);
+        }
         return new InfoSubevent()
-                .joinSubeventData(new JsonObject() {{
-                    /*{
-                        "tags": [ <tags> ]
-                    }*/
-                    JsonArray subeventTags = new JsonArray();
-                    for (String tag : tags) {
-                        subeventTags.addString(tag);
-                    }
-                    this.putJsonArray("tags", subeventTags);
-                }})
+                .joinSubeventData(JsonObjectBuilder.createTransient()
+                        .putJsonArray("tags", subeventTags.build())
+                        .build())
                 .setSource(this)
                 .prepare(context, this.getPosition())
                 .setTarget(this)
@@ -846,6 +965,7 @@ public class RPGLObject extends RPGLTaggable {
             equippedItems.putString(equipmentSlot, itemUuid);
             RPGLItem item = UUIDTable.getItem(itemUuid);
             item.updateEquippedEffects(this);
+            RPGLContext.invalidateSubscriptions();
             // TODO account for 2-handed items...
         }
         return this;
@@ -891,15 +1011,18 @@ public class RPGLObject extends RPGLTaggable {
             tagsList.add(tags.getString(i));
         }
 
-        GetObjectTags getObjectTags = new GetObjectTags()
-                .setSource(this)
-                .prepare(context, this.getPosition())
-                .setTarget(this)
-                .invoke(context, this.getPosition());
-
-        tags = getObjectTags.getObjectTags();
-        for (int i = 0; i < tags.size(); i++) {
-            tagsList.add(tags.getString(i));
+        // tags can only be granted by effects observing the GetObjectTags subevent
+        if (context.isObserved("get_object_tags")) {
+            GetObjectTags getObjectTags = new GetObjectTags()
+                    .setSource(this)
+                    .prepare(context, this.getPosition())
+                    .setTarget(this)
+                    .invoke(context, this.getPosition());
+
+            tags = getObjectTags.getObjectTags();
+            for (int i = 0; i < tags.size(); i++) {
+                tagsList.add(tags.getString(i));
+            }
         }
 
         return tagsList;
@@ -1071,10 +1194,10 @@ public class RPGLObject extends RPGLTaggable {
         for (int i = 0; i < classes.size(); i++) {
             JsonObject classData = classes.getJsonObject(i);
             if (classData.getString("id").equals(classId)) {
-                classData.getJsonObject("additional_nested_classes").putJsonObject(additionalNestedClassId, new JsonObject() {{
-                    this.putInteger("scale", scale);
-                    this.putBoolean("round_up", roundUp);
-                }});
+                classData.getJsonObject("additional_nested_classes").putJsonObject(additionalNestedClassId, JsonObjectBuilder.create()
+                    .putInteger("scale", scale)
+                    .putBoolean("round_up", roundUp)
+                    .build());
             }
         }
     }
@@ -1110,13 +1233,11 @@ public class RPGLObject extends RPGLTaggable {
      */
     public int abilityCheck(String ability, String skill, RPGLContext context) throws Exception {
         return new AbilityCheck()
-                .joinSubeventData(new JsonObject() {{
-                    this.putString("ability", ability);
-                    this.putString("skill", skill);
-                    this.putJsonArray("determined", new JsonArray() {{
-                        this.addInteger(10);
-                    }});
-                }})
+                .joinSubeventData(JsonObjectBuilder.createTransient()
+                        .putString("ability", ability)
+                        .putString("skill", skill)
+                        .putJsonArray("determined", JsonArrayBuilder.createTransient().addInteger(10).build())
+                        .build())
                 .setSource(this)
                 .prepare(context, this.getPosition())
                 .setTarget(this)
@@ -1178,4 +1299,28 @@ public class RPGLObject extends RPGLTaggable {
         return this;
     }
 
+    /**
+     * This helper method runs a task on an executor with the runtime and DiceSource of a context bound, completing the
+     * returned future with its result or with anything it throws.
+     *
+     * @param task a task
+     * @param context the context in which the task is run
+     * @param executor the executor on which the task is run
+     * @param <T> the type of the task's result
+     * @return a future completed with the task's result
+     */
+    private static <T> CompletableFuture<T> supplyAsync(Callable<T> task, RPGLContext context, Executor executor) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        executor.execute(() -> {
+            try (RPGLRuntime.Binding binding = context.getRuntime().bind();
+                 Die.Binding diceBinding = Die.bind(context.getDiceSource())) {
+                future.complete(task.call());
+            } catch (Throwable e) {
+                LOGGER.error(e.getMessage());
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
 }
@@ -0,0 +1,218 @@
+package org.rpgl.core;
+
+import org.rpgl.json.JsonArray;
+import org.rpgl.subevent.Subevent;
+import org.rpgl.uuidtable.UUIDTable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This class represents a context covering a large area, such as an open map with many RPGLObjects in it. RPGLObjects
+ * in a RPGLRegionContext are partitioned into cubic cells according to their positions, and Subevents are only
+ * propagated to the RPGLObjects in cells within the dispatch radius of the point they emanate from (along with the
+ * source and target of the Subevent, wherever they may be). This means the cost of processing a Subevent is
+ * proportional to the size of the neighbourhood it occurs in rather than the size of the whole context.
+ * <br>
+ * <br>
+ * Note that RPGLEffects belonging to RPGLObjects outside the dispatch radius will not respond to Subevents, so the
+ * dispatch radius should be at least as large as the furthest distance at which any RPGLEffect is expected to react.
+ *
+ * @author Calvin Withun
+ */
+public abstract class RPGLRegionContext extends RPGLContext {
+
+    /**
+     * Incremented whenever a RPGLObject's position is assigned. Region contexts re-partition their objects lazily when
+     * this value changes.
+     */
+    private static final AtomicLong POSITION_VERSION = new AtomicLong();
+
+    private final double cellSize;
+    private final double dispatchRadius;
+
+    private Map<Cell, List<RPGLObject>> cells;
+    private List<RPGLObject> unplacedObjects;
+    private long cellsVersion;
+
+    /**
+     * The coordinates of a cubic cell. Positions with fewer than three dimensions are treated as having 0 for their
+     * missing coordinates.
+     *
+     * @param x the cell's first coordinate
+     * @param y the cell's second coordinate
+     * @param z the cell's third coordinate
+     */
+    private record Cell(long x, long y, long z) {
+    }
+
+    /**
+     * Constructor for RPGLRegionContext.
+     *
+     * @param cellSize the width of each cell
+     * @param dispatchRadius the distance from a Subevent's origin point within which RPGLObjects respond to it
+     */
+    public RPGLRegionContext(double cellSize, double dispatchRadius) {
+        super();
+        this.cellSize = cellSize;
+        this.dispatchRadius = dispatchRadius;
+        this.cells = null;
+        this.unplacedObjects = null;
+        this.cellsVersion = -1L;
+    }
+
+    /**
+     * This method informs every RPGLRegionContext that a RPGLObject may have moved. RPGL calls this method itself
+     * whenever a position is assigned through <code>RPGLObject.setPosition(...)</code>. Code which moves an object by
+     * editing its position array directly must call this method afterwards. Results memoized by a CalculationMemo are
+     * discarded as well.
+     */
+    public static void invalidatePositions() {
+        POSITION_VERSION.incrementAndGet();
+        CalculationMemo.invalidate();
+    }
+
+    /**
+     * Returns the width of each cell of this context.
+     *
+     * @return the cell size
+     */
+    public double getCellSize() {
+        return this.cellSize;
+    }
+
+    /**
+     * Returns the distance from a Subevent's origin point within which RPGLObjects respond to it.
+     *
+     * @return the dispatch radius
+     */
+    public double getDispatchRadius() {
+        return this.dispatchRadius;
+    }
+
+    @Override
+    protected Collection<RPGLObject> getDispatchObjects(Subevent subevent, JsonArray originPoint) {
+        if (originPoint == null) {
+            return super.getDispatchObjects(subevent, originPoint);
+        }
+        Map<Cell, List<RPGLObject>> cells = this.getCells();
+        Cell originCell = this.getCell(originPoint);
+        long reach = (long) Math.ceil(this.dispatchRadius / this.cellSize);
+
+        Set<RPGLObject> dispatchObjects = new LinkedHashSet<>();
+        for (long x = originCell.x() - reach; x <= originCell.x() + reach; x++) {
+            for (long y = originCell.y() - reach; y <= originCell.y() + reach; y++) {
+                for (long z = originCell.z() - reach; z <= originCell.z() + reach; z++) {
+                    List<RPGLObject> cellObjects = cells.get(new Cell(x, y, z));
+                    if (cellObjects != null) {
+                        dispatchObjects.addAll(cellObjects);
+                    }
+                }
+            }
+        }
+        dispatchObjects.addAll(this.unplacedObjects);
+        this.addParticipant(dispatchObjects, subevent.json.getString("source"));
+        this.addParticipant(dispatchObjects, subevent.json.getString("target"));
+        return dispatchObjects;
+    }
+
+    @Override
+    public void add(RPGLObject object) {
+        super.add(object);
+        this.cells = null;
+    }
+
+    @Override
+    public void remove(RPGLObject object) {
+        super.remove(object);
+        this.cells = null;
+    }
+
+    @Override
+    public void merge(RPGLContext other) {
+        super.merge(other);
+        this.cells = null;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        this.cells = null;
+    }
+
+    /**
+     * This helper method adds the source or target of a Subevent to the passed set, if it is in context.
+     *
+     * @param dispatchObjects the RPGLObjects to which a Subevent will be propagated
+     * @param uuid the UUID of a RPGLObject, or null
+     */
+    private void addParticipant(Set<RPGLObject> dispatchObjects, String uuid) {
+        if (uuid != null) {
+            RPGLObject participant = UUIDTable.getObject(uuid);
+            if (participant != null && this.contains(participant)) {
+                dispatchObjects.add(participant);
+            }
+        }
+    }
+
+    /**
+     * This helper method returns the cells of this context, partitioning the RPGLObjects in context into them if
+     * anything has been added, removed, or moved since they were last partitioned.
+     *
+     * @return a map of cells to the RPGLObjects inside them
+     */
+    private Map<Cell, List<RPGLObject>> getCells() {
+        long version = POSITION_VERSION.get();
+        if (this.cells == null || this.cellsVersion != version) {
+            Map<Cell, List<RPGLObject>> cells = new HashMap<>();
+            List<RPGLObject> unplacedObjects = new ArrayList<>();
+            for (RPGLObject object : this.getContextObjects()) {
+                JsonArray position = object.getPosition();
+                if (position == null || position.size() == 0) {
+                    unplacedObjects.add(object);
+                } else {
+                    cells.computeIfAbsent(this.getCell(position), k -> new ArrayList<>()).add(object);
+                }
+            }
+            this.cells = cells;
+            this.unplacedObjects = unplacedObjects;
+            this.cellsVersion = version;
+        }
+        return this.cells;
+    }
+
+    /**
+     * This helper method returns the cell containing a point.
+     *
+     * @param point a point in coordinate space
+     * @return the cell containing the passed point
+     */
+    private Cell getCell(JsonArray point) {
+        return new Cell(
+                this.getCellCoordinate(point, 0),
+                this.getCellCoordinate(point, 1),
+                this.getCellCoordinate(point, 2)
+        );
+    }
+
+    /**
+     * This helper method returns one coordinate of the cell containing a point.
+     *
+     * @param point a point in coordinate space
+     * @param axis the index of the coordinate
+     * @return the cell coordinate along the passed axis
+     */
+    private long getCellCoordinate(JsonArray point, int axis) {
+        if (axis < point.size() && point.asList().get(axis) instanceof Number coordinate) {
+            return (long) Math.floor(coordinate.doubleValue() / this.cellSize);
+        }
+        return 0L;
+    }
+
+}
@@ -85,6 +85,7 @@ public class RPGLResource extends RPGLTaggable {
     @SuppressWarnings("UnusedReturnValue")
     public RPGLResource setRefreshCriterion(JsonArray refreshCriterion) {
         super.putJsonArray(RPGLResourceTO.REFRESH_CRITERION_ALIAS, refreshCriterion);
+        RPGLContext.invalidateSubscriptions();
         return this;
     }
 
@@ -154,7 +155,7 @@ public class RPGLResource extends RPGLTaggable {
         }
         if (Objects.equals(subevent.getSubeventId(), criterion.getString("subevent"))
                 && subevent.getTags().asList().containsAll(criterion.getJsonArray("tags").asList())
-                && Math.random() * 100 <= criterion.getInteger("chance")
+                && Die.chance(criterion.getInteger("chance"))
                 && (anyActor || Objects.equals(owner, actor))) {
             int completed = criterion.getInteger("completed") + 1;
             if (completed >= criterion.getInteger("required")) {
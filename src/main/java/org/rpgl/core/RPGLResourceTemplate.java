@@ -2,7 +2,9 @@ package org.rpgl.core;
 
 import org.rpgl.datapack.RPGLResourceTO;
 import org.rpgl.json.JsonArray;
+import org.rpgl.json.JsonArrayBuilder;
 import org.rpgl.json.JsonObject;
+import org.rpgl.json.JsonObjectBuilder;
 import org.rpgl.math.Die;
 import org.rpgl.uuidtable.UUIDTable;
 
@@ -14,19 +16,17 @@ import org.rpgl.uuidtable.UUIDTable;
  */
 public class RPGLResourceTemplate extends RPGLTemplate {
 
-    private static final JsonObject DEFAULT_REQUIRED_GENERATOR = new JsonObject() {{
-        this.putJsonArray("dice", new JsonArray());
-        this.putInteger("bonus", 1);
-    }};
+    private static final JsonObject DEFAULT_REQUIRED_GENERATOR = JsonObjectBuilder.create()
+            .putJsonArray("dice", new JsonArray())
+            .putInteger("bonus", 1)
+            .build();
 
-    private static final JsonArray DEFAULT_REFRESH_CRITERION = new JsonArray() {{
-       this.addJsonObject(new JsonObject() {{
-           this.putString("subevent", "info_subevent");
-           this.putJsonArray("tags", new JsonArray() {{
-               this.addString("start_turn");
-           }});
-       }});
-    }};
+    private static final JsonArray DEFAULT_REFRESH_CRITERION = JsonArrayBuilder.create()
+            .addJsonObject(JsonObjectBuilder.create()
+                    .putString("subevent", "info_subevent")
+                    .putJsonArray("tags", JsonArrayBuilder.create().addString("start_turn").build())
+                    .build())
+            .build();
 
     public RPGLResourceTemplate() {
         super();
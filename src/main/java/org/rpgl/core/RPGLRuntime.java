@@ -0,0 +1,452 @@
+package org.rpgl.core;
+
+import org.rpgl.condition.Condition;
+import org.rpgl.datapack.Datapack;
+import org.rpgl.datapack.DatapackAnalyzer;
+import org.rpgl.datapack.DatapackLoader;
+import org.rpgl.function.Function;
+import org.rpgl.math.DiceSource;
+import org.rpgl.subevent.Subevent;
+import org.rpgl.uuidtable.UUIDTableElement;
+
+import java.io.File;
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This class represents an isolated instance of the RPGL engine. A runtime owns the registries and settings which RPGL
+ * otherwise treats as global: its Conditions, Functions, Subevents, datapacks, UUIDTable contents, DiceSource, and Die settings.
+ * Many runtimes may exist at once, such as one per tenant or one per simulation worker, and each of them may be used
+ * concurrently without observing the others.
+ * <br>
+ * <br>
+ * The static registries <code>Condition.CONDITIONS</code>, <code>Function.FUNCTIONS</code>,
+ * <code>Subevent.SUBEVENTS</code>, and <code>DatapackLoader.DATAPACKS</code>, as well as <code>UUIDTable</code> and
+ * <code>Die</code>, operate on the runtime bound to the calling thread, or on the default runtime if none is bound.
+ * Code which never binds a runtime therefore uses the default runtime for everything, exactly as if RPGL were global.
+ * A RPGLContext remembers the runtime which was current when it was created, and RPGLContextActors and asynchronous
+ * invocations bind that runtime on the threads doing work in the context.
+ *
+ * @author Calvin Withun
+ */
+public final class RPGLRuntime {
+
+    private static final RPGLRuntime DEFAULT = new RPGLRuntime();
+    private static final ThreadLocal<RPGLRuntime> CURRENT = new ThreadLocal<>();
+
+    /**
+     * The number of runtime bindings open on any thread. Registry lookups skip the thread-local lookup entirely while
+     * this value is 0.
+     */
+    private static final AtomicInteger OPEN_BINDINGS = new AtomicInteger();
+
+    private final Map<String, Condition> conditions;
+    private final Map<String, Function> functions;
+    private final Map<String, Subevent> subevents;
+    private final Map<String, Datapack> datapacks;
+    private final DatapackAnalyzer.SubeventGraph subeventGraph;
+    private final Map<String, UUIDTableElement> uuidTable;
+    private volatile DiceSource diceSource;
+    private volatile boolean dieTesting;
+
+    /**
+     * Incremented whenever anything happens in this runtime which may give an RPGLObject a new RPGLEffect or
+     * RPGLResource, or which may give an existing one a new subevent filter or refresh criterion. RPGLContexts of this
+     * runtime rebuild their subscriptions lazily when this value changes.
+     */
+    private final AtomicLong subscriptionVersion;
+
+    /**
+     * Incremented whenever results memoized by a CalculationMemo in this runtime may no longer be valid.
+     */
+    private final AtomicLong calculationEpoch;
+
+    public RPGLRuntime() {
+        this(
+                new HashMap<>(),
+                new HashMap<>(),
+                new HashMap<>(),
+                new HashMap<>(),
+                new DatapackAnalyzer.SubeventGraph(),
+                DiceSource.create(),
+                false
+        );
+    }
+
+    /**
+     * Constructor for RPGLRuntime which uses the passed registries.
+     *
+     * @param conditions the Conditions registry
+     * @param functions the Functions registry
+     * @param subevents the Subevents registry
+     * @param datapacks the datapacks registry
+     * @param subeventGraph the subevent graph of the datapacks registry
+     * @param diceSource the DiceSource of the runtime
+     * @param dieTesting whether dice honor pre-determined values
+     */
+    private RPGLRuntime(
+            Map<String, Condition> conditions,
+            Map<String, Function> functions,
+            Map<String, Subevent> subevents,
+            Map<String, Datapack> datapacks,
+            DatapackAnalyzer.SubeventGraph subeventGraph,
+            DiceSource diceSource,
+            boolean dieTesting
+    ) {
+        this.conditions = conditions;
+        this.functions = functions;
+        this.subevents = subevents;
+        this.datapacks = datapacks;
+        this.subeventGraph = subeventGraph;
+        this.uuidTable = new ConcurrentHashMap<>();
+        this.diceSource = diceSource;
+        this.dieTesting = dieTesting;
+        this.subscriptionVersion = new AtomicLong();
+        this.calculationEpoch = new AtomicLong();
+    }
+
+    /**
+     * Returns the default runtime, which is used by any thread which has not bound a runtime of its own.
+     *
+     * @return a RPGLRuntime
+     */
+    public static RPGLRuntime getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Returns the runtime bound to the current thread, or the default runtime if none is bound.
+     *
+     * @return a RPGLRuntime
+     */
+    public static RPGLRuntime current() {
+        if (OPEN_BINDINGS.get() == 0) {
+            return DEFAULT;
+        }
+        RPGLRuntime runtime = CURRENT.get();
+        return runtime == null ? DEFAULT : runtime;
+    }
+
+    /**
+     * This method binds this runtime to the current thread until the returned binding is closed. Bindings may be
+     * nested, in which case closing a binding restores the runtime which was bound before it.
+     *
+     * @return a Binding which must be closed once the runtime is no longer needed on the current thread
+     */
+    public Binding bind() {
+        Binding binding = new Binding(CURRENT.get());
+        CURRENT.set(this);
+        OPEN_BINDINGS.incrementAndGet();
+        return binding;
+    }
+
+    /**
+     * Returns a new runtime which shares the Conditions, Functions, Subevents, and datapacks (along with their subevent
+     * graph) of this runtime, but owns an empty UUIDTable and a DiceSource split from this runtime's. Forking is much
+     * cheaper than loading and initializing a new runtime, and is intended for running many isolated copies of a world
+     * at once, such as simulation workers. The shared registries should not be modified while forks of a runtime are in use.
+     *
+     * @return a RPGLRuntime
+     */
+    public RPGLRuntime fork() {
+        return new RPGLRuntime(
+                this.conditions,
+                this.functions,
+                this.subevents,
+                this.datapacks,
+                this.subeventGraph,
+                this.diceSource.split(),
+                this.dieTesting
+        );
+    }
+
+    /**
+     * This method initializes all Conditions, Functions, and Subevents of this runtime, and configures its dice to
+     * not operate in testing mode.
+     */
+    @SuppressWarnings("unused") // this is only intended to be used by a client, as it disables testing-only features
+    public void initialize() {
+        try (Binding ignored = this.bind()) {
+            RPGLCore.initialize();
+        }
+    }
+
+    /**
+     * This method initializes all Conditions, Functions, and Subevents of this runtime (including testing-only
+     * options), and configures its dice to operate in testing mode.
+     */
+    public void initializeTesting() {
+        try (Binding ignored = this.bind()) {
+            RPGLCore.initializeTesting();
+        }
+    }
+
+    /**
+     * This method loads all datapacks within a directory into this runtime.
+     *
+     * @param directory a File directory containing datapack directories
+     */
+    public void loadDatapacks(File directory) {
+        try (Binding ignored = this.bind()) {
+            DatapackLoader.loadDatapacks(directory);
+        }
+    }
+
+    /**
+     * Returns the Conditions registered in this runtime.
+     *
+     * @return a Map of Conditions by condition ID
+     */
+    public Map<String, Condition> getConditions() {
+        return this.conditions;
+    }
+
+    /**
+     * Returns the Functions registered in this runtime.
+     *
+     * @return a Map of Functions by function ID
+     */
+    public Map<String, Function> getFunctions() {
+        return this.functions;
+    }
+
+    /**
+     * Returns the Subevents registered in this runtime.
+     *
+     * @return a Map of Subevents by subevent ID
+     */
+    public Map<String, Subevent> getSubevents() {
+        return this.subevents;
+    }
+
+    /**
+     * Returns the datapacks loaded into this runtime.
+     *
+     * @return a Map of Datapacks by namespace
+     */
+    public Map<String, Datapack> getDatapacks() {
+        return this.datapacks;
+    }
+
+    /**
+     * Returns the subevent graph of the datapacks loaded into this runtime. This data should be accessed via
+     * <code>DatapackAnalyzer</code>.
+     *
+     * @return a SubeventGraph
+     */
+    public DatapackAnalyzer.SubeventGraph getSubeventGraph() {
+        return this.subeventGraph;
+    }
+
+    /**
+     * Returns the UUIDTable contents of this runtime. This data should be accessed via <code>UUIDTable</code>.
+     *
+     * @return a Map of UUIDTableElements by UUID
+     */
+    public Map<String, UUIDTableElement> getUuidTable() {
+        return this.uuidTable;
+    }
+
+    /**
+     * Returns the DiceSource of this runtime. Each RPGLContext created in this runtime splits its own DiceSource from
+     * this one.
+     *
+     * @return a DiceSource
+     */
+    public DiceSource getDiceSource() {
+        return this.diceSource;
+    }
+
+    /**
+     * Setter for the DiceSource of this runtime, such as a seeded DiceSource for a reproducible simulation. Only
+     * RPGLContexts created afterwards split their DiceSources from the new DiceSource.
+     *
+     * @param diceSource a DiceSource
+     * @return this RPGLRuntime
+     */
+    @SuppressWarnings("UnusedReturnValue")
+    public RPGLRuntime setDiceSource(DiceSource diceSource) {
+        this.diceSource = diceSource;
+        return this;
+    }
+
+    /**
+     * Returns whether dice rolled in this runtime honor pre-determined values.
+     *
+     * @return true if this runtime is in testing mode
+     */
+    public boolean isDieTesting() {
+        return this.dieTesting;
+    }
+
+    /**
+     * Setter for whether dice rolled in this runtime honor pre-determined values.
+     *
+     * @param dieTesting whether this runtime should be in testing mode
+     * @return this RPGLRuntime
+     */
+    @SuppressWarnings("UnusedReturnValue")
+    public RPGLRuntime setDieTesting(boolean dieTesting) {
+        this.dieTesting = dieTesting;
+        return this;
+    }
+
+    /**
+     * Returns the subscription version of this runtime. See <code>RPGLContext.invalidateSubscriptions()</code>.
+     *
+     * @return the subscription version
+     */
+    public long getSubscriptionVersion() {
+        return this.subscriptionVersion.get();
+    }
+
+    /**
+     * This method informs every RPGLContext of this runtime that the RPGLEffects or RPGLResources which may respond to
+     * Subevents have changed. Results memoized by a CalculationMemo in this runtime are discarded as well. Other
+     * runtimes are unaffected.
+     */
+    public void invalidateSubscriptions() {
+        this.subscriptionVersion.incrementAndGet();
+        this.calculationEpoch.incrementAndGet();
+    }
+
+    /**
+     * Returns the calculation epoch of this runtime. See <code>CalculationMemo.invalidate()</code>.
+     *
+     * @return the calculation epoch
+     */
+    public long getCalculationEpoch() {
+        return this.calculationEpoch.get();
+    }
+
+    /**
+     * This method discards every result memoized by a CalculationMemo in this runtime.
+     */
+    public void invalidateCalculations() {
+        this.calculationEpoch.incrementAndGet();
+    }
+
+    /**
+     * This method creates a static registry which operates on the corresponding registry of the current runtime.
+     *
+     * @param selector a function selecting a registry from a runtime
+     * @param <V> the type of the registered values
+     * @return a Map
+     */
+    public static <V> Map<String, V> registry(java.util.function.Function<RPGLRuntime, Map<String, V>> selector) {
+        return new Registry<>(selector);
+    }
+
+    // =================================================================================================================
+    // Registries
+    // =================================================================================================================
+
+    /**
+     * A map which delegates to the corresponding registry of the current runtime.
+     *
+     * @param <V> the type of the registered values
+     */
+    private static final class Registry<V> extends AbstractMap<String, V> {
+
+        private final java.util.function.Function<RPGLRuntime, Map<String, V>> selector;
+
+        private Registry(java.util.function.Function<RPGLRuntime, Map<String, V>> selector) {
+            this.selector = selector;
+        }
+
+        private Map<String, V> delegate() {
+            return this.selector.apply(current());
+        }
+
+        @Override
+        public V get(Object key) {
+            return this.delegate().get(key);
+        }
+
+        @Override
+        public V getOrDefault(Object key, V defaultValue) {
+            return this.delegate().getOrDefault(key, defaultValue);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return this.delegate().containsKey(key);
+        }
+
+        @Override
+        public V put(String key, V value) {
+            return this.delegate().put(key, value);
+        }
+
+        @Override
+        public void putAll(Map<? extends String, ? extends V> m) {
+            this.delegate().putAll(m);
+        }
+
+        @Override
+        public V remove(Object key) {
+            return this.delegate().remove(key);
+        }
+
+        @Override
+        public void clear() {
+            this.delegate().clear();
+        }
+
+        @Override
+        public int size() {
+            return this.delegate().size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return this.delegate().isEmpty();
+        }
+
+        @Override
+        public Set<String> keySet() {
+            return this.delegate().keySet();
+        }
+
+        @Override
+        public Collection<V> values() {
+            return this.delegate().values();
+        }
+
+        @Override
+        public Set<Entry<String, V>> entrySet() {
+            return this.delegate().entrySet();
+        }
+
+    }
+
+    /**
+     * A binding of a runtime to the thread which created it.
+     */
+    public static final class Binding implements AutoCloseable {
+
+        private final RPGLRuntime previous;
+
+        private Binding(RPGLRuntime previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (this.previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(this.previous);
+            }
+            OPEN_BINDINGS.decrementAndGet();
+        }
+
+    }
+
+}
@@ -0,0 +1,138 @@
+package org.rpgl.core;
+
+import org.rpgl.subevent.Subevent;
+import org.rpgl.subevent.SubeventRecord;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This class publishes the Subevents completed in a RPGLContext as a reactive stream, so that clients can format, log,
+ * or transmit them on their own threads rather than inline on the engine thread. Each Subevent is captured as an
+ * immutable SubeventRecord as soon as it is completed, and records are delivered to subscribers in batches.
+ * <br>
+ * <br>
+ * Records accumulate until a batch is full, or until the batch is flushed. RPGL flushes the batch itself once every
+ * RPGLEvent invocation completes, so every record produced by an RPGLEvent is delivered without waiting for the next
+ * one. Each subscriber has its own bounded buffer of batches, and the overflow policy decides what happens when a slow
+ * subscriber's buffer is full.
+ *
+ * @author Calvin Withun
+ */
+public class RPGLSubeventPublisher implements Flow.Publisher<List<SubeventRecord>>, AutoCloseable {
+
+    /**
+     * What a RPGLSubeventPublisher does with a batch when a subscriber's buffer is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * The engine thread waits for the subscriber to make room. No batches are lost, but a slow subscriber slows the
+         * engine down.
+         */
+        BLOCK,
+        /**
+         * The batch is not delivered to that subscriber. The engine never waits, but a slow subscriber misses records.
+         */
+        DROP
+    }
+
+    private final SubmissionPublisher<List<SubeventRecord>> publisher;
+    private final int batchSize;
+    private final OverflowPolicy overflowPolicy;
+    private final AtomicLong droppedBatchCount;
+    private List<SubeventRecord> pendingBatch;
+
+    /**
+     * Constructor for RPGLSubeventPublisher.
+     *
+     * @param executor the executor on which subscribers receive batches
+     * @param bufferCapacity the maximum number of batches buffered for each subscriber
+     * @param batchSize the maximum number of records in each batch
+     * @param overflowPolicy what to do with a batch when a subscriber's buffer is full
+     */
+    public RPGLSubeventPublisher(Executor executor, int bufferCapacity, int batchSize, OverflowPolicy overflowPolicy) {
+        this.publisher = new SubmissionPublisher<>(executor, bufferCapacity);
+        this.batchSize = Math.max(1, batchSize);
+        this.overflowPolicy = overflowPolicy;
+        this.droppedBatchCount = new AtomicLong();
+        this.pendingBatch = new ArrayList<>(this.batchSize);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super List<SubeventRecord>> subscriber) {
+        this.publisher.subscribe(subscriber);
+    }
+
+    /**
+     * This method records a completed Subevent, delivering the pending batch if it is full.
+     *
+     * @param subevent a completed Subevent
+     */
+    public synchronized void publish(Subevent subevent) {
+        if (this.publisher.hasSubscribers()) {
+            this.pendingBatch.add(SubeventRecord.of(subevent));
+            if (this.pendingBatch.size() >= this.batchSize) {
+                this.deliver(this.takePendingBatch());
+            }
+        }
+    }
+
+    /**
+     * This method delivers the pending batch, if it contains any records.
+     */
+    public synchronized void flush() {
+        if (!this.pendingBatch.isEmpty()) {
+            this.deliver(this.takePendingBatch());
+        }
+    }
+
+    /**
+     * Returns the number of times a batch was not delivered to a subscriber because its buffer was full.
+     *
+     * @return the number of dropped batches
+     */
+    public long getDroppedBatchCount() {
+        return this.droppedBatchCount.get();
+    }
+
+    /**
+     * Flushes the pending batch and then completes every subscription.
+     */
+    @Override
+    public synchronized void close() {
+        this.flush();
+        this.publisher.close();
+    }
+
+    /**
+     * This helper method takes the pending batch, replacing it with an empty one.
+     *
+     * @return the pending batch
+     */
+    private List<SubeventRecord> takePendingBatch() {
+        List<SubeventRecord> batch = List.copyOf(this.pendingBatch);
+        this.pendingBatch = new ArrayList<>(this.batchSize);
+        return batch;
+    }
+
+    /**
+     * This helper method delivers a batch to every subscriber according to the overflow policy.
+     *
+     * @param batch a batch of records
+     */
+    private void deliver(List<SubeventRecord> batch) {
+        if (this.overflowPolicy == OverflowPolicy.BLOCK) {
+            this.publisher.submit(batch);
+        } else {
+            this.publisher.offer(batch, (subscriber, droppedBatch) -> {
+                this.droppedBatchCount.incrementAndGet();
+                return false;
+            });
+        }
+    }
+
+}
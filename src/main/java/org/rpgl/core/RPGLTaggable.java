@@ -1,5 +1,6 @@
 package org.rpgl.core;
 
+import org.rpgl.condition.ConditionBatch;
 import org.rpgl.datapack.RPGLTaggableTO;
 import org.rpgl.json.JsonArray;
 import org.rpgl.uuidtable.UUIDTableElement;
@@ -27,6 +28,7 @@ public abstract class RPGLTaggable extends UUIDTableElement {
      */
     public void setTags(JsonArray tags) {
         this.putJsonArray(RPGLTaggableTO.TAGS_ALIAS, tags);
+        ConditionBatch.invalidate();
     }
 
     /**
@@ -38,6 +40,7 @@ public abstract class RPGLTaggable extends UUIDTableElement {
         if (!this.hasTag(tag)) {
             this.getTags().addString(tag);
         }
+        ConditionBatch.invalidate();
     }
 
     /**
@@ -47,6 +50,7 @@ public abstract class RPGLTaggable extends UUIDTableElement {
      */
     public void removeTag(String tag) {
         this.getTags().asList().remove(tag);
+        ConditionBatch.invalidate();
     }
 
     /**
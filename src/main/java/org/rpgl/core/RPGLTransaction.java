@@ -0,0 +1,258 @@
+package org.rpgl.core;
+
+import org.rpgl.condition.ConditionBatch;
+import org.rpgl.uuidtable.UUIDTable;
+import org.rpgl.uuidtable.UUIDTableElement;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This class represents a scope within which changes to UUIDTableElements can be undone. While a transaction is open
+ * on a thread, every UUIDTableElement that thread reaches through the UUIDTable (or which is passed to
+ * <code>track(...)</code>) has its data recorded the first time it is reached, and every registration with or removal
+ * from the UUIDTable is logged. Rolling the transaction back restores the recorded data in place and reverses the
+ * logged registrations, so engine logic such as <code>RPGLObject.invokeEvent(...)</code> can be run speculatively
+ * without cloning the world beforehand. Only the elements a transaction actually reaches are ever copied.
+ * <br>
+ * <br>
+ * Transactions may be nested. Committing a nested transaction hands its records to the enclosing transaction, so
+ * that rolling back the enclosing transaction also undoes the nested one. Closing a transaction which has not been
+ * committed rolls it back.
+ * <br>
+ * <br>
+ * Note that data is restored into the same maps which belong to each UUIDTableElement, but any nested JsonObjects or
+ * JsonArrays retrieved from an element during the transaction should not be used after it is rolled back.
+ *
+ * @author Calvin Withun
+ */
+public final class RPGLTransaction implements AutoCloseable {
+
+    private static final ThreadLocal<RPGLTransaction> CURRENT = new ThreadLocal<>();
+
+    /**
+     * The number of transactions open on any thread. UUIDTable lookups skip transaction bookkeeping entirely while
+     * this value is 0.
+     */
+    private static final AtomicInteger OPEN_TRANSACTIONS = new AtomicInteger();
+
+    private final RPGLTransaction parent;
+    private final Map<UUIDTableElement, HashMap<String, Object>> snapshots;
+    private final Set<UUIDTableElement> registeredElements;
+    private final List<Registration> registrationLog;
+    private boolean open;
+
+    /**
+     * A logged registration with, or removal from, the UUIDTable.
+     *
+     * @param element the UUIDTableElement which was registered or removed
+     * @param uuid the UUID under which the element was registered or removed
+     * @param registered true if the element was registered, false if it was removed
+     */
+    private record Registration(UUIDTableElement element, String uuid, boolean registered) {
+    }
+
+    /**
+     * Constructor for RPGLTransaction. New transactions should be opened via <code>RPGLTransaction.begin()</code>.
+     *
+     * @param parent the transaction enclosing the new transaction, or null
+     */
+    private RPGLTransaction(RPGLTransaction parent) {
+        this.parent = parent;
+        this.snapshots = new IdentityHashMap<>();
+        this.registeredElements = Collections.newSetFromMap(new IdentityHashMap<>());
+        this.registrationLog = new ArrayList<>();
+        this.open = true;
+    }
+
+    /**
+     * This method opens a new transaction on the current thread. If a transaction is already open on the current
+     * thread, the new transaction is nested inside it.
+     *
+     * @return the new transaction
+     */
+    public static RPGLTransaction begin() {
+        RPGLTransaction transaction = new RPGLTransaction(CURRENT.get());
+        CURRENT.set(transaction);
+        OPEN_TRANSACTIONS.incrementAndGet();
+        return transaction;
+    }
+
+    /**
+     * Returns the innermost transaction open on the current thread, or null if there is none.
+     *
+     * @return a RPGLTransaction, or null
+     */
+    public static RPGLTransaction current() {
+        return OPEN_TRANSACTIONS.get() == 0 ? null : CURRENT.get();
+    }
+
+    /**
+     * This method records the data of the passed UUIDTableElements in the current transaction, if one is open and the
+     * elements have not already been recorded. RPGL calls this method itself for elements retrieved from the
+     * UUIDTable; it only needs to be called for elements which were retrieved before the transaction was opened.
+     *
+     * @param elements UUIDTableElements which may be changed during the current transaction
+     */
+    public static void track(UUIDTableElement... elements) {
+        RPGLTransaction transaction = current();
+        if (transaction != null) {
+            for (UUIDTableElement element : elements) {
+                if (element != null) {
+                    transaction.snapshot(element);
+                }
+            }
+        }
+    }
+
+    /**
+     * This method logs the registration of a UUIDTableElement with the UUIDTable in the current transaction, if one is
+     * open. It is called by the UUIDTable.
+     *
+     * @param element the registered UUIDTableElement
+     */
+    public static void logRegistration(UUIDTableElement element) {
+        RPGLTransaction transaction = current();
+        if (transaction != null) {
+            transaction.log(new Registration(element, element.getUuid(), true));
+        }
+    }
+
+    /**
+     * This method logs the removal of a UUIDTableElement from the UUIDTable in the current transaction, if one is open.
+     * It is called by the UUIDTable before the element's UUID is deleted.
+     *
+     * @param element the removed UUIDTableElement
+     */
+    public static void logRemoval(UUIDTableElement element) {
+        RPGLTransaction transaction = current();
+        if (transaction != null) {
+            transaction.snapshot(element);
+            transaction.log(new Registration(element, element.getUuid(), false));
+        }
+    }
+
+    /**
+     * This method keeps every change made during this transaction. If this transaction is nested, its records are
+     * handed to the enclosing transaction.
+     */
+    public void commit() {
+        if (this.open) {
+            if (this.parent != null) {
+                synchronized (this.parent) {
+                    synchronized (this) {
+                        for (Map.Entry<UUIDTableElement, HashMap<String, Object>> entry : this.snapshots.entrySet()) {
+                            if (!this.parent.registeredElements.contains(entry.getKey())) {
+                                this.parent.snapshots.putIfAbsent(entry.getKey(), entry.getValue());
+                            }
+                        }
+                        this.parent.registeredElements.addAll(this.registeredElements);
+                        this.parent.registrationLog.addAll(this.registrationLog);
+                    }
+                }
+            }
+            this.end();
+        }
+    }
+
+    /**
+     * This method undoes every change made during this transaction to the UUIDTableElements it recorded, and reverses
+     * every registration and removal it logged.
+     */
+    public void rollback() {
+        if (this.open) {
+            this.end();
+            // nothing undone here may be logged by an enclosing transaction
+            RPGLTransaction enclosing = CURRENT.get();
+            CURRENT.remove();
+            try {
+                synchronized (this) {
+                    for (Map.Entry<UUIDTableElement, HashMap<String, Object>> entry : this.snapshots.entrySet()) {
+                        HashMap<String, Object> data = entry.getKey().asMap();
+                        data.clear();
+                        data.putAll(entry.getValue());
+                    }
+                    for (int i = this.registrationLog.size() - 1; i >= 0; i--) {
+                        Registration registration = this.registrationLog.get(i);
+                        if (registration.registered()) {
+                            UUIDTable.unregister(registration.uuid());
+                        } else {
+                            registration.element().setUuid(registration.uuid());
+                            UUIDTable.register(registration.element());
+                        }
+                    }
+                }
+            } finally {
+                if (enclosing != null) {
+                    CURRENT.set(enclosing);
+                }
+            }
+            RPGLContext.invalidateSubscriptions();
+            RPGLRegionContext.invalidatePositions();
+            ConditionBatch.invalidate();
+        }
+    }
+
+    /**
+     * Rolls this transaction back unless it has already been committed.
+     */
+    @Override
+    public void close() {
+        this.rollback();
+    }
+
+    /**
+     * Returns whether this transaction is still open.
+     *
+     * @return true if this transaction has been neither committed nor rolled back
+     */
+    public boolean isOpen() {
+        return this.open;
+    }
+
+    /**
+     * This helper method records the data of a UUIDTableElement, unless it has already been recorded or was registered
+     * during this transaction.
+     *
+     * @param element a UUIDTableElement
+     */
+    private synchronized void snapshot(UUIDTableElement element) {
+        if (!this.registeredElements.contains(element) && !this.snapshots.containsKey(element)) {
+            this.snapshots.put(element, element.deepClone().asMap());
+        }
+    }
+
+    /**
+     * This helper method logs a registration or removal.
+     *
+     * @param registration a Registration
+     */
+    private synchronized void log(Registration registration) {
+        if (registration.registered()) {
+            this.registeredElements.add(registration.element());
+        }
+        this.registrationLog.add(registration);
+    }
+
+    /**
+     * This helper method closes this transaction and makes its parent current on the calling thread.
+     */
+    private void end() {
+        this.open = false;
+        if (CURRENT.get() == this) {
+            if (this.parent == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(this.parent);
+            }
+        }
+        OPEN_TRANSACTIONS.decrementAndGet();
+    }
+
+}
@@ -13,6 +13,7 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -326,6 +327,15 @@ public class Datapack {
         return this.EFFECT_TEMPLATES.get(effectId);
     }
 
+    /**
+     * This method returns every RPGLEffectTemplate object stored in this datapack.
+     *
+     * @return an unmodifiable map of effect template names to RPGLEffectTemplates
+     */
+    public Map<String, RPGLEffectTemplate> getEffectTemplates() {
+        return Collections.unmodifiableMap(this.EFFECT_TEMPLATES);
+    }
+
     /**
      * This method returns a specified RPGLEventTemplate object.
      *
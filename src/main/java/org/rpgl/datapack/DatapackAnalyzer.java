@@ -0,0 +1,297 @@
+package org.rpgl.datapack;
+
+import org.rpgl.condition.Condition;
+import org.rpgl.core.RPGLEffectTemplate;
+import org.rpgl.core.RPGLRuntime;
+import org.rpgl.function.Function;
+import org.rpgl.json.JsonArray;
+import org.rpgl.json.JsonObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * This class analyzes the RPGLEffects defined in datapacks for Conditions which could form a loop. It builds a graph in
+ * which each subevent ID is connected to every subevent ID which an RPGLEffect filtering it may invoke, through its
+ * Conditions or its Functions. A Condition can only be evaluated again while it is already being evaluated if the
+ * Subevent it filters lies on a cycle in this graph, so Conditions filtering any other Subevent are evaluated without
+ * loop detection bookkeeping.
+ * <br>
+ * <br>
+ * Each datapack registry has a graph of its own, which is held by the RPGLRuntime owning the registry and shared with
+ * the runtimes forked from it, so the effects of one runtime never cause Conditions in another runtime to be treated as
+ * cyclic. Effect templates loaded from datapacks are analyzed the first time the graph is consulted after datapacks
+ * are loaded. RPGLEffects which were not created from a datapack have their subevent filters added to the graph of the
+ * current runtime when they are compiled. A graph only ever grows, so it may overestimate which subevents lie on
+ * cycles, but never underestimates.
+ *
+ * @author Calvin Withun
+ */
+public final class DatapackAnalyzer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DatapackAnalyzer.class);
+
+    /**
+     * A cycle of subevents which RPGLEffects may invoke from within one another.
+     *
+     * @param subeventIds the subevent IDs on the cycle
+     * @param effectIds the IDs of the effect templates which connect the subevents on the cycle
+     */
+    public record SubeventCycle(Set<String> subeventIds, Set<String> effectIds) {
+    }
+
+    /**
+     * The subevent graph of one datapack registry, mapping each subevent ID to the subevent IDs which may be invoked
+     * while it is filtered.
+     */
+    public static final class SubeventGraph {
+
+        private final Map<String, Set<String>> edges;
+        private volatile Set<String> cyclicSubeventIds;
+        private volatile boolean analyzed;
+
+        public SubeventGraph() {
+            this.edges = new HashMap<>();
+            this.cyclicSubeventIds = Set.of();
+            this.analyzed = false;
+        }
+
+    }
+
+    private DatapackAnalyzer() {
+    }
+
+    /**
+     * This method informs the analyzer that datapacks have been loaded into the current runtime, so that their effect
+     * templates are analyzed the next time its subevent graph is consulted.
+     */
+    public static void invalidate() {
+        SubeventGraph subeventGraph = RPGLRuntime.current().getSubeventGraph();
+        synchronized (subeventGraph) {
+            subeventGraph.analyzed = false;
+        }
+    }
+
+    /**
+     * This method analyzes every effect template in every datapack loaded into the current runtime, and reports each
+     * cycle of subevents which those effects may invoke from within one another. Cycles are also logged as warnings.
+     *
+     * @return a List of SubeventCycles
+     */
+    public static List<SubeventCycle> findSubeventCycles() {
+        Map<String, Set<String>> graph = new HashMap<>();
+        Map<String, Set<String>> effectIdsBySubeventId = new HashMap<>();
+        for (Datapack datapack : DatapackLoader.DATAPACKS.values()) {
+            for (RPGLEffectTemplate effectTemplate : datapack.getEffectTemplates().values()) {
+                JsonObject subeventFilters = effectTemplate.getJsonObject(RPGLEffectTO.SUBEVENT_FILTERS_ALIAS);
+                if (subeventFilters != null) {
+                    addSubeventFilters(graph, subeventFilters);
+                    for (String subeventId : subeventFilters.asMap().keySet()) {
+                        effectIdsBySubeventId
+                                .computeIfAbsent(subeventId, k -> new TreeSet<>())
+                                .add(effectTemplate.getString(DatapackContentTO.ID_ALIAS));
+                    }
+                }
+            }
+        }
+
+        List<SubeventCycle> subeventCycles = new ArrayList<>();
+        for (Set<String> component : findCyclicComponents(graph)) {
+            Set<String> subeventIds = new TreeSet<>(component);
+            subeventIds.remove(Function.ANY_SUBEVENT);
+            Set<String> effectIds = new TreeSet<>();
+            for (String subeventId : subeventIds) {
+                effectIds.addAll(effectIdsBySubeventId.getOrDefault(subeventId, Set.of()));
+            }
+            LOGGER.warn("Conditions may loop through subevents " + subeventIds + " in effects " + effectIds);
+            subeventCycles.add(new SubeventCycle(subeventIds, effectIds));
+        }
+
+        // the analysis is only trusted once Conditions and Functions have been initialized
+        if (!Condition.CONDITIONS.isEmpty() && !Function.FUNCTIONS.isEmpty()) {
+            SubeventGraph subeventGraph = RPGLRuntime.current().getSubeventGraph();
+            synchronized (subeventGraph) {
+                mergeGraph(subeventGraph, graph);
+                subeventGraph.analyzed = true;
+            }
+        }
+        return subeventCycles;
+    }
+
+    /**
+     * This method adds the subevent filters of an RPGLEffect to the subevent graph of the current runtime. It is called
+     * when RPGLEffect subevent filters are compiled, so that RPGLEffects which were not created from a datapack are
+     * accounted for.
+     *
+     * @param subeventFilters the subevent filters of an RPGLEffect
+     */
+    public static void registerSubeventFilters(JsonObject subeventFilters) {
+        Map<String, Set<String>> graph = new HashMap<>();
+        addSubeventFilters(graph, subeventFilters);
+        SubeventGraph subeventGraph = RPGLRuntime.current().getSubeventGraph();
+        synchronized (subeventGraph) {
+            mergeGraph(subeventGraph, graph);
+        }
+    }
+
+    /**
+     * Returns whether Conditions filtering the passed subevent ID could be evaluated again while they are already being
+     * evaluated in the current runtime.
+     *
+     * @param subeventId a subevent ID
+     * @return true if the subevent lies on a cycle in the subevent graph of the current runtime
+     */
+    public static boolean isSubeventCyclic(String subeventId) {
+        SubeventGraph subeventGraph = RPGLRuntime.current().getSubeventGraph();
+        if (!subeventGraph.analyzed) {
+            findSubeventCycles();
+        }
+        return subeventGraph.cyclicSubeventIds.contains(subeventId);
+    }
+
+    /**
+     * This helper method merges a graph into a subevent graph, recalculating which subevents lie on cycles if any
+     * edges were added. It must be called while holding the lock on the subevent graph.
+     *
+     * @param subeventGraph the subevent graph being merged into
+     * @param graph a subevent graph
+     */
+    private static void mergeGraph(SubeventGraph subeventGraph, Map<String, Set<String>> graph) {
+        boolean changed = false;
+        for (Map.Entry<String, Set<String>> entry : graph.entrySet()) {
+            changed |= subeventGraph.edges.computeIfAbsent(entry.getKey(), k -> new HashSet<>()).addAll(entry.getValue());
+        }
+        if (changed) {
+            Set<String> cyclicSubeventIds = new HashSet<>();
+            for (Set<String> component : findCyclicComponents(subeventGraph.edges)) {
+                cyclicSubeventIds.addAll(component);
+            }
+            cyclicSubeventIds.remove(Function.ANY_SUBEVENT);
+            subeventGraph.cyclicSubeventIds = Set.copyOf(cyclicSubeventIds);
+        }
+    }
+
+    /**
+     * This helper method adds the edges contributed by a set of subevent filters to a subevent graph.
+     *
+     * @param graph a subevent graph
+     * @param subeventFilters the subevent filters of an RPGLEffect
+     */
+    private static void addSubeventFilters(Map<String, Set<String>> graph, JsonObject subeventFilters) {
+        for (String subeventId : subeventFilters.asMap().keySet()) {
+            Set<String> invokedSubeventIds = graph.computeIfAbsent(subeventId, k -> new HashSet<>());
+            JsonArray filterBehaviors = subeventFilters.getJsonArray(subeventId);
+            for (int i = 0; i < filterBehaviors.size(); i++) {
+                JsonObject filterBehavior = filterBehaviors.getJsonObject(i);
+                JsonArray conditions = filterBehavior.getJsonArray("conditions");
+                for (int j = 0; conditions != null && j < conditions.size(); j++) {
+                    invokedSubeventIds.addAll(getInvokedSubeventIds(conditions.getJsonObject(j)));
+                }
+                JsonArray functions = filterBehavior.getJsonArray("functions");
+                for (int j = 0; functions != null && j < functions.size(); j++) {
+                    JsonObject functionJson = functions.getJsonObject(j);
+                    Function function = Function.FUNCTIONS.get(functionJson.getString("function"));
+                    invokedSubeventIds.addAll(function == null
+                            ? Set.of(Function.ANY_SUBEVENT)
+                            : function.getInvokedSubeventIds(functionJson));
+                }
+            }
+        }
+    }
+
+    /**
+     * This helper method returns the subevent IDs a Condition may invoke, assuming that unknown Conditions may invoke
+     * any Subevent.
+     *
+     * @param conditionJson the JSON data of a Condition
+     * @return a Set of subevent IDs
+     */
+    private static Set<String> getInvokedSubeventIds(JsonObject conditionJson) {
+        Condition condition = Condition.CONDITIONS.get(conditionJson.getString("condition"));
+        try {
+            return condition == null ? Set.of(Function.ANY_SUBEVENT) : condition.getInvokedSubeventIds(conditionJson);
+        } catch (RuntimeException e) {
+            // nested Conditions which are unknown or malformed
+            return Set.of(Function.ANY_SUBEVENT);
+        }
+    }
+
+    /**
+     * This helper method finds the strongly connected components of a subevent graph which contain a cycle. The
+     * subevent ID <code>Function.ANY_SUBEVENT</code> is treated as being connected to every filtered subevent ID.
+     *
+     * @param graph a subevent graph
+     * @return a List of Sets of subevent IDs
+     */
+    private static List<Set<String>> findCyclicComponents(Map<String, Set<String>> graph) {
+        Map<String, Set<String>> edges = new HashMap<>();
+        for (Map.Entry<String, Set<String>> entry : graph.entrySet()) {
+            edges.computeIfAbsent(entry.getKey(), k -> new HashSet<>()).addAll(entry.getValue());
+            edges.computeIfAbsent(Function.ANY_SUBEVENT, k -> new HashSet<>()).add(entry.getKey());
+        }
+
+        // Tarjan's algorithm
+        Map<String, Integer> indices = new HashMap<>();
+        Map<String, Integer> lowLinks = new HashMap<>();
+        Deque<String> stack = new ArrayDeque<>();
+        Set<String> onStack = new HashSet<>();
+        List<Set<String>> cyclicComponents = new ArrayList<>();
+        for (String subeventId : edges.keySet()) {
+            if (!indices.containsKey(subeventId)) {
+                connect(subeventId, edges, indices, lowLinks, stack, onStack, cyclicComponents);
+            }
+        }
+        return cyclicComponents;
+    }
+
+    /**
+     * This helper method performs one step of Tarjan's strongly connected components algorithm.
+     */
+    private static void connect(
+            String subeventId,
+            Map<String, Set<String>> edges,
+            Map<String, Integer> indices,
+            Map<String, Integer> lowLinks,
+            Deque<String> stack,
+            Set<String> onStack,
+            List<Set<String>> cyclicComponents
+    ) {
+        indices.put(subeventId, indices.size());
+        lowLinks.put(subeventId, indices.get(subeventId));
+        stack.push(subeventId);
+        onStack.add(subeventId);
+
+        Set<String> invokedSubeventIds = edges.getOrDefault(subeventId, Set.of());
+        for (String invokedSubeventId : invokedSubeventIds) {
+            if (!indices.containsKey(invokedSubeventId)) {
+                connect(invokedSubeventId, edges, indices, lowLinks, stack, onStack, cyclicComponents);
+                lowLinks.put(subeventId, Math.min(lowLinks.get(subeventId), lowLinks.get(invokedSubeventId)));
+            } else if (onStack.contains(invokedSubeventId)) {
+                lowLinks.put(subeventId, Math.min(lowLinks.get(subeventId), indices.get(invokedSubeventId)));
+            }
+        }
+
+        if (lowLinks.get(subeventId).equals(indices.get(subeventId))) {
+            Set<String> component = new HashSet<>();
+            String member;
+            do {
+                member = stack.pop();
+                onStack.remove(member);
+                component.add(member);
+            } while (!member.equals(subeventId));
+            if (component.size() > 1 || invokedSubeventIds.contains(subeventId)) {
+                cyclicComponents.add(component);
+            }
+        }
+    }
+
+}
@@ -2,6 +2,7 @@ package org.rpgl.datapack;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import org.rpgl.json.JsonObject;
+import org.rpgl.json.JsonObjectBuilder;
 
 import java.util.HashMap;
 
@@ -58,13 +59,13 @@ public class DatapackContentTO {
      * @return a JsonObject
      */
     protected JsonObject getTemplateData() {
-        return new JsonObject() {{
-            this.putJsonObject(METADATA_ALIAS, new JsonObject(metadata));
-            this.putString(NAME_ALIAS, name);
-            this.putString(DESCRIPTION_ALIAS, description);
-            this.putString(ID_ALIAS, id);
-            this.putString(TEXTURE_ALIAS, texture);
-        }};
+        return JsonObjectBuilder.create()
+                .putJsonObject(METADATA_ALIAS, new JsonObject(this.metadata))
+                .putString(NAME_ALIAS, this.name)
+                .putString(DESCRIPTION_ALIAS, this.description)
+                .putString(ID_ALIAS, this.id)
+                .putString(TEXTURE_ALIAS, this.texture)
+                .build();
     }
 
 }
@@ -1,12 +1,12 @@
 package org.rpgl.datapack;
 
+import org.rpgl.core.RPGLRuntime;
 import org.rpgl.json.JsonObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
@@ -19,7 +19,7 @@ public final class DatapackLoader {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DatapackLoader.class);
 
-    public static final Map<String, Datapack> DATAPACKS = new HashMap<>();
+    public static final Map<String, Datapack> DATAPACKS = RPGLRuntime.registry(RPGLRuntime::getDatapacks);
 
     /**
      * This method loads all datapacks within a directory into RPGL. This method must be called before any datapack
@@ -35,6 +35,7 @@ public final class DatapackLoader {
                 DATAPACKS.put(file.getName(), datapack);
             }
         }
+        DatapackAnalyzer.invalidate();
     }
 
     /**
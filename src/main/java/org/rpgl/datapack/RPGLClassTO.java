@@ -49,14 +49,13 @@ public class RPGLClassTO extends DatapackContentTO {
      * @return a RPGLClass
      */
     public RPGLClass toRPGLClass() {
-        RPGLClass rpglClass = new RPGLClass() {{
-            this.putInteger(SUBCLASS_LEVEL_ALIAS, subclassLevel);
-            this.putJsonArray(ABILITY_SCORE_INCREASES_ALIAS, new JsonArray(abilityScoreIncreases));
-            this.putJsonArray(MULTICLASSING_REQUIREMENTS_ALIAS, new JsonArray(multiclassingRequirements));
-            this.putJsonObject(NESTED_CLASSES_ALIAS, new JsonObject(classContributions));
-            this.putJsonObject(STARTING_FEATURES_ALIAS, new JsonObject(startingClassFeatures));
-            this.putJsonObject(FEATURES_ALIAS, new JsonObject(classFeatures));
-        }};
+        RPGLClass rpglClass = new RPGLClass();
+        rpglClass.putInteger(SUBCLASS_LEVEL_ALIAS, subclassLevel);
+        rpglClass.putJsonArray(ABILITY_SCORE_INCREASES_ALIAS, new JsonArray(abilityScoreIncreases));
+        rpglClass.putJsonArray(MULTICLASSING_REQUIREMENTS_ALIAS, new JsonArray(multiclassingRequirements));
+        rpglClass.putJsonObject(NESTED_CLASSES_ALIAS, new JsonObject(classContributions));
+        rpglClass.putJsonObject(STARTING_FEATURES_ALIAS, new JsonObject(startingClassFeatures));
+        rpglClass.putJsonObject(FEATURES_ALIAS, new JsonObject(classFeatures));
         rpglClass.join(super.getTemplateData());
         return rpglClass;
     }
@@ -56,12 +56,11 @@ public class RPGLEffectTO extends RPGLTaggableTO {
      * @return a RPGLEffectTemplate
      */
     public RPGLEffectTemplate toRPGLEffectTemplate() {
-        RPGLEffectTemplate rpglEffectTemplate = new RPGLEffectTemplate() {{
-            this.putJsonObject(SUBEVENT_FILTERS_ALIAS, new JsonObject(subeventFilters));
-            // source not needed for template
-            // target not needed for template
-            // origin item not needed for template
-        }};
+        RPGLEffectTemplate rpglEffectTemplate = new RPGLEffectTemplate();
+        rpglEffectTemplate.putJsonObject(SUBEVENT_FILTERS_ALIAS, new JsonObject(subeventFilters));
+        // source not needed for template
+        // target not needed for template
+        // origin item not needed for template
         rpglEffectTemplate.join(super.getTemplateData());
         return rpglEffectTemplate;
     }
@@ -72,12 +71,11 @@ public class RPGLEffectTO extends RPGLTaggableTO {
      * @return a RPGLEffect
      */
     public RPGLEffect toRPGLEffect() {
-        RPGLEffect rpglEffect = new RPGLEffect() {{
-            this.setSubeventFilters(new JsonObject(subeventFilters));
-            this.putString(SOURCE_ALIAS, source);
-            this.putString(TARGET_ALIAS, target);
-            this.setOriginItem(originItem);
-        }};
+        RPGLEffect rpglEffect = new RPGLEffect();
+        rpglEffect.setSubeventFilters(new JsonObject(subeventFilters));
+        rpglEffect.putString(SOURCE_ALIAS, source);
+        rpglEffect.putString(TARGET_ALIAS, target);
+        rpglEffect.setOriginItem(originItem);
         rpglEffect.join(super.getTemplateData());
         rpglEffect.join(super.getUUIDTableElementData());
         return rpglEffect;
@@ -41,11 +41,10 @@ public class RPGLEventTO extends UUIDTableElementTO {
      * @return a RPGLEventTemplate
      */
     public RPGLEventTemplate toRPGLEventTemplate() {
-        RPGLEventTemplate rpglEventTemplate = new RPGLEventTemplate() {{
-            this.putJsonObject(AREA_OF_EFFECT_ALIAS, new JsonObject(areaOfEffect));
-            this.putJsonArray(SUBEVENTS_ALIAS, new JsonArray(subevents));
-            this.putJsonArray(COST_ALIAS, new JsonArray(cost));
-        }};
+        RPGLEventTemplate rpglEventTemplate = new RPGLEventTemplate();
+        rpglEventTemplate.putJsonObject(AREA_OF_EFFECT_ALIAS, new JsonObject(areaOfEffect));
+        rpglEventTemplate.putJsonArray(SUBEVENTS_ALIAS, new JsonArray(subevents));
+        rpglEventTemplate.putJsonArray(COST_ALIAS, new JsonArray(cost));
         rpglEventTemplate.join(super.getTemplateData());
         return rpglEventTemplate;
     }
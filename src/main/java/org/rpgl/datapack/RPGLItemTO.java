@@ -81,18 +81,17 @@ public class RPGLItemTO extends RPGLTaggableTO {
      * @return a RPGLItemTemplate
      */
     public RPGLItemTemplate toRPGLItemTemplate() {
-        RPGLItemTemplate rpglItemTemplate = new RPGLItemTemplate() {{
-            this.putInteger(WEIGHT_ALIAS, weight);
-            this.putInteger(COST_ALIAS, cost);
-            this.putJsonObject(EVENTS_ALIAS, new JsonObject(events));
-            this.putInteger(ATTACK_BONUS_ALIAS, attackBonus);
-            this.putInteger(DAMAGE_BONUS_ALIAS, damageBonus);
-            this.putJsonArray(EQUIPPED_EFFECTS_ALIAS, new JsonArray(equippedEffects));
-            this.putJsonArray(EQUIPPED_RESOURCES_ALIAS, new JsonArray(equippedResources));
-            this.putInteger(ARMOR_CLASS_BASE_ALIAS, armorClassBase);
-            this.putInteger(ARMOR_CLASS_DEX_LIMIT_ALIAS, armorClassDexLimit);
-            this.putInteger(ARMOR_CLASS_BONUS_ALIAS, armorClassBonus);
-        }};
+        RPGLItemTemplate rpglItemTemplate = new RPGLItemTemplate();
+        rpglItemTemplate.putInteger(WEIGHT_ALIAS, weight);
+        rpglItemTemplate.putInteger(COST_ALIAS, cost);
+        rpglItemTemplate.putJsonObject(EVENTS_ALIAS, new JsonObject(events));
+        rpglItemTemplate.putInteger(ATTACK_BONUS_ALIAS, attackBonus);
+        rpglItemTemplate.putInteger(DAMAGE_BONUS_ALIAS, damageBonus);
+        rpglItemTemplate.putJsonArray(EQUIPPED_EFFECTS_ALIAS, new JsonArray(equippedEffects));
+        rpglItemTemplate.putJsonArray(EQUIPPED_RESOURCES_ALIAS, new JsonArray(equippedResources));
+        rpglItemTemplate.putInteger(ARMOR_CLASS_BASE_ALIAS, armorClassBase);
+        rpglItemTemplate.putInteger(ARMOR_CLASS_DEX_LIMIT_ALIAS, armorClassDexLimit);
+        rpglItemTemplate.putInteger(ARMOR_CLASS_BONUS_ALIAS, armorClassBonus);
         rpglItemTemplate.join(super.getTemplateData());
         return rpglItemTemplate;
     }
@@ -103,19 +102,18 @@ public class RPGLItemTO extends RPGLTaggableTO {
      * @return a RPGLItem
      */
     public RPGLItem toRPGLItem() {
-        RPGLItem rpglItem = new RPGLItem() {{
-            this.setTags(new JsonArray(tags));
-            this.setWeight(weight);
-            this.setCost(cost);
-            this.setEvents(new JsonObject(events));
-            this.setAttackBonus(attackBonus);
-            this.setDamageBonus(damageBonus);
-            this.setEquippedEffects(new JsonArray(equippedEffects));
-            this.setEquippedResources(new JsonArray(equippedEffects));
-            this.setArmorClassBase(armorClassBase);
-            this.setArmorClassDexLimit(armorClassDexLimit);
-            this.setArmorClassBonus(armorClassBonus);
-        }};
+        RPGLItem rpglItem = new RPGLItem();
+        rpglItem.setTags(new JsonArray(tags));
+        rpglItem.setWeight(weight);
+        rpglItem.setCost(cost);
+        rpglItem.setEvents(new JsonObject(events));
+        rpglItem.setAttackBonus(attackBonus);
+        rpglItem.setDamageBonus(damageBonus);
+        rpglItem.setEquippedEffects(new JsonArray(equippedEffects));
+        rpglItem.setEquippedResources(new JsonArray(equippedEffects));
+        rpglItem.setArmorClassBase(armorClassBase);
+        rpglItem.setArmorClassDexLimit(armorClassDexLimit);
+        rpglItem.setArmorClassBonus(armorClassBonus);
         rpglItem.join(super.getTemplateData());
         rpglItem.join(super.getUUIDTableElementData());
         return rpglItem;
@@ -106,24 +106,23 @@ public class RPGLObjectTO extends RPGLTaggableTO {
      * @return a RPGLObjectTemplate
      */
     public RPGLObjectTemplate toRPGLObjectTemplate() {
-        RPGLObjectTemplate rpglObjectTemplate = new RPGLObjectTemplate() {{
-            this.putJsonObject(ABILITY_SCORES_ALIAS, new JsonObject(abilityScores));
-            this.putJsonObject(HEALTH_DATA_ALIAS, new JsonObject(healthData));
-            this.putJsonObject(EQUIPPED_ITEMS_ALIAS, new JsonObject(equippedItems));
-            this.putJsonArray(INVENTORY_ALIAS, new JsonArray(inventory));
-            this.putJsonArray(EVENTS_ALIAS, new JsonArray(events));
-            this.putJsonArray(EFFECTS_ALIAS, new JsonArray(effects));
-            this.putInteger(PROFICIENCY_BONUS_ALIAS, proficiencyBonus);
-            this.putJsonArray(RESOURCES_ALIAS, new JsonArray(resources));
-            this.putJsonArray(CLASSES_ALIAS, new JsonArray(classes));
-            this.putJsonArray(RACES_ALIAS, new JsonArray(races));
-            this.putDouble(CHALLENGE_RATING_ALIAS, challengeRating);
-            // origin object not needed for template
-            // user id not needed for template
-            this.putBoolean(PROXY_ALIAS, proxy);
-            this.putJsonArray(POSITION_ALIAS, new JsonArray(position));
-            this.putJsonArray(ROTATION_ALIAS, new JsonArray(rotation));
-        }};
+        RPGLObjectTemplate rpglObjectTemplate = new RPGLObjectTemplate();
+        rpglObjectTemplate.putJsonObject(ABILITY_SCORES_ALIAS, new JsonObject(abilityScores));
+        rpglObjectTemplate.putJsonObject(HEALTH_DATA_ALIAS, new JsonObject(healthData));
+        rpglObjectTemplate.putJsonObject(EQUIPPED_ITEMS_ALIAS, new JsonObject(equippedItems));
+        rpglObjectTemplate.putJsonArray(INVENTORY_ALIAS, new JsonArray(inventory));
+        rpglObjectTemplate.putJsonArray(EVENTS_ALIAS, new JsonArray(events));
+        rpglObjectTemplate.putJsonArray(EFFECTS_ALIAS, new JsonArray(effects));
+        rpglObjectTemplate.putInteger(PROFICIENCY_BONUS_ALIAS, proficiencyBonus);
+        rpglObjectTemplate.putJsonArray(RESOURCES_ALIAS, new JsonArray(resources));
+        rpglObjectTemplate.putJsonArray(CLASSES_ALIAS, new JsonArray(classes));
+        rpglObjectTemplate.putJsonArray(RACES_ALIAS, new JsonArray(races));
+        rpglObjectTemplate.putDouble(CHALLENGE_RATING_ALIAS, challengeRating);
+        // origin object not needed for template
+        // user id not needed for template
+        rpglObjectTemplate.putBoolean(PROXY_ALIAS, proxy);
+        rpglObjectTemplate.putJsonArray(POSITION_ALIAS, new JsonArray(position));
+        rpglObjectTemplate.putJsonArray(ROTATION_ALIAS, new JsonArray(rotation));
         rpglObjectTemplate.join(super.getTemplateData());
         return rpglObjectTemplate;
     }
@@ -134,24 +133,23 @@ public class RPGLObjectTO extends RPGLTaggableTO {
      * @return a RPGLObject
      */
     public RPGLObject toRPGLObject() {
-        RPGLObject rpglObject = new RPGLObject() {{
-            this.setAbilityScores(new JsonObject(abilityScores));
-            this.setHealthData(new JsonObject(healthData));
-            this.setEquippedItems(new JsonObject(equippedItems));
-            this.setInventory(new JsonArray(inventory));
-            this.setEvents(new JsonArray(events));
-            this.setEffects(new JsonArray(effects));
-            this.setProficiencyBonus(proficiencyBonus);
-            this.setResources(new JsonArray(resources));
-            this.setClasses(new JsonArray(classes));
-            this.setRaces(new JsonArray(races));
-            this.setChallengeRating(challengeRating);
-            this.setUserId(userId);
-            this.setOriginObject(originObject);
-            this.setProxy(proxy);
-            this.setPosition(new JsonArray(position));
-            this.setRotation(new JsonArray(rotation));
-        }};
+        RPGLObject rpglObject = new RPGLObject();
+        rpglObject.setAbilityScores(new JsonObject(abilityScores));
+        rpglObject.setHealthData(new JsonObject(healthData));
+        rpglObject.setEquippedItems(new JsonObject(equippedItems));
+        rpglObject.setInventory(new JsonArray(inventory));
+        rpglObject.setEvents(new JsonArray(events));
+        rpglObject.setEffects(new JsonArray(effects));
+        rpglObject.setProficiencyBonus(proficiencyBonus);
+        rpglObject.setResources(new JsonArray(resources));
+        rpglObject.setClasses(new JsonArray(classes));
+        rpglObject.setRaces(new JsonArray(races));
+        rpglObject.setChallengeRating(challengeRating);
+        rpglObject.setUserId(userId);
+        rpglObject.setOriginObject(originObject);
+        rpglObject.setProxy(proxy);
+        rpglObject.setPosition(new JsonArray(position));
+        rpglObject.setRotation(new JsonArray(rotation));
         rpglObject.join(super.getTemplateData());
         rpglObject.join(super.getUUIDTableElementData());
         return rpglObject;
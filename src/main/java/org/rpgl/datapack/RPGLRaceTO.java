@@ -35,10 +35,9 @@ public class RPGLRaceTO extends DatapackContentTO {
      * @return a RPGLRace
      */
     public RPGLRace toRPGLRace() {
-        RPGLRace race = new RPGLRace() {{
-            this.putJsonObject(ABILITY_SCORE_INCREASES_ALIAS, new JsonObject(abilityScoreIncreases));
-            this.putJsonObject(FEATURES_ALIAS, new JsonObject(classFeatures));
-        }};
+        RPGLRace race = new RPGLRace();
+        race.putJsonObject(ABILITY_SCORE_INCREASES_ALIAS, new JsonObject(abilityScoreIncreases));
+        race.putJsonObject(FEATURES_ALIAS, new JsonObject(classFeatures));
         race.join(super.getTemplateData());
         return race;
     }
@@ -57,12 +57,11 @@ public class RPGLResourceTO extends RPGLTaggableTO {
      * @return a RPGLResourceTemplate
      */
     public RPGLResourceTemplate toRPGLResourceTemplate() {
-        RPGLResourceTemplate rpglResourceTemplate = new RPGLResourceTemplate() {{
-            this.putInteger(POTENCY_ALIAS, potency);
-            this.putJsonArray(REFRESH_CRITERION_ALIAS, new JsonArray(refreshCriterion));
-            // origin item is not needed for template
-            // exhausted is not needed for template
-        }};
+        RPGLResourceTemplate rpglResourceTemplate = new RPGLResourceTemplate();
+        rpglResourceTemplate.putInteger(POTENCY_ALIAS, potency);
+        rpglResourceTemplate.putJsonArray(REFRESH_CRITERION_ALIAS, new JsonArray(refreshCriterion));
+        // origin item is not needed for template
+        // exhausted is not needed for template
         rpglResourceTemplate.join(super.getTemplateData());
         return rpglResourceTemplate;
     }
@@ -73,12 +72,11 @@ public class RPGLResourceTO extends RPGLTaggableTO {
      * @return a RPGLResource
      */
     public RPGLResource toRPGLResource() {
-        RPGLResource rpglResource = new RPGLResource() {{
-            this.setPotency(potency);
-            this.setExhausted(exhausted);
-            this.setRefreshCriterion(new JsonArray(refreshCriterion));
-            this.setOriginItem(originItem);
-        }};
+        RPGLResource rpglResource = new RPGLResource();
+        rpglResource.setPotency(potency);
+        rpglResource.setExhausted(exhausted);
+        rpglResource.setRefreshCriterion(new JsonArray(refreshCriterion));
+        rpglResource.setOriginItem(originItem);
         rpglResource.join(super.getTemplateData());
         rpglResource.join(super.getUUIDTableElementData());
         return rpglResource;
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import org.rpgl.core.RPGLTaggable;
 import org.rpgl.json.JsonArray;
 import org.rpgl.json.JsonObject;
+import org.rpgl.json.JsonObjectBuilder;
 
 import java.util.ArrayList;
 
@@ -46,17 +47,17 @@ public class RPGLTaggableTO extends UUIDTableElementTO {
      * @return a JsonObject
      */
     public JsonObject getRPGLTaggableData() {
-        return new JsonObject() {{
-            this.putJsonArray(TAGS_ALIAS, new JsonArray(tags));
-        }};
+        return JsonObjectBuilder.create()
+                .putJsonArray(TAGS_ALIAS, new JsonArray(this.tags))
+                .build();
     }
 
     @Override
     public JsonObject getTemplateData() {
         JsonObject templateData = super.getTemplateData();
-        templateData.join(new JsonObject() {{
-            this.putJsonArray(TAGS_ALIAS, new JsonArray(tags));
-        }});
+        templateData.join(JsonObjectBuilder.create()
+                .putJsonArray(TAGS_ALIAS, new JsonArray(this.tags))
+                .build());
         return templateData;
     }
 
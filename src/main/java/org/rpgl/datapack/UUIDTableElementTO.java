@@ -2,6 +2,7 @@ package org.rpgl.datapack;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import org.rpgl.json.JsonObject;
+import org.rpgl.json.JsonObjectBuilder;
 import org.rpgl.uuidtable.UUIDTableElement;
 
 /**
@@ -43,9 +44,9 @@ public class UUIDTableElementTO extends DatapackContentTO {
      * @return a JsonObject
      */
     public JsonObject getUUIDTableElementData() {
-        return new JsonObject() {{
-            this.putString(UUID_ALIAS, uuid);
-        }};
+        return JsonObjectBuilder.create()
+                .putString(UUID_ALIAS, this.uuid)
+                .build();
     }
 
 }
@@ -0,0 +1,16 @@
+package org.rpgl.exception;
+
+/**
+ * This exception should be thrown if JSON data frozen by FrozenJson is modified. Frozen data is shared by reference
+ * between many owners, such as the RPGLEffects created from a single RPGLEffectTemplate, so it must be replaced rather
+ * than modified in place.
+ *
+ * @author Calvin Withun
+ */
+public class FrozenDataModificationException extends RuntimeException {
+
+    public FrozenDataModificationException(String dataType) {
+        super(String.format("Expected a modifiable %s but found a frozen %s shared by reference instead", dataType, dataType));
+    }
+
+}
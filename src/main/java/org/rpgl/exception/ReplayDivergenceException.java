@@ -0,0 +1,15 @@
+package org.rpgl.exception;
+
+/**
+ * This exception should be thrown if a replayed encounter stops following its recording, such as when it attempts to
+ * draw more random numbers than were recorded.
+ *
+ * @author Calvin Withun
+ */
+public class ReplayDivergenceException extends RuntimeException {
+
+    public ReplayDivergenceException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,15 @@
+package org.rpgl.exception;
+
+/**
+ * This exception should be thrown if JSON data leased from a JsonArena is accessed after the scope which leased it was
+ * closed. It is only thrown while a JsonArena is in debug mode.
+ *
+ * @author Calvin Withun
+ */
+public class UseAfterReleaseException extends RuntimeException {
+
+    public UseAfterReleaseException(String dataType) {
+        super(String.format("Expected a live %s but found a %s released by a JsonArena instead", dataType, dataType));
+    }
+
+}
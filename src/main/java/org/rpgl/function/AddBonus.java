@@ -2,9 +2,11 @@ package org.rpgl.function;
 
 import org.rpgl.core.RPGLContext;
 import org.rpgl.core.RPGLEffect;
+import org.rpgl.json.FrozenJson;
 import org.rpgl.json.JsonArray;
 import org.rpgl.json.JsonObject;
 import org.rpgl.subevent.Calculation;
+import org.rpgl.subevent.Formula;
 import org.rpgl.subevent.Subevent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,4 +35,27 @@ public class AddBonus extends Function {
             LOGGER.warn("Can not execute function on " + subevent.getClass());
         }
     }
+
+    @Override
+    protected Object parseParameters(JsonObject functionJson) {
+        JsonArray bonusArray = functionJson.getJsonArray("bonus");
+        Formula[] bonuses = new Formula[bonusArray.size()];
+        for (int i = 0; i < bonuses.length; i++) {
+            bonuses[i] = Formula.parse(FrozenJson.freeze(bonusArray.getJsonObject(i)));
+        }
+        return bonuses;
+    }
+
+    @Override
+    public void run(RPGLEffect effect, Subevent subevent, FunctionNode functionNode, RPGLContext context, JsonArray originPoint) throws Exception {
+        if (subevent instanceof Calculation calculation) {
+            Formula[] bonuses = functionNode.getParameters();
+            for (Formula bonus : bonuses) {
+                calculation.addBonus(bonus.toBonus(effect, subevent, context));
+            }
+        } else {
+            LOGGER.warn("Can not execute function on " + subevent.getClass());
+        }
+    }
+
 }
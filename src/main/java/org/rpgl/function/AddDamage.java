@@ -2,11 +2,13 @@ package org.rpgl.function;
 
 import org.rpgl.core.RPGLContext;
 import org.rpgl.core.RPGLEffect;
+import org.rpgl.json.FrozenJson;
 import org.rpgl.json.JsonArray;
 import org.rpgl.json.JsonObject;
 import org.rpgl.subevent.Calculation;
 import org.rpgl.subevent.CriticalHitDamageCollection;
 import org.rpgl.subevent.DamageCollection;
+import org.rpgl.subevent.Formula;
 import org.rpgl.subevent.Subevent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -56,4 +58,63 @@ public class AddDamage extends Function {
             LOGGER.warn("Can not execute function on " + subevent.getClass());
         }
     }
+
+    @Override
+    protected Object parseParameters(JsonObject functionJson) {
+        JsonArray damageArray = functionJson.getJsonArray("damage");
+        Damage[] damage = new Damage[damageArray.size()];
+        for (int i = 0; i < damage.length; i++) {
+            JsonObject damageElement = damageArray.getJsonObject(i);
+            damage[i] = new Damage(Formula.parse(FrozenJson.freeze(damageElement)), damageElement.getString("damage_type"));
+        }
+        return damage;
+    }
+
+    @Override
+    public void run(RPGLEffect effect, Subevent subevent, FunctionNode functionNode, RPGLContext context, JsonArray originPoint) throws Exception {
+        Damage[] damageArray = functionNode.getParameters();
+        if (subevent instanceof DamageCollection damageCollection) {
+            for (Damage damage : damageArray) {
+                damageCollection.addDamage(damage.instantiate(effect, subevent, context, damageCollection.getDamageCollection()));
+            }
+        } else if (subevent instanceof CriticalHitDamageCollection criticalHitDamageCollection) {
+            for (Damage damage : damageArray) {
+                criticalHitDamageCollection.addDamage(damage.instantiate(effect, subevent, context, criticalHitDamageCollection.getDamageCollection()));
+            }
+        } else {
+            LOGGER.warn("Can not execute function on " + subevent.getClass());
+        }
+    }
+
+    /**
+     * A pre-parsed element of the damage added by an AddDamage Function.
+     *
+     * @param formula the damage formula
+     * @param damageType the damage type, or null if the damage takes the type of the first damage in the collection
+     */
+    private record Damage(Formula formula, String damageType) {
+
+        /**
+         * This method evaluates this damage.
+         *
+         * @param effect the RPGLEffect adding this damage
+         * @param subevent the Subevent receiving this damage
+         * @param context the context in which this damage is being added
+         * @param damageCollection the damage collection of the Subevent
+         * @return a JsonObject representing the evaluated damage
+         *
+         * @throws Exception if an exception occurs
+         */
+        JsonObject instantiate(RPGLEffect effect, Subevent subevent, RPGLContext context, JsonArray damageCollection) throws Exception {
+            JsonObject damage = this.formula.toBonus(effect, subevent, context);
+            if (this.damageType == null) {
+                damage.putString("damage_type", damageCollection.getJsonObject(0).getString("damage_type"));
+            } else {
+                damage.putString("damage_type", this.damageType);
+            }
+            return damage;
+        }
+
+    }
+
 }
@@ -4,6 +4,7 @@ import org.rpgl.core.RPGLContext;
 import org.rpgl.core.RPGLEffect;
 import org.rpgl.json.JsonArray;
 import org.rpgl.json.JsonObject;
+import org.rpgl.json.JsonObjectBuilder;
 import org.rpgl.subevent.AttackRoll;
 import org.rpgl.subevent.DealDamage;
 import org.rpgl.subevent.SavingThrow;
@@ -29,12 +30,12 @@ public class ApplyVampirism extends Function {
     @Override
     public void run(RPGLEffect effect, Subevent subevent, JsonObject functionJson, RPGLContext context, JsonArray originPoint) {
         if (subevent instanceof AttackRoll || subevent instanceof DealDamage || subevent instanceof SavingThrow) {
-            subevent.joinSubeventData(new JsonObject() {{
-                this.putJsonObject("vampirism", Objects.requireNonNullElse(
-                        functionJson.getJsonObject("vampirism"),
-                        new JsonObject()
-                ));
-            }});
+            subevent.joinSubeventData(JsonObjectBuilder.createTransient()
+                    .putJsonObject("vampirism", Objects.requireNonNullElse(
+                            functionJson.getJsonObject("vampirism"),
+                            new JsonObject()
+                    ))
+                    .build());
         } else {
             LOGGER.warn("Can not execute function on " + subevent.getClass());
         }
@@ -2,6 +2,7 @@ package org.rpgl.function;
 
 import org.rpgl.core.RPGLContext;
 import org.rpgl.core.RPGLEffect;
+import org.rpgl.core.RPGLRuntime;
 import org.rpgl.exception.FunctionMismatchException;
 import org.rpgl.json.JsonArray;
 import org.rpgl.json.JsonObject;
@@ -9,9 +10,11 @@ import org.rpgl.subevent.Subevent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * This class is used by an RPGLEffect in order to change the fallout of a Subevent or to precipitate a new Subevent.
@@ -23,9 +26,15 @@ public abstract class Function {
     private static final Logger LOGGER = LoggerFactory.getLogger(Function.class);
 
     /**
-     * A map of all Functions which can be used in the JSON of an RPGLEffect.
+     * A map of all Functions which can be used in the JSON of an RPGLEffect. This map operates on the Functions of the
+     * current RPGLRuntime.
      */
-    public static final Map<String, Function> FUNCTIONS = new HashMap<>();
+    public static final Map<String, Function> FUNCTIONS = RPGLRuntime.registry(RPGLRuntime::getFunctions);
+
+    /**
+     * A subevent ID standing in for every Subevent, for Functions which may invoke any Subevent.
+     */
+    public static final String ANY_SUBEVENT = "*";
 
     public final String functionId;
 
@@ -131,4 +140,103 @@ public abstract class Function {
      */
     public abstract void run(RPGLEffect effect, Subevent subevent, JsonObject functionJson, RPGLContext context, JsonArray originPoint) throws Exception;
 
+    /**
+     * This method facilitates the execution of a compiled Function. Compiled Functions were verified when they were
+     * compiled, and run using their pre-parsed parameters.
+     *
+     * @param effect the RPGLEffect containing this Function
+     * @param subevent a Subevent being invoked
+     * @param functionNode a FunctionNode compiled by this Function
+     * @param context the context in which the Function is being executed
+     * @param originPoint the point from which the passed subevent emanates
+     *
+     * @throws Exception if an exception occurs
+     */
+    public void execute(RPGLEffect effect, Subevent subevent, FunctionNode functionNode, RPGLContext context, JsonArray originPoint) throws Exception {
+        this.run(effect, subevent, functionNode, context, originPoint);
+    }
+
+    /**
+     * This method compiles the JSON data of this Function into a FunctionNode, parsing its parameters ahead of time.
+     *
+     * @param functionJson a JsonObject containing additional information necessary for the Function to be executed
+     * @return a FunctionNode
+     *
+     * @throws Exception if an exception occurs
+     */
+    public FunctionNode compile(JsonObject functionJson) throws Exception {
+        this.verifyFunction(functionJson);
+        return new FunctionNode(this, functionJson, this.parseParameters(functionJson));
+    }
+
+    /**
+     * This method contains the logic definitive of the Function, for use when the Function has been compiled. By
+     * default, this method runs the Function using the JSON data it was compiled from. Functions which pre-parse their
+     * parameters override this method to read those parameters from the passed FunctionNode instead.
+     *
+     * @param effect the RPGLEffect containing this Function
+     * @param subevent a Subevent being invoked
+     * @param functionNode a FunctionNode compiled by this Function
+     * @param context the context in which the Function is being executed
+     * @param originPoint the point from which the passed subevent emanates
+     *
+     * @throws Exception if an exception occurs
+     */
+    public void run(RPGLEffect effect, Subevent subevent, FunctionNode functionNode, RPGLContext context, JsonArray originPoint) throws Exception {
+        this.run(effect, subevent, functionNode.getFunctionJson(), context, originPoint);
+    }
+
+    /**
+     * Returns the IDs of the Subevents this Function may invoke while it is being executed. This is used to detect
+     * which Conditions could form a loop (see <code>DatapackAnalyzer</code>). By default, this method finds the
+     * Subevents invoked by any calculation formulas in the Function's JSON data. Functions which invoke Subevents in
+     * any other way must override this method.
+     *
+     * @param functionJson a JsonObject containing additional information necessary for the Function to be executed
+     * @return a Set of subevent IDs, which may include <code>ANY_SUBEVENT</code>
+     */
+    public Set<String> getInvokedSubeventIds(JsonObject functionJson) {
+        Set<String> invokedSubeventIds = new HashSet<>();
+        addFormulaSubeventIds(functionJson.asMap(), invokedSubeventIds);
+        return invokedSubeventIds;
+    }
+
+    /**
+     * This method parses the parameters of this Function ahead of time, when it is compiled. The returned object is
+     * made available to <code>run(...)</code> through <code>FunctionNode.getParameters()</code>. By default, no
+     * parameters are parsed.
+     *
+     * @param functionJson a JsonObject containing additional information necessary for the Function to be executed
+     * @return the pre-parsed parameters of the Function, or null
+     *
+     * @throws Exception if an exception occurs
+     */
+    protected Object parseParameters(@SuppressWarnings("unused") JsonObject functionJson) throws Exception {
+        return null;
+    }
+
+    /**
+     * This helper method finds the Subevents invoked by any calculation formulas nested within a JSON value.
+     *
+     * @param value a JSON value
+     * @param invokedSubeventIds the Set to which invoked subevent IDs are added
+     */
+    private static void addFormulaSubeventIds(Object value, Set<String> invokedSubeventIds) {
+        if (value instanceof Map<?, ?> map) {
+            Object formula = map.get("formula");
+            if ("modifier".equals(formula) || "ability".equals(formula)) {
+                invokedSubeventIds.add("calculate_ability_score");
+            } else if ("proficiency".equals(formula)) {
+                invokedSubeventIds.add("calculate_proficiency_bonus");
+            }
+            for (Object nestedValue : map.values()) {
+                addFormulaSubeventIds(nestedValue, invokedSubeventIds);
+            }
+        } else if (value instanceof List<?> list) {
+            for (Object nestedValue : list) {
+                addFormulaSubeventIds(nestedValue, invokedSubeventIds);
+            }
+        }
+    }
+
 }
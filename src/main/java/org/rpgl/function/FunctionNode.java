@@ -0,0 +1,117 @@
+package org.rpgl.function;
+
+import org.rpgl.core.RPGLContext;
+import org.rpgl.core.RPGLEffect;
+import org.rpgl.exception.FunctionMismatchException;
+import org.rpgl.json.JsonArray;
+import org.rpgl.json.JsonObject;
+import org.rpgl.subevent.Subevent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class is a compiled form of the JSON data of a Function. It is bound directly to the Function it names, and
+ * holds any parameters that Function parsed when it was compiled, so that executing it requires neither a lookup in
+ * <code>Function.FUNCTIONS</code> nor re-reading its parameters from JSON.
+ *
+ * @author Calvin Withun
+ */
+public final class FunctionNode {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FunctionNode.class);
+
+    private final Function function;
+    private final JsonObject functionJson;
+    private final Object parameters;
+
+    /**
+     * Constructor for FunctionNode. FunctionNodes should be created via <code>FunctionNode.compile(...)</code>.
+     *
+     * @param function the Function named by the passed JSON data
+     * @param functionJson the JSON data of the Function
+     * @param parameters the pre-parsed parameters of the Function, or null
+     */
+    FunctionNode(Function function, JsonObject functionJson, Object parameters) {
+        this.function = function;
+        this.functionJson = functionJson;
+        this.parameters = parameters;
+    }
+
+    /**
+     * This method compiles the JSON data of a Function into a FunctionNode.
+     *
+     * @param functionJson a JsonObject containing additional information necessary for the Function to be executed
+     * @return a FunctionNode
+     *
+     * @throws Exception if the named Function does not exist, or if it fails to compile
+     */
+    public static FunctionNode compile(JsonObject functionJson) throws Exception {
+        Function function = Function.FUNCTIONS.get(functionJson.getString("function"));
+        if (function == null) {
+            FunctionMismatchException e = new FunctionMismatchException("<any>", functionJson.getString("function"));
+            LOGGER.error(e.getMessage());
+            throw e;
+        }
+        return function.compile(functionJson);
+    }
+
+    /**
+     * This method compiles an array of Function JSON data into an array of FunctionNodes.
+     *
+     * @param functionJsonArray an array of JsonObjects defining Functions
+     * @return an array of FunctionNodes
+     *
+     * @throws Exception if any Function fails to compile
+     */
+    public static FunctionNode[] compileAll(JsonArray functionJsonArray) throws Exception {
+        FunctionNode[] functionNodes = new FunctionNode[functionJsonArray.size()];
+        for (int i = 0; i < functionNodes.length; i++) {
+            functionNodes[i] = compile(functionJsonArray.getJsonObject(i));
+        }
+        return functionNodes;
+    }
+
+    /**
+     * This method executes the compiled Function.
+     *
+     * @param effect the RPGLEffect containing this Function
+     * @param subevent a Subevent being invoked
+     * @param context the context in which the Function is being executed
+     * @param originPoint the point from which the passed subevent emanates
+     *
+     * @throws Exception if an exception occurs
+     */
+    public void execute(RPGLEffect effect, Subevent subevent, RPGLContext context, JsonArray originPoint) throws Exception {
+        this.function.execute(effect, subevent, this, context, originPoint);
+    }
+
+    /**
+     * Returns the Function this node is bound to.
+     *
+     * @return a Function
+     */
+    public Function getFunction() {
+        return this.function;
+    }
+
+    /**
+     * Returns the JSON data this node was compiled from.
+     *
+     * @return a JsonObject
+     */
+    public JsonObject getFunctionJson() {
+        return this.functionJson;
+    }
+
+    /**
+     * Returns the parameters parsed by the Function when this node was compiled.
+     *
+     * @param <T> the type of the parameters
+     * @return the pre-parsed parameters, or null
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getParameters() {
+        return (T) this.parameters;
+    }
+
+}
@@ -31,4 +31,18 @@ public class GrantImmunity extends Function {
         }
     }
 
+    @Override
+    protected Object parseParameters(JsonObject functionJson) {
+        return functionJson.getString("damage_type");
+    }
+
+    @Override
+    public void run(RPGLEffect effect, Subevent subevent, FunctionNode functionNode, RPGLContext context, JsonArray originPoint) {
+        if (subevent instanceof DamageAffinity damageAffinity) {
+            damageAffinity.grantImmunity(functionNode.<String>getParameters());
+        } else {
+            LOGGER.warn("Can not execute function on " + subevent.getClass());
+        }
+    }
+
 }
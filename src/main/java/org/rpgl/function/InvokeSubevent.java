@@ -1,11 +1,17 @@
 package org.rpgl.function;
 
+import org.rpgl.core.ObjectSelector;
 import org.rpgl.core.RPGLContext;
 import org.rpgl.core.RPGLEffect;
 import org.rpgl.core.RPGLObject;
+import org.rpgl.json.FrozenJson;
 import org.rpgl.json.JsonArray;
 import org.rpgl.json.JsonObject;
 import org.rpgl.subevent.Subevent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Set;
 
 /**
  * This Function is dedicated to invoking a particular Subevent. This Function allows for the fine control of the
@@ -15,10 +21,18 @@ import org.rpgl.subevent.Subevent;
  */
 public class InvokeSubevent extends Function {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(InvokeSubevent.class);
+
     public InvokeSubevent() {
         super("invoke_subevent");
     }
 
+    @Override
+    public Set<String> getInvokedSubeventIds(JsonObject functionJson) {
+        // the nested Subevent may go on to invoke any other Subevent
+        return Set.of(Function.ANY_SUBEVENT);
+    }
+
     @Override
     public void run(RPGLEffect effect, Subevent subevent, JsonObject functionJson, RPGLContext context, JsonArray originPoint) throws Exception {
         RPGLObject source = RPGLEffect.getObject(effect, subevent, functionJson.getJsonObject("source"));
@@ -37,4 +51,52 @@ public class InvokeSubevent extends Function {
         }
     }
 
+    @Override
+    protected Object parseParameters(JsonObject functionJson) throws Exception {
+        JsonArray targetArray = functionJson.getJsonArray("targets");
+        ObjectSelector[] targets = new ObjectSelector[targetArray.size()];
+        for (int i = 0; i < targets.length; i++) {
+            targets[i] = ObjectSelector.parse(targetArray.getJsonObject(i));
+        }
+        JsonObject nestedSubeventJson = FrozenJson.freeze(functionJson.getJsonObject("subevent"));
+        Subevent nestedSubevent = Subevent.SUBEVENTS.get(nestedSubeventJson.getString("subevent"));
+        if (nestedSubevent == null) {
+            Exception e = new Exception("unknown subevent: " + nestedSubeventJson.getString("subevent"));
+            LOGGER.error(e.getMessage());
+            throw e;
+        }
+        return new Parameters(
+                ObjectSelector.parse(functionJson.getJsonObject("source")),
+                targets,
+                nestedSubevent,
+                nestedSubeventJson
+        );
+    }
+
+    @Override
+    public void run(RPGLEffect effect, Subevent subevent, FunctionNode functionNode, RPGLContext context, JsonArray originPoint) throws Exception {
+        Parameters parameters = functionNode.getParameters();
+        RPGLObject source = parameters.source().select(effect, subevent);
+        Subevent nestedSubevent = parameters.nestedSubevent().clone(parameters.nestedSubeventJson());
+        nestedSubevent.setOriginItem(subevent.getOriginItem());
+        nestedSubevent.setSource(source);
+        nestedSubevent.prepare(context, originPoint);
+        for (ObjectSelector target : parameters.targets()) {
+            Subevent subeventClone = nestedSubevent.clone();
+            subeventClone.setTarget(target.select(effect, subevent));
+            subeventClone.invoke(context, originPoint);
+        }
+    }
+
+    /**
+     * The pre-parsed parameters of an InvokeSubevent Function.
+     *
+     * @param source the source of the nested Subevent
+     * @param targets the targets of the nested Subevent
+     * @param nestedSubevent the registered Subevent from which the nested Subevent is cloned
+     * @param nestedSubeventJson the frozen JSON data of the nested Subevent
+     */
+    private record Parameters(ObjectSelector source, ObjectSelector[] targets, Subevent nestedSubevent, JsonObject nestedSubeventJson) {
+    }
+
 }
@@ -38,6 +38,23 @@ public class RepeatDamageDice extends Function {
         }
     }
 
+    @Override
+    protected Object parseParameters(JsonObject functionJson) {
+        return Objects.requireNonNullElse(functionJson.getInteger("count"), 1);
+    }
+
+    @Override
+    public void run(RPGLEffect effect, Subevent subevent, FunctionNode functionNode, RPGLContext context, JsonArray originPoint) {
+        int count = functionNode.<Integer>getParameters();
+        if (subevent instanceof DamageCollection damageCollection) {
+            repeatDamageDice(damageCollection.getDamageCollection(), count);
+        } else if (subevent instanceof CriticalHitDamageCollection criticalHitDamageCollection) {
+            repeatDamageDice(criticalHitDamageCollection.getDamageCollection(), count);
+        } else {
+            LOGGER.warn("Can not execute function on " + subevent.getClass());
+        }
+    }
+
     /**
      * This helper method is responsible for adding any extra dice provided to eligible subevents by this function.
      *
@@ -45,15 +62,26 @@ public class RepeatDamageDice extends Function {
      * @param functionJson the function's JSON instructions
      */
     void repeatDamageDice(JsonArray damageArray, JsonObject functionJson) {
+        repeatDamageDice(damageArray, Objects.requireNonNullElse(functionJson.getInteger("count"), 1));
+    }
+
+    /**
+     * This helper method is responsible for adding any extra dice provided to eligible subevents by this function.
+     *
+     * @param damageArray the damage array of an eligible subevent
+     * @param count the number of times the first die is repeated
+     */
+    void repeatDamageDice(JsonArray damageArray, int count) {
         if (!damageArray.asList().isEmpty()) {
             JsonObject damageElement = damageArray.getJsonObject(0);
             JsonArray dice = damageElement.getJsonArray("dice");
             if (!dice.asList().isEmpty()) {
                 JsonObject die = dice.getJsonObject(0);
-                for (int i = 0; i < Objects.requireNonNullElse(functionJson.getInteger("count"), 1); i++) {
+                for (int i = 0; i < count; i++) {
                     dice.addJsonObject(die.deepClone());
                 }
             }
         }
     }
+
 }
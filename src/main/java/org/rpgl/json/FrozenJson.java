@@ -0,0 +1,322 @@
+package org.rpgl.json;
+
+import org.rpgl.exception.FrozenDataModificationException;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * This class freezes JSON data so that it can be shared by reference between many owners. Frozen data is backed by
+ * maps and lists which refuse to be modified, so any attempt to change shared data in place throws a
+ * FrozenDataModificationException instead of silently changing the data of every owner. Deep clones of frozen data are
+ * ordinary, modifiable JSON data.
+ *
+ * @author Calvin Withun
+ */
+public final class FrozenJson {
+
+    private FrozenJson() {
+    }
+
+    /**
+     * Returns a frozen deep copy of the passed JsonObject. If the JsonObject is already frozen, it is returned as-is.
+     *
+     * @param jsonObject a JsonObject
+     * @return a frozen JsonObject
+     */
+    public static JsonObject freeze(JsonObject jsonObject) {
+        return isFrozen(jsonObject) ? jsonObject : new JsonObject(freezeMap(jsonObject.asMap()));
+    }
+
+    /**
+     * Returns whether the passed JsonObject is frozen.
+     *
+     * @param jsonObject a JsonObject
+     * @return true if the JsonObject can not be modified
+     */
+    public static boolean isFrozen(JsonObject jsonObject) {
+        return jsonObject.asMap() instanceof FrozenMap;
+    }
+
+    /**
+     * This helper method freezes a map and everything nested inside it.
+     *
+     * @param map a map backing a JsonObject
+     * @return a FrozenMap
+     */
+    private static FrozenMap freezeMap(Map<String, Object> map) {
+        HashMap<String, Object> frozenEntries = new HashMap<>();
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            frozenEntries.put(entry.getKey(), freezeValue(entry.getValue()));
+        }
+        return new FrozenMap(frozenEntries);
+    }
+
+    /**
+     * This helper method freezes a list and everything nested inside it.
+     *
+     * @param list a list backing a JsonArray
+     * @return a FrozenList
+     */
+    private static FrozenList freezeList(List<Object> list) {
+        List<Object> frozenElements = new ArrayList<>(list.size());
+        for (Object element : list) {
+            frozenElements.add(freezeValue(element));
+        }
+        return new FrozenList(frozenElements);
+    }
+
+    /**
+     * This helper method freezes a JSON value. Primitive values are immutable already.
+     *
+     * @param value a JSON value
+     * @return the frozen value
+     */
+    @SuppressWarnings("unchecked")
+    private static Object freezeValue(Object value) {
+        if (value instanceof FrozenMap || value instanceof FrozenList) {
+            return value;
+        } else if (value instanceof HashMap) {
+            return freezeMap((HashMap<String, Object>) value);
+        } else if (value instanceof ArrayList) {
+            return freezeList((ArrayList<Object>) value);
+        }
+        return value;
+    }
+
+    // =================================================================================================================
+    // Frozen data
+    // =================================================================================================================
+
+    /**
+     * A map which refuses to be modified.
+     */
+    private static final class FrozenMap extends HashMap<String, Object> {
+
+        private FrozenMap(Map<String, Object> entries) {
+            super(entries);
+        }
+
+        private static FrozenDataModificationException modification() {
+            return new FrozenDataModificationException("map");
+        }
+
+        @Override
+        public Object put(String key, Object value) {
+            throw modification();
+        }
+
+        @Override
+        public Object putIfAbsent(String key, Object value) {
+            throw modification();
+        }
+
+        @Override
+        public void putAll(Map<? extends String, ?> m) {
+            throw modification();
+        }
+
+        @Override
+        public Object remove(Object key) {
+            throw modification();
+        }
+
+        @Override
+        public boolean remove(Object key, Object value) {
+            throw modification();
+        }
+
+        @Override
+        public Object replace(String key, Object value) {
+            throw modification();
+        }
+
+        @Override
+        public boolean replace(String key, Object oldValue, Object newValue) {
+            throw modification();
+        }
+
+        @Override
+        public void replaceAll(BiFunction<? super String, ? super Object, ?> function) {
+            throw modification();
+        }
+
+        @Override
+        public Object computeIfAbsent(String key, Function<? super String, ?> mappingFunction) {
+            throw modification();
+        }
+
+        @Override
+        public Object computeIfPresent(String key, BiFunction<? super String, ? super Object, ?> remappingFunction) {
+            throw modification();
+        }
+
+        @Override
+        public Object compute(String key, BiFunction<? super String, ? super Object, ?> remappingFunction) {
+            throw modification();
+        }
+
+        @Override
+        public Object merge(String key, Object value, BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+            throw modification();
+        }
+
+        @Override
+        public void clear() {
+            throw modification();
+        }
+
+        @Override
+        public Set<String> keySet() {
+            return Collections.unmodifiableSet(super.keySet());
+        }
+
+        @Override
+        public Collection<Object> values() {
+            return Collections.unmodifiableCollection(super.values());
+        }
+
+        @Override
+        public Set<Map.Entry<String, Object>> entrySet() {
+            Set<Map.Entry<String, Object>> entrySet = super.entrySet();
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Map.Entry<String, Object>> iterator() {
+                    Iterator<Map.Entry<String, Object>> iterator = entrySet.iterator();
+                    return new Iterator<>() {
+                        @Override
+                        public boolean hasNext() {
+                            return iterator.hasNext();
+                        }
+
+                        @Override
+                        public Map.Entry<String, Object> next() {
+                            return new AbstractMap.SimpleImmutableEntry<>(iterator.next());
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return entrySet.size();
+                }
+            };
+        }
+
+    }
+
+    /**
+     * A list which refuses to be modified.
+     */
+    private static final class FrozenList extends ArrayList<Object> {
+
+        private FrozenList(Collection<Object> elements) {
+            super(elements);
+        }
+
+        private static FrozenDataModificationException modification() {
+            return new FrozenDataModificationException("list");
+        }
+
+        @Override
+        public Object set(int index, Object element) {
+            throw modification();
+        }
+
+        @Override
+        public boolean add(Object element) {
+            throw modification();
+        }
+
+        @Override
+        public void add(int index, Object element) {
+            throw modification();
+        }
+
+        @Override
+        public boolean addAll(Collection<?> c) {
+            throw modification();
+        }
+
+        @Override
+        public boolean addAll(int index, Collection<?> c) {
+            throw modification();
+        }
+
+        @Override
+        public Object remove(int index) {
+            throw modification();
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            throw modification();
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            throw modification();
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            throw modification();
+        }
+
+        @Override
+        public boolean removeIf(Predicate<? super Object> filter) {
+            throw modification();
+        }
+
+        @Override
+        public void replaceAll(UnaryOperator<Object> operator) {
+            throw modification();
+        }
+
+        @Override
+        public void sort(Comparator<? super Object> c) {
+            throw modification();
+        }
+
+        @Override
+        public void clear() {
+            throw modification();
+        }
+
+        @Override
+        public Iterator<Object> iterator() {
+            return this.listIterator();
+        }
+
+        @Override
+        public ListIterator<Object> listIterator() {
+            return this.listIterator(0);
+        }
+
+        @Override
+        public ListIterator<Object> listIterator(int index) {
+            return Collections.unmodifiableList(super.subList(0, this.size())).listIterator(index);
+        }
+
+        @Override
+        public List<Object> subList(int fromIndex, int toIndex) {
+            return Collections.unmodifiableList(super.subList(fromIndex, toIndex));
+        }
+
+    }
+
+}
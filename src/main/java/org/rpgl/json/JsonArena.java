@@ -0,0 +1,392 @@
+package org.rpgl.json;
+
+import org.rpgl.exception.UseAfterReleaseException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * This class pools the maps and lists backing transient JSON data, such as the payloads of Subevents. Data is leased
+ * while a scope is open, and all data leased during a scope is released back to the pool when the outermost scope is
+ * closed. Typically, one scope is opened for every top-level RPGLEvent invocation, so that Subevent payloads, tag
+ * lists, and dice arrays are recycled rather than left for the garbage collector.
+ * <br>
+ * <br>
+ * Data leased from a JsonArena must not be referenced once its scope is closed. In debug mode, released data is never
+ * recycled, and any attempt to access it throws a UseAfterReleaseException.
+ *
+ * @author Calvin Withun
+ */
+public final class JsonArena {
+
+    private static final ThreadLocal<JsonArena> CURRENT = new ThreadLocal<>();
+
+    /**
+     * The maximum number of maps and lists kept by each pool between scopes.
+     */
+    private static final int MAXIMUM_POOL_SIZE = 4096;
+
+    private final boolean debug;
+    private final ArrayDeque<HashMap<String, Object>> mapPool;
+    private final ArrayDeque<ArrayList<Object>> listPool;
+    private final List<HashMap<String, Object>> leasedMaps;
+    private final List<ArrayList<Object>> leasedLists;
+    private int openScopes;
+
+    /**
+     * Constructor for JsonArena.
+     *
+     * @param debug whether released data should be poisoned rather than recycled
+     */
+    public JsonArena(boolean debug) {
+        this.debug = debug;
+        this.mapPool = new ArrayDeque<>();
+        this.listPool = new ArrayDeque<>();
+        this.leasedMaps = new ArrayList<>();
+        this.leasedLists = new ArrayList<>();
+        this.openScopes = 0;
+    }
+
+    /**
+     * Returns the JsonArena with an open scope on the current thread, or null if there is none.
+     *
+     * @return a JsonArena, or null
+     */
+    public static JsonArena current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Returns a new JsonObject, backed by a pooled map if a JsonArena scope is open on the current thread.
+     *
+     * @return an empty JsonObject
+     */
+    public static JsonObject newJsonObject() {
+        JsonArena arena = CURRENT.get();
+        return arena == null ? new JsonObject() : new JsonObject(arena.leaseMap());
+    }
+
+    /**
+     * Returns a new JsonArray, backed by a pooled list if a JsonArena scope is open on the current thread.
+     *
+     * @return an empty JsonArray
+     */
+    public static JsonArray newJsonArray() {
+        JsonArena arena = CURRENT.get();
+        return arena == null ? new JsonArray() : new JsonArray(arena.leaseList());
+    }
+
+    /**
+     * Returns a new list, pooled if a JsonArena scope is open on the current thread.
+     *
+     * @param <T> the element type of the list
+     * @return an empty list
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> List<T> newList() {
+        JsonArena arena = CURRENT.get();
+        return arena == null ? new ArrayList<>() : (List<T>) arena.leaseList();
+    }
+
+    /**
+     * Opens a scope on the current thread. Scopes may be nested, and may be opened on several threads at once. Leased
+     * data is only released when the last open scope is closed.
+     *
+     * @return a Scope, to be closed once the data leased within it is no longer needed
+     */
+    public Scope open() {
+        JsonArena previous = CURRENT.get();
+        CURRENT.set(this);
+        synchronized (this) {
+            this.openScopes++;
+        }
+        return new Scope(previous);
+    }
+
+    /**
+     * Returns whether this JsonArena poisons released data rather than recycling it.
+     *
+     * @return true if this JsonArena is in debug mode
+     */
+    public boolean isDebug() {
+        return this.debug;
+    }
+
+    /**
+     * Leases an empty map from the pool.
+     *
+     * @return an empty map
+     */
+    synchronized HashMap<String, Object> leaseMap() {
+        HashMap<String, Object> map = this.mapPool.poll();
+        if (map == null) {
+            map = this.debug ? new CheckedMap() : new HashMap<>();
+        }
+        this.leasedMaps.add(map);
+        return map;
+    }
+
+    /**
+     * Leases an empty list from the pool.
+     *
+     * @return an empty list
+     */
+    synchronized ArrayList<Object> leaseList() {
+        ArrayList<Object> list = this.listPool.poll();
+        if (list == null) {
+            list = this.debug ? new CheckedList() : new ArrayList<>();
+        }
+        this.leasedLists.add(list);
+        return list;
+    }
+
+    /**
+     * This helper method releases everything leased since the last release, returning it to the pool or poisoning
+     * it if this JsonArena is in debug mode.
+     */
+    private synchronized void release() {
+        for (HashMap<String, Object> map : this.leasedMaps) {
+            if (this.debug) {
+                ((CheckedMap) map).released = true;
+            } else if (this.mapPool.size() < MAXIMUM_POOL_SIZE) {
+                map.clear();
+                this.mapPool.push(map);
+            }
+        }
+        for (ArrayList<Object> list : this.leasedLists) {
+            if (this.debug) {
+                ((CheckedList) list).released = true;
+            } else if (this.listPool.size() < MAXIMUM_POOL_SIZE) {
+                list.clear();
+                this.listPool.push(list);
+            }
+        }
+        this.leasedMaps.clear();
+        this.leasedLists.clear();
+    }
+
+    /**
+     * A scope during which data may be leased from a JsonArena.
+     */
+    public final class Scope implements AutoCloseable {
+
+        private final JsonArena previous;
+
+        private Scope(JsonArena previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (this.previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(this.previous);
+            }
+            synchronized (JsonArena.this) {
+                if (--openScopes == 0) {
+                    release();
+                }
+            }
+        }
+
+    }
+
+    // =================================================================================================================
+    // Debug mode data
+    // =================================================================================================================
+
+    /**
+     * A map which refuses to be accessed once it has been released.
+     */
+    private static final class CheckedMap extends HashMap<String, Object> {
+
+        private boolean released = false;
+
+        private void check() {
+            if (this.released) {
+                throw new UseAfterReleaseException("map");
+            }
+        }
+
+        @Override
+        public Object get(Object key) {
+            this.check();
+            return super.get(key);
+        }
+
+        @Override
+        public Object getOrDefault(Object key, Object defaultValue) {
+            this.check();
+            return super.getOrDefault(key, defaultValue);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            this.check();
+            return super.containsKey(key);
+        }
+
+        @Override
+        public Object put(String key, Object value) {
+            this.check();
+            return super.put(key, value);
+        }
+
+        @Override
+        public Object putIfAbsent(String key, Object value) {
+            this.check();
+            return super.putIfAbsent(key, value);
+        }
+
+        @Override
+        public void putAll(Map<? extends String, ?> m) {
+            this.check();
+            super.putAll(m);
+        }
+
+        @Override
+        public Object remove(Object key) {
+            this.check();
+            return super.remove(key);
+        }
+
+        @Override
+        public int size() {
+            this.check();
+            return super.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            this.check();
+            return super.isEmpty();
+        }
+
+        @Override
+        public Set<String> keySet() {
+            this.check();
+            return super.keySet();
+        }
+
+        @Override
+        public Collection<Object> values() {
+            this.check();
+            return super.values();
+        }
+
+        @Override
+        public Set<Map.Entry<String, Object>> entrySet() {
+            this.check();
+            return super.entrySet();
+        }
+
+    }
+
+    /**
+     * A list which refuses to be accessed once it has been released.
+     */
+    private static final class CheckedList extends ArrayList<Object> {
+
+        private boolean released = false;
+
+        private void check() {
+            if (this.released) {
+                throw new UseAfterReleaseException("list");
+            }
+        }
+
+        @Override
+        public Object get(int index) {
+            this.check();
+            return super.get(index);
+        }
+
+        @Override
+        public Object set(int index, Object element) {
+            this.check();
+            return super.set(index, element);
+        }
+
+        @Override
+        public boolean add(Object element) {
+            this.check();
+            return super.add(element);
+        }
+
+        @Override
+        public void add(int index, Object element) {
+            this.check();
+            super.add(index, element);
+        }
+
+        @Override
+        public boolean addAll(Collection<?> c) {
+            this.check();
+            return super.addAll(c);
+        }
+
+        @Override
+        public Object remove(int index) {
+            this.check();
+            return super.remove(index);
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            this.check();
+            return super.remove(o);
+        }
+
+        @Override
+        public int size() {
+            this.check();
+            return super.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            this.check();
+            return super.isEmpty();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            this.check();
+            return super.contains(o);
+        }
+
+        @Override
+        public int indexOf(Object o) {
+            this.check();
+            return super.indexOf(o);
+        }
+
+        @Override
+        public Iterator<Object> iterator() {
+            this.check();
+            return super.iterator();
+        }
+
+        @Override
+        public ListIterator<Object> listIterator() {
+            this.check();
+            return super.listIterator();
+        }
+
+        @Override
+        public Object[] toArray() {
+            this.check();
+            return super.toArray();
+        }
+
+    }
+
+}
@@ -0,0 +1,129 @@
+package org.rpgl.json;
+
+/**
+ * This class builds JsonArrays through chained calls, as an alternative to anonymous JsonArray subclasses with
+ * instance initializers. See JsonObjectBuilder for when a transient builder should be used.
+ *
+ * @author Calvin Withun
+ */
+public final class JsonArrayBuilder {
+
+    private final JsonArray jsonArray;
+
+    /**
+     * Constructor for JsonArrayBuilder. New builders should be created via <code>JsonArrayBuilder.create()</code> or
+     * <code>JsonArrayBuilder.createTransient()</code>.
+     *
+     * @param jsonArray the JsonArray to be built
+     */
+    private JsonArrayBuilder(JsonArray jsonArray) {
+        this.jsonArray = jsonArray;
+    }
+
+    /**
+     * Returns a builder for a new JsonArray.
+     *
+     * @return a JsonArrayBuilder
+     */
+    public static JsonArrayBuilder create() {
+        return new JsonArrayBuilder(new JsonArray());
+    }
+
+    /**
+     * Returns a builder for a new JsonArray, backed by a pooled list if a JsonArena scope is open on the current
+     * thread.
+     *
+     * @return a JsonArrayBuilder
+     */
+    public static JsonArrayBuilder createTransient() {
+        return new JsonArrayBuilder(JsonArena.newJsonArray());
+    }
+
+    /**
+     * This method adds a JsonObject to the JsonArray being built.
+     *
+     * @param jsonObject the JsonObject to be added
+     * @return this JsonArrayBuilder
+     */
+    public JsonArrayBuilder addJsonObject(JsonObject jsonObject) {
+        this.jsonArray.addJsonObject(jsonObject);
+        return this;
+    }
+
+    /**
+     * This method adds a JsonArray to the JsonArray being built.
+     *
+     * @param jsonArray the JsonArray to be added
+     * @return this JsonArrayBuilder
+     */
+    public JsonArrayBuilder addJsonArray(JsonArray jsonArray) {
+        this.jsonArray.addJsonArray(jsonArray);
+        return this;
+    }
+
+    /**
+     * This method adds a String to the JsonArray being built.
+     *
+     * @param s the String to be added
+     * @return this JsonArrayBuilder
+     */
+    public JsonArrayBuilder addString(String s) {
+        this.jsonArray.addString(s);
+        return this;
+    }
+
+    /**
+     * This method adds an Integer to the JsonArray being built.
+     *
+     * @param i the Integer to be added
+     * @return this JsonArrayBuilder
+     */
+    public JsonArrayBuilder addInteger(Integer i) {
+        this.jsonArray.addInteger(i);
+        return this;
+    }
+
+    /**
+     * This method adds a Double to the JsonArray being built.
+     *
+     * @param d the Double to be added
+     * @return this JsonArrayBuilder
+     */
+    public JsonArrayBuilder addDouble(Double d) {
+        this.jsonArray.addDouble(d);
+        return this;
+    }
+
+    /**
+     * This method adds a Boolean to the JsonArray being built.
+     *
+     * @param b the Boolean to be added
+     * @return this JsonArrayBuilder
+     */
+    public JsonArrayBuilder addBoolean(Boolean b) {
+        this.jsonArray.addBoolean(b);
+        return this;
+    }
+
+    /**
+     * This method adds every element of a JsonArray to the JsonArray being built. Nested JsonObjects and JsonArrays
+     * are added by reference, not as deep clones.
+     *
+     * @param other a JsonArray
+     * @return this JsonArrayBuilder
+     */
+    public JsonArrayBuilder addAll(JsonArray other) {
+        this.jsonArray.asList().addAll(other.asList());
+        return this;
+    }
+
+    /**
+     * Returns the JsonArray being built. The builder should not be used afterwards.
+     *
+     * @return a JsonArray
+     */
+    public JsonArray build() {
+        return this.jsonArray;
+    }
+
+}
@@ -0,0 +1,129 @@
+package org.rpgl.json;
+
+/**
+ * This class builds JsonObjects through chained calls, as an alternative to anonymous JsonObject subclasses with
+ * instance initializers. A builder writes directly into the JsonObject it builds, so building a JsonObject allocates
+ * nothing beyond the JsonObject itself and the short-lived builder, and loads no additional classes.
+ * <br>
+ * <br>
+ * JSON data which only needs to live as long as the current RPGLEvent invocation, such as data passed to
+ * <code>Subevent.joinSubeventData(...)</code> or Function instructions built by RPGL itself, should be built by a
+ * transient builder so that it is leased from the current JsonArena.
+ *
+ * @author Calvin Withun
+ */
+public final class JsonObjectBuilder {
+
+    private final JsonObject jsonObject;
+
+    /**
+     * Constructor for JsonObjectBuilder. New builders should be created via <code>JsonObjectBuilder.create()</code> or
+     * <code>JsonObjectBuilder.createTransient()</code>.
+     *
+     * @param jsonObject the JsonObject to be built
+     */
+    private JsonObjectBuilder(JsonObject jsonObject) {
+        this.jsonObject = jsonObject;
+    }
+
+    /**
+     * Returns a builder for a new JsonObject.
+     *
+     * @return a JsonObjectBuilder
+     */
+    public static JsonObjectBuilder create() {
+        return new JsonObjectBuilder(new JsonObject());
+    }
+
+    /**
+     * Returns a builder for a new JsonObject, backed by a pooled map if a JsonArena scope is open on the current
+     * thread.
+     *
+     * @return a JsonObjectBuilder
+     */
+    public static JsonObjectBuilder createTransient() {
+        return new JsonObjectBuilder(JsonArena.newJsonObject());
+    }
+
+    /**
+     * This method assigns a JsonObject to a key in the JsonObject being built.
+     *
+     * @param key the key to be assigned
+     * @param jsonObject the value to be assigned to the key
+     * @return this JsonObjectBuilder
+     */
+    public JsonObjectBuilder putJsonObject(String key, JsonObject jsonObject) {
+        this.jsonObject.putJsonObject(key, jsonObject);
+        return this;
+    }
+
+    /**
+     * This method assigns a JsonArray to a key in the JsonObject being built.
+     *
+     * @param key the key to be assigned
+     * @param jsonArray the value to be assigned to the key
+     * @return this JsonObjectBuilder
+     */
+    public JsonObjectBuilder putJsonArray(String key, JsonArray jsonArray) {
+        this.jsonObject.putJsonArray(key, jsonArray);
+        return this;
+    }
+
+    /**
+     * This method assigns a String to a key in the JsonObject being built.
+     *
+     * @param key the key to be assigned
+     * @param s the value to be assigned to the key
+     * @return this JsonObjectBuilder
+     */
+    public JsonObjectBuilder putString(String key, String s) {
+        this.jsonObject.putString(key, s);
+        return this;
+    }
+
+    /**
+     * This method assigns an Integer to a key in the JsonObject being built.
+     *
+     * @param key the key to be assigned
+     * @param i the value to be assigned to the key
+     * @return this JsonObjectBuilder
+     */
+    public JsonObjectBuilder putInteger(String key, Integer i) {
+        this.jsonObject.putInteger(key, i);
+        return this;
+    }
+
+    /**
+     * This method assigns a Double to a key in the JsonObject being built.
+     *
+     * @param key the key to be assigned
+     * @param d the value to be assigned to the key
+     * @return this JsonObjectBuilder
+     */
+    public JsonObjectBuilder putDouble(String key, Double d) {
+        this.jsonObject.putDouble(key, d);
+        return this;
+    }
+
+    /**
+     * This method assigns a Boolean to a key in the JsonObject being built.
+     *
+     * @param key the key to be assigned
+     * @param b the value to be assigned to the key
+     * @return this JsonObjectBuilder
+     */
+    public JsonObjectBuilder putBoolean(String key, Boolean b) {
+        this.jsonObject.putBoolean(key, b);
+        return this;
+    }
+
+    /**
+     * Returns the JsonObject being built. The builder should not be used afterwards.
+     *
+     * @return a JsonObject
+     */
+    public JsonObject build() {
+        return this.jsonObject;
+    }
+
+}
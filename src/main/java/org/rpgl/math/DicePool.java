@@ -0,0 +1,269 @@
+package org.rpgl.math;
+
+import org.rpgl.core.RPGLRuntime;
+import org.rpgl.json.JsonArena;
+import org.rpgl.json.JsonArray;
+import org.rpgl.json.JsonObject;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * This class represents a pool of dice in a compact form. The size and rolled value of each die are stored in
+ * primitive arrays rather than in one JsonObject per die, dice are rolled in bulk, and the manipulations which effects
+ * may apply to rolled dice operate directly on those arrays. JSON is only produced when it is asked for.
+ * <br>
+ * <br>
+ * When a DicePool is created from a JsonArray of dice, the <code>"determined"</code> arrays of those dice are shared
+ * rather than copied, so determined values consumed by the DicePool are consumed from the JSON dice as well.
+ *
+ * @author Calvin Withun
+ */
+public final class DicePool {
+
+    private static final int[] NO_INTS = new int[0];
+    private static final JsonArray[] NO_DETERMINED = new JsonArray[0];
+
+    private int count;
+    private int[] sizes;
+    private int[] rolls;
+    private JsonArray[] determined;
+
+    /**
+     * Constructor for DicePool. New pools should be created via <code>DicePool.of(...)</code> or
+     * <code>DicePool.fromJson(...)</code>.
+     *
+     * @param count the number of dice in the pool
+     * @param sizes the size of each die
+     * @param rolls the rolled value of each die, or 0 for dice which have not been rolled
+     * @param determined the determined values of each die, which may contain nulls
+     */
+    private DicePool(int count, int[] sizes, int[] rolls, JsonArray[] determined) {
+        this.count = count;
+        this.sizes = sizes;
+        this.rolls = rolls;
+        this.determined = determined;
+    }
+
+    /**
+     * Returns a pool of unrolled dice which all share the same size.
+     *
+     * @param size the size of each die
+     * @param count the number of dice
+     * @return a DicePool
+     */
+    public static DicePool of(int size, int count) {
+        int[] sizes = new int[count];
+        Arrays.fill(sizes, size);
+        return new DicePool(count, sizes, new int[count], new JsonArray[count]);
+    }
+
+    /**
+     * Returns a pool holding the dice of an unpacked JsonArray of dice. Dice which have already been rolled keep their
+     * rolled values.
+     *
+     * @param dice a JsonArray of unpacked dice, or null
+     * @return a DicePool
+     */
+    public static DicePool fromJson(JsonArray dice) {
+        if (dice == null || dice.size() == 0) {
+            return new DicePool(0, NO_INTS, NO_INTS, NO_DETERMINED);
+        }
+        int count = dice.size();
+        int[] sizes = new int[count];
+        int[] rolls = new int[count];
+        JsonArray[] determined = new JsonArray[count];
+        for (int i = 0; i < count; i++) {
+            JsonObject die = dice.getJsonObject(i);
+            sizes[i] = die.getInteger("size");
+            Integer roll = die.getInteger("roll");
+            rolls[i] = roll == null ? 0 : roll;
+            determined[i] = die.getJsonArray("determined");
+        }
+        return new DicePool(count, sizes, rolls, determined);
+    }
+
+    /**
+     * Returns the number of dice in this pool.
+     *
+     * @return the number of dice
+     */
+    public int count() {
+        return this.count;
+    }
+
+    /**
+     * Returns the size of a die in this pool.
+     *
+     * @param index the index of the die
+     * @return the size of the die
+     */
+    public int getSize(int index) {
+        return this.sizes[index];
+    }
+
+    /**
+     * Returns the rolled value of a die in this pool, or 0 if the die has not been rolled.
+     *
+     * @param index the index of the die
+     * @return the rolled value of the die
+     */
+    public int getRoll(int index) {
+        return this.rolls[index];
+    }
+
+    /**
+     * Returns the sum of the rolled values of every die in this pool.
+     *
+     * @return the sum of the rolled values
+     */
+    public int sum() {
+        int sum = 0;
+        for (int i = 0; i < this.count; i++) {
+            sum += this.rolls[i];
+        }
+        return sum;
+    }
+
+    /**
+     * This method rolls every die in this pool.
+     *
+     * @return this DicePool
+     */
+    public DicePool roll() {
+        boolean isTesting = RPGLRuntime.current().isDieTesting();
+        RandomGenerator generator = Die.getDiceSource().generator();
+        for (int i = 0; i < this.count; i++) {
+            this.rolls[i] = Die.roll(this.sizes[i], this.determined[i], isTesting, generator);
+        }
+        return this;
+    }
+
+    /**
+     * This method re-rolls every die in this pool whose rolled value is matching or below a threshold.
+     *
+     * @param threshold the value a die must roll at or below to be re-rolled
+     * @return this DicePool
+     */
+    public DicePool rerollMatchingOrBelow(int threshold) {
+        boolean isTesting = RPGLRuntime.current().isDieTesting();
+        RandomGenerator generator = null;
+        for (int i = 0; i < this.count; i++) {
+            if (this.rolls[i] <= threshold) {
+                if (generator == null) {
+                    generator = Die.getDiceSource().generator();
+                }
+                this.rolls[i] = Die.roll(this.sizes[i], this.determined[i], isTesting, generator);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * This method overrides the rolled value of every die in this pool whose rolled value is matching or below a
+     * threshold.
+     *
+     * @param threshold the value a die must roll at or below to be changed
+     * @param set the value to be assigned to each changed die
+     * @return this DicePool
+     */
+    public DicePool setMatchingOrBelow(int threshold, int set) {
+        for (int i = 0; i < this.count; i++) {
+            if (this.rolls[i] <= threshold) {
+                this.rolls[i] = set;
+            }
+        }
+        return this;
+    }
+
+    /**
+     * This method sets every die in this pool to its maximum face value.
+     *
+     * @return this DicePool
+     */
+    public DicePool maximize() {
+        System.arraycopy(this.sizes, 0, this.rolls, 0, this.count);
+        return this;
+    }
+
+    /**
+     * This method adds copies of a die to this pool. Each copy has the same size and rolled value as the copied die,
+     * and a copy of its determined values.
+     *
+     * @param index the index of the die to be copied
+     * @param times the number of copies to be added
+     * @return this DicePool
+     */
+    public DicePool repeat(int index, int times) {
+        if (times <= 0) {
+            return this;
+        }
+        int newCount = this.count + times;
+        if (newCount > this.sizes.length) {
+            int capacity = Math.max(newCount, this.sizes.length * 2);
+            this.sizes = Arrays.copyOf(this.sizes, capacity);
+            this.rolls = Arrays.copyOf(this.rolls, capacity);
+            this.determined = Arrays.copyOf(this.determined, capacity);
+        }
+        JsonArray determined = this.determined[index];
+        for (int i = this.count; i < newCount; i++) {
+            this.sizes[i] = this.sizes[index];
+            this.rolls[i] = this.rolls[index];
+            this.determined[i] = determined == null ? null : determined.deepClone();
+        }
+        this.count = newCount;
+        return this;
+    }
+
+    /**
+     * This method writes the rolled values of this pool into the JsonArray of dice it was created from. Dice which have
+     * not been rolled are left unchanged, and dice which were added to this pool by <code>repeat(...)</code> are
+     * appended to the JsonArray.
+     *
+     * @param dice the JsonArray of dice this pool was created from
+     */
+    public void writeTo(JsonArray dice) {
+        int written = Math.min(dice.size(), this.count);
+        for (int i = 0; i < written; i++) {
+            if (this.rolls[i] != 0) {
+                dice.getJsonObject(i).putInteger("roll", this.rolls[i]);
+            }
+        }
+        for (int i = written; i < this.count; i++) {
+            dice.addJsonObject(this.dieToJson(i));
+        }
+    }
+
+    /**
+     * Returns the dice of this pool as a new JsonArray. If a JsonArena scope is open, the returned JsonArray is leased
+     * from that JsonArena.
+     *
+     * @return a JsonArray of dice
+     */
+    public JsonArray toJson() {
+        JsonArray dice = JsonArena.newJsonArray();
+        for (int i = 0; i < this.count; i++) {
+            dice.addJsonObject(this.dieToJson(i));
+        }
+        return dice;
+    }
+
+    /**
+     * This helper method returns the JSON representation of a die in this pool.
+     *
+     * @param index the index of the die
+     * @return a JsonObject
+     */
+    private JsonObject dieToJson(int index) {
+        JsonObject die = JsonArena.newJsonObject();
+        die.putInteger("size", this.sizes[index]);
+        if (this.rolls[index] != 0) {
+            die.putInteger("roll", this.rolls[index]);
+        }
+        if (this.determined[index] != null) {
+            die.putJsonArray("determined", this.determined[index]);
+        }
+        return die;
+    }
+
+}
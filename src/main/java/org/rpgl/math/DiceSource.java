@@ -0,0 +1,123 @@
+package org.rpgl.math;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * This interface represents a source of random numbers for dice. Every random draw made by RPGL, including die rolls,
+ * refresh chances, and random resource orderings, is made through the DiceSource which <code>Die</code> considers to
+ * be current.
+ * <br>
+ * <br>
+ * A DiceSource may be split into an independent child stream. Each RPGLContext splits its own stream from the
+ * DiceSource of its RPGLRuntime, so that contexts do not contend on a single generator, and a context given an
+ * explicitly seeded DiceSource produces the same rolls every time its events are invoked in the same order.
+ *
+ * @author Calvin Withun
+ */
+public interface DiceSource {
+
+    /**
+     * Returns the generator of this DiceSource. The returned generator may be drawn from by any thread, and the numbers
+     * it produces must depend only on the order in which they are drawn, not on the threads drawing them.
+     *
+     * @return a RandomGenerator
+     */
+    RandomGenerator generator();
+
+    /**
+     * Returns a new DiceSource whose stream is independent of this DiceSource. Splitting the same DiceSource in the
+     * same order always produces the same child streams.
+     *
+     * @return a DiceSource
+     */
+    DiceSource split();
+
+    /**
+     * Returns a random number from 1 to the passed upper bound, inclusive.
+     *
+     * @param upperBound the maximum face value of the die to be simulated
+     * @return the value rolled by the simulated die
+     */
+    default int roll(int upperBound) {
+        return this.generator().nextInt(upperBound) + 1;
+    }
+
+    /**
+     * Returns whether a random percentage falls within the passed chance.
+     *
+     * @param percent the chance of success, from 0 to 100
+     * @return true if the draw succeeded
+     */
+    default boolean chance(int percent) {
+        return this.generator().nextDouble() * 100 <= percent;
+    }
+
+    /**
+     * This method shuffles a list in place.
+     *
+     * @param list the list to be shuffled
+     */
+    default void shuffle(List<?> list) {
+        RandomGenerator generator = this.generator();
+        for (int i = list.size() - 1; i > 0; i--) {
+            swap(list, i, generator.nextInt(i + 1));
+        }
+    }
+
+    /**
+     * This helper method swaps two elements of a list.
+     *
+     * @param list a list
+     * @param i the index of the first element
+     * @param j the index of the second element
+     * @param <T> the type of the list's elements
+     */
+    private static <T> void swap(List<T> list, int i, int j) {
+        list.set(i, list.set(j, list.get(i)));
+    }
+
+    /**
+     * Returns a new DiceSource seeded from system entropy.
+     *
+     * @return a DiceSource
+     */
+    static DiceSource create() {
+        return new SplittableDiceSource(new SplittableRandom());
+    }
+
+    /**
+     * Returns a new DiceSource with an explicit seed. DiceSources created with the same seed, and split in the same
+     * order, produce the same numbers.
+     *
+     * @param seed the seed of the DiceSource
+     * @return a DiceSource
+     */
+    static DiceSource seeded(long seed) {
+        return new SplittableDiceSource(new SplittableRandom(seed));
+    }
+
+    /**
+     * Returns a new DiceSource backed by a splittable generator. The passed generator must not be used elsewhere
+     * afterwards.
+     *
+     * @param generator a SplittableGenerator
+     * @return a DiceSource
+     */
+    static DiceSource of(RandomGenerator.SplittableGenerator generator) {
+        return new SplittableDiceSource(generator);
+    }
+
+    /**
+     * Returns a DiceSource backed by a single thread-safe generator, such as a <code>java.util.Random</code>. Every
+     * thread and every split of the returned DiceSource draws from that generator.
+     *
+     * @param generator a thread-safe RandomGenerator
+     * @return a DiceSource
+     */
+    static DiceSource shared(RandomGenerator generator) {
+        return new SharedDiceSource(generator);
+    }
+
+}
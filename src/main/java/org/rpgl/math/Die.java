@@ -1,26 +1,44 @@
 package org.rpgl.math;
 
+import org.rpgl.core.RPGLRuntime;
 import org.rpgl.exception.DieSizeException;
+import org.rpgl.json.JsonArena;
 import org.rpgl.json.JsonArray;
 import org.rpgl.json.JsonObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.random.RandomGenerator;
 
 /**
  * This class represents a die, and is used for bounded random integer generation. This class may be put into testing
  * mode, during which dice may be given pre-determined values to be rolled rather than using random number generation.
+ * The testing mode belongs to the current RPGLRuntime.
+ * <br>
+ * <br>
+ * Random numbers are drawn from the DiceSource bound to the current thread, or from the DiceSource of the current
+ * RPGLRuntime if none is bound. RPGL binds the DiceSource of a RPGLContext while RPGLEvents are invoked in that
+ * context, so each context draws from its own stream.
  *
  * @author Calvin Withun
  */
 public final class Die {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(Die.class);
-    private static final Random R = new Random(System.currentTimeMillis());
 
-    private static boolean testing = false;
+    private static final ThreadLocal<DiceSource> CURRENT = new ThreadLocal<>();
+
+    /**
+     * The number of DiceSource bindings open on any thread. The thread-local lookup is skipped entirely while this
+     * value is 0.
+     */
+    private static final AtomicInteger OPEN_BINDINGS = new AtomicInteger();
 
     /**
      * This method returns a number as though a die matching the parameter has been rolled. Unless the die haas a
@@ -32,11 +50,25 @@ public final class Die {
      * @return the value rolled by the simulated die.
      */
     public static int roll(int upperBound, JsonArray determinedList) {
+        return roll(upperBound, determinedList, RPGLRuntime.current().isDieTesting(), getDiceSource().generator());
+    }
+
+    /**
+     * This method returns a number as though a die matching the parameter has been rolled, drawing from a generator
+     * which the caller has already looked up. This allows many dice to be rolled in bulk.
+     *
+     * @param upperBound the maximum face value of the die to be simulated.
+     * @param determinedList a JsonArray of upcoming values the simulated die should roll, or null
+     * @param isTesting whether determined values should be honored
+     * @param generator the generator to draw from
+     * @return the value rolled by the simulated die.
+     */
+    static int roll(int upperBound, JsonArray determinedList, boolean isTesting, RandomGenerator generator) {
         int roll;
-        if (testing && determinedList != null && !determinedList.asList().isEmpty()) {
+        if (isTesting && determinedList != null && !determinedList.asList().isEmpty()) {
             roll = (int) determinedList.asList().remove(0);
         } else if (upperBound > 0) {
-            roll = R.nextInt(upperBound) + 1;
+            roll = generator.nextInt(upperBound) + 1;
         } else {
             DieSizeException e = new DieSizeException(upperBound);
             LOGGER.error(e.getMessage());
@@ -58,6 +90,54 @@ public final class Die {
         return roll;
     }
 
+    /**
+     * Returns whether a random percentage drawn from the current DiceSource falls within the passed chance.
+     *
+     * @param percent the chance of success, from 0 to 100
+     * @return true if the draw succeeded
+     */
+    public static boolean chance(int percent) {
+        return getDiceSource().chance(percent);
+    }
+
+    /**
+     * This method shuffles a list in place, using the current DiceSource.
+     *
+     * @param list the list to be shuffled
+     */
+    public static void shuffle(List<?> list) {
+        getDiceSource().shuffle(list);
+    }
+
+    /**
+     * Returns the DiceSource bound to the current thread, or the DiceSource of the current RPGLRuntime if none is bound.
+     *
+     * @return a DiceSource
+     */
+    public static DiceSource getDiceSource() {
+        if (OPEN_BINDINGS.get() != 0) {
+            DiceSource diceSource = CURRENT.get();
+            if (diceSource != null) {
+                return diceSource;
+            }
+        }
+        return RPGLRuntime.current().getDiceSource();
+    }
+
+    /**
+     * This method binds a DiceSource to the current thread until the returned binding is closed. Bindings may be nested,
+     * in which case closing a binding restores the DiceSource which was bound before it.
+     *
+     * @param diceSource a DiceSource
+     * @return a Binding which must be closed once the DiceSource is no longer needed on the current thread
+     */
+    public static Binding bind(DiceSource diceSource) {
+        Binding binding = new Binding(CURRENT.get());
+        CURRENT.set(diceSource);
+        OPEN_BINDINGS.incrementAndGet();
+        return binding;
+    }
+
     /**
      * This helper method logs a number rolled in the roll() method.
      *
@@ -75,12 +155,13 @@ public final class Die {
     }
 
     /**
-     * This method sets the testing mode of the Die class. When set to true, this class will honor deterministic dice.
+     * This method sets the testing mode of the Die class for the current RPGLRuntime. When set to true, this class will
+     * honor deterministic dice.
      *
      * @param isTesting whether the class should be set to testing mode
      */
     public static void setTesting(boolean isTesting) {
-        Die.testing = isTesting;
+        RPGLRuntime.current().setDieTesting(isTesting);
     }
 
     /**
@@ -103,4 +184,63 @@ public final class Die {
         return unpackedDice;
     }
 
+    /**
+     * This method unpacks a compacted representation of a collection of dice, like <code>unpack(...)</code>. It is
+     * intended for dice which only ever live in Subevent payloads: if a JsonArena scope is open, the unpacked dice are
+     * leased from that JsonArena, and they must not be stored anywhere which outlives the scope.
+     *
+     * @param dice a JsonArray storing compact dice
+     * @return a JsonArray storing unpacked dice, or null if dice is null
+     */
+    public static JsonArray unpackTransient(JsonArray dice) {
+        if (dice == null || JsonArena.current() == null) {
+            return dice == null ? null : unpack(dice);
+        }
+        JsonArray unpackedDice = JsonArena.newJsonArray();
+        for (int i = 0; i < dice.size(); i++) {
+            JsonObject die = dice.getJsonObject(i);
+            int count = Objects.requireNonNullElse(die.getInteger("count"), 1);
+            for (int j = 0; j < count; j++) {
+                JsonObject unpackedDie = JsonArena.newJsonObject();
+                for (Map.Entry<String, Object> dieEntry : die.asMap().entrySet()) {
+                    Object value = dieEntry.getValue();
+                    if (value instanceof ArrayList<?> list) {
+                        JsonArray listCopy = JsonArena.newJsonArray();
+                        listCopy.asList().addAll(list);
+                        value = listCopy.asList();
+                    } else if (value instanceof HashMap<?, ?>) {
+                        value = die.getJsonObject(dieEntry.getKey()).deepClone().asMap();
+                    }
+                    unpackedDie.asMap().put(dieEntry.getKey(), value);
+                }
+                unpackedDie.asMap().remove("count");
+                unpackedDice.addJsonObject(unpackedDie);
+            }
+        }
+        return unpackedDice;
+    }
+
+    /**
+     * A binding of a DiceSource to the thread which created it.
+     */
+    public static final class Binding implements AutoCloseable {
+
+        private final DiceSource previous;
+
+        private Binding(DiceSource previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (this.previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(this.previous);
+            }
+            OPEN_BINDINGS.decrementAndGet();
+        }
+
+    }
+
 }
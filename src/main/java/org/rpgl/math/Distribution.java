@@ -0,0 +1,293 @@
+package org.rpgl.math;
+
+import java.util.Arrays;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * This class represents the exact probability distribution of an integer outcome, such as the face of a d20 or the
+ * total of a pool of damage dice. Distributions are immutable, so they may be cached and shared freely.
+ *
+ * @author Calvin Withun
+ */
+public final class Distribution {
+
+    private final int minimum;
+    private final double[] probabilities;
+
+    /**
+     * Constructor for Distribution.
+     *
+     * @param minimum the smallest possible outcome
+     * @param probabilities the probability of each outcome, starting with <code>minimum</code>
+     */
+    private Distribution(int minimum, double[] probabilities) {
+        this.minimum = minimum;
+        this.probabilities = probabilities;
+    }
+
+    /**
+     * Returns a distribution which always produces the same outcome.
+     *
+     * @param value the outcome
+     * @return a Distribution
+     */
+    public static Distribution constant(int value) {
+        return new Distribution(value, new double[] { 1.0 });
+    }
+
+    /**
+     * Returns the distribution of a fair die, which produces each outcome from 1 to its size with equal probability.
+     *
+     * @param size the size of the die
+     * @return a Distribution
+     */
+    public static Distribution uniform(int size) {
+        double[] probabilities = new double[size];
+        Arrays.fill(probabilities, 1.0 / size);
+        return new Distribution(1, probabilities);
+    }
+
+    /**
+     * Returns a distribution with the passed probabilities.
+     *
+     * @param minimum the smallest possible outcome
+     * @param probabilities the probability of each outcome, starting with <code>minimum</code>
+     * @return a Distribution
+     */
+    public static Distribution of(int minimum, double... probabilities) {
+        return new Distribution(minimum, probabilities.clone());
+    }
+
+    /**
+     * Returns the distribution of an outcome drawn from the first passed distribution with the passed probability, and
+     * from the second passed distribution otherwise.
+     *
+     * @param weight the probability of drawing from the first distribution
+     * @param first the first distribution
+     * @param second the second distribution
+     * @return a Distribution
+     */
+    public static Distribution mix(double weight, Distribution first, Distribution second) {
+        int minimum = Math.min(first.minimum, second.minimum);
+        int maximum = Math.max(first.getMaximum(), second.getMaximum());
+        double[] probabilities = new double[maximum - minimum + 1];
+        for (int value = minimum; value <= maximum; value++) {
+            probabilities[value - minimum] = weight * first.probability(value) + (1.0 - weight) * second.probability(value);
+        }
+        return new Distribution(minimum, probabilities);
+    }
+
+    /**
+     * Returns the smallest possible outcome of this distribution.
+     *
+     * @return the smallest outcome
+     */
+    public int getMinimum() {
+        return this.minimum;
+    }
+
+    /**
+     * Returns the largest possible outcome of this distribution.
+     *
+     * @return the largest outcome
+     */
+    public int getMaximum() {
+        return this.minimum + this.probabilities.length - 1;
+    }
+
+    /**
+     * Returns the probability of an outcome.
+     *
+     * @param value the outcome
+     * @return the probability of the outcome
+     */
+    public double probability(int value) {
+        int index = value - this.minimum;
+        return index < 0 || index >= this.probabilities.length ? 0.0 : this.probabilities[index];
+    }
+
+    /**
+     * Returns the probability of an outcome matching or above the passed value.
+     *
+     * @param value the value
+     * @return the probability of an outcome of at least <code>value</code>
+     */
+    public double probabilityAtLeast(int value) {
+        double probability = 0.0;
+        for (int index = Math.max(value - this.minimum, 0); index < this.probabilities.length; index++) {
+            probability += this.probabilities[index];
+        }
+        return probability;
+    }
+
+    /**
+     * Returns the probability of an outcome below the passed value.
+     *
+     * @param value the value
+     * @return the probability of an outcome less than <code>value</code>
+     */
+    public double probabilityBelow(int value) {
+        double probability = 0.0;
+        int end = Math.min(value - this.minimum, this.probabilities.length);
+        for (int index = 0; index < end; index++) {
+            probability += this.probabilities[index];
+        }
+        return probability;
+    }
+
+    /**
+     * Returns the expected outcome of this distribution.
+     *
+     * @return the mean outcome
+     */
+    public double mean() {
+        double mean = 0.0;
+        for (int index = 0; index < this.probabilities.length; index++) {
+            mean += (this.minimum + index) * this.probabilities[index];
+        }
+        return mean;
+    }
+
+    /**
+     * Returns the distribution of this distribution's outcome plus a constant.
+     *
+     * @param offset the constant to be added
+     * @return a Distribution
+     */
+    public Distribution plus(int offset) {
+        return offset == 0 ? this : new Distribution(this.minimum + offset, this.probabilities);
+    }
+
+    /**
+     * Returns the distribution of the sum of this distribution's outcome and another independent outcome.
+     *
+     * @param other the distribution of the other outcome
+     * @return a Distribution
+     */
+    public Distribution plus(Distribution other) {
+        double[] probabilities = new double[this.probabilities.length + other.probabilities.length - 1];
+        for (int i = 0; i < this.probabilities.length; i++) {
+            double probability = this.probabilities[i];
+            if (probability != 0.0) {
+                for (int j = 0; j < other.probabilities.length; j++) {
+                    probabilities[i + j] += probability * other.probabilities[j];
+                }
+            }
+        }
+        return new Distribution(this.minimum + other.minimum, probabilities);
+    }
+
+    /**
+     * Returns the distribution of the sum of several independent outcomes drawn from this distribution.
+     *
+     * @param count the number of outcomes to be summed
+     * @return a Distribution
+     */
+    public Distribution times(int count) {
+        Distribution result = constant(0);
+        Distribution power = this;
+        while (count > 0) {
+            if ((count & 1) == 1) {
+                result = result.plus(power);
+            }
+            count >>= 1;
+            if (count > 0) {
+                power = power.plus(power);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the distribution of the larger of this distribution's outcome and another independent outcome, such as
+     * a d20 rolled with advantage.
+     *
+     * @param other the distribution of the other outcome
+     * @return a Distribution
+     */
+    public Distribution max(Distribution other) {
+        int minimum = Math.max(this.minimum, other.minimum);
+        int maximum = Math.max(this.getMaximum(), other.getMaximum());
+        double[] probabilities = new double[maximum - minimum + 1];
+        double previous = this.probabilityBelow(minimum) * other.probabilityBelow(minimum);
+        for (int value = minimum; value <= maximum; value++) {
+            double cumulative = this.probabilityBelow(value + 1) * other.probabilityBelow(value + 1);
+            probabilities[value - minimum] = cumulative - previous;
+            previous = cumulative;
+        }
+        return new Distribution(minimum, probabilities);
+    }
+
+    /**
+     * Returns the distribution of the smaller of this distribution's outcome and another independent outcome, such as
+     * a d20 rolled with disadvantage.
+     *
+     * @param other the distribution of the other outcome
+     * @return a Distribution
+     */
+    public Distribution min(Distribution other) {
+        int minimum = Math.min(this.minimum, other.minimum);
+        int maximum = Math.min(this.getMaximum(), other.getMaximum());
+        double[] probabilities = new double[maximum - minimum + 1];
+        double previous = this.probabilityAtLeast(minimum) * other.probabilityAtLeast(minimum);
+        for (int value = minimum; value <= maximum; value++) {
+            double survival = this.probabilityAtLeast(value + 1) * other.probabilityAtLeast(value + 1);
+            probabilities[value - minimum] = previous - survival;
+            previous = survival;
+        }
+        return new Distribution(minimum, probabilities);
+    }
+
+    /**
+     * Returns the distribution of this distribution's outcome after it has been transformed by a function, such as
+     * halving or scaling damage.
+     *
+     * @param function the function to be applied to each outcome
+     * @return a Distribution
+     */
+    public Distribution map(IntUnaryOperator function) {
+        int minimum = Integer.MAX_VALUE;
+        int maximum = Integer.MIN_VALUE;
+        int[] mapped = new int[this.probabilities.length];
+        for (int index = 0; index < this.probabilities.length; index++) {
+            mapped[index] = function.applyAsInt(this.minimum + index);
+            if (this.probabilities[index] != 0.0) {
+                minimum = Math.min(minimum, mapped[index]);
+                maximum = Math.max(maximum, mapped[index]);
+            }
+        }
+        if (minimum > maximum) {
+            return this;
+        }
+        double[] probabilities = new double[maximum - minimum + 1];
+        for (int index = 0; index < this.probabilities.length; index++) {
+            if (this.probabilities[index] != 0.0) {
+                probabilities[mapped[index] - minimum] += this.probabilities[index];
+            }
+        }
+        return new Distribution(minimum, probabilities);
+    }
+
+    /**
+     * Returns the distribution of this distribution's outcome, raised to a minimum value if it falls below it.
+     *
+     * @param floor the minimum value
+     * @return a Distribution
+     */
+    public Distribution atLeast(int floor) {
+        return floor <= this.minimum ? this : this.map(value -> Math.max(value, floor));
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder("{");
+        for (int index = 0; index < this.probabilities.length; index++) {
+            if (index > 0) {
+                stringBuilder.append(",");
+            }
+            stringBuilder.append(this.minimum + index).append("=").append(this.probabilities[index]);
+        }
+        return stringBuilder.append("}").toString();
+    }
+
+}
@@ -0,0 +1,323 @@
+package org.rpgl.math;
+
+import org.rpgl.json.JsonArray;
+import org.rpgl.json.JsonObject;
+import org.rpgl.subevent.Formula;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * This class computes the exact outcome distributions of the rolls RPGL makes, from the same inputs used by
+ * AttackRoll, SavingThrow, and DamageRoll. A single query answers questions such as "what is the chance to hit" or
+ * "what is the expected damage" which would otherwise require many sampled invocations.
+ * <br>
+ * <br>
+ * The distribution of every pool of dice is computed by convolution and cached by its DiceSignature, so repeated
+ * queries for the same dice and modifiers cost only a map lookup. Only the most recently used distributions are kept
+ * cached. Damage affinities and effects which respond to particular rolls are not modeled, so queries describe a roll
+ * after any such effects have been accounted for in the passed bonus, modifiers, and thresholds.
+ *
+ * @author Calvin Withun
+ */
+public final class ProbabilityEngine {
+
+    /**
+     * The maximum number of dice distributions kept in the cache. Once it is full, the least recently used distribution
+     * is discarded, so queries over many distinct pools of dice can not grow the cache without bound.
+     */
+    static final int MAX_CACHED_DICE = 1024;
+
+    private static final Map<DiceSignature, Distribution> DICE_CACHE = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<DiceSignature, Distribution> eldest) {
+            return this.size() > MAX_CACHED_DICE;
+        }
+    };
+
+    private static final Distribution D20 = Distribution.uniform(20);
+    private static final Distribution D20_ADVANTAGE = D20.max(D20);
+    private static final Distribution D20_DISADVANTAGE = D20.min(D20);
+
+    /**
+     * The modifiers which may be applied to rolled dice, as applied by the RerollDamageDiceMatchingOrBelow,
+     * SetDamageDiceMatchingOrBelow, and MaximizeDamage Functions. Dice are re-rolled once before they are set, and
+     * maximized dice ignore every other modifier.
+     *
+     * @param rerollMatchingOrBelow dice rolling at or below this value are re-rolled once, or 0 for no re-rolls
+     * @param setMatchingOrBelow dice rolling at or below this value are set to <code>set</code>, or 0 for none
+     * @param set the value assigned to dice set by <code>setMatchingOrBelow</code>
+     * @param maximize whether every die is set to its maximum face value
+     */
+    public record DiceModifiers(int rerollMatchingOrBelow, int setMatchingOrBelow, int set, boolean maximize) {
+
+        public static final DiceModifiers NONE = new DiceModifiers(0, 0, 0, false);
+
+    }
+
+    /**
+     * The signature of a pool of identical dice, by which dice distributions are cached.
+     *
+     * @param size the size of each die
+     * @param count the number of dice
+     * @param modifiers the modifiers applied to each die
+     */
+    public record DiceSignature(int size, int count, DiceModifiers modifiers) {
+    }
+
+    /**
+     * The probabilities of each outcome of an attack roll.
+     *
+     * @param miss the probability of a miss, including critical misses
+     * @param hit the probability of a hit which is not a critical hit
+     * @param criticalHit the probability of a critical hit
+     */
+    public record AttackOdds(double miss, double hit, double criticalHit) {
+
+        /**
+         * Returns the expected damage of the attack.
+         *
+         * @param hitDamage the distribution of damage dealt by a hit
+         * @param criticalHitDamage the distribution of damage dealt by a critical hit
+         * @return the expected damage
+         */
+        public double expectedDamage(Distribution hitDamage, Distribution criticalHitDamage) {
+            return this.hit * hitDamage.mean() + this.criticalHit * criticalHitDamage.mean();
+        }
+
+    }
+
+    private ProbabilityEngine() {
+    }
+
+    /**
+     * Returns the distribution of the d20 face used by a Roll, accounting for advantage and disadvantage in the same way
+     * as <code>Roll.roll()</code>.
+     *
+     * @param hasAdvantage whether the roll has advantage
+     * @param hasDisadvantage whether the roll has disadvantage
+     * @return a Distribution
+     */
+    public static Distribution d20(boolean hasAdvantage, boolean hasDisadvantage) {
+        if (hasAdvantage == hasDisadvantage) {
+            return D20;
+        }
+        return hasAdvantage ? D20_ADVANTAGE : D20_DISADVANTAGE;
+    }
+
+    /**
+     * Returns the distribution of the total of a pool of identical dice.
+     *
+     * @param size the size of each die
+     * @param count the number of dice
+     * @param modifiers the modifiers applied to each die
+     * @return a Distribution
+     */
+    public static Distribution dice(int size, int count, DiceModifiers modifiers) {
+        return dice(new DiceSignature(size, count, modifiers));
+    }
+
+    /**
+     * Returns the distribution of the total of a pool of identical dice.
+     *
+     * @param signature the signature of the dice
+     * @return a Distribution
+     */
+    public static Distribution dice(DiceSignature signature) {
+        Distribution distribution;
+        synchronized (DICE_CACHE) {
+            distribution = DICE_CACHE.get(signature);
+        }
+        if (distribution == null) {
+            // computed outside of the lock, so that other threads are not blocked by the convolution
+            distribution = signature.count() == 1
+                    ? die(signature.size(), signature.modifiers())
+                    : dice(signature.size(), 1, signature.modifiers()).times(signature.count());
+            synchronized (DICE_CACHE) {
+                DICE_CACHE.putIfAbsent(signature, distribution);
+            }
+        }
+        return distribution;
+    }
+
+    /**
+     * Returns the number of dice distributions currently cached.
+     *
+     * @return the number of cached distributions
+     */
+    static int getCachedDiceCount() {
+        synchronized (DICE_CACHE) {
+            return DICE_CACHE.size();
+        }
+    }
+
+    /**
+     * Returns the probabilities of each outcome of an attack roll with a fixed bonus.
+     *
+     * @param bonus the total bonus of the attack roll
+     * @param armorClass the armor class of the target
+     * @param criticalHitThreshold the lowest d20 face which scores a critical hit
+     * @param hasAdvantage whether the attack roll has advantage
+     * @param hasDisadvantage whether the attack roll has disadvantage
+     * @return an AttackOdds
+     */
+    public static AttackOdds attack(int bonus, int armorClass, int criticalHitThreshold, boolean hasAdvantage, boolean hasDisadvantage) {
+        return attack(Distribution.constant(bonus), armorClass, criticalHitThreshold, hasAdvantage, hasDisadvantage);
+    }
+
+    /**
+     * Returns the probabilities of each outcome of an attack roll whose bonus may include dice. As in
+     * <code>AttackRoll.run(...)</code>, a d20 face at or above the critical hit threshold is a critical hit, a face of
+     * 1 is a miss, and any other face hits if the total matches or beats the target's armor class.
+     *
+     * @param bonus the distribution of the total bonus of the attack roll
+     * @param armorClass the armor class of the target
+     * @param criticalHitThreshold the lowest d20 face which scores a critical hit
+     * @param hasAdvantage whether the attack roll has advantage
+     * @param hasDisadvantage whether the attack roll has disadvantage
+     * @return an AttackOdds
+     */
+    public static AttackOdds attack(Distribution bonus, int armorClass, int criticalHitThreshold, boolean hasAdvantage, boolean hasDisadvantage) {
+        Distribution d20 = d20(hasAdvantage, hasDisadvantage);
+        double hit = 0.0;
+        double criticalHit = 0.0;
+        for (int face = 1; face <= 20; face++) {
+            double probability = d20.probability(face);
+            if (face >= criticalHitThreshold) {
+                criticalHit += probability;
+            } else if (face != 1) {
+                hit += probability * bonus.probabilityAtLeast(armorClass - face);
+            }
+        }
+        return new AttackOdds(1.0 - hit - criticalHit, hit, criticalHit);
+    }
+
+    /**
+     * Returns the probability that a saving throw with a fixed bonus fails.
+     *
+     * @param bonus the total bonus of the saving throw
+     * @param difficultyClass the difficulty class of the saving throw
+     * @param hasAdvantage whether the saving throw has advantage
+     * @param hasDisadvantage whether the saving throw has disadvantage
+     * @return the probability of failure
+     */
+    public static double savingThrowFailure(int bonus, int difficultyClass, boolean hasAdvantage, boolean hasDisadvantage) {
+        return savingThrowFailure(Distribution.constant(bonus), difficultyClass, hasAdvantage, hasDisadvantage);
+    }
+
+    /**
+     * Returns the probability that a saving throw whose bonus may include dice fails. As in
+     * <code>SavingThrow.run(...)</code>, the saving throw fails if its total is below the difficulty class.
+     *
+     * @param bonus the distribution of the total bonus of the saving throw
+     * @param difficultyClass the difficulty class of the saving throw
+     * @param hasAdvantage whether the saving throw has advantage
+     * @param hasDisadvantage whether the saving throw has disadvantage
+     * @return the probability of failure
+     */
+    public static double savingThrowFailure(Distribution bonus, int difficultyClass, boolean hasAdvantage, boolean hasDisadvantage) {
+        return d20(hasAdvantage, hasDisadvantage).plus(bonus).probabilityBelow(difficultyClass);
+    }
+
+    /**
+     * Returns the distribution of the total damage described by a damage array, as produced by a DamageCollection or
+     * stored in a DamageRoll before its dice are rolled. Each typed damage entry is totaled and scaled in the same way
+     * as <code>DamageDelivery</code>, and <code>"half"</code> damage is halved per damage type.
+     *
+     * @param damage a JsonArray of typed damage entries
+     * @param modifiers the modifiers applied to every die
+     * @param damageProportion <code>"all"</code>, <code>"half"</code>, or <code>"none"</code>
+     * @return a Distribution
+     */
+    public static Distribution damage(JsonArray damage, DiceModifiers modifiers, String damageProportion) {
+        if ("none".equals(damageProportion)) {
+            return Distribution.constant(0);
+        }
+        Map<String, Distribution> damageByType = new HashMap<>();
+        for (int i = 0; i < damage.size(); i++) {
+            JsonObject damageJson = damage.getJsonObject(i);
+            JsonObject scaleJson = damageJson.getJsonObject("scale");
+            Distribution total = typedDamage(damageJson, modifiers)
+                    .plus(damageByType.getOrDefault(damageJson.getString("damage_type"), Distribution.constant(0)));
+            if (scaleJson == null) {
+                damageByType.put(damageJson.getString("damage_type"), total);
+            } else {
+                damageByType.put(damageJson.getString("damage_type"), total.map(Formula.Scale.parse(scaleJson)::apply));
+            }
+        }
+        Distribution distribution = Distribution.constant(0);
+        for (Distribution typedDistribution : damageByType.values()) {
+            distribution = distribution.plus("half".equals(damageProportion)
+                    ? typedDistribution.map(value -> value / 2)
+                    : typedDistribution
+            );
+        }
+        return distribution;
+    }
+
+    /**
+     * Returns the distribution of the damage dealt by a saving throw, given its probability of failure.
+     *
+     * @param failure the probability that the saving throw fails
+     * @param damage a JsonArray of typed damage entries
+     * @param modifiers the modifiers applied to every die
+     * @param damageOnPass the proportion of damage dealt when the saving throw passes
+     * @return a Distribution
+     */
+    public static Distribution savingThrowDamage(double failure, JsonArray damage, DiceModifiers modifiers, String damageOnPass) {
+        return Distribution.mix(failure, damage(damage, modifiers, "all"), damage(damage, modifiers, damageOnPass));
+    }
+
+    /**
+     * This helper method returns the distribution of the unscaled total of a typed damage entry. Dice are grouped by
+     * size, so that each group is served by a single cached distribution.
+     *
+     * @param damageJson a typed damage entry
+     * @param modifiers the modifiers applied to every die
+     * @return a Distribution
+     */
+    private static Distribution typedDamage(JsonObject damageJson, DiceModifiers modifiers) {
+        Map<Integer, Integer> diceBySize = new TreeMap<>();
+        JsonArray dice = Objects.requireNonNullElse(damageJson.getJsonArray("dice"), new JsonArray());
+        for (int i = 0; i < dice.size(); i++) {
+            JsonObject die = dice.getJsonObject(i);
+            int count = Objects.requireNonNullElse(die.getInteger("count"), 1);
+            diceBySize.merge(die.getInteger("size"), count, Integer::sum);
+        }
+        Distribution distribution = Distribution.constant(Objects.requireNonNullElse(damageJson.getInteger("bonus"), 0));
+        for (Map.Entry<Integer, Integer> diceEntry : diceBySize.entrySet()) {
+            distribution = distribution.plus(dice(diceEntry.getKey(), diceEntry.getValue(), modifiers));
+        }
+        return distribution;
+    }
+
+    /**
+     * This helper method returns the distribution of a single die after modifiers are applied.
+     *
+     * @param size the size of the die
+     * @param modifiers the modifiers applied to the die
+     * @return a Distribution
+     */
+    private static Distribution die(int size, DiceModifiers modifiers) {
+        if (modifiers.maximize()) {
+            return Distribution.constant(size);
+        }
+        int rerolled = Math.max(0, Math.min(modifiers.rerollMatchingOrBelow(), size));
+        double face = 1.0 / size;
+        double[] probabilities = new double[size];
+        for (int value = 1; value <= size; value++) {
+            probabilities[value - 1] = (value > rerolled ? face : 0.0) + rerolled * face * face;
+        }
+        Distribution distribution = Distribution.of(1, probabilities);
+        if (modifiers.setMatchingOrBelow() > 0) {
+            int threshold = modifiers.setMatchingOrBelow();
+            int set = modifiers.set();
+            distribution = distribution.map(value -> value <= threshold ? set : value);
+        }
+        return distribution;
+    }
+
+}
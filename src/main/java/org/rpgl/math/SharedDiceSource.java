@@ -0,0 +1,34 @@
+package org.rpgl.math;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * This class is a DiceSource backed by a single thread-safe generator. Splitting this DiceSource returns itself, so
+ * every draw is made from the same generator.
+ *
+ * @author Calvin Withun
+ */
+final class SharedDiceSource implements DiceSource {
+
+    private final RandomGenerator generator;
+
+    /**
+     * Constructor for SharedDiceSource.
+     *
+     * @param generator a thread-safe RandomGenerator
+     */
+    SharedDiceSource(RandomGenerator generator) {
+        this.generator = generator;
+    }
+
+    @Override
+    public RandomGenerator generator() {
+        return this.generator;
+    }
+
+    @Override
+    public DiceSource split() {
+        return this;
+    }
+
+}
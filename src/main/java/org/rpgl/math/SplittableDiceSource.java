@@ -0,0 +1,130 @@
+package org.rpgl.math;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * This class is a DiceSource backed by a single splittable generator. Every draw from this DiceSource advances that
+ * one generator while holding its lock, so the numbers drawn depend only on the seed and on the order of the draws,
+ * never on which threads make them. A DiceSource which is drawn from in a fixed order, such as the DiceSource of a
+ * RPGLContext driven by a RPGLContextActor, is therefore fully reproducible from its seed. Draws from separate
+ * DiceSources never contend on a lock, so each RPGLContext should split its own DiceSource.
+ *
+ * @author Calvin Withun
+ */
+final class SplittableDiceSource implements DiceSource {
+
+    private final RandomGenerator.SplittableGenerator root;
+    private final RandomGenerator generator;
+
+    /**
+     * Constructor for SplittableDiceSource.
+     *
+     * @param root the generator from which every number of this DiceSource is drawn
+     */
+    SplittableDiceSource(RandomGenerator.SplittableGenerator root) {
+        this.root = root;
+        this.generator = new LockedGenerator(root);
+    }
+
+    @Override
+    public RandomGenerator generator() {
+        return this.generator;
+    }
+
+    @Override
+    public DiceSource split() {
+        synchronized (this.root) {
+            return new SplittableDiceSource(this.root.split());
+        }
+    }
+
+    /**
+     * A view of a generator which draws from it while holding its lock. Each method delegates to the same method of the
+     * generator, so that the numbers drawn are the same as those drawn from the generator directly.
+     */
+    private static final class LockedGenerator implements RandomGenerator {
+
+        private final RandomGenerator generator;
+
+        /**
+         * Constructor for LockedGenerator.
+         *
+         * @param generator the generator to be drawn from
+         */
+        LockedGenerator(RandomGenerator generator) {
+            this.generator = generator;
+        }
+
+        @Override
+        public boolean nextBoolean() {
+            synchronized (this.generator) {
+                return this.generator.nextBoolean();
+            }
+        }
+
+        @Override
+        public int nextInt() {
+            synchronized (this.generator) {
+                return this.generator.nextInt();
+            }
+        }
+
+        @Override
+        public int nextInt(int bound) {
+            synchronized (this.generator) {
+                return this.generator.nextInt(bound);
+            }
+        }
+
+        @Override
+        public int nextInt(int origin, int bound) {
+            synchronized (this.generator) {
+                return this.generator.nextInt(origin, bound);
+            }
+        }
+
+        @Override
+        public long nextLong() {
+            synchronized (this.generator) {
+                return this.generator.nextLong();
+            }
+        }
+
+        @Override
+        public long nextLong(long bound) {
+            synchronized (this.generator) {
+                return this.generator.nextLong(bound);
+            }
+        }
+
+        @Override
+        public long nextLong(long origin, long bound) {
+            synchronized (this.generator) {
+                return this.generator.nextLong(origin, bound);
+            }
+        }
+
+        @Override
+        public double nextDouble() {
+            synchronized (this.generator) {
+                return this.generator.nextDouble();
+            }
+        }
+
+        @Override
+        public double nextDouble(double bound) {
+            synchronized (this.generator) {
+                return this.generator.nextDouble(bound);
+            }
+        }
+
+        @Override
+        public double nextDouble(double origin, double bound) {
+            synchronized (this.generator) {
+                return this.generator.nextDouble(origin, bound);
+            }
+        }
+
+    }
+
+}
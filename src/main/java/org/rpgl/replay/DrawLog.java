@@ -0,0 +1,155 @@
+package org.rpgl.replay;
+
+import org.rpgl.json.JsonArray;
+import org.rpgl.json.JsonObject;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This class holds the random draws made through a recorded DiceSource, in the order they were made. A DiceSource may
+ * be split into child streams, so each DrawLog also holds the DrawLogs of the streams split from it, in the order they
+ * were split. Draws are stored as primitive longs, and are encoded in Base64 when converted to JSON.
+ *
+ * @author Calvin Withun
+ */
+public final class DrawLog {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private long[] draws;
+    private int size;
+    private final List<DrawLog> children;
+
+    public DrawLog() {
+        this(new long[INITIAL_CAPACITY], 0, new ArrayList<>());
+    }
+
+    /**
+     * Constructor for DrawLog.
+     *
+     * @param draws the recorded draws
+     * @param size the number of recorded draws
+     * @param children the DrawLogs of the streams split from this stream
+     */
+    private DrawLog(long[] draws, int size, List<DrawLog> children) {
+        this.draws = draws;
+        this.size = size;
+        this.children = children;
+    }
+
+    /**
+     * This method records a draw.
+     *
+     * @param draw the drawn value
+     */
+    synchronized void record(long draw) {
+        if (this.size == this.draws.length) {
+            this.draws = Arrays.copyOf(this.draws, this.size * 2);
+        }
+        this.draws[this.size++] = draw;
+    }
+
+    /**
+     * This method adds the DrawLog of a newly split stream.
+     *
+     * @return the new DrawLog
+     */
+    synchronized DrawLog addChild() {
+        DrawLog child = new DrawLog();
+        this.children.add(child);
+        return child;
+    }
+
+    /**
+     * Returns the number of draws recorded in this stream.
+     *
+     * @return the number of draws
+     */
+    public synchronized int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the number of draws recorded in this stream and in every stream split from it.
+     *
+     * @return the total number of draws
+     */
+    public synchronized int totalSize() {
+        int totalSize = this.size;
+        for (DrawLog child : this.children) {
+            totalSize += child.totalSize();
+        }
+        return totalSize;
+    }
+
+    /**
+     * Returns a recorded draw.
+     *
+     * @param index the index of the draw
+     * @return the drawn value
+     */
+    public synchronized long get(int index) {
+        return this.draws[index];
+    }
+
+    /**
+     * Returns the DrawLogs of the streams split from this stream, in the order they were split.
+     *
+     * @return a list of DrawLogs
+     */
+    public synchronized List<DrawLog> getChildren() {
+        return Collections.unmodifiableList(new ArrayList<>(this.children));
+    }
+
+    /**
+     * Returns the JSON representation of this DrawLog.
+     *
+     * <pre>{ "draws": "&lt;Base64&gt;", "children": [ ... ] }</pre>
+     *
+     * @return a JsonObject
+     */
+    public synchronized JsonObject toJson() {
+        ByteBuffer buffer = ByteBuffer.allocate(this.size * Long.BYTES);
+        for (int i = 0; i < this.size; i++) {
+            buffer.putLong(this.draws[i]);
+        }
+        JsonObject json = new JsonObject();
+        json.putString("draws", Base64.getEncoder().encodeToString(buffer.array()));
+        if (!this.children.isEmpty()) {
+            JsonArray children = new JsonArray();
+            for (DrawLog child : this.children) {
+                children.addJsonObject(child.toJson());
+            }
+            json.putJsonArray("children", children);
+        }
+        return json;
+    }
+
+    /**
+     * Returns a DrawLog from its JSON representation.
+     *
+     * @param json the JSON representation of a DrawLog
+     * @return a DrawLog
+     */
+    public static DrawLog fromJson(JsonObject json) {
+        ByteBuffer buffer = ByteBuffer.wrap(Base64.getDecoder().decode(json.getString("draws")));
+        long[] draws = new long[buffer.remaining() / Long.BYTES];
+        for (int i = 0; i < draws.length; i++) {
+            draws[i] = buffer.getLong();
+        }
+        List<DrawLog> children = new ArrayList<>();
+        JsonArray childrenJson = json.getJsonArray("children");
+        if (childrenJson != null) {
+            for (int i = 0; i < childrenJson.size(); i++) {
+                children.add(fromJson(childrenJson.getJsonObject(i)));
+            }
+        }
+        return new DrawLog(draws, draws.length, children);
+    }
+
+}
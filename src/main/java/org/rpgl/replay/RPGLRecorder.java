@@ -0,0 +1,131 @@
+package org.rpgl.replay;
+
+import org.rpgl.core.RPGLContext;
+import org.rpgl.core.RPGLEvent;
+import org.rpgl.core.RPGLObject;
+import org.rpgl.core.RPGLResource;
+import org.rpgl.json.JsonArray;
+import org.rpgl.math.Die;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class records an encounter so that it can be replayed exactly, such as to reproduce a bug reported from
+ * production or to benchmark a real encounter offline. When a recorder is created, it takes a snapshot of the
+ * UUIDTable and of its context, and replaces the context's DiceSource with one which records every draw made through
+ * it. Top-level calls made through the recorder are then logged, along with the draws they make, into a ReplayLog.
+ * <br>
+ * <br>
+ * Only calls made through the recorder are logged, so every change made to the recorded world after the snapshot is
+ * taken should be made through the recorder. The context's DiceSource should not be reassigned while it is recorded.
+ *
+ * @author Calvin Withun
+ */
+public class RPGLRecorder {
+
+    private final RPGLContext context;
+    private final ReplayLog log;
+
+    /**
+     * Constructor for RPGLRecorder.
+     *
+     * @param context the context of the encounter to be recorded
+     */
+    public RPGLRecorder(RPGLContext context) {
+        this.context = context;
+        this.log = new ReplayLog(ReplayLog.snapshot(context), new ArrayList<>(), new ArrayList<>(), new DrawLog());
+        context.setDiceSource(new RecordingDiceSource(context.getDiceSource(), this.log.getDraws()));
+    }
+
+    /**
+     * Returns the context of the recorded encounter.
+     *
+     * @return a RPGLContext
+     */
+    public RPGLContext getContext() {
+        return this.context;
+    }
+
+    /**
+     * Returns the log of the recorded encounter.
+     *
+     * @return a ReplayLog
+     */
+    public ReplayLog getLog() {
+        return this.log;
+    }
+
+    /**
+     * This method invokes an RPGLEvent in the same way as <code>RPGLObject.invokeEvent(...)</code>, and records the
+     * invocation.
+     *
+     * @param source the RPGLObject invoking the RPGLEvent
+     * @param originPoint the point from which the passed event emanates
+     * @param targets an array of RPGLObjects targeted by the RPGLEvent being invoked
+     * @param event the RPGLEvent being invoked
+     * @param resources a list of resources to be exhausted through the invocation of the passed event
+     *
+     * @throws Exception if an exception occurs
+     */
+    public void invokeEvent(RPGLObject source, JsonArray originPoint, RPGLObject[] targets, RPGLEvent event, List<RPGLResource> resources) throws Exception {
+        List<String> targetUuids = new ArrayList<>(targets.length);
+        for (RPGLObject target : targets) {
+            targetUuids.add(target.getUuid());
+        }
+        List<String> resourceUuids = new ArrayList<>(resources.size());
+        for (RPGLResource resource : resources) {
+            resourceUuids.add(resource.getUuid());
+        }
+        this.record(new ReplayStep.InvokeEvent(
+                source.getUuid(),
+                originPoint.deepClone(),
+                targetUuids,
+                event.deepClone(),
+                resourceUuids
+        ));
+    }
+
+    /**
+     * This method moves a RPGLObject in the same way as <code>RPGLObject.move(...)</code>, and records the movement.
+     *
+     * @param object the RPGLObject being moved
+     * @param destination the destination of the movement
+     *
+     * @throws Exception if an exception occurs
+     */
+    public void move(RPGLObject object, JsonArray destination) throws Exception {
+        this.record(new ReplayStep.Move(object.getUuid(), destination.deepClone()));
+    }
+
+    /**
+     * This method equips a RPGLItem in the same way as <code>RPGLObject.equipItem(...)</code>, and records the
+     * equipment.
+     *
+     * @param object the RPGLObject equipping the item
+     * @param itemUuid the UUID of the RPGLItem being equipped
+     * @param equipmentSlot the slot the item is equipped to
+     *
+     * @throws Exception if an exception occurs
+     */
+    public void equipItem(RPGLObject object, String itemUuid, String equipmentSlot) throws Exception {
+        this.record(new ReplayStep.EquipItem(object.getUuid(), itemUuid, equipmentSlot));
+    }
+
+    /**
+     * This helper method executes a step and records it. A step which fails is still recorded, since the draws it made
+     * before failing must be replayed as well.
+     *
+     * @param step the step to be executed
+     *
+     * @throws Exception if an exception occurs
+     */
+    private void record(ReplayStep step) throws Exception {
+        try (Die.Binding ignored = Die.bind(this.context.getDiceSource())) {
+            step.execute(this.context);
+        } finally {
+            this.log.addStep(step, this.log.getDraws().totalSize());
+        }
+    }
+
+}
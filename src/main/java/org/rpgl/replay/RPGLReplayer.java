@@ -0,0 +1,165 @@
+package org.rpgl.replay;
+
+import org.rpgl.core.RPGLContext;
+import org.rpgl.core.RPGLRuntime;
+import org.rpgl.exception.ReplayDivergenceException;
+import org.rpgl.math.Die;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.function.Supplier;
+
+/**
+ * This class replays an encounter recorded by a RPGLRecorder. The snapshot of the recording is restored into a fork of
+ * the RPGLRuntime which was current when the replayer was created, and its steps are re-executed with the recorded
+ * draws in place of random numbers, so the replayed encounter unfolds exactly as it was recorded. Steps are executed
+ * at full speed, and the replay may be moved to any step: moving backwards restores the snapshot into a new fork and
+ * replays the steps leading up to the requested one.
+ * <br>
+ * <br>
+ * The runtime a replayer is created in should have the same datapacks loaded, and the same dice testing setting, as
+ * the runtime the encounter was recorded in.
+ *
+ * @author Calvin Withun
+ */
+public class RPGLReplayer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RPGLReplayer.class);
+
+    private final ReplayLog log;
+    private final RPGLRuntime parentRuntime;
+    private final Supplier<RPGLContext> contextFactory;
+    private RPGLRuntime runtime;
+    private RPGLContext context;
+    private ReplayDiceSource diceSource;
+    private int position;
+
+    /**
+     * Constructor for RPGLReplayer. The passed context factory is called with the replay's runtime bound each time
+     * the snapshot is restored, and must return a new, empty context.
+     *
+     * @param log the log of a recorded encounter
+     * @param contextFactory a factory for the contexts in which the encounter is replayed
+     */
+    public RPGLReplayer(ReplayLog log, Supplier<RPGLContext> contextFactory) {
+        this.log = log;
+        this.parentRuntime = RPGLRuntime.current();
+        this.contextFactory = contextFactory;
+        this.restore();
+    }
+
+    /**
+     * Returns the runtime in which the encounter is being replayed. This runtime must be bound to read the replayed
+     * world through the UUIDTable.
+     *
+     * @return a RPGLRuntime
+     */
+    public RPGLRuntime getRuntime() {
+        return this.runtime;
+    }
+
+    /**
+     * Returns the context in which the encounter is being replayed.
+     *
+     * @return a RPGLContext
+     */
+    public RPGLContext getContext() {
+        return this.context;
+    }
+
+    /**
+     * Returns the number of steps which have been replayed.
+     *
+     * @return the index of the next step to be replayed
+     */
+    public int getPosition() {
+        return this.position;
+    }
+
+    /**
+     * Returns the number of recorded steps.
+     *
+     * @return the number of steps
+     */
+    public int size() {
+        return this.log.getSteps().size();
+    }
+
+    /**
+     * This method restores the recorded snapshot into a new fork of the runtime, and moves the replay back to its
+     * first step.
+     */
+    public void restore() {
+        RPGLRuntime runtime = this.parentRuntime.fork();
+        try (RPGLRuntime.Binding ignored = runtime.bind()) {
+            RPGLContext context = this.contextFactory.get();
+            this.log.restoreSnapshot(context);
+            this.diceSource = new ReplayDiceSource(this.log.getDraws());
+            context.setDiceSource(this.diceSource);
+            this.runtime = runtime;
+            this.context = context;
+            this.position = 0;
+        }
+    }
+
+    /**
+     * This method replays the next step.
+     *
+     * @return true if a step was replayed, or false if every step has already been replayed
+     *
+     * @throws Exception if an exception occurs
+     * @throws ReplayDivergenceException if the step did not make the same number of draws it made when recorded
+     */
+    public boolean step() throws Exception {
+        if (this.position >= this.size()) {
+            return false;
+        }
+        int step = this.position++;
+        try (RPGLRuntime.Binding ignoredRuntime = this.runtime.bind();
+             Die.Binding ignoredDice = Die.bind(this.diceSource)) {
+            this.log.getSteps().get(step).execute(this.context);
+        } finally {
+            int drawMark = this.log.getDrawMark(step);
+            if (this.diceSource.getDrawCount() != drawMark) {
+                ReplayDivergenceException e = new ReplayDivergenceException(String.format(
+                        "step %d made %d draws by its end when recorded, but %d when replayed",
+                        step, drawMark, this.diceSource.getDrawCount()
+                ));
+                LOGGER.error(e.getMessage());
+                throw e;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * This method moves the replay to a step, so that every step before it has been replayed.
+     *
+     * @param step the index of the step to be replayed next
+     *
+     * @throws Exception if an exception occurs
+     */
+    public void seek(int step) throws Exception {
+        if (step < 0 || step > this.size()) {
+            IndexOutOfBoundsException e = new IndexOutOfBoundsException("no step " + step + " in a replay of " + this.size() + " steps");
+            LOGGER.error(e.getMessage());
+            throw e;
+        }
+        if (step < this.position) {
+            this.restore();
+        }
+        while (this.position < step) {
+            this.step();
+        }
+    }
+
+    /**
+     * This method replays every remaining step.
+     *
+     * @throws Exception if an exception occurs
+     */
+    public void replayAll() throws Exception {
+        this.seek(this.size());
+    }
+
+}
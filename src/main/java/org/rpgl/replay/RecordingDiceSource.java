@@ -0,0 +1,56 @@
+package org.rpgl.replay;
+
+import org.rpgl.math.DiceSource;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * This class is a DiceSource which records every draw made through it into a DrawLog, while drawing from another
+ * DiceSource. Streams split from a RecordingDiceSource are recorded as children of its DrawLog.
+ * <br>
+ * <br>
+ * Every draw is made through <code>RandomGenerator.nextLong()</code>, from which the generator's other methods derive
+ * their values, so that a ReplayDiceSource produces identical rolls from the recorded longs alone.
+ *
+ * @author Calvin Withun
+ */
+final class RecordingDiceSource implements DiceSource {
+
+    private final DiceSource delegate;
+    private final DrawLog drawLog;
+    private final RandomGenerator generator;
+
+    /**
+     * Constructor for RecordingDiceSource.
+     *
+     * @param delegate the DiceSource from which draws are made
+     * @param drawLog the DrawLog into which draws are recorded
+     */
+    RecordingDiceSource(DiceSource delegate, DrawLog drawLog) {
+        this.delegate = delegate;
+        this.drawLog = drawLog;
+        this.generator = this::nextDraw;
+    }
+
+    @Override
+    public RandomGenerator generator() {
+        return this.generator;
+    }
+
+    @Override
+    public DiceSource split() {
+        return new RecordingDiceSource(this.delegate.split(), this.drawLog.addChild());
+    }
+
+    /**
+     * This helper method draws a value from the delegate DiceSource and records it.
+     *
+     * @return the drawn value
+     */
+    private long nextDraw() {
+        long draw = this.delegate.generator().nextLong();
+        this.drawLog.record(draw);
+        return draw;
+    }
+
+}
@@ -0,0 +1,97 @@
+package org.rpgl.replay;
+
+import org.rpgl.exception.ReplayDivergenceException;
+import org.rpgl.math.DiceSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.random.RandomGenerator;
+
+/**
+ * This class is a DiceSource which reproduces the draws recorded in a DrawLog, in the order they were recorded. Streams
+ * split from a ReplayDiceSource reproduce the children of its DrawLog, in the order they were split.
+ *
+ * @author Calvin Withun
+ */
+final class ReplayDiceSource implements DiceSource {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReplayDiceSource.class);
+
+    private final DrawLog drawLog;
+    private final List<DrawLog> children;
+    private final RandomGenerator generator;
+    private final AtomicInteger drawCount;
+    private int drawIndex;
+    private int childIndex;
+
+    /**
+     * Constructor for ReplayDiceSource.
+     *
+     * @param drawLog the DrawLog to be reproduced
+     */
+    ReplayDiceSource(DrawLog drawLog) {
+        this(drawLog, new AtomicInteger());
+    }
+
+    /**
+     * Constructor for ReplayDiceSource.
+     *
+     * @param drawLog the DrawLog to be reproduced
+     * @param drawCount the number of draws reproduced so far by this stream's whole tree of streams
+     */
+    private ReplayDiceSource(DrawLog drawLog, AtomicInteger drawCount) {
+        this.drawLog = drawLog;
+        this.children = drawLog.getChildren();
+        this.generator = this::nextDraw;
+        this.drawCount = drawCount;
+        this.drawIndex = 0;
+        this.childIndex = 0;
+    }
+
+    @Override
+    public RandomGenerator generator() {
+        return this.generator;
+    }
+
+    @Override
+    public synchronized DiceSource split() {
+        if (this.childIndex >= this.children.size()) {
+            ReplayDivergenceException e = new ReplayDivergenceException(
+                    "replay split more dice streams than were recorded (" + this.children.size() + ")"
+            );
+            LOGGER.error(e.getMessage());
+            throw e;
+        }
+        return new ReplayDiceSource(this.children.get(this.childIndex++), this.drawCount);
+    }
+
+    /**
+     * Returns the number of recorded draws which have been reproduced so far, by this stream and by every stream split
+     * from it.
+     *
+     * @return the number of reproduced draws
+     */
+    int getDrawCount() {
+        return this.drawCount.get();
+    }
+
+    /**
+     * This helper method reproduces the next recorded draw.
+     *
+     * @return the drawn value
+     */
+    private synchronized long nextDraw() {
+        if (this.drawIndex >= this.drawLog.size()) {
+            ReplayDivergenceException e = new ReplayDivergenceException(
+                    "replay drew more random numbers than were recorded (" + this.drawLog.size() + ")"
+            );
+            LOGGER.error(e.getMessage());
+            throw e;
+        }
+        this.drawCount.incrementAndGet();
+        return this.drawLog.get(this.drawIndex++);
+    }
+
+}
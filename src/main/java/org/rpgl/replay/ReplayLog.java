@@ -0,0 +1,243 @@
+package org.rpgl.replay;
+
+import org.rpgl.core.RPGLContext;
+import org.rpgl.core.RPGLEffect;
+import org.rpgl.core.RPGLItem;
+import org.rpgl.core.RPGLObject;
+import org.rpgl.core.RPGLResource;
+import org.rpgl.core.RPGLRuntime;
+import org.rpgl.json.JsonArray;
+import org.rpgl.json.JsonObject;
+import org.rpgl.uuidtable.UUIDTable;
+import org.rpgl.uuidtable.UUIDTableElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * This class is the log of a recorded encounter. It holds a snapshot of the UUIDTable and of the context taken when
+ * recording began, the top-level calls made during the recording, and every random draw made by those calls. The
+ * number of draws made by each step is logged as well, so that a replay which stops following its recording is
+ * detected at the step where it diverged.
+ *
+ * @author Calvin Withun
+ */
+public class ReplayLog {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReplayLog.class);
+
+    private final JsonObject snapshot;
+    private final List<ReplayStep> steps;
+    private final List<Integer> drawMarks;
+    private final DrawLog draws;
+
+    /**
+     * Constructor for ReplayLog.
+     *
+     * @param snapshot a snapshot of the UUIDTable and of the context's objects
+     * @param steps the recorded steps
+     * @param drawMarks the total number of draws made once each step was complete
+     * @param draws the recorded draws
+     */
+    ReplayLog(JsonObject snapshot, List<ReplayStep> steps, List<Integer> drawMarks, DrawLog draws) {
+        this.snapshot = snapshot;
+        this.steps = steps;
+        this.drawMarks = drawMarks;
+        this.draws = draws;
+    }
+
+    /**
+     * Returns the recorded steps, in the order they were made.
+     *
+     * @return a list of ReplaySteps
+     */
+    public List<ReplayStep> getSteps() {
+        return Collections.unmodifiableList(this.steps);
+    }
+
+    /**
+     * Returns the recorded draws.
+     *
+     * @return a DrawLog
+     */
+    public DrawLog getDraws() {
+        return this.draws;
+    }
+
+    /**
+     * Returns the total number of draws made once a step was complete, including draws from split streams.
+     *
+     * @param step the index of a step
+     * @return the number of draws
+     */
+    int getDrawMark(int step) {
+        return this.drawMarks.get(step);
+    }
+
+    /**
+     * This method records a step.
+     *
+     * @param step the step
+     * @param drawMark the total number of draws made once the step was complete
+     */
+    void addStep(ReplayStep step, int drawMark) {
+        this.steps.add(step);
+        this.drawMarks.add(drawMark);
+    }
+
+    /**
+     * Returns the JSON representation of this ReplayLog.
+     *
+     * <pre>{ "snapshot": { ... }, "steps": [ ... ], "draw_marks": [ ... ], "draws": { ... } }</pre>
+     *
+     * @return a JsonObject
+     */
+    public JsonObject toJson() {
+        JsonArray steps = new JsonArray();
+        for (ReplayStep step : this.steps) {
+            steps.addJsonObject(step.toJson());
+        }
+        JsonObject json = new JsonObject();
+        json.putJsonObject("snapshot", this.snapshot.deepClone());
+        json.putJsonArray("steps", steps);
+        json.putJsonArray("draw_marks", new JsonArray(new ArrayList<>(this.drawMarks)));
+        json.putJsonObject("draws", this.draws.toJson());
+        return json;
+    }
+
+    /**
+     * Returns a ReplayLog from its JSON representation.
+     *
+     * @param json the JSON representation of a ReplayLog
+     * @return a ReplayLog
+     */
+    public static ReplayLog fromJson(JsonObject json) {
+        List<ReplayStep> steps = new ArrayList<>();
+        JsonArray stepsJson = json.getJsonArray("steps");
+        for (int i = 0; i < stepsJson.size(); i++) {
+            steps.add(stepFromJson(stepsJson.getJsonObject(i)));
+        }
+        List<Integer> drawMarks = new ArrayList<>();
+        JsonArray drawMarksJson = json.getJsonArray("draw_marks");
+        for (int i = 0; i < drawMarksJson.size(); i++) {
+            drawMarks.add(drawMarksJson.getInteger(i));
+        }
+        return new ReplayLog(json.getJsonObject("snapshot"), steps, drawMarks, DrawLog.fromJson(json.getJsonObject("draws")));
+    }
+
+    /**
+     * This method takes a snapshot of every UUIDTableElement in the current runtime's UUIDTable, and of the order of
+     * the RPGLObjects in a context.
+     *
+     * @param context a RPGLContext
+     * @return a snapshot
+     */
+    static JsonObject snapshot(RPGLContext context) {
+        JsonArray effects = new JsonArray();
+        JsonArray items = new JsonArray();
+        JsonArray objects = new JsonArray();
+        JsonArray resources = new JsonArray();
+        for (UUIDTableElement element : RPGLRuntime.current().getUuidTable().values()) {
+            if (element instanceof RPGLEffect) {
+                effects.addJsonObject(element.deepClone());
+            } else if (element instanceof RPGLItem) {
+                items.addJsonObject(element.deepClone());
+            } else if (element instanceof RPGLObject) {
+                objects.addJsonObject(element.deepClone());
+            } else if (element instanceof RPGLResource) {
+                resources.addJsonObject(element.deepClone());
+            }
+        }
+        JsonArray contextObjects = new JsonArray();
+        for (RPGLObject object : context.getContextObjects()) {
+            contextObjects.addString(object.getUuid());
+        }
+
+        JsonObject snapshot = new JsonObject();
+        snapshot.putJsonArray("effects", effects);
+        snapshot.putJsonArray("items", items);
+        snapshot.putJsonArray("objects", objects);
+        snapshot.putJsonArray("resources", resources);
+        snapshot.putJsonArray("context", contextObjects);
+        return snapshot;
+    }
+
+    /**
+     * This method restores the snapshot of this log into the current runtime's UUIDTable, and adds the snapshot's
+     * context objects to a context. The UUIDTable should not already hold any of the snapshot's UUIDs.
+     *
+     * @param context a RPGLContext
+     */
+    void restoreSnapshot(RPGLContext context) {
+        restoreElements(this.snapshot.getJsonArray("effects"), RPGLEffect::new);
+        restoreElements(this.snapshot.getJsonArray("items"), RPGLItem::new);
+        restoreElements(this.snapshot.getJsonArray("objects"), RPGLObject::new);
+        restoreElements(this.snapshot.getJsonArray("resources"), RPGLResource::new);
+        JsonArray contextObjects = this.snapshot.getJsonArray("context");
+        for (int i = 0; i < contextObjects.size(); i++) {
+            context.add(UUIDTable.getObject(contextObjects.getString(i)));
+        }
+    }
+
+    /**
+     * This helper method registers copies of snapshot elements with the UUIDTable.
+     *
+     * @param elements the snapshot data of each element
+     * @param constructor a constructor for the type of the elements
+     */
+    private static void restoreElements(JsonArray elements, Supplier<UUIDTableElement> constructor) {
+        for (int i = 0; i < elements.size(); i++) {
+            UUIDTableElement element = constructor.get();
+            element.join(elements.getJsonObject(i));
+            UUIDTable.register(element);
+        }
+    }
+
+    /**
+     * This helper method returns a step from its JSON representation.
+     *
+     * @param json the JSON representation of a step
+     * @return a ReplayStep
+     */
+    private static ReplayStep stepFromJson(JsonObject json) {
+        return switch (json.getString("step")) {
+            case "invoke_event" -> new ReplayStep.InvokeEvent(
+                    json.getString("source"),
+                    json.getJsonArray("origin_point"),
+                    uuids(json.getJsonArray("targets")),
+                    json.getJsonObject("event"),
+                    uuids(json.getJsonArray("resources"))
+            );
+            case "move" -> new ReplayStep.Move(json.getString("object"), json.getJsonArray("destination"));
+            case "equip_item" -> new ReplayStep.EquipItem(
+                    json.getString("object"),
+                    json.getString("item"),
+                    json.getString("equipment_slot")
+            );
+            default -> {
+                IllegalArgumentException e = new IllegalArgumentException("unexpected replay step: " + json);
+                LOGGER.error(e.getMessage());
+                throw e;
+            }
+        };
+    }
+
+    /**
+     * This helper method reads an array of UUIDs.
+     *
+     * @param uuidArray a JsonArray of UUIDs
+     * @return a list of UUIDs
+     */
+    private static List<String> uuids(JsonArray uuidArray) {
+        List<String> uuids = new ArrayList<>(uuidArray.size());
+        for (int i = 0; i < uuidArray.size(); i++) {
+            uuids.add(uuidArray.getString(i));
+        }
+        return uuids;
+    }
+
+}
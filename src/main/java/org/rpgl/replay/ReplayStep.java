@@ -0,0 +1,129 @@
+package org.rpgl.replay;
+
+import org.rpgl.core.RPGLContext;
+import org.rpgl.core.RPGLEvent;
+import org.rpgl.core.RPGLObject;
+import org.rpgl.core.RPGLResource;
+import org.rpgl.json.JsonArray;
+import org.rpgl.json.JsonObject;
+import org.rpgl.uuidtable.UUIDTable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This interface represents a top-level call recorded by a RPGLRecorder. Steps refer to RPGLObjects, RPGLItems, and
+ * RPGLResources by UUID, so they may be re-executed against a restored snapshot of the UUIDTable.
+ *
+ * @author Calvin Withun
+ */
+public sealed interface ReplayStep permits ReplayStep.InvokeEvent, ReplayStep.Move, ReplayStep.EquipItem {
+
+    /**
+     * A call to <code>RPGLObject.invokeEvent(...)</code>.
+     *
+     * @param sourceUuid the UUID of the RPGLObject invoking the event
+     * @param originPoint the point from which the event emanates
+     * @param targetUuids the UUIDs of the RPGLObjects targeted by the event
+     * @param event the data of the RPGLEvent, as it was before being invoked
+     * @param resourceUuids the UUIDs of the RPGLResources spent on the event
+     */
+    record InvokeEvent(String sourceUuid, JsonArray originPoint, List<String> targetUuids, JsonObject event,
+                       List<String> resourceUuids) implements ReplayStep {
+
+        @Override
+        public void execute(RPGLContext context) throws Exception {
+            RPGLObject[] targets = new RPGLObject[this.targetUuids.size()];
+            for (int i = 0; i < targets.length; i++) {
+                targets[i] = UUIDTable.getObject(this.targetUuids.get(i));
+            }
+            List<RPGLResource> resources = new ArrayList<>(this.resourceUuids.size());
+            for (String resourceUuid : this.resourceUuids) {
+                resources.add(UUIDTable.getResource(resourceUuid));
+            }
+            RPGLEvent event = new RPGLEvent();
+            event.join(this.event);
+            UUIDTable.getObject(this.sourceUuid).invokeEvent(this.originPoint.deepClone(), targets, event, resources, context);
+        }
+
+        @Override
+        public JsonObject toJson() {
+            JsonObject json = new JsonObject();
+            json.putString("step", "invoke_event");
+            json.putString("source", this.sourceUuid);
+            json.putJsonArray("origin_point", this.originPoint.deepClone());
+            json.putJsonArray("targets", new JsonArray(new ArrayList<>(this.targetUuids)));
+            json.putJsonObject("event", this.event.deepClone());
+            json.putJsonArray("resources", new JsonArray(new ArrayList<>(this.resourceUuids)));
+            return json;
+        }
+
+    }
+
+    /**
+     * A call to <code>RPGLObject.move(...)</code>.
+     *
+     * @param objectUuid the UUID of the moving RPGLObject
+     * @param destination the destination of the movement
+     */
+    record Move(String objectUuid, JsonArray destination) implements ReplayStep {
+
+        @Override
+        public void execute(RPGLContext context) throws Exception {
+            UUIDTable.getObject(this.objectUuid).move(context, this.destination.deepClone());
+        }
+
+        @Override
+        public JsonObject toJson() {
+            JsonObject json = new JsonObject();
+            json.putString("step", "move");
+            json.putString("object", this.objectUuid);
+            json.putJsonArray("destination", this.destination.deepClone());
+            return json;
+        }
+
+    }
+
+    /**
+     * A call to <code>RPGLObject.equipItem(...)</code>.
+     *
+     * @param objectUuid the UUID of the RPGLObject equipping the item
+     * @param itemUuid the UUID of the equipped RPGLItem
+     * @param equipmentSlot the slot the item is equipped to
+     */
+    record EquipItem(String objectUuid, String itemUuid, String equipmentSlot) implements ReplayStep {
+
+        @Override
+        public void execute(RPGLContext context) {
+            UUIDTable.getObject(this.objectUuid).equipItem(this.itemUuid, this.equipmentSlot);
+        }
+
+        @Override
+        public JsonObject toJson() {
+            JsonObject json = new JsonObject();
+            json.putString("step", "equip_item");
+            json.putString("object", this.objectUuid);
+            json.putString("item", this.itemUuid);
+            json.putString("equipment_slot", this.equipmentSlot);
+            return json;
+        }
+
+    }
+
+    /**
+     * This method re-executes the recorded call.
+     *
+     * @param context the context in which the call is made
+     *
+     * @throws Exception if an exception occurs
+     */
+    void execute(RPGLContext context) throws Exception;
+
+    /**
+     * Returns the JSON representation of this step.
+     *
+     * @return a JsonObject
+     */
+    JsonObject toJson();
+
+}
@@ -0,0 +1,14 @@
+package org.rpgl.simulation;
+
+/**
+ * A combatant taking part in a simulated encounter. Each run of a simulation creates a new RPGLObject from the
+ * combatant's object ID, assigning the combatant's team as the object's user ID.
+ *
+ * @param objectId the ID of the RPGLObject template from which the combatant is created
+ * @param team the team the combatant fights for
+ * @param policy the policy deciding what the combatant does on its turn
+ *
+ * @author Calvin Withun
+ */
+public record Combatant(String objectId, String team, TurnPolicy policy) {
+}
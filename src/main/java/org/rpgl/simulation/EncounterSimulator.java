@@ -0,0 +1,280 @@
+package org.rpgl.simulation;
+
+import org.rpgl.core.RPGLFactory;
+import org.rpgl.core.RPGLObject;
+import org.rpgl.core.RPGLRuntime;
+import org.rpgl.math.DiceSource;
+import org.rpgl.math.Die;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * This class runs Monte Carlo simulations of encounters between teams of combatants. Each run of a simulation takes
+ * place in its own fork of the current RPGLRuntime, so runs share datapacks but never share RPGLObjects, and runs are
+ * executed in parallel on a ForkJoinPool.
+ * <br>
+ * <br>
+ * Before any run begins, every run is given its own DiceSource, split in run order from a DiceSource seeded with the
+ * simulation's seed. Because a run draws only from its own DiceSource, and only from the thread executing it, the
+ * results of a simulation are reproducible for a given seed regardless of how many threads execute its runs.
+ * <br>
+ * <br>
+ * In each round, combatants take their turns in the order they were added to the simulator. A combatant whose current
+ * hit points have fallen to 0 or lower is skipped. Each turn begins with an InfoSubevent tagged
+ * <code>"start_turn"</code> and ends with an InfoSubevent tagged <code>"end_turn"</code>, between which the
+ * combatant's TurnPolicy takes its turn. A run ends once only one team has combatants standing, or in a draw once the
+ * maximum number of rounds has been played.
+ *
+ * @author Calvin Withun
+ */
+public class EncounterSimulator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EncounterSimulator.class);
+
+    private final List<Combatant> combatants;
+    private int runs;
+    private long seed;
+    private int maximumRounds;
+    private ForkJoinPool forkJoinPool;
+
+    public EncounterSimulator() {
+        this.combatants = new ArrayList<>();
+        this.runs = 1000;
+        this.seed = 0L;
+        this.maximumRounds = 100;
+        this.forkJoinPool = ForkJoinPool.commonPool();
+    }
+
+    /**
+     * Adds a combatant to the simulated encounter.
+     *
+     * @param objectId the ID of the RPGLObject template from which the combatant is created
+     * @param team the team the combatant fights for
+     * @param policy the policy deciding what the combatant does on its turn
+     * @return this EncounterSimulator
+     */
+    @SuppressWarnings("UnusedReturnValue")
+    public EncounterSimulator addCombatant(String objectId, String team, TurnPolicy policy) {
+        this.combatants.add(new Combatant(objectId, team, policy));
+        return this;
+    }
+
+    /**
+     * Returns the combatants taking part in the simulated encounter, in turn order.
+     *
+     * @return a list of Combatants
+     */
+    public List<Combatant> getCombatants() {
+        return Collections.unmodifiableList(this.combatants);
+    }
+
+    /**
+     * Setter for runs.
+     *
+     * @param runs the number of times the encounter is simulated
+     * @return this EncounterSimulator
+     */
+    @SuppressWarnings("UnusedReturnValue")
+    public EncounterSimulator setRuns(int runs) {
+        this.runs = runs;
+        return this;
+    }
+
+    /**
+     * Getter for runs.
+     *
+     * @return the number of times the encounter is simulated
+     */
+    public int getRuns() {
+        return this.runs;
+    }
+
+    /**
+     * Setter for seed.
+     *
+     * @param seed the seed from which every run's DiceSource is derived
+     * @return this EncounterSimulator
+     */
+    @SuppressWarnings("UnusedReturnValue")
+    public EncounterSimulator setSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    /**
+     * Getter for seed.
+     *
+     * @return the seed from which every run's DiceSource is derived
+     */
+    public long getSeed() {
+        return this.seed;
+    }
+
+    /**
+     * Setter for maximumRounds.
+     *
+     * @param maximumRounds the number of rounds after which a run ends in a draw
+     * @return this EncounterSimulator
+     */
+    @SuppressWarnings("UnusedReturnValue")
+    public EncounterSimulator setMaximumRounds(int maximumRounds) {
+        this.maximumRounds = maximumRounds;
+        return this;
+    }
+
+    /**
+     * Getter for maximumRounds.
+     *
+     * @return the number of rounds after which a run ends in a draw
+     */
+    public int getMaximumRounds() {
+        return this.maximumRounds;
+    }
+
+    /**
+     * Setter for forkJoinPool. The common pool is used by default.
+     *
+     * @param forkJoinPool the pool on which runs are executed
+     * @return this EncounterSimulator
+     */
+    @SuppressWarnings("UnusedReturnValue")
+    public EncounterSimulator setForkJoinPool(ForkJoinPool forkJoinPool) {
+        this.forkJoinPool = forkJoinPool;
+        return this;
+    }
+
+    /**
+     * Getter for forkJoinPool.
+     *
+     * @return the pool on which runs are executed
+     */
+    public ForkJoinPool getForkJoinPool() {
+        return this.forkJoinPool;
+    }
+
+    /**
+     * This method simulates the encounter, forking the RPGLRuntime bound to the calling thread once per run. Dice are
+     * never rolled in testing mode during a simulation.
+     *
+     * @return a SimulationResult
+     *
+     * @throws Exception if an exception occurs
+     */
+    public SimulationResult simulate() throws Exception {
+        RPGLRuntime runtime = RPGLRuntime.current();
+        DiceSource diceSource = DiceSource.seeded(this.seed);
+        List<ForkJoinTask<SimulationResult.RunResult>> tasks = new ArrayList<>(this.runs);
+        for (int i = 0; i < this.runs; i++) {
+            RPGLRuntime fork = runtime.fork()
+                    .setDiceSource(diceSource.split())
+                    .setDieTesting(false);
+            tasks.add(this.forkJoinPool.submit(() -> this.run(fork)));
+        }
+
+        List<SimulationResult.RunResult> runResults = new ArrayList<>(this.runs);
+        for (ForkJoinTask<SimulationResult.RunResult> task : tasks) {
+            try {
+                runResults.add(task.get());
+            } catch (ExecutionException e) {
+                LOGGER.error(e.getCause().getMessage());
+                for (ForkJoinTask<SimulationResult.RunResult> remainingTask : tasks) {
+                    remainingTask.cancel(false);
+                }
+                throw e.getCause() instanceof Exception cause ? cause : e;
+            }
+        }
+
+        Set<String> teams = new LinkedHashSet<>();
+        for (Combatant combatant : this.combatants) {
+            teams.add(combatant.team());
+        }
+        return new SimulationResult(teams, runResults);
+    }
+
+    /**
+     * Returns whether a RPGLObject is still standing, i.e. whether its current hit points are above 0.
+     *
+     * @param object a RPGLObject
+     * @return true if the passed object is still standing
+     */
+    static boolean isAlive(RPGLObject object) {
+        return object.getHealthData().getInteger("current") > 0;
+    }
+
+    /**
+     * This helper method simulates the encounter once, in the passed runtime.
+     *
+     * @param runtime the runtime in which the encounter is simulated
+     * @return the outcome of the run
+     *
+     * @throws Exception if an exception occurs
+     */
+    private SimulationResult.RunResult run(RPGLRuntime runtime) throws Exception {
+        try (RPGLRuntime.Binding ignoredRuntime = runtime.bind()) {
+            SimulationContext context = new SimulationContext();
+            try (Die.Binding ignoredDice = Die.bind(context.getDiceSource())) {
+                List<RPGLObject> objects = new ArrayList<>(this.combatants.size());
+                for (Combatant combatant : this.combatants) {
+                    RPGLObject object = RPGLFactory.newObject(combatant.objectId(), combatant.team());
+                    objects.add(object);
+                    context.add(object);
+                }
+
+                String winner = findWinner(objects);
+                int round = 0;
+                while (winner == null && round < this.maximumRounds) {
+                    round++;
+                    for (int i = 0; i < objects.size() && winner == null; i++) {
+                        RPGLObject object = objects.get(i);
+                        if (isAlive(object)) {
+                            context.setCurrentActor(object);
+                            object.invokeInfoSubevent(context, "start_turn");
+                            this.combatants.get(i).policy().takeTurn(new Turn(object, context, round));
+                            object.invokeInfoSubevent(context, "end_turn");
+                            context.setCurrentActor(null);
+                            winner = findWinner(objects);
+                        }
+                    }
+                }
+
+                return new SimulationResult.RunResult(
+                        winner,
+                        round,
+                        Collections.unmodifiableMap(new LinkedHashMap<>(context.getDamageDealt())),
+                        Collections.unmodifiableMap(new LinkedHashMap<>(context.getResourcesSpent()))
+                );
+            }
+        }
+    }
+
+    /**
+     * This helper method returns the only team with combatants still standing.
+     *
+     * @param objects the combatants of a run
+     * @return a team, or null if more than one team (or no team) has combatants standing
+     */
+    private static String findWinner(List<RPGLObject> objects) {
+        String winner = null;
+        for (RPGLObject object : objects) {
+            if (isAlive(object)) {
+                if (winner == null) {
+                    winner = object.getUserId();
+                } else if (!winner.equals(object.getUserId())) {
+                    return null;
+                }
+            }
+        }
+        return winner;
+    }
+
+}
@@ -0,0 +1,85 @@
+package org.rpgl.simulation;
+
+import org.rpgl.core.RPGLContext;
+import org.rpgl.core.RPGLObject;
+import org.rpgl.subevent.DamageDelivery;
+import org.rpgl.subevent.Subevent;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * This class is the context of a single run of a simulated encounter. It tracks whose turn it is, and tallies the
+ * damage dealt and resources spent by each team over the course of the run.
+ *
+ * @author Calvin Withun
+ */
+class SimulationContext extends RPGLContext {
+
+    private final Map<String, Integer> damageDealt;
+    private final Map<String, Integer> resourcesSpent;
+    private RPGLObject currentActor;
+
+    /**
+     * Constructor for SimulationContext.
+     */
+    SimulationContext() {
+        this.damageDealt = new LinkedHashMap<>();
+        this.resourcesSpent = new LinkedHashMap<>();
+        this.currentActor = null;
+    }
+
+    @Override
+    public boolean isObjectsTurn(RPGLObject object) {
+        return object == this.currentActor;
+    }
+
+    @Override
+    public void viewCompletedSubevent(Subevent subevent) {
+        if (subevent instanceof DamageDelivery damageDelivery && damageDelivery.getSource() != null) {
+            int damage = 0;
+            for (Map.Entry<String, Object> entry : damageDelivery.getDamage().asMap().entrySet()) {
+                damage += (Integer) entry.getValue();
+            }
+            this.damageDealt.merge(damageDelivery.getSource().getUserId(), damage, Integer::sum);
+        }
+    }
+
+    /**
+     * Sets the RPGLObject whose turn it is.
+     *
+     * @param currentActor a RPGLObject, or null
+     */
+    void setCurrentActor(RPGLObject currentActor) {
+        this.currentActor = currentActor;
+    }
+
+    /**
+     * This method records resources spent by a team.
+     *
+     * @param team a team
+     * @param count the number of resources spent
+     */
+    void addResourcesSpent(String team, int count) {
+        this.resourcesSpent.merge(team, count, Integer::sum);
+    }
+
+    /**
+     * Returns the damage dealt by each team so far.
+     *
+     * @return a map of teams to damage dealt
+     */
+    Map<String, Integer> getDamageDealt() {
+        return this.damageDealt;
+    }
+
+    /**
+     * Returns the resources spent by each team so far.
+     *
+     * @return a map of teams to resources spent
+     */
+    Map<String, Integer> getResourcesSpent() {
+        return this.resourcesSpent;
+    }
+
+}
@@ -0,0 +1,163 @@
+package org.rpgl.simulation;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * This class holds the results of a simulation. It keeps the outcome of every run, in run order, and aggregates win
+ * rates, damage dealt, and resources spent across those runs.
+ *
+ * @author Calvin Withun
+ */
+public class SimulationResult {
+
+    private final Set<String> teams;
+    private final List<RunResult> runResults;
+
+    /**
+     * The outcome of a single run of a simulated encounter.
+     *
+     * @param winner the team left standing at the end of the run, or null if the run ended in a draw
+     * @param rounds the number of rounds the run lasted
+     * @param damageDealt the damage dealt by each team
+     * @param resourcesSpent the resources spent by each team
+     */
+    public record RunResult(String winner, int rounds, Map<String, Integer> damageDealt, Map<String, Integer> resourcesSpent) {
+    }
+
+    /**
+     * Constructor for SimulationResult.
+     *
+     * @param teams the teams taking part in the simulation, in turn order
+     * @param runResults the outcome of each run, in run order
+     */
+    SimulationResult(Set<String> teams, List<RunResult> runResults) {
+        this.teams = Collections.unmodifiableSet(teams);
+        this.runResults = Collections.unmodifiableList(runResults);
+    }
+
+    /**
+     * Returns the teams taking part in the simulation, in turn order.
+     *
+     * @return a set of teams
+     */
+    public Set<String> getTeams() {
+        return this.teams;
+    }
+
+    /**
+     * Returns the outcome of each run, in run order.
+     *
+     * @return a list of RunResults
+     */
+    public List<RunResult> getRunResults() {
+        return this.runResults;
+    }
+
+    /**
+     * Returns the number of runs in the simulation.
+     *
+     * @return the number of runs
+     */
+    public int getRuns() {
+        return this.runResults.size();
+    }
+
+    /**
+     * Returns the fraction of runs won by a team.
+     *
+     * @param team a team
+     * @return the win rate of the team
+     */
+    public double getWinRate(String team) {
+        int wins = 0;
+        for (RunResult runResult : this.runResults) {
+            if (Objects.equals(runResult.winner(), team)) {
+                wins++;
+            }
+        }
+        return this.average(wins);
+    }
+
+    /**
+     * Returns the fraction of runs which ended in a draw.
+     *
+     * @return the draw rate
+     */
+    public double getDrawRate() {
+        return this.getWinRate(null);
+    }
+
+    /**
+     * Returns the average damage dealt by a team per run.
+     *
+     * @param team a team
+     * @return the average damage dealt
+     */
+    public double getAverageDamageDealt(String team) {
+        int damageDealt = 0;
+        for (RunResult runResult : this.runResults) {
+            damageDealt += runResult.damageDealt().getOrDefault(team, 0);
+        }
+        return this.average(damageDealt);
+    }
+
+    /**
+     * Returns the average number of resources spent by a team per run.
+     *
+     * @param team a team
+     * @return the average number of resources spent
+     */
+    public double getAverageResourcesSpent(String team) {
+        int resourcesSpent = 0;
+        for (RunResult runResult : this.runResults) {
+            resourcesSpent += runResult.resourcesSpent().getOrDefault(team, 0);
+        }
+        return this.average(resourcesSpent);
+    }
+
+    /**
+     * Returns the average number of rounds a run lasted.
+     *
+     * @return the average number of rounds
+     */
+    public double getAverageRounds() {
+        int rounds = 0;
+        for (RunResult runResult : this.runResults) {
+            rounds += runResult.rounds();
+        }
+        return this.average(rounds);
+    }
+
+    /**
+     * This helper method returns the average of a total over every run.
+     *
+     * @param total a total
+     * @return the average per run, or 0 if there were no runs
+     */
+    private double average(long total) {
+        return this.runResults.isEmpty() ? 0.0 : (double) total / this.runResults.size();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder("{");
+        for (String team : this.teams) {
+            stringBuilder.append("\"").append(team).append("\":{")
+                    .append("\"win_rate\":").append(this.getWinRate(team)).append(",")
+                    .append("\"average_damage_dealt\":").append(this.getAverageDamageDealt(team)).append(",")
+                    .append("\"average_resources_spent\":").append(this.getAverageResourcesSpent(team))
+                    .append("},");
+        }
+        return stringBuilder
+                .append("\"draw_rate\":").append(this.getDrawRate()).append(",")
+                .append("\"average_rounds\":").append(this.getAverageRounds()).append(",")
+                .append("\"runs\":").append(this.getRuns())
+                .append("}")
+                .toString();
+    }
+
+}
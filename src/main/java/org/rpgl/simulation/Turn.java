@@ -0,0 +1,170 @@
+package org.rpgl.simulation;
+
+import org.rpgl.core.RPGLContext;
+import org.rpgl.core.RPGLEvent;
+import org.rpgl.core.RPGLObject;
+import org.rpgl.core.RPGLResource;
+import org.rpgl.json.JsonArray;
+import org.rpgl.json.JsonObject;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * This class represents a single turn taken by a combatant in a simulated encounter. It is passed to the combatant's
+ * TurnPolicy, and provides the information and actions a policy needs to take the turn.
+ *
+ * @author Calvin Withun
+ */
+public class Turn {
+
+    private final RPGLObject actor;
+    private final SimulationContext context;
+    private final int round;
+
+    /**
+     * Constructor for Turn.
+     *
+     * @param actor the RPGLObject taking the turn
+     * @param context the context of the simulated encounter
+     * @param round the round in which the turn is taken, starting from 1
+     */
+    Turn(RPGLObject actor, SimulationContext context, int round) {
+        this.actor = actor;
+        this.context = context;
+        this.round = round;
+    }
+
+    /**
+     * Returns the RPGLObject taking the turn.
+     *
+     * @return a RPGLObject
+     */
+    public RPGLObject getActor() {
+        return this.actor;
+    }
+
+    /**
+     * Returns the context of the simulated encounter.
+     *
+     * @return a RPGLContext
+     */
+    public RPGLContext getContext() {
+        return this.context;
+    }
+
+    /**
+     * Returns the round in which the turn is taken, starting from 1.
+     *
+     * @return the round number
+     */
+    public int getRound() {
+        return this.round;
+    }
+
+    /**
+     * Returns the living combatants fighting against the actor, in turn order.
+     *
+     * @return a list of RPGLObjects
+     */
+    public List<RPGLObject> getOpponents() {
+        List<RPGLObject> opponents = new ArrayList<>();
+        for (RPGLObject object : this.context.getContextObjects()) {
+            if (!Objects.equals(object.getUserId(), this.actor.getUserId()) && EncounterSimulator.isAlive(object)) {
+                opponents.add(object);
+            }
+        }
+        return opponents;
+    }
+
+    /**
+     * Returns the living combatants fighting alongside the actor, in turn order. The actor is not included.
+     *
+     * @return a list of RPGLObjects
+     */
+    public List<RPGLObject> getAllies() {
+        List<RPGLObject> allies = new ArrayList<>();
+        for (RPGLObject object : this.context.getContextObjects()) {
+            if (object != this.actor
+                    && Objects.equals(object.getUserId(), this.actor.getUserId())
+                    && EncounterSimulator.isAlive(object)) {
+                allies.add(object);
+            }
+        }
+        return allies;
+    }
+
+    /**
+     * This method invokes one of the actor's RPGLEvents against the passed targets. For each element of the event's
+     * cost, the first unexhausted resource of the actor which satisfies that element is spent. If the actor does not
+     * have access to the event, or does not have the resources to pay for it, nothing happens.
+     *
+     * @param eventId the ID of the RPGLEvent to be invoked
+     * @param targets the targets of the RPGLEvent
+     * @return true if the event was invoked
+     *
+     * @throws Exception if an exception occurs
+     */
+    public boolean invokeEvent(String eventId, RPGLObject... targets) throws Exception {
+        RPGLEvent event = this.findEvent(eventId);
+        if (event == null) {
+            return false;
+        }
+        List<RPGLResource> resources = this.selectResources(event);
+        if (resources == null) {
+            return false;
+        }
+        this.actor.invokeEvent(this.actor.getPosition(), targets, event, resources, this.context);
+        this.context.addResourcesSpent(this.actor.getUserId(), resources.size());
+        return true;
+    }
+
+    /**
+     * This helper method returns the actor's RPGLEvent with the passed ID.
+     *
+     * @param eventId the ID of a RPGLEvent
+     * @return a RPGLEvent, or null if the actor does not have access to the event
+     *
+     * @throws Exception if an exception occurs
+     */
+    private RPGLEvent findEvent(String eventId) throws Exception {
+        for (RPGLEvent event : this.actor.getEventObjects(this.context)) {
+            if (Objects.equals(event.getId(), eventId)) {
+                return event;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * This helper method selects resources from the actor which satisfy the cost of a RPGLEvent.
+     *
+     * @param event a RPGLEvent
+     * @return a list of RPGLResources in cost order, or null if the cost cannot be satisfied
+     */
+    private List<RPGLResource> selectResources(RPGLEvent event) {
+        JsonArray cost = event.getCost();
+        List<RPGLResource> available = this.actor.getResourceObjects();
+        List<RPGLResource> selected = new ArrayList<>();
+        for (int i = 0; i < cost.size(); i++) {
+            JsonObject costElement = cost.getJsonObject(i);
+            RPGLResource match = null;
+            for (RPGLResource resource : available) {
+                if (!resource.getExhausted()
+                        && !selected.contains(resource)
+                        && resource.getTags().containsAny(costElement.getJsonArray("resource_tags").asList())
+                        && resource.getPotency() >= costElement.getInteger("minimum_potency")) {
+                    match = resource;
+                    break;
+                }
+            }
+            if (match == null) {
+                return null;
+            }
+            selected.add(match);
+        }
+        return selected;
+    }
+
+}
@@ -0,0 +1,51 @@
+package org.rpgl.simulation;
+
+import org.rpgl.core.RPGLObject;
+
+import java.util.List;
+
+/**
+ * A policy deciding what a combatant does on its turn in a simulated encounter. Policies may be scripted for a
+ * particular encounter, or may be simple policies such as those provided by this interface. Any randomness a policy
+ * needs should be drawn from <code>Die</code>, so that simulations remain reproducible from their seed.
+ *
+ * @author Calvin Withun
+ */
+@FunctionalInterface
+public interface TurnPolicy {
+
+    /**
+     * This method takes a combatant's turn.
+     *
+     * @param turn the turn being taken
+     *
+     * @throws Exception if an exception occurs
+     */
+    void takeTurn(Turn turn) throws Exception;
+
+    /**
+     * Returns a policy which does nothing on its turn.
+     *
+     * @return a TurnPolicy
+     */
+    static TurnPolicy idle() {
+        return turn -> {};
+    }
+
+    /**
+     * Returns a policy which invokes an RPGLEvent against the first living opponent on its turn, if the combatant has
+     * access to that event and the resources needed to invoke it.
+     *
+     * @param eventId the ID of the RPGLEvent to be invoked
+     * @return a TurnPolicy
+     */
+    static TurnPolicy useEvent(String eventId) {
+        return turn -> {
+            List<RPGLObject> opponents = turn.getOpponents();
+            if (!opponents.isEmpty()) {
+                turn.invokeEvent(eventId, opponents.get(0));
+            }
+        };
+    }
+
+}
@@ -61,64 +61,20 @@ public class AbilityCheck extends Roll {
     public AbilityCheck run(RPGLContext context, JsonArray originPoint) throws Exception {
         if (this.isNotCanceled()) {
             this.roll();
-            new AddBonus().execute(null, this, new JsonObject() {{
-                /*{
-                    "function": "add_bonus",
-                    "bonus": [
-                        {
-                            "formula": "modifier",
-                            "ability": <getAbility>
-                            "object": {
-                                "from": "subevent",
-                                "object": "source"
-                            }
-                        },
-                        {
-                            "formula": "proficiency",
-                            "object": {
-                                "from": "subevent",
-                                "object": "source"
-                            },
-                            "scale": {
-                                "numerator": 0 | 1 | 2,
-                                "denominator": 1 | 2,
-                                "round_up": false
-                            }
-                        }
-                    ]
-                }*/
-                this.putString("function", "add_bonus");
-                this.putJsonArray("bonus", new JsonArray() {{
-                    this.addJsonObject(new JsonObject() {{
-                        this.putString("formula", "modifier");
-                        this.putString("ability", getAbility(context));
-                        this.putJsonObject("object", new JsonObject() {{
-                            this.putString("from", "subevent");
-                            this.putString("object", "source");
-                        }});
-                    }});
-                    this.addJsonObject(new JsonObject() {{
-                        this.putString("formula", "proficiency");
-                        this.putJsonObject("object", new JsonObject() {{
-                            this.putString("from", "subevent");
-                            this.putString("object", "source");
-                        }});
-                        this.putJsonObject("scale", new JsonObject() {{
-                            this.putInteger("numerator", 0);
-                            this.putInteger("denominator", 1);
-                            this.putBoolean("round_up", false);
-                            if (json.getBoolean("has_expertise")) {
-                                this.putInteger("numerator", 2);
-                            } else if (json.getBoolean("has_proficiency")) {
-                                this.putInteger("numerator", 1);
-                            } else if (json.getBoolean("has_half_proficiency")) {
-                                this.putInteger("numerator", 1);
-                                this.putInteger("denominator", 2);
-                            }
-                        }});
-                    }});
-                }});
-            }}, context, originPoint);
+            int numerator = 0;
+            int denominator = 1;
+            if (this.json.getBoolean("has_expertise")) {
+                numerator = 2;
+            } else if (this.json.getBoolean("has_proficiency")) {
+                numerator = 1;
+            } else if (this.json.getBoolean("has_half_proficiency")) {
+                numerator = 1;
+                denominator = 2;
+            }
+            new AddBonus().execute(null, this, Formulas.addBonus(
+                    Formulas.modifier(this.getAbility(context), Formulas.subeventObject("source")),
+                    Formulas.proficiency(Formulas.subeventObject("source"), Formulas.scale(numerator, denominator, false))
+            ), context, originPoint);
         }
         return this;
     }
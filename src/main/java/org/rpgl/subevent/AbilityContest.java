@@ -4,6 +4,7 @@ import org.rpgl.core.RPGLContext;
 import org.rpgl.core.RPGLObject;
 import org.rpgl.json.JsonArray;
 import org.rpgl.json.JsonObject;
+import org.rpgl.json.JsonObjectBuilder;
 
 /**
  * This Subevent is dedicated to resolving ability contests between two objects.
@@ -90,12 +91,12 @@ public class AbilityContest extends Subevent {
      */
     int getSourceAbilityCheck(RPGLContext context, JsonArray originPoint) throws Exception {
         AbilityCheck abilityCheck = new AbilityCheck();
-        abilityCheck.joinSubeventData(new JsonObject() {{
-            this.putString("ability", json.seekString("source_check.ability"));
-            this.putString("skill", json.seekString("source_check.skill"));
-            this.putJsonArray("tags", new JsonArray(json.getJsonArray("tags").asList()));
-            this.putJsonArray("determined", json.seekJsonArray("source_check.determined"));
-        }});
+        abilityCheck.joinSubeventData(JsonObjectBuilder.createTransient()
+                .putString("ability", this.json.seekString("source_check.ability"))
+                .putString("skill", this.json.seekString("source_check.skill"))
+                .putJsonArray("tags", this.nestedTags())
+                .putJsonArray("determined", this.json.seekJsonArray("source_check.determined"))
+                .build());
         abilityCheck.setSource(super.getSource());
         abilityCheck.prepare(context, originPoint);
         abilityCheck.setTarget(super.getTarget());
@@ -113,12 +114,12 @@ public class AbilityContest extends Subevent {
      */
     int getTargetAbilityCheck(RPGLContext context, JsonArray originPoint) throws Exception {
         AbilityCheck abilityCheck = new AbilityCheck();
-        abilityCheck.joinSubeventData(new JsonObject() {{
-            this.putString("ability", json.seekString("target_check.ability"));
-            this.putString("skill", json.seekString("target_check.skill"));
-            this.putJsonArray("tags", new JsonArray(json.getJsonArray("tags").asList()));
-            this.putJsonArray("determined", json.seekJsonArray("target_check.determined"));
-        }});
+        abilityCheck.joinSubeventData(JsonObjectBuilder.createTransient()
+                .putString("ability", this.json.seekString("target_check.ability"))
+                .putString("skill", this.json.seekString("target_check.skill"))
+                .putJsonArray("tags", this.nestedTags())
+                .putJsonArray("determined", this.json.seekJsonArray("target_check.determined"))
+                .build());
         abilityCheck.setSource(super.getTarget());
         abilityCheck.prepare(context, originPoint);
         abilityCheck.setTarget(super.getSource());
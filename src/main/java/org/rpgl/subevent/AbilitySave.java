@@ -4,6 +4,7 @@ import org.rpgl.core.RPGLContext;
 import org.rpgl.core.RPGLObject;
 import org.rpgl.json.JsonArray;
 import org.rpgl.json.JsonObject;
+import org.rpgl.json.JsonObjectBuilder;
 import org.rpgl.uuidtable.UUIDTable;
 
 /**
@@ -62,12 +63,12 @@ public class AbilitySave extends Subevent {
     @Override
     public AbilitySave run(RPGLContext context, JsonArray originPoint) throws Exception {
         AbilityCheck abilityCheck = new AbilityCheck();
-        abilityCheck.joinSubeventData(new JsonObject() {{
-            this.putString("ability", json.getString("ability"));
-            this.putString("skill", json.getString("skill"));
-            this.putJsonArray("tags", new JsonArray(json.getJsonArray("tags").asList()));
-            this.putJsonArray("determined", json.getJsonArray("determined"));
-        }});
+        abilityCheck.joinSubeventData(JsonObjectBuilder.createTransient()
+                .putString("ability", this.json.getString("ability"))
+                .putString("skill", this.json.getString("skill"))
+                .putJsonArray("tags", this.nestedTags())
+                .putJsonArray("determined", this.json.getJsonArray("determined"))
+                .build());
         abilityCheck.setSource(super.getTarget());
         abilityCheck.prepare(context, originPoint);
         abilityCheck.setTarget(super.getSource());
@@ -108,15 +109,15 @@ public class AbilitySave extends Subevent {
 
         Integer difficultyClass = this.getDifficultyClass();
         if (difficultyClass == null) {
-            calculateDifficultyClass.joinSubeventData(new JsonObject() {{
-                this.putString("difficulty_class_ability", json.getString("difficulty_class_ability"));
-                this.putJsonArray("tags", json.getJsonArray("tags").deepClone());
-            }});
+            calculateDifficultyClass.joinSubeventData(JsonObjectBuilder.createTransient()
+                    .putString("difficulty_class_ability", this.json.getString("difficulty_class_ability"))
+                    .putJsonArray("tags", this.nestedTags())
+                    .build());
         } else {
-            calculateDifficultyClass.joinSubeventData(new JsonObject() {{
-                this.putInteger("difficulty_class", difficultyClass);
-                this.putJsonArray("tags", json.getJsonArray("tags").deepClone());
-            }});
+            calculateDifficultyClass.joinSubeventData(JsonObjectBuilder.createTransient()
+                    .putInteger("difficulty_class", difficultyClass)
+                    .putJsonArray("tags", this.nestedTags())
+                    .build());
         }
 
         calculateDifficultyClass.setOriginItem(super.getOriginItem());
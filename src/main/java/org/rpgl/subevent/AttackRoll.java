@@ -6,6 +6,7 @@ import org.rpgl.function.AddBonus;
 import org.rpgl.function.AddDamage;
 import org.rpgl.json.JsonArray;
 import org.rpgl.json.JsonObject;
+import org.rpgl.json.JsonObjectBuilder;
 import org.rpgl.uuidtable.UUIDTable;
 
 import java.util.ArrayList;
@@ -72,26 +73,9 @@ public class AttackRoll extends Roll {
 
         // Add weapon attack bonus, if applicable
         if (super.getOriginItem() != null) {
-            new AddBonus().execute(null, this, new JsonObject() {{
-                /*{
-                    "function": "add_bonus",
-                    "bonus": [
-                        {
-                            "formula": "range",
-                            "dice": [ ],
-                            "bonus": <origin item attack bonus>
-                        }
-                    ]
-                }*/
-                this.putString("function", "add_bonus");
-                this.putJsonArray("bonus", new JsonArray() {{
-                    this.addJsonObject(new JsonObject() {{
-                        this.putString("formula", "range");
-                        this.putJsonArray("dice", new JsonArray());
-                        this.putInteger("bonus", UUIDTable.getItem(getOriginItem()).getAttackBonus());
-                    }});
-                }});
-            }}, context, originPoint);
+            new AddBonus().execute(null, this, Formulas.addBonus(
+                    Formulas.range(UUIDTable.getItem(super.getOriginItem()).getAttackBonus())
+            ), context, originPoint);
         }
         return this;
     }
@@ -101,34 +85,10 @@ public class AttackRoll extends Roll {
         if (this.isNotCanceled()) {
             this.roll();
             this.json.asMap().putIfAbsent("damage", new ArrayList<>());
-            new AddBonus().execute(null, this, new JsonObject() {{
-                /*{
-                    "function": "add_bonus",
-                    "bonus": [
-                        {
-                            "formula": "modifier",
-                            "ability": <getAbility>
-                            "object": {
-                                "from": "subevent",
-                                "object": "source",
-                                "as_origin": <use_origin_attack_ability>
-                            }
-                        }
-                    ]
-                }*/
-                this.putString("function", "add_bonus");
-                this.putJsonArray("bonus", new JsonArray() {{
-                    this.addJsonObject(new JsonObject() {{
-                        this.putString("formula", "modifier");
-                        this.putString("ability", getAbility(context));
-                        this.putJsonObject("object", new JsonObject() {{
-                            this.putString("from", "subevent");
-                            this.putString("object", "source");
-                            this.putBoolean("as_origin", json.getBoolean("use_origin_attack_ability"));
-                        }});
-                    }});
-                }});
-            }}, context, originPoint);
+            new AddBonus().execute(null, this, Formulas.addBonus(Formulas.modifier(
+                    this.getAbility(context),
+                    Formulas.subeventObject("source", this.json.getBoolean("use_origin_attack_ability"))
+            )), context, originPoint);
 
             this.calculateTargetArmorClass(context);
             this.calculateCriticalHitThreshold(context);
@@ -193,13 +153,10 @@ public class AttackRoll extends Roll {
     void getBaseDamage(RPGLContext context, JsonArray originPoint) throws Exception {
         // Collect base typed damage dice and bonuses
         DamageCollection baseDamageCollection = new DamageCollection()
-                .joinSubeventData(new JsonObject() {{
-                    this.putJsonArray("damage", json.getJsonArray("damage").deepClone());
-                    this.putJsonArray("tags", new JsonArray() {{
-                        this.asList().addAll(json.getJsonArray("tags").asList());
-                        this.addString("base_damage_collection");
-                    }});
-                }})
+                .joinSubeventData(JsonObjectBuilder.createTransient()
+                        .putJsonArray("damage", this.json.getJsonArray("damage"))
+                        .putJsonArray("tags", this.nestedTags("base_damage_collection"))
+                        .build())
                 .setOriginItem(super.getOriginItem())
                 .setSource(super.getSource())
                 .prepare(context, originPoint)
@@ -210,62 +167,18 @@ public class AttackRoll extends Roll {
 
         // Add damage modifier from attack ability, if applicable
         if (!this.json.getBoolean("withhold_damage_modifier")) { // TODO make a function ond condition for this stuff...
-            new AddDamage().execute(null, baseDamageCollection, new JsonObject() {{
-                /*{
-                    "function": "add_damage",
-                    "damage": [
-                        {
-                            "formula": "modifier",
-                            "damage_type": damageType
-                            "ability": getAbility(context, originPoint),
-                            "object": {
-                                "from": "subevent",
-                                "object": "source",
-                                "as_origin": if origin ability is used for the attack
-                            }
-                        }
-                    ]
-                }*/
-                this.putString("function", "add_damage");
-                this.putJsonArray("damage", new JsonArray() {{
-                    this.addJsonObject(new JsonObject() {{
-                        this.putString("formula", "modifier");
-                        this.putString("damage_type", damageType);
-                        this.putString("ability", getAbility(context));
-                        this.putJsonObject("object", new JsonObject() {{
-                            this.putString("from", "subevent");
-                            this.putString("object", "source");
-                            this.putBoolean("as_origin", json.getBoolean("use_origin_attack_ability"));
-                        }});
-                    }});
-                }});
-            }}, context, originPoint);
+            new AddDamage().execute(null, baseDamageCollection, Formulas.addDamage(Formulas.withDamageType(Formulas.modifier(
+                    this.getAbility(context),
+                    Formulas.subeventObject("source", this.json.getBoolean("use_origin_attack_ability"))
+            ), damageType)), context, originPoint);
         }
 
         // Add origin item damage bonus, if applicable
         if (super.getOriginItem() != null) {
-            new AddDamage().execute(null, baseDamageCollection, new JsonObject() {{
-                /*{
-                    "function": "add_damage",
-                    "damage": [
-                        {
-                            "formula": "range",
-                            "damage_type": damageType
-                            "dice": [ ],
-                            "bonus": origin item damage bonus
-                        }
-                    ]
-                }*/
-                this.putString("function", "add_damage");
-                this.putJsonArray("damage", new JsonArray() {{
-                    this.addJsonObject(new JsonObject() {{
-                        this.putString("formula", "range");
-                        this.putString("damage_type", damageType);
-                        this.putJsonArray("dice", new JsonArray());
-                        this.putInteger("bonus", UUIDTable.getItem(getOriginItem()).getDamageBonus());
-                    }});
-                }});
-            }}, context, originPoint);
+            new AddDamage().execute(null, baseDamageCollection, Formulas.addDamage(Formulas.withDamageType(
+                    Formulas.range(UUIDTable.getItem(super.getOriginItem()).getDamageBonus()),
+                    damageType
+            )), context, originPoint);
         }
 
         // Replace damage key with base damage collection
@@ -283,12 +196,9 @@ public class AttackRoll extends Roll {
     void getTargetDamage(RPGLContext context, JsonArray originPoint) throws Exception {
         // Collect target typed damage dice and bonuses
         DamageCollection targetDamageCollection = new DamageCollection()
-                .joinSubeventData(new JsonObject() {{
-                    this.putJsonArray("tags", new JsonArray() {{
-                        this.asList().addAll(json.getJsonArray("tags").asList());
-                        this.addString("target_damage_collection");
-                    }});
-                }})
+                .joinSubeventData(JsonObjectBuilder.createTransient()
+                        .putJsonArray("tags", this.nestedTags("target_damage_collection"))
+                        .build())
                 .setOriginItem(super.getOriginItem())
                 .setSource(super.getSource())
                 .prepare(context, originPoint)
@@ -320,12 +230,9 @@ public class AttackRoll extends Roll {
      */
     void calculateTargetArmorClass(RPGLContext context) throws Exception {
         CalculateEffectiveArmorClass calculateEffectiveArmorClass = new CalculateEffectiveArmorClass()
-                .joinSubeventData(new JsonObject() {{
-                    this.putJsonObject("base", new JsonObject() {{
-                        this.putString("formula", "number");
-                        this.putInteger("number", getTarget().getBaseArmorClass(context));
-                    }});
-                }})
+                .joinSubeventData(JsonObjectBuilder.createTransient()
+                        .putJsonObject("base", Formulas.number(this.getTarget().getBaseArmorClass(context)))
+                        .build())
                 .setOriginItem(super.getOriginItem())
                 .setSource(super.getSource())
                 .prepare(context, getTarget().getPosition())
@@ -353,12 +260,13 @@ public class AttackRoll extends Roll {
      * @throws Exception if an exception occurs.
      */
     void calculateCriticalHitThreshold(RPGLContext context) throws Exception {
-        CalculateCriticalHitThreshold calculateCriticalHitThreshold = new CalculateCriticalHitThreshold()
-                .joinSubeventData(new JsonObject() {{
-                    this.putJsonArray("tags", new JsonArray() {{
-                        this.asList().addAll(json.getJsonArray("tags").asList());
-                    }});
-                }})
+        CalculateCriticalHitThreshold calculateCriticalHitThreshold = new CalculateCriticalHitThreshold();
+        if (context.isObserved(calculateCriticalHitThreshold.getSubeventId())) {
+            calculateCriticalHitThreshold.joinSubeventData(JsonObjectBuilder.createTransient()
+                    .putJsonArray("tags", this.nestedTags())
+                    .build());
+        }
+        calculateCriticalHitThreshold
                 .setOriginItem(super.getOriginItem())
                 .setSource(super.getSource())
                 .prepare(context, this.getSource().getPosition())
@@ -377,12 +285,14 @@ public class AttackRoll extends Roll {
      * @throws Exception if an exception occurs
      */
     boolean confirmCriticalDamage(RPGLContext context) throws Exception {
+        if (!context.isObserved("critical_damage_confirmation")) {
+            // only an observing effect could cancel the confirmation
+            return true;
+        }
         return new CriticalDamageConfirmation()
-                .joinSubeventData(new JsonObject() {{
-                    this.putJsonArray("tags", new JsonArray() {{
-                        this.asList().addAll(json.getJsonArray("tags").asList());
-                    }});
-                }})
+                .joinSubeventData(JsonObjectBuilder.createTransient()
+                        .putJsonArray("tags", this.nestedTags())
+                        .build())
                 .setOriginItem(super.getOriginItem())
                 .setSource(super.getSource())
                 .prepare(context, this.getSource().getPosition())
@@ -421,12 +331,10 @@ public class AttackRoll extends Roll {
 
         // Collect any extra damage bonuses which aren't doubled
         CriticalHitDamageCollection criticalHitDamageCollection = new CriticalHitDamageCollection()
-                .joinSubeventData(new JsonObject() {{
-                    this.putJsonArray("damage", damageArray);
-                    this.putJsonArray("tags", new JsonArray() {{
-                        this.asList().addAll(json.getJsonArray("tags").asList());
-                    }});
-                }})
+                .joinSubeventData(JsonObjectBuilder.createTransient()
+                        .putJsonArray("damage", damageArray)
+                        .putJsonArray("tags", this.nestedTags())
+                        .build())
                 .setOriginItem(super.getOriginItem())
                 .setSource(super.getSource())
                 .prepare(context, originPoint)
@@ -448,13 +356,10 @@ public class AttackRoll extends Roll {
      */
     void resolveDamage(RPGLContext context, JsonArray originPoint) throws Exception {
         DamageRoll damageRoll = new DamageRoll()
-                .joinSubeventData(new JsonObject() {{
-                    this.putJsonArray("damage", json.getJsonArray("damage"));
-                    this.putJsonArray("tags", new JsonArray() {{
-                        this.asList().addAll(json.getJsonArray("tags").asList());
-                        this.addString("attack_damage_roll");
-                    }});
-                }})
+                .joinSubeventData(JsonObjectBuilder.createTransient()
+                        .putJsonArray("damage", this.json.getJsonArray("damage"))
+                        .putJsonArray("tags", this.nestedTags("attack_damage_roll"))
+                        .build())
                 .setOriginItem(super.getOriginItem())
                 .setSource(super.getSource())
                 .prepare(context, originPoint)
@@ -500,12 +405,10 @@ public class AttackRoll extends Roll {
      */
     void deliverDamage(RPGLContext context, JsonArray originPoint) throws Exception {
         DamageDelivery damageDelivery = new DamageDelivery()
-                .joinSubeventData(new JsonObject() {{
-                    this.putJsonArray("damage", json.getJsonArray("damage"));
-                    this.putJsonArray("tags", new JsonArray() {{
-                        this.asList().addAll(json.getJsonArray("tags").asList());
-                    }});
-                }})
+                .joinSubeventData(JsonObjectBuilder.createTransient()
+                        .putJsonArray("damage", this.json.getJsonArray("damage"))
+                        .putJsonArray("tags", this.nestedTags())
+                        .build())
                 .setOriginItem(super.getOriginItem())
                 .setSource(super.getSource())
                 .prepare(context, originPoint)
@@ -54,46 +54,10 @@ public class CalculateDifficultyClass extends Calculation {
         Integer difficultyClass = this.json.getInteger("difficulty_class");
         if (difficultyClass == null) {
             super.setBase(8);
-            new AddBonus().execute(null, this, new JsonObject() {{
-                /*{
-                    "function": "add_bonus",
-                    "bonus": [
-                        {
-                            "formula": "proficiency",
-                            "object": {
-                                "from": "subevent",
-                                "object": "source"
-                            }
-                        },
-                        {
-                            "formula": "modifier",
-                            "ability": <difficulty_class_ability>
-                            "object": {
-                                "from": "subevent",
-                                "object": "source"
-                            }
-                        }
-                    ]
-                }*/
-                this.putString("function", "add_bonus");
-                this.putJsonArray("bonus", new JsonArray() {{
-                    this.addJsonObject(new JsonObject() {{
-                        this.putString("formula", "proficiency");
-                        this.putJsonObject("object", new JsonObject() {{
-                            this.putString("from", "subevent");
-                            this.putString("object", "source");
-                        }});
-                    }});
-                    this.addJsonObject(new JsonObject() {{
-                        this.putString("formula", "modifier");
-                        this.putString("ability", json.getString("difficulty_class_ability"));
-                        this.putJsonObject("object", new JsonObject() {{
-                            this.putString("from", "subevent");
-                            this.putString("object", "source");
-                        }});
-                    }});
-                }});
-            }}, context, originPoint);
+            new AddBonus().execute(null, this, Formulas.addBonus(
+                    Formulas.proficiency(Formulas.subeventObject("source")),
+                    Formulas.modifier(this.json.getString("difficulty_class_ability"), Formulas.subeventObject("source"))
+            ), context, originPoint);
         } else {
             super.setBase(difficultyClass);
         }
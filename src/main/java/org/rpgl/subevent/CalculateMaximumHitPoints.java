@@ -53,26 +53,9 @@ public class CalculateMaximumHitPoints extends Calculation {
         super.prepare(context, originPoint);
         RPGLObject source = super.getSource();
         super.setBase(source.getHealthData().getInteger("base"));
-        new AddBonus().execute(null, this, new JsonObject() {{
-                /*{
-                    "function": "add_bonus",
-                    "bonus": [
-                        {
-                            "formula": "range",
-                            "dice": [ ],
-                            "bonus": <con health contribution>
-                        }
-                    ]
-                }*/
-            this.putString("function", "add_bonus");
-            this.putJsonArray("bonus", new JsonArray() {{
-                this.addJsonObject(new JsonObject() {{
-                    this.putString("formula", "range");
-                    this.putJsonArray("dice", new JsonArray());
-                    this.putInteger("bonus", source.getAbilityModifierFromAbilityName("con", context) * source.getLevel());
-                }});
-            }});
-        }}, context, originPoint);
+        new AddBonus().execute(null, this, Formulas.addBonus(
+                Formulas.range(source.getAbilityModifierFromAbilityName("con", context) * source.getLevel())
+        ), context, originPoint);
         return this;
     }
 
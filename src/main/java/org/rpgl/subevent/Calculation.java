@@ -2,9 +2,9 @@ package org.rpgl.subevent;
 
 import org.rpgl.core.RPGLContext;
 import org.rpgl.core.RPGLEffect;
-import org.rpgl.core.RPGLObject;
 import org.rpgl.json.JsonArray;
 import org.rpgl.json.JsonObject;
+import org.rpgl.json.JsonObjectBuilder;
 import org.rpgl.math.Die;
 
 import java.util.Objects;
@@ -35,6 +35,12 @@ public abstract class Calculation extends Subevent {
         return this;
     }
 
+    @Override
+    public boolean modifiesState() {
+        // calculations only modify their own data
+        return false;
+    }
+
     /**
      * This helper method scales a given value according to a provided factor.
      *
@@ -44,13 +50,7 @@ public abstract class Calculation extends Subevent {
      * @return the scaled value
      */
     public static int scale(int value, JsonObject scaleJson) {
-        return Objects.requireNonNullElse(scaleJson.getBoolean("round_up"), false)
-                ? (int) Math.ceil((double) value
-                * (double) Objects.requireNonNullElse(scaleJson.getInteger("numerator"), 1)
-                / (double) Objects.requireNonNullElse(scaleJson.getInteger("denominator"), 2))
-                : value
-                * Objects.requireNonNullElse(scaleJson.getInteger("numerator"), 1)
-                / Objects.requireNonNullElse(scaleJson.getInteger("denominator"), 2);
+        return Formula.Scale.parse(scaleJson).apply(value);
     }
 
     /**
@@ -131,72 +131,7 @@ public abstract class Calculation extends Subevent {
                 }
             }
         ]*/
-        return switch (formulaData.getString("formula")) {
-            case "range" -> new JsonObject() {{
-                this.putInteger("bonus", Objects.requireNonNullElse(formulaData.getInteger("bonus"), 0));
-                this.putJsonArray("dice", Objects.requireNonNullElse(Die.unpack(formulaData.getJsonArray("dice")), new JsonArray()));
-                this.putJsonObject("scale", Objects.requireNonNullElse(formulaData.getJsonObject("scale"), new JsonObject() {{
-                    this.putInteger("numerator", 1);
-                    this.putInteger("denominator", 1);
-                    this.putBoolean("round_up", false);
-                }}));
-            }};
-            case "modifier" -> new JsonObject() {{
-                RPGLObject object = RPGLEffect.getObject(effect, subevent, formulaData.getJsonObject("object"));
-                this.putInteger("bonus", object.getAbilityModifierFromAbilityName(formulaData.getString("ability"), context));
-                this.putJsonArray("dice", new JsonArray());
-                this.putJsonObject("scale", Objects.requireNonNullElse(formulaData.getJsonObject("scale"), new JsonObject() {{
-                    this.putInteger("numerator", 1);
-                    this.putInteger("denominator", 1);
-                    this.putBoolean("round_up", false);
-                }}));
-            }};
-            case "ability" -> new JsonObject() {{
-                RPGLObject object = RPGLEffect.getObject(effect, subevent, formulaData.getJsonObject("object"));
-                this.putInteger("bonus", object.getAbilityScoreFromAbilityName(formulaData.getString("ability"), context));
-                this.putJsonArray("dice", new JsonArray());
-                this.putJsonObject("scale", Objects.requireNonNullElse(formulaData.getJsonObject("scale"), new JsonObject() {{
-                    this.putInteger("numerator", 1);
-                    this.putInteger("denominator", 1);
-                    this.putBoolean("round_up", false);
-                }}));
-            }};
-            case "proficiency" -> new JsonObject() {{
-                RPGLObject object = RPGLEffect.getObject(effect, subevent, formulaData.getJsonObject("object"));
-                this.putInteger("bonus", object.getEffectiveProficiencyBonus(context));
-                this.putJsonArray("dice", new JsonArray());
-                this.putJsonObject("scale", Objects.requireNonNullElse(formulaData.getJsonObject("scale"), new JsonObject() {{
-                    this.putInteger("numerator", 1);
-                    this.putInteger("denominator", 1);
-                    this.putBoolean("round_up", false);
-                }}));
-            }};
-            case "level" -> new JsonObject() {{
-                RPGLObject object = RPGLEffect.getObject(effect, subevent, formulaData.getJsonObject("object"));
-                String classId = formulaData.getString("class");
-                if (classId == null) {
-                    this.putInteger("bonus", object.getLevel());
-                } else {
-                    this.putInteger("bonus", object.getLevel(classId));
-                }
-                this.putJsonArray("dice", new JsonArray());
-                this.putJsonObject("scale", Objects.requireNonNullElse(formulaData.getJsonObject("scale"), new JsonObject() {{
-                    this.putInteger("numerator", 1);
-                    this.putInteger("denominator", 1);
-                    this.putBoolean("round_up", false);
-                }}));
-            }};
-            default -> new JsonObject() {{
-                // TODO log a warning here concerning an unexpected formula value
-                this.putInteger("bonus", 0);
-                this.putJsonArray("dice", new JsonArray());
-                this.putJsonObject("scale", Objects.requireNonNullElse(formulaData.getJsonObject("scale"), new JsonObject() {{
-                    this.putInteger("numerator", 1);
-                    this.putInteger("denominator", 1);
-                    this.putBoolean("round_up", false);
-                }}));
-            }};
-        };
+        return Formula.parse(formulaData).toBonus(effect, subevent, context);
     }
 
     /**
@@ -275,19 +210,7 @@ public abstract class Calculation extends Subevent {
             }
         ]*/
         // TODO can these operate with scales?
-        return switch (formulaData.getString("formula")) {
-            case "number" -> formulaData.getInteger("number");
-            case "modifier" -> RPGLEffect.getObject(effect, subevent, formulaData.getJsonObject("object"))
-                    .getAbilityModifierFromAbilityName(formulaData.getString("ability"), context);
-            case "ability" -> RPGLEffect.getObject(effect, subevent, formulaData.getJsonObject("object"))
-                    .getAbilityScoreFromAbilityName(formulaData.getString("ability"), context);
-            case "proficiency" -> RPGLEffect.getObject(effect, subevent, formulaData.getJsonObject("object"))
-                    .getEffectiveProficiencyBonus(context);
-            case "level" -> formulaData.getString("class") == null
-                    ? RPGLEffect.getObject(effect, subevent, formulaData.getJsonObject("object")).getLevel()
-                    : RPGLEffect.getObject(effect, subevent, formulaData.getJsonObject("object")).getLevel(formulaData.getString("class"));
-            default -> 0; // TODO log a warning here concerning an unexpected formula value
-        };
+        return Formula.parse(formulaData).evaluate(effect, subevent, context);
     }
 
     /**
@@ -367,9 +290,9 @@ public abstract class Calculation extends Subevent {
     public void setBase(int baseValue) {
         JsonObject baseJson = this.json.getJsonObject("base");
         if (baseJson == null) {
-            this.json.putJsonObject("base", new JsonObject() {{
-                this.putInteger("value", baseValue);
-            }});
+            this.json.putJsonObject("base", JsonObjectBuilder.createTransient()
+                    .putInteger("value", baseValue)
+                    .build());
         } else {
             baseJson.putInteger("value", baseValue);
         }
@@ -401,9 +324,9 @@ public abstract class Calculation extends Subevent {
     public int getMinimum() {
         JsonObject minimumJson = this.json.getJsonObject("minimum");
         if (minimumJson == null) {
-            this.json.putJsonObject("minimum", new JsonObject() {{
-                this.putInteger("value", 0);
-            }});
+            this.json.putJsonObject("minimum", JsonObjectBuilder.createTransient()
+                    .putInteger("value", 0)
+                    .build());
             return 0;
         } else {
             return Objects.requireNonNullElse(this.json.getJsonObject("minimum").getInteger("value"), 0);
@@ -451,7 +374,7 @@ public abstract class Calculation extends Subevent {
                 JsonObject die = dice.getJsonObject(j);
                 bonus += Objects.requireNonNullElseGet(die.getInteger("roll"), () -> Die.roll(die));
             }
-            totalBonus += scale(bonus, bonusJson.getJsonObject("scale"));
+            totalBonus += Formula.Scale.parse(bonusJson.getJsonObject("scale")).apply(bonus);
         }
         return totalBonus;
     }
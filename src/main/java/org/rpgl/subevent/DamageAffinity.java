@@ -4,6 +4,7 @@ import org.rpgl.core.RPGLContext;
 import org.rpgl.core.RPGLObject;
 import org.rpgl.json.JsonArray;
 import org.rpgl.json.JsonObject;
+import org.rpgl.json.JsonObjectBuilder;
 
 import java.util.ArrayList;
 import java.util.Objects;
@@ -108,15 +109,15 @@ public class DamageAffinity extends Subevent implements DamageTypeSubevent {
         }
 
         // add new damage type to affinities array
-        this.getAffinities().addJsonObject(new JsonObject() {{
-            this.putString("damage_type", damageType);
-            this.putBoolean("immunity", false);
-            this.putBoolean("resistance", false);
-            this.putBoolean("vulnerability", false);
-            this.putBoolean("immunity_revoked", false);
-            this.putBoolean("resistance_revoked", false);
-            this.putBoolean("vulnerability_revoked", false);
-        }});
+        this.getAffinities().addJsonObject(JsonObjectBuilder.createTransient()
+                .putString("damage_type", damageType)
+                .putBoolean("immunity", false)
+                .putBoolean("resistance", false)
+                .putBoolean("vulnerability", false)
+                .putBoolean("immunity_revoked", false)
+                .putBoolean("resistance_revoked", false)
+                .putBoolean("vulnerability_revoked", false)
+                .build());
 
         return this;
     }
@@ -4,6 +4,7 @@ import org.rpgl.core.RPGLContext;
 import org.rpgl.core.RPGLObject;
 import org.rpgl.json.JsonArray;
 import org.rpgl.json.JsonObject;
+import org.rpgl.json.JsonObjectBuilder;
 
 import java.util.Map;
 import java.util.Objects;
@@ -64,11 +65,9 @@ public class DamageDelivery extends Subevent implements DamageTypeSubevent {
         JsonObject damageJson = this.json.removeJsonObject("damage");
 
         DamageAffinity damageAffinity = new DamageAffinity();
-        damageAffinity.joinSubeventData(new JsonObject() {{
-            this.putJsonArray("tags", new JsonArray() {{
-                this.asList().addAll(json.getJsonArray("tags").asList());
-            }});
-        }});
+        damageAffinity.joinSubeventData(JsonObjectBuilder.createTransient()
+                .putJsonArray("tags", this.nestedTags())
+                .build());
         for (Map.Entry<String, ?> entry : damageJson.asMap().entrySet()) {
             damageAffinity.addDamageType(entry.getKey());
         }
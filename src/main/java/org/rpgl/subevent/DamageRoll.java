@@ -4,7 +4,7 @@ import org.rpgl.core.RPGLContext;
 import org.rpgl.core.RPGLObject;
 import org.rpgl.json.JsonArray;
 import org.rpgl.json.JsonObject;
-import org.rpgl.math.Die;
+import org.rpgl.math.DicePool;
 
 import java.util.Objects;
 
@@ -92,13 +92,11 @@ public class DamageRoll extends Subevent implements DamageTypeSubevent {
      * This method rolls all dice associated with the Subevent.
      */
     public void roll() {
-        JsonArray typedDamageArray = this.json.getJsonArray("damage");
-        for (int i = 0; i < typedDamageArray.size(); i++) {
-            JsonArray typedDamageDieArray = Objects.requireNonNullElse(typedDamageArray.getJsonObject(i).getJsonArray("dice"), new JsonArray());
-            for (int j = 0; j < typedDamageDieArray.size(); j++) {
-                Die.roll(typedDamageDieArray.getJsonObject(j));
-            }
+        DicePool[] dicePools = this.readDicePools();
+        for (DicePool dicePool : dicePools) {
+            dicePool.roll();
         }
+        this.writeDicePools(dicePools);
     }
 
     /**
@@ -109,19 +107,14 @@ public class DamageRoll extends Subevent implements DamageTypeSubevent {
      * @param damageType the damage type of dice to be changed by this method
      */
     public void rerollDamageDiceMatchingOrBelow(int threshold, String damageType) {
+        DicePool[] dicePools = this.readDicePools();
         JsonArray typedDamageArray = this.json.getJsonArray("damage");
-        for (int i = 0; i < typedDamageArray.size(); i++) {
-            JsonObject typedDamage = typedDamageArray.getJsonObject(i);
-            if (damageType == null || "".equals(damageType) || Objects.equals(damageType, typedDamage.getString("damage_type"))) {
-                JsonArray typedDamageDieArray = Objects.requireNonNullElse(typedDamage.getJsonArray("dice"), new JsonArray());
-                for (int j = 0; j < typedDamageDieArray.size(); j++) {
-                    JsonObject typedDamageDie = typedDamageDieArray.getJsonObject(j);
-                    if (typedDamageDie.getInteger("roll") <= threshold) {
-                        Die.roll(typedDamageDie);
-                    }
-                }
+        for (int i = 0; i < dicePools.length; i++) {
+            if (damageType == null || "".equals(damageType) || Objects.equals(damageType, typedDamageArray.getJsonObject(i).getString("damage_type"))) {
+                dicePools[i].rerollMatchingOrBelow(threshold);
             }
         }
+        this.writeDicePools(dicePools);
     }
 
     /**
@@ -133,19 +126,14 @@ public class DamageRoll extends Subevent implements DamageTypeSubevent {
      * @param damageType the damage type of dice to be changed by this method
      */
     public void setDamageDiceMatchingOrBelow(int threshold, int set, String damageType) {
+        DicePool[] dicePools = this.readDicePools();
         JsonArray typedDamageArray = this.json.getJsonArray("damage");
-        for (int i = 0; i < typedDamageArray.size(); i++) {
-            JsonObject typedDamage = typedDamageArray.getJsonObject(i);
-            if (damageType == null || "".equals(damageType) || Objects.equals(damageType, typedDamage.getString("damage_type"))) {
-                JsonArray typedDamageDieArray = Objects.requireNonNullElse(typedDamage.getJsonArray("dice"), new JsonArray());
-                for (int j = 0; j < typedDamageDieArray.size(); j++) {
-                    JsonObject typedDamageDie = typedDamageDieArray.getJsonObject(j);
-                    if (typedDamageDie.getInteger("roll") <= threshold) {
-                        typedDamageDie.putInteger("roll", set);
-                    }
-                }
+        for (int i = 0; i < dicePools.length; i++) {
+            if (damageType == null || "".equals(damageType) || Objects.equals(damageType, typedDamageArray.getJsonObject(i).getString("damage_type"))) {
+                dicePools[i].setMatchingOrBelow(threshold, set);
             }
         }
+        this.writeDicePools(dicePools);
     }
 
     /**
@@ -155,15 +143,43 @@ public class DamageRoll extends Subevent implements DamageTypeSubevent {
      * @param damageType the damage type of dice to be changed by this method
      */
     public void maximizeDamageDice(String damageType) {
+        DicePool[] dicePools = this.readDicePools();
+        JsonArray typedDamageArray = this.json.getJsonArray("damage");
+        for (int i = 0; i < dicePools.length; i++) {
+            if (damageType == null || Objects.equals(damageType, typedDamageArray.getJsonObject(i).getString("damage_type"))) {
+                dicePools[i].maximize();
+            }
+        }
+        this.writeDicePools(dicePools);
+    }
+
+    /**
+     * This helper method reads the dice of each typed damage entry of this Subevent into DicePools.
+     *
+     * @return an array of DicePools, in the order of the typed damage entries
+     */
+    private DicePool[] readDicePools() {
+        JsonArray typedDamageArray = this.json.getJsonArray("damage");
+        DicePool[] dicePools = new DicePool[typedDamageArray.size()];
+        for (int i = 0; i < dicePools.length; i++) {
+            dicePools[i] = DicePool.fromJson(typedDamageArray.getJsonObject(i).getJsonArray("dice"));
+        }
+        return dicePools;
+    }
+
+    /**
+     * This helper method writes the rolled values of DicePools read by <code>readDicePools()</code> back into the
+     * dice of each typed damage entry of this Subevent. This is done after every operation on the dice, so that the
+     * JSON data of this Subevent is always up to date while it is being processed.
+     *
+     * @param dicePools an array of DicePools, in the order of the typed damage entries
+     */
+    private void writeDicePools(DicePool[] dicePools) {
         JsonArray typedDamageArray = this.json.getJsonArray("damage");
-        for (int i = 0; i < typedDamageArray.size(); i++) {
-            JsonObject typedDamage = typedDamageArray.getJsonObject(i);
-            if (damageType == null || Objects.equals(damageType, typedDamage.getString("damage_type"))) {
-                JsonArray typedDamageDieArray = Objects.requireNonNullElse(typedDamage.getJsonArray("dice"), new JsonArray());
-                for (int j = 0; j < typedDamageDieArray.size(); j++) {
-                    JsonObject typedDamageDie = typedDamageDieArray.getJsonObject(j);
-                    typedDamageDie.putInteger("roll", typedDamageDie.getInteger("size"));
-                }
+        for (int i = 0; i < dicePools.length; i++) {
+            JsonArray dice = typedDamageArray.getJsonObject(i).getJsonArray("dice");
+            if (dice != null) {
+                dicePools[i].writeTo(dice);
             }
         }
     }
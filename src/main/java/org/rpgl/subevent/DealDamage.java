@@ -4,6 +4,7 @@ import org.rpgl.core.RPGLContext;
 import org.rpgl.core.RPGLObject;
 import org.rpgl.json.JsonArray;
 import org.rpgl.json.JsonObject;
+import org.rpgl.json.JsonObjectBuilder;
 
 import java.util.Objects;
 
@@ -112,13 +113,10 @@ public class DealDamage extends Subevent implements CancelableSubevent, DamageTy
          */
         DamageCollection baseDamageCollection = new DamageCollection();
         JsonArray damage = this.json.getJsonArray("damage");
-        baseDamageCollection.joinSubeventData(new JsonObject() {{
-            this.putJsonArray("damage", damage.deepClone());
-            this.putJsonArray("tags", new JsonArray() {{
-                this.asList().addAll(json.getJsonArray("tags").asList());
-                this.addString("base_damage_collection");
-            }});
-        }});
+        baseDamageCollection.joinSubeventData(JsonObjectBuilder.createTransient()
+                .putJsonArray("damage", damage)
+                .putJsonArray("tags", this.nestedTags("base_damage_collection"))
+                .build());
         baseDamageCollection.setOriginItem(super.getOriginItem());
         baseDamageCollection.setSource(super.getSource());
         baseDamageCollection.prepare(context, originPoint);
@@ -129,13 +127,10 @@ public class DealDamage extends Subevent implements CancelableSubevent, DamageTy
          * Roll base damage dice
          */
         DamageRoll baseDamageRoll = new DamageRoll();
-        baseDamageRoll.joinSubeventData(new JsonObject() {{
-            this.putJsonArray("damage", baseDamageCollection.getDamageCollection().deepClone());
-            this.putJsonArray("tags", new JsonArray() {{
-                this.asList().addAll(json.getJsonArray("tags").asList());
-                this.addString("base_damage_roll");
-            }});
-        }});
+        baseDamageRoll.joinSubeventData(JsonObjectBuilder.createTransient()
+                .putJsonArray("damage", baseDamageCollection.getDamageCollection())
+                .putJsonArray("tags", this.nestedTags("base_damage_roll"))
+                .build());
         baseDamageRoll.setOriginItem(super.getOriginItem());
         baseDamageRoll.setSource(super.getSource());
         baseDamageRoll.prepare(context, originPoint);
@@ -161,12 +156,9 @@ public class DealDamage extends Subevent implements CancelableSubevent, DamageTy
          * Collect target typed damage dice and bonuses
          */
         DamageCollection targetDamageCollection = new DamageCollection();
-        targetDamageCollection.joinSubeventData(new JsonObject() {{
-            this.putJsonArray("tags", new JsonArray() {{
-                this.asList().addAll(json.getJsonArray("tags").asList());
-                this.addString("target_damage_collection");
-            }});
-        }});
+        targetDamageCollection.joinSubeventData(JsonObjectBuilder.createTransient()
+                .putJsonArray("tags", this.nestedTags("target_damage_collection"))
+                .build());
         targetDamageCollection.setOriginItem(super.getOriginItem());
         targetDamageCollection.setSource(super.getSource());
         targetDamageCollection.prepare(context, originPoint);
@@ -177,13 +169,10 @@ public class DealDamage extends Subevent implements CancelableSubevent, DamageTy
          * Roll target damage dice
          */
         DamageRoll targetDamageRoll = new DamageRoll();
-        targetDamageRoll.joinSubeventData(new JsonObject() {{
-            this.putJsonArray("damage", targetDamageCollection.getDamageCollection().deepClone());
-            this.putJsonArray("tags", new JsonArray() {{
-                this.asList().addAll(json.getJsonArray("tags").asList());
-                this.addString("target_damage_roll");
-            }});
-        }});
+        targetDamageRoll.joinSubeventData(JsonObjectBuilder.createTransient()
+                .putJsonArray("damage", targetDamageCollection.getDamageCollection())
+                .putJsonArray("tags", this.nestedTags("target_damage_roll"))
+                .build());
         targetDamageRoll.setOriginItem(super.getOriginItem());
         targetDamageRoll.setSource(super.getSource());
         targetDamageRoll.prepare(context, originPoint);
@@ -203,9 +192,9 @@ public class DealDamage extends Subevent implements CancelableSubevent, DamageTy
      */
     void deliverDamage(RPGLContext context, JsonArray originPoint) throws Exception {
         DamageDelivery damageDelivery = new DamageDelivery();
-        damageDelivery.joinSubeventData(new JsonObject() {{
-            this.putJsonArray("damage", json.getJsonArray("damage"));
-        }});
+        damageDelivery.joinSubeventData(JsonObjectBuilder.createTransient()
+                .putJsonArray("damage", this.json.getJsonArray("damage"))
+                .build());
         damageDelivery.setOriginItem(super.getOriginItem());
         damageDelivery.setSource(super.getSource());
         damageDelivery.prepare(context, originPoint);
@@ -5,6 +5,7 @@ import org.rpgl.core.RPGLObject;
 import org.rpgl.core.RPGLResource;
 import org.rpgl.json.JsonArray;
 import org.rpgl.json.JsonObject;
+import org.rpgl.math.Die;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -152,7 +153,7 @@ public class ExhaustResource extends Subevent {
         for (int i = 0; i < resources.size(); i++) {
             indices.add(i);
         }
-        Collections.shuffle(indices);
+        Die.shuffle(indices);
         for (Integer i : indices) {
             RPGLResource resource = resources.get(i);
             if (count > 0
@@ -0,0 +1,277 @@
+package org.rpgl.subevent;
+
+import org.rpgl.core.ObjectSelector;
+import org.rpgl.core.RPGLContext;
+import org.rpgl.core.RPGLEffect;
+import org.rpgl.core.RPGLObject;
+import org.rpgl.json.JsonArena;
+import org.rpgl.json.JsonArray;
+import org.rpgl.json.JsonObject;
+import org.rpgl.math.Die;
+
+import java.util.Objects;
+
+/**
+ * This interface is a typed form of the formula data accepted by <code>Calculation.processBonusJson(...)</code> and
+ * <code>Calculation.processSetJson(...)</code>. Formula data is parsed into a Formula once, so that evaluating it does
+ * not require switching on its <code>"formula"</code> string or re-reading its scale.
+ *
+ * @author Calvin Withun
+ */
+public sealed interface Formula permits Formula.Range, Formula.Modifier, Formula.Ability, Formula.Proficiency,
+        Formula.Level, Formula.Number {
+
+    /**
+     * A pre-parsed scale, by which a value is multiplied by <code>numerator / denominator</code>.
+     *
+     * @param numerator the numerator of the scale
+     * @param denominator the denominator of the scale
+     * @param roundUp whether scaled values are rounded up rather than down
+     */
+    record Scale(int numerator, int denominator, boolean roundUp) {
+
+        /**
+         * The scale applied to bonuses which do not specify one.
+         */
+        public static final Scale IDENTITY = new Scale(1, 1, false);
+
+        /**
+         * This method parses scale data. Missing fields default to a numerator of 1, a denominator of 2, and rounding
+         * down, as described in <code>Calculation.scale(...)</code>. Scale data describing the identity scale is always
+         * parsed to <code>IDENTITY</code>.
+         *
+         * @param scaleJson scale data in the form of <code>{ "numerator": int, "denominator": int, "round_up": boolean
+         *                  }</code>
+         * @return a Scale
+         */
+        public static Scale parse(JsonObject scaleJson) {
+            // JsonObject wrappers are created on every read, so the shared default scale is recognized by its backing map
+            if (scaleJson.asMap() == Formulas.defaultScale().asMap()) {
+                return IDENTITY;
+            }
+            int numerator = Objects.requireNonNullElse(scaleJson.getInteger("numerator"), 1);
+            int denominator = Objects.requireNonNullElse(scaleJson.getInteger("denominator"), 2);
+            boolean roundUp = Objects.requireNonNullElse(scaleJson.getBoolean("round_up"), false);
+            if (numerator == 1 && denominator == 1 && !roundUp) {
+                return IDENTITY;
+            }
+            return new Scale(numerator, denominator, roundUp);
+        }
+
+        /**
+         * This method parses the scale of formula data, returning the identity scale if none is specified.
+         *
+         * @param formulaData formula data
+         * @return a Scale
+         */
+        static Scale parseFormulaScale(JsonObject formulaData) {
+            JsonObject scaleJson = formulaData.getJsonObject("scale");
+            return scaleJson == null ? IDENTITY : parse(scaleJson);
+        }
+
+        /**
+         * Returns a value scaled by this scale.
+         *
+         * @param value the value to be scaled
+         * @return the scaled value
+         */
+        public int apply(int value) {
+            if (this.equals(IDENTITY)) {
+                return value;
+            }
+            return this.roundUp
+                    ? (int) Math.ceil((double) value * (double) this.numerator / (double) this.denominator)
+                    : value * this.numerator / this.denominator;
+        }
+
+        /**
+         * Returns the JSON representation of this scale. The identity scale is represented by a frozen JsonObject
+         * shared by every bonus.
+         *
+         * @return a JsonObject
+         */
+        public JsonObject toJson() {
+            return this.equals(IDENTITY)
+                    ? Formulas.defaultScale()
+                    : Formulas.scale(this.numerator, this.denominator, this.roundUp);
+        }
+
+    }
+
+    /**
+     * A <code>range</code> formula: a flat bonus plus dice.
+     *
+     * @param bonus the flat bonus
+     * @param dice the compact dice of the formula, or null
+     * @param scale the scale of the formula
+     */
+    record Range(int bonus, JsonArray dice, Scale scale) implements Formula {
+
+        @Override
+        public int evaluate(RPGLEffect effect, Subevent subevent, RPGLContext context) {
+            return this.bonus;
+        }
+
+        @Override
+        public JsonObject toBonus(RPGLEffect effect, Subevent subevent, RPGLContext context) {
+            return Formulas.bonus(
+                    this.bonus,
+                    Objects.requireNonNullElse(Die.unpackTransient(this.dice), JsonArena.newJsonArray()),
+                    this.scale.toJson()
+            );
+        }
+
+    }
+
+    /**
+     * A <code>modifier</code> formula: the ability modifier of an object.
+     *
+     * @param object the object whose ability modifier is used
+     * @param ability the ability whose modifier is used
+     * @param scale the scale of the formula
+     */
+    record Modifier(ObjectSelector object, String ability, Scale scale) implements Formula {
+
+        @Override
+        public int evaluate(RPGLEffect effect, Subevent subevent, RPGLContext context) throws Exception {
+            return this.object.select(effect, subevent).getAbilityModifierFromAbilityName(this.ability, context);
+        }
+
+    }
+
+    /**
+     * An <code>ability</code> formula: the ability score of an object.
+     *
+     * @param object the object whose ability score is used
+     * @param ability the ability whose score is used
+     * @param scale the scale of the formula
+     */
+    record Ability(ObjectSelector object, String ability, Scale scale) implements Formula {
+
+        @Override
+        public int evaluate(RPGLEffect effect, Subevent subevent, RPGLContext context) throws Exception {
+            return this.object.select(effect, subevent).getAbilityScoreFromAbilityName(this.ability, context);
+        }
+
+    }
+
+    /**
+     * A <code>proficiency</code> formula: the effective proficiency bonus of an object.
+     *
+     * @param object the object whose proficiency bonus is used
+     * @param scale the scale of the formula
+     */
+    record Proficiency(ObjectSelector object, Scale scale) implements Formula {
+
+        @Override
+        public int evaluate(RPGLEffect effect, Subevent subevent, RPGLContext context) throws Exception {
+            return this.object.select(effect, subevent).getEffectiveProficiencyBonus(context);
+        }
+
+    }
+
+    /**
+     * A <code>level</code> formula: the level of an object, either overall or in a single class.
+     *
+     * @param object the object whose level is used
+     * @param classId the class whose level is used, or null for the object's overall level
+     * @param scale the scale of the formula
+     */
+    record Level(ObjectSelector object, String classId, Scale scale) implements Formula {
+
+        @Override
+        public int evaluate(RPGLEffect effect, Subevent subevent, RPGLContext context) throws Exception {
+            RPGLObject object = this.object.select(effect, subevent);
+            return this.classId == null ? object.getLevel() : object.getLevel(this.classId);
+        }
+
+    }
+
+    /**
+     * A <code>number</code> formula: a constant.
+     *
+     * @param number the constant
+     * @param scale the scale of the formula
+     */
+    record Number(int number, Scale scale) implements Formula {
+
+        @Override
+        public int evaluate(RPGLEffect effect, Subevent subevent, RPGLContext context) {
+            return this.number;
+        }
+
+    }
+
+    /**
+     * Returns the scale of this formula. Scales apply to bonuses, but not to set values.
+     *
+     * @return a Scale
+     */
+    Scale scale();
+
+    /**
+     * This method evaluates this formula to an unscaled value, without any dice. This is the value assigned by
+     * <code>Calculation.processSetJson(...)</code>.
+     *
+     * @param effect the RPGLEffect applying this formula
+     * @param subevent the Subevent receiving this formula
+     * @param context the context in which this formula is being applied
+     * @return the value of the formula
+     *
+     * @throws Exception if an exception occurs
+     */
+    int evaluate(RPGLEffect effect, Subevent subevent, RPGLContext context) throws Exception;
+
+    /**
+     * This method evaluates this formula to a bonus, as produced by <code>Calculation.processBonusJson(...)</code>.
+     *
+     * @param effect the RPGLEffect applying this formula
+     * @param subevent the Subevent receiving this formula
+     * @param context the context in which this formula is being applied
+     * @return a JsonObject representing the evaluated bonus
+     *
+     * @throws Exception if an exception occurs
+     */
+    default JsonObject toBonus(RPGLEffect effect, Subevent subevent, RPGLContext context) throws Exception {
+        return Formulas.bonus(this.evaluate(effect, subevent, context), JsonArena.newJsonArray(), this.scale().toJson());
+    }
+
+    /**
+     * This method parses formula data into a Formula. Formula data with an unexpected <code>"formula"</code> value is
+     * parsed as a Number of 0.
+     *
+     * @param formulaData formula data
+     * @return a Formula
+     */
+    static Formula parse(JsonObject formulaData) {
+        Scale scale = Scale.parseFormulaScale(formulaData);
+        String formula = formulaData.getString("formula");
+        return switch (formula == null ? "" : formula) {
+            case "range" -> new Range(
+                    Objects.requireNonNullElse(formulaData.getInteger("bonus"), 0),
+                    formulaData.getJsonArray("dice"),
+                    scale
+            );
+            case "modifier" -> new Modifier(parseObject(formulaData), formulaData.getString("ability"), scale);
+            case "ability" -> new Ability(parseObject(formulaData), formulaData.getString("ability"), scale);
+            case "proficiency" -> new Proficiency(parseObject(formulaData), scale);
+            case "level" -> new Level(parseObject(formulaData), formulaData.getString("class"), scale);
+            case "number" -> new Number(Objects.requireNonNullElse(formulaData.getInteger("number"), 0), scale);
+            default -> new Number(0, scale);
+        };
+    }
+
+    /**
+     * This helper method parses the object instructions of formula data.
+     *
+     * @param formulaData formula data
+     * @return an ObjectSelector, which fails to isolate any RPGLObject if the formula data does not specify an object
+     */
+    private static ObjectSelector parseObject(JsonObject formulaData) {
+        JsonObject instructions = formulaData.getJsonObject("object");
+        return instructions == null
+                ? new ObjectSelector(null, null, false, formulaData)
+                : ObjectSelector.parse(instructions);
+    }
+
+}
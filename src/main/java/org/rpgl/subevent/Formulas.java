@@ -0,0 +1,238 @@
+package org.rpgl.subevent;
+
+import org.rpgl.json.FrozenJson;
+import org.rpgl.json.JsonArena;
+import org.rpgl.json.JsonArray;
+import org.rpgl.json.JsonArrayBuilder;
+import org.rpgl.json.JsonObject;
+import org.rpgl.json.JsonObjectBuilder;
+
+/**
+ * This class builds the formula descriptors and Function instructions which RPGL passes to its own Subevents, such as
+ * the modifier bonus added to every AttackRoll. Descriptors are built by transient builders, so they are leased from
+ * the current JsonArena and must not be stored beyond the Subevent they are passed to.
+ *
+ * @author Calvin Withun
+ */
+public final class Formulas {
+
+    private static final JsonObject DEFAULT_SCALE = FrozenJson.freeze(JsonObjectBuilder.create()
+            .putInteger("numerator", 1)
+            .putInteger("denominator", 1)
+            .putBoolean("round_up", false)
+            .build());
+
+    private Formulas() {
+    }
+
+    /**
+     * Returns a <code>range</code> formula with no dice.
+     *
+     * <pre>{ "formula": "range", "dice": [ ], "bonus": &lt;bonus&gt; }</pre>
+     *
+     * @param bonus the bonus of the formula
+     * @return a JsonObject
+     */
+    public static JsonObject range(int bonus) {
+        return JsonObjectBuilder.createTransient()
+                .putString("formula", "range")
+                .putJsonArray("dice", JsonArrayBuilder.createTransient().build())
+                .putInteger("bonus", bonus)
+                .build();
+    }
+
+    /**
+     * Returns a <code>modifier</code> formula.
+     *
+     * <pre>{ "formula": "modifier", "ability": &lt;ability&gt;, "object": &lt;object&gt; }</pre>
+     *
+     * @param ability the ability whose modifier is used
+     * @param object instructions for the object whose ability modifier is used
+     * @return a JsonObject
+     */
+    public static JsonObject modifier(String ability, JsonObject object) {
+        return JsonObjectBuilder.createTransient()
+                .putString("formula", "modifier")
+                .putString("ability", ability)
+                .putJsonObject("object", object)
+                .build();
+    }
+
+    /**
+     * Returns a <code>proficiency</code> formula.
+     *
+     * <pre>{ "formula": "proficiency", "object": &lt;object&gt; }</pre>
+     *
+     * @param object instructions for the object whose proficiency bonus is used
+     * @return a JsonObject
+     */
+    public static JsonObject proficiency(JsonObject object) {
+        return JsonObjectBuilder.createTransient()
+                .putString("formula", "proficiency")
+                .putJsonObject("object", object)
+                .build();
+    }
+
+    /**
+     * Returns a <code>proficiency</code> formula with a scale.
+     *
+     * <pre>{ "formula": "proficiency", "object": &lt;object&gt;, "scale": &lt;scale&gt; }</pre>
+     *
+     * @param object instructions for the object whose proficiency bonus is used
+     * @param scale the scale applied to the proficiency bonus
+     * @return a JsonObject
+     */
+    public static JsonObject proficiency(JsonObject object, JsonObject scale) {
+        JsonObject formula = proficiency(object);
+        formula.putJsonObject("scale", scale);
+        return formula;
+    }
+
+    /**
+     * Returns a <code>number</code> formula, as accepted by <code>Calculation.processSetJson(...)</code>.
+     *
+     * <pre>{ "formula": "number", "number": &lt;number&gt; }</pre>
+     *
+     * @param number the number of the formula
+     * @return a JsonObject
+     */
+    public static JsonObject number(int number) {
+        return JsonObjectBuilder.createTransient()
+                .putString("formula", "number")
+                .putInteger("number", number)
+                .build();
+    }
+
+    /**
+     * Returns instructions selecting an object of the Subevent a formula is applied to.
+     *
+     * <pre>{ "from": "subevent", "object": &lt;object&gt; }</pre>
+     *
+     * @param object <code>"source"</code> or <code>"target"</code>
+     * @return a JsonObject
+     */
+    public static JsonObject subeventObject(String object) {
+        return JsonObjectBuilder.createTransient()
+                .putString("from", "subevent")
+                .putString("object", object)
+                .build();
+    }
+
+    /**
+     * Returns instructions selecting an object of the Subevent a formula is applied to, or that object's origin object.
+     *
+     * <pre>{ "from": "subevent", "object": &lt;object&gt;, "as_origin": &lt;asOrigin&gt; }</pre>
+     *
+     * @param object <code>"source"</code> or <code>"target"</code>
+     * @param asOrigin whether the origin object of the selected object should be used instead
+     * @return a JsonObject
+     */
+    public static JsonObject subeventObject(String object, Boolean asOrigin) {
+        JsonObject subeventObject = subeventObject(object);
+        subeventObject.putBoolean("as_origin", asOrigin);
+        return subeventObject;
+    }
+
+    /**
+     * Returns a scale to be applied to a bonus.
+     *
+     * <pre>{ "numerator": &lt;numerator&gt;, "denominator": &lt;denominator&gt;, "round_up": &lt;roundUp&gt; }</pre>
+     *
+     * @param numerator the numerator of the scale
+     * @param denominator the denominator of the scale
+     * @param roundUp whether the scaled bonus is rounded up
+     * @return a JsonObject
+     */
+    public static JsonObject scale(int numerator, int denominator, boolean roundUp) {
+        return JsonObjectBuilder.createTransient()
+                .putInteger("numerator", numerator)
+                .putInteger("denominator", denominator)
+                .putBoolean("round_up", roundUp)
+                .build();
+    }
+
+    /**
+     * Returns the scale applied to a bonus which does not specify one. This scale is frozen and shared.
+     *
+     * <pre>{ "numerator": 1, "denominator": 1, "round_up": false }</pre>
+     *
+     * @return a frozen JsonObject
+     */
+    public static JsonObject defaultScale() {
+        return DEFAULT_SCALE;
+    }
+
+    /**
+     * Returns an evaluated bonus, as produced by <code>Calculation.processBonusJson(...)</code>.
+     *
+     * <pre>{ "bonus": &lt;bonus&gt;, "dice": &lt;dice&gt;, "scale": &lt;scale&gt; }</pre>
+     *
+     * @param bonus the bonus
+     * @param dice the unpacked dice of the bonus
+     * @param scale the scale applied to the bonus
+     * @return a JsonObject
+     */
+    public static JsonObject bonus(Integer bonus, JsonArray dice, JsonObject scale) {
+        return JsonObjectBuilder.createTransient()
+                .putInteger("bonus", bonus)
+                .putJsonArray("dice", dice)
+                .putJsonObject("scale", scale)
+                .build();
+    }
+
+    /**
+     * This method assigns a damage type to a formula.
+     *
+     * @param formula a formula
+     * @param damageType the damage type of the formula
+     * @return the passed formula
+     */
+    public static JsonObject withDamageType(JsonObject formula, String damageType) {
+        formula.putString("damage_type", damageType);
+        return formula;
+    }
+
+    /**
+     * Returns instructions for the <code>add_bonus</code> Function.
+     *
+     * <pre>{ "function": "add_bonus", "bonus": [ &lt;formulas&gt; ] }</pre>
+     *
+     * @param formulas the bonus formulas to be added
+     * @return a JsonObject
+     */
+    public static JsonObject addBonus(JsonObject... formulas) {
+        return function("add_bonus", "bonus", formulas);
+    }
+
+    /**
+     * Returns instructions for the <code>add_damage</code> Function.
+     *
+     * <pre>{ "function": "add_damage", "damage": [ &lt;formulas&gt; ] }</pre>
+     *
+     * @param formulas the damage formulas to be added
+     * @return a JsonObject
+     */
+    public static JsonObject addDamage(JsonObject... formulas) {
+        return function("add_damage", "damage", formulas);
+    }
+
+    /**
+     * This helper method builds instructions for a Function which accepts an array of formulas.
+     *
+     * @param functionId the ID of the Function
+     * @param key the key of the formula array
+     * @param formulas the formulas
+     * @return a JsonObject
+     */
+    private static JsonObject function(String functionId, String key, JsonObject[] formulas) {
+        JsonArrayBuilder formulaArray = JsonArrayBuilder.createTransient();
+        for (JsonObject formula : formulas) {
+            formulaArray.addJsonObject(formula);
+        }
+        return JsonObjectBuilder.createTransient()
+                .putString("function", functionId)
+                .putJsonArray(key, formulaArray.build())
+                .build();
+    }
+
+}
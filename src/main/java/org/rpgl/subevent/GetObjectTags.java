@@ -21,6 +21,11 @@ public class GetObjectTags extends Subevent {
         super("get_object_tags");
     }
 
+    @Override
+    public boolean modifiesState() {
+        return false;
+    }
+
     @Override
     public Subevent clone() {
         Subevent clone = new GetObjectTags();
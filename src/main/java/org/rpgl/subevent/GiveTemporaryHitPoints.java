@@ -4,6 +4,7 @@ import org.rpgl.core.RPGLContext;
 import org.rpgl.core.RPGLObject;
 import org.rpgl.json.JsonArray;
 import org.rpgl.json.JsonObject;
+import org.rpgl.json.JsonObjectBuilder;
 
 import java.util.ArrayList;
 
@@ -105,13 +106,10 @@ public class GiveTemporaryHitPoints extends Subevent implements CancelableSubeve
          * Collect base temporary hit point dice and bonuses
          */
         TemporaryHitPointCollection baseTemporaryHitPointCollection = new TemporaryHitPointCollection();
-        baseTemporaryHitPointCollection.joinSubeventData(new JsonObject() {{
-            this.putJsonArray("temporary_hit_points", json.removeJsonArray("temporary_hit_points"));
-            this.putJsonArray("tags", new JsonArray() {{
-                this.asList().addAll(json.getJsonArray("tags").asList());
-                this.addString("base_temporary_hit_point_collection");
-            }});
-        }});
+        baseTemporaryHitPointCollection.joinSubeventData(JsonObjectBuilder.createTransient()
+                .putJsonArray("temporary_hit_points", this.json.removeJsonArray("temporary_hit_points"))
+                .putJsonArray("tags", this.nestedTags("base_temporary_hit_point_collection"))
+                .build());
         baseTemporaryHitPointCollection.setOriginItem(super.getOriginItem());
         baseTemporaryHitPointCollection.setSource(super.getSource());
         baseTemporaryHitPointCollection.prepare(context, originPoint);
@@ -122,13 +120,10 @@ public class GiveTemporaryHitPoints extends Subevent implements CancelableSubeve
          * Roll base temporary hit point dice
          */
         TemporaryHitPointRoll baseTemporaryHitPointRoll = new TemporaryHitPointRoll();
-        baseTemporaryHitPointRoll.joinSubeventData(new JsonObject() {{
-            this.putJsonArray("temporary_hit_points", baseTemporaryHitPointCollection.getTemporaryHitPointsCollection());
-            this.putJsonArray("tags", new JsonArray() {{
-                this.asList().addAll(json.getJsonArray("tags").asList());
-                this.addString("base_temporary_hit_points_roll");
-            }});
-        }});
+        baseTemporaryHitPointRoll.joinSubeventData(JsonObjectBuilder.createTransient()
+                .putJsonArray("temporary_hit_points", baseTemporaryHitPointCollection.getTemporaryHitPointsCollection())
+                .putJsonArray("tags", this.nestedTags("base_temporary_hit_points_roll"))
+                .build());
         baseTemporaryHitPointRoll.setOriginItem(super.getOriginItem());
         baseTemporaryHitPointRoll.setSource(super.getSource());
         baseTemporaryHitPointRoll.prepare(context, originPoint);
@@ -154,12 +149,9 @@ public class GiveTemporaryHitPoints extends Subevent implements CancelableSubeve
          * Collect target typed temporary hit points dice and bonuses
          */
         TemporaryHitPointCollection targetTemporaryHitPointsCollection = new TemporaryHitPointCollection();
-        targetTemporaryHitPointsCollection.joinSubeventData(new JsonObject() {{
-            this.putJsonArray("tags", new JsonArray() {{
-                this.asList().addAll(json.getJsonArray("tags").asList());
-                this.addString("target_temporary_hit_point_collection");
-            }});
-        }});
+        targetTemporaryHitPointsCollection.joinSubeventData(JsonObjectBuilder.createTransient()
+                .putJsonArray("tags", this.nestedTags("target_temporary_hit_point_collection"))
+                .build());
         targetTemporaryHitPointsCollection.setOriginItem(super.getOriginItem());
         targetTemporaryHitPointsCollection.setSource(super.getSource());
         targetTemporaryHitPointsCollection.prepare(context, originPoint);
@@ -170,13 +162,10 @@ public class GiveTemporaryHitPoints extends Subevent implements CancelableSubeve
          * Roll target temporary hit points dice
          */
         TemporaryHitPointRoll targetTemporaryHitPointRoll = new TemporaryHitPointRoll();
-        targetTemporaryHitPointRoll.joinSubeventData(new JsonObject() {{
-            this.putJsonArray("temporary_hit_points", targetTemporaryHitPointsCollection.getTemporaryHitPointsCollection());
-            this.putJsonArray("tags", new JsonArray() {{
-                this.asList().addAll(json.getJsonArray("tags").asList());
-                this.addString("target_healing_roll");
-            }});
-        }});
+        targetTemporaryHitPointRoll.joinSubeventData(JsonObjectBuilder.createTransient()
+                .putJsonArray("temporary_hit_points", targetTemporaryHitPointsCollection.getTemporaryHitPointsCollection())
+                .putJsonArray("tags", this.nestedTags("target_healing_roll"))
+                .build());
         targetTemporaryHitPointRoll.setOriginItem(super.getOriginItem());
         targetTemporaryHitPointRoll.setSource(super.getSource());
         targetTemporaryHitPointRoll.prepare(context, originPoint);
@@ -198,10 +187,10 @@ public class GiveTemporaryHitPoints extends Subevent implements CancelableSubeve
      */
     void deliverTemporaryHitPoints(RPGLContext context, JsonArray originPoint) throws Exception {
         TemporaryHitPointsDelivery temporaryHitPointsDelivery = new TemporaryHitPointsDelivery();
-        temporaryHitPointsDelivery.joinSubeventData(new JsonObject() {{
-            this.putJsonArray("temporary_hit_points", json.getJsonArray("temporary_hit_points"));
-            this.putJsonArray("tags", json.getJsonArray("tags").deepClone());
-        }});
+        temporaryHitPointsDelivery.joinSubeventData(JsonObjectBuilder.createTransient()
+                .putJsonArray("temporary_hit_points", this.json.getJsonArray("temporary_hit_points"))
+                .putJsonArray("tags", this.nestedTags())
+                .build());
         temporaryHitPointsDelivery.setOriginItem(super.getOriginItem());
         temporaryHitPointsDelivery.setSource(super.getSource());
         temporaryHitPointsDelivery.prepare(context, originPoint);
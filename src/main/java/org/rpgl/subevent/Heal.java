@@ -4,6 +4,7 @@ import org.rpgl.core.RPGLContext;
 import org.rpgl.core.RPGLObject;
 import org.rpgl.json.JsonArray;
 import org.rpgl.json.JsonObject;
+import org.rpgl.json.JsonObjectBuilder;
 
 import java.util.ArrayList;
 
@@ -105,13 +106,10 @@ public class Heal extends Subevent implements CancelableSubevent {
          * Collect base typed healing dice and bonuses
          */
         HealingCollection baseHealingCollection = new HealingCollection();
-        baseHealingCollection.joinSubeventData(new JsonObject() {{
-            this.putJsonArray("healing", json.removeJsonArray("healing"));
-            this.putJsonArray("tags", new JsonArray() {{
-                this.asList().addAll(json.getJsonArray("tags").asList());
-                this.addString("base_healing_collection");
-            }});
-        }});
+        baseHealingCollection.joinSubeventData(JsonObjectBuilder.createTransient()
+                .putJsonArray("healing", this.json.removeJsonArray("healing"))
+                .putJsonArray("tags", this.nestedTags("base_healing_collection"))
+                .build());
         baseHealingCollection.setOriginItem(super.getOriginItem());
         baseHealingCollection.setSource(super.getSource());
         baseHealingCollection.prepare(context, originPoint);
@@ -122,13 +120,10 @@ public class Heal extends Subevent implements CancelableSubevent {
          * Roll base healing dice
          */
         HealingRoll baseHealingRoll = new HealingRoll();
-        baseHealingRoll.joinSubeventData(new JsonObject() {{
-            this.putJsonArray("healing", baseHealingCollection.getHealingCollection());
-            this.putJsonArray("tags", new JsonArray() {{
-                this.asList().addAll(json.getJsonArray("tags").asList());
-                this.addString("base_healing_roll");
-            }});
-        }});
+        baseHealingRoll.joinSubeventData(JsonObjectBuilder.createTransient()
+                .putJsonArray("healing", baseHealingCollection.getHealingCollection())
+                .putJsonArray("tags", this.nestedTags("base_healing_roll"))
+                .build());
         baseHealingRoll.setOriginItem(super.getOriginItem());
         baseHealingRoll.setSource(super.getSource());
         baseHealingRoll.prepare(context, originPoint);
@@ -146,12 +141,9 @@ public class Heal extends Subevent implements CancelableSubevent {
          * Collect target typed healing dice and bonuses
          */
         HealingCollection targetHealingCollection = new HealingCollection();
-        targetHealingCollection.joinSubeventData(new JsonObject() {{
-            this.putJsonArray("tags", new JsonArray() {{
-                this.asList().addAll(json.getJsonArray("tags").asList());
-                this.addString("target_healing_collection");
-            }});
-        }});
+        targetHealingCollection.joinSubeventData(JsonObjectBuilder.createTransient()
+                .putJsonArray("tags", this.nestedTags("target_healing_collection"))
+                .build());
         targetHealingCollection.setOriginItem(super.getOriginItem());
         targetHealingCollection.setSource(super.getSource());
         targetHealingCollection.prepare(context, originPoint);
@@ -162,13 +154,10 @@ public class Heal extends Subevent implements CancelableSubevent {
          * Roll target healing dice
          */
         HealingRoll targetHealingRoll = new HealingRoll();
-        targetHealingRoll.joinSubeventData(new JsonObject() {{
-            this.putJsonArray("healing", targetHealingCollection.getHealingCollection());
-            this.putJsonArray("tags", new JsonArray() {{
-                this.asList().addAll(json.getJsonArray("tags").asList());
-                this.addString("target_healing_roll");
-            }});
-        }});
+        targetHealingRoll.joinSubeventData(JsonObjectBuilder.createTransient()
+                .putJsonArray("healing", targetHealingCollection.getHealingCollection())
+                .putJsonArray("tags", this.nestedTags("target_healing_roll"))
+                .build());
         targetHealingRoll.setOriginItem(super.getOriginItem());
         targetHealingRoll.setSource(super.getSource());
         targetHealingRoll.prepare(context, originPoint);
@@ -190,10 +179,10 @@ public class Heal extends Subevent implements CancelableSubevent {
      */
     void deliverHealing(RPGLContext context, JsonArray originPoint) throws Exception {
         HealingDelivery healingDelivery = new HealingDelivery();
-        healingDelivery.joinSubeventData(new JsonObject() {{
-            this.putJsonArray("healing", json.getJsonArray("healing"));
-            this.putJsonArray("tags", json.getJsonArray("tags").deepClone());
-        }});
+        healingDelivery.joinSubeventData(JsonObjectBuilder.createTransient()
+                .putJsonArray("healing", this.json.getJsonArray("healing"))
+                .putJsonArray("tags", this.nestedTags())
+                .build());
         healingDelivery.setOriginItem(super.getOriginItem());
         healingDelivery.setSource(super.getSource());
         healingDelivery.prepare(context, originPoint);
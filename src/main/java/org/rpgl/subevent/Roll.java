@@ -30,6 +30,12 @@ public abstract class Roll extends Calculation implements AbilitySubevent, Cance
         return this;
     }
 
+    @Override
+    public boolean modifiesState() {
+        // rolls go on to act on their outcome
+        return true;
+    }
+
     @Override
     public void cancel() {
         this.json.putBoolean("canceled", true);
@@ -5,6 +5,7 @@ import org.rpgl.core.RPGLObject;
 import org.rpgl.function.AddBonus;
 import org.rpgl.json.JsonArray;
 import org.rpgl.json.JsonObject;
+import org.rpgl.json.JsonObjectBuilder;
 import org.rpgl.uuidtable.UUIDTable;
 
 import java.util.ArrayList;
@@ -47,36 +48,13 @@ public class SavingThrow extends Roll {
         this.verifySubevent(this.subeventId);
 
         // Override invoke() code to insert additional post-preparatory logic
-        new AddBonus().execute(null, this, new JsonObject() {{
-                /*{
-                    "function": "add_bonus",
-                    "bonus": [
-                        {
-                            "formula": "modifier",
-                            "ability": <getAbility>,
-                            "object": {
-                                "from": "subevent",
-                                "object", "target"
-                            }
-                        }
-                    ]
-                }*/
-            this.putString("function", "add_bonus");
-            this.putJsonArray("bonus", new JsonArray() {{
-                this.addJsonObject(new JsonObject() {{
-                    this.putString("formula", "modifier");
-                    this.putString("ability", getAbility(context));
-                    this.putJsonObject("object", new JsonObject() {{
-                        this.putString("from", "subevent");
-                        this.putString("object", "target");
-                    }});
-                }});
-            }});
-        }}, context, originPoint);
+        new AddBonus().execute(null, this, Formulas.addBonus(
+                Formulas.modifier(this.getAbility(context), Formulas.subeventObject("target"))
+        ), context, originPoint);
 
         context.processSubevent(this, context, originPoint);
         this.run(context, originPoint);
-        context.viewCompletedSubevent(this);
+        context.reportCompletedSubevent(this);
         return this;
     }
 
@@ -154,14 +132,14 @@ public class SavingThrow extends Roll {
 
         CalculateDifficultyClass calculateDifficultyClass = new CalculateDifficultyClass()
                 .joinSubeventData(difficultyClass == null
-                        ? new JsonObject() {{
-                            this.putString("difficulty_class_ability", json.getString("difficulty_class_ability"));
-                            this.putJsonArray("tags", json.getJsonArray("tags").deepClone());
-                        }}
-                        : new JsonObject() {{
-                            this.putInteger("difficulty_class", difficultyClass);
-                            this.putJsonArray("tags", json.getJsonArray("tags").deepClone());
-                        }})
+                        ? JsonObjectBuilder.createTransient()
+                                .putString("difficulty_class_ability", this.json.getString("difficulty_class_ability"))
+                                .putJsonArray("tags", this.nestedTags())
+                                .build()
+                        : JsonObjectBuilder.createTransient()
+                                .putInteger("difficulty_class", difficultyClass)
+                                .putJsonArray("tags", this.nestedTags())
+                                .build())
                 .setOriginItem(super.getOriginItem())
                 .setSource(this.json.getBoolean("use_origin_difficulty_class_ability")
                         ? UUIDTable.getObject(super.getSource().getOriginObject())
@@ -187,13 +165,10 @@ public class SavingThrow extends Roll {
          * Collect base typed damage dice and bonuses
          */
         DamageCollection baseDamageCollection = new DamageCollection()
-                .joinSubeventData(new JsonObject() {{
-                    this.putJsonArray("damage", json.getJsonArray("damage").deepClone());
-                    this.putJsonArray("tags", new JsonArray() {{
-                        this.asList().addAll(json.getJsonArray("tags").asList());
-                        this.addString("base_damage_collection");
-                    }});
-                }})
+                .joinSubeventData(JsonObjectBuilder.createTransient()
+                        .putJsonArray("damage", this.json.getJsonArray("damage"))
+                        .putJsonArray("tags", this.nestedTags("base_damage_collection"))
+                        .build())
                 .setOriginItem(super.getOriginItem())
                 .setSource(super.getSource())
                 .prepare(context, originPoint)
@@ -204,13 +179,10 @@ public class SavingThrow extends Roll {
          * Roll base damage dice
          */
         DamageRoll baseDamageRoll = new DamageRoll()
-                .joinSubeventData(new JsonObject() {{
-                    this.putJsonArray("damage", baseDamageCollection.getDamageCollection().deepClone());
-                    this.putJsonArray("tags", new JsonArray() {{
-                        this.asList().addAll(json.getJsonArray("tags").asList());
-                        this.addString("base_damage_roll");
-                    }});
-                }})
+                .joinSubeventData(JsonObjectBuilder.createTransient()
+                        .putJsonArray("damage", baseDamageCollection.getDamageCollection())
+                        .putJsonArray("tags", this.nestedTags("base_damage_roll"))
+                        .build())
                 .setOriginItem(super.getOriginItem())
                 .setSource(super.getSource())
                 .prepare(context, originPoint)
@@ -236,12 +208,9 @@ public class SavingThrow extends Roll {
          * Collect target typed damage dice and bonuses
          */
         DamageCollection targetDamageCollection = new DamageCollection()
-                .joinSubeventData(new JsonObject() {{
-                    this.putJsonArray("tags", new JsonArray() {{
-                        this.asList().addAll(json.getJsonArray("tags").asList());
-                        this.addString("target_damage_collection");
-                    }});
-                }})
+                .joinSubeventData(JsonObjectBuilder.createTransient()
+                        .putJsonArray("tags", this.nestedTags("target_damage_collection"))
+                        .build())
                 .setOriginItem(super.getOriginItem())
                 .setSource(super.getSource())
                 .prepare(context, originPoint)
@@ -252,13 +221,10 @@ public class SavingThrow extends Roll {
          * Roll target damage dice
          */
         DamageRoll targetDamageRoll = new DamageRoll()
-                .joinSubeventData(new JsonObject() {{
-                    this.putJsonArray("damage", targetDamageCollection.getDamageCollection().deepClone());
-                    this.putJsonArray("tags", new JsonArray() {{
-                        this.asList().addAll(json.getJsonArray("tags").asList());
-                        this.addString("target_damage_roll");
-                    }});
-                }})
+                .joinSubeventData(JsonObjectBuilder.createTransient()
+                        .putJsonArray("damage", targetDamageCollection.getDamageCollection())
+                        .putJsonArray("tags", this.nestedTags("target_damage_roll"))
+                        .build())
                 .setOriginItem(super.getOriginItem())
                 .setSource(super.getSource())
                 .prepare(context, originPoint)
@@ -305,11 +271,11 @@ public class SavingThrow extends Roll {
     void deliverDamage(String damageProportion, RPGLContext context, JsonArray originPoint) throws Exception {
         if (!"none".equals(damageProportion)) {
             DamageDelivery damageDelivery = new DamageDelivery()
-                    .joinSubeventData(new JsonObject() {{
-                        this.putJsonArray("damage", json.getJsonArray("damage"));
-                        this.putString("damage_proportion", damageProportion);
-                        this.putJsonArray("tags", json.getJsonArray("tags").deepClone());
-                    }})
+                    .joinSubeventData(JsonObjectBuilder.createTransient()
+                            .putJsonArray("damage", this.json.getJsonArray("damage"))
+                            .putString("damage_proportion", damageProportion)
+                            .putJsonArray("tags", this.nestedTags())
+                            .build())
                     .setOriginItem(super.getOriginItem())
                     .setSource(super.getSource())
                     .prepare(context, originPoint)
@@ -68,10 +68,7 @@ public class SpawnObject extends Subevent {
     public SpawnObject run(RPGLContext context, JsonArray originPoint) throws Exception {
         RPGLObject spawnedObject = RPGLFactory.newObject(
                 this.json.getString("object_id"),
-                RPGLEffect.getObject(null, this, new JsonObject() {{
-                    this.putString("from", "subevent");
-                    this.putString("object", json.getString("controlled_by"));
-                }}).getUserId(),
+                RPGLEffect.getObject(null, this, Formulas.subeventObject(this.json.getString("controlled_by"))).getUserId(),
                 originPoint.deepClone(),
                 this.getSource().getRotation().deepClone(),
                 this.json.getJsonArray("object_bonuses")
@@ -1,18 +1,20 @@
 package org.rpgl.subevent;
 
+import org.rpgl.condition.ConditionBatch;
+import org.rpgl.core.CalculationMemo;
 import org.rpgl.core.RPGLContext;
 import org.rpgl.core.RPGLEffect;
 import org.rpgl.core.RPGLObject;
+import org.rpgl.core.RPGLRuntime;
 import org.rpgl.exception.SubeventMismatchException;
+import org.rpgl.json.JsonArena;
 import org.rpgl.json.JsonArray;
+import org.rpgl.json.JsonArrayBuilder;
 import org.rpgl.json.JsonObject;
 import org.rpgl.uuidtable.UUIDTable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -27,16 +29,19 @@ public abstract class Subevent {
     private static final Logger LOGGER = LoggerFactory.getLogger(Subevent.class);
 
     /**
-     * A map of all Subevents which can be used in the JSON of an RPGLEvent.
+     * A map of all Subevents which can be used in the JSON of an RPGLEvent. This map operates on the Subevents of the
+     * current RPGLRuntime.
      */
-    public static final Map<String, Subevent> SUBEVENTS = new HashMap<>();
+    public static final Map<String, Subevent> SUBEVENTS = RPGLRuntime.registry(RPGLRuntime::getSubevents);
 
-    public JsonObject json = new JsonObject();
+    public JsonObject json;
 
-    public List<RPGLEffect> appliedEffects = new LinkedList<>();
+    public List<RPGLEffect> appliedEffects;
 
     final String subeventId;
 
+    private ConditionBatch conditionBatch;
+
     /**
      * This method populates Subevent.SUBEVENTS.
      *
@@ -73,14 +78,17 @@ public abstract class Subevent {
 
     /**
      * Constructor for Subevent. New Subevents should be constructed via cloning from <code>Subevent.SUBEVENTS</code>
-     * rather than through the use of constructors.
+     * rather than through the use of constructors. If a JsonArena scope is open, the Subevent's JSON data, tags, and
+     * applied effects are leased from that JsonArena.
      *
      * @param subeventId the ID for the Subevent being constructed
      */
     public Subevent(String subeventId) {
         this.subeventId = subeventId;
+        this.json = JsonArena.newJsonObject();
+        this.appliedEffects = JsonArena.newList();
         this.json.putString("subevent", subeventId);
-        this.json.asMap().putIfAbsent("tags", new ArrayList<>());
+        this.json.putJsonArray("tags", JsonArena.newJsonArray());
         this.addTag(subeventId);
     }
 
@@ -113,6 +121,21 @@ public abstract class Subevent {
         return this.json.getJsonArray("tags");
     }
 
+    /**
+     * Returns a transient copy of the Subevent's tags, followed by any additional tags, to be passed to a Subevent
+     * nested inside this one.
+     *
+     * @param additionalTags tags to be added after the Subevent's tags
+     * @return a JsonArray of tags
+     */
+    JsonArray nestedTags(String... additionalTags) {
+        JsonArrayBuilder tags = JsonArrayBuilder.createTransient().addAll(this.getTags());
+        for (String tag : additionalTags) {
+            tags.addString(tag);
+        }
+        return tags.build();
+    }
+
     /**
      * Verifies that the additional information provided to <code>invoke(...)</code> is intended for the Subevent type
      * being invoked.
@@ -193,7 +216,10 @@ public abstract class Subevent {
         this.verifySubevent(this.subeventId);
         context.processSubevent(this, context, originPoint);
         this.run(context, originPoint);
-        context.viewCompletedSubevent(this);
+        if (this.modifiesState()) {
+            CalculationMemo.invalidate();
+        }
+        context.reportCompletedSubevent(this);
         return this;
     }
 
@@ -209,6 +235,17 @@ public abstract class Subevent {
      */
     public abstract Subevent run(@SuppressWarnings("unused") RPGLContext context, JsonArray originPoint) throws Exception;
 
+    /**
+     * Returns whether invoking this Subevent may change the state of anything other than the Subevent itself. When a
+     * Subevent which modifies state is completed, any calculation results memoized by a CalculationMemo are
+     * discarded. This method returns true by default.
+     *
+     * @return true if invoking this Subevent may change the state of RPGL
+     */
+    public boolean modifiesState() {
+        return true;
+    }
+
     /**
      * Adds a modifying RPGLEffect to the Subevent. Once a RPGLEffect is added in this way, the Subevent cannot be
      * modified by that RPGLEffect or another with the same effectId (unless duplicates are allowed for that type of
@@ -314,6 +351,28 @@ public abstract class Subevent {
         return this;
     }
 
+    /**
+     * Returns the ConditionBatch shared by this Subevent and the other clones fanned out alongside it, or null if this
+     * Subevent does not belong to a batch.
+     *
+     * @return a ConditionBatch, or null
+     */
+    public ConditionBatch getConditionBatch() {
+        return this.conditionBatch;
+    }
+
+    /**
+     * Assigns a ConditionBatch to this Subevent. ConditionBatches are not copied when a Subevent is cloned.
+     *
+     * @param conditionBatch a ConditionBatch, or null
+     * @return this Subevent
+     */
+    @SuppressWarnings("UnusedReturnValue")
+    public Subevent setConditionBatch(ConditionBatch conditionBatch) {
+        this.conditionBatch = conditionBatch;
+        return this;
+    }
+
     @Override
     public String toString() {
         return this.json.toString();
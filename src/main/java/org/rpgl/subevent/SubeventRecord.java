@@ -0,0 +1,121 @@
+package org.rpgl.subevent;
+
+import org.rpgl.json.JsonObject;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This record is an immutable snapshot of a completed Subevent. Unlike the Subevent itself, a SubeventRecord may be
+ * read from any thread at any time after it is created, regardless of what the engine does to the Subevent afterwards.
+ *
+ * @param subeventId the ID of the Subevent
+ * @param source the UUID of the Subevent's source, or null
+ * @param target the UUID of the Subevent's target, or null
+ * @param tags the Subevent's tags
+ * @param data an unmodifiable deep copy of the Subevent's JSON data
+ *
+ * @author Calvin Withun
+ */
+public record SubeventRecord(String subeventId, String source, String target, List<Object> tags, Map<String, Object> data) {
+
+    /**
+     * This method creates a SubeventRecord from a Subevent.
+     *
+     * @param subevent a completed Subevent
+     * @return a SubeventRecord
+     */
+    public static SubeventRecord of(Subevent subevent) {
+        Map<String, Object> data = freezeMap(subevent.json.asMap());
+        @SuppressWarnings("unchecked")
+        List<Object> tags = data.get("tags") instanceof List<?> list ? (List<Object>) list : List.of();
+        return new SubeventRecord(
+                subevent.getSubeventId(),
+                subevent.json.getString("source"),
+                subevent.json.getString("target"),
+                tags,
+                data
+        );
+    }
+
+    /**
+     * Returns a modifiable deep copy of the recorded JSON data.
+     *
+     * @return a JsonObject
+     */
+    public JsonObject toJsonObject() {
+        return new JsonObject(thawMap(this.data));
+    }
+
+    /**
+     * This helper method creates an unmodifiable deep copy of a JSON map.
+     *
+     * @param map a JSON map
+     * @return an unmodifiable deep copy of the passed map
+     */
+    private static Map<String, Object> freezeMap(Map<String, Object> map) {
+        Map<String, Object> copy = new HashMap<>();
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            copy.put(entry.getKey(), freeze(entry.getValue()));
+        }
+        return Collections.unmodifiableMap(copy);
+    }
+
+    /**
+     * This helper method creates an unmodifiable deep copy of a JSON value.
+     *
+     * @param value a JSON value
+     * @return an unmodifiable deep copy of the passed value
+     */
+    @SuppressWarnings("unchecked")
+    private static Object freeze(Object value) {
+        if (value instanceof Map<?, ?> map) {
+            return freezeMap((Map<String, Object>) map);
+        } else if (value instanceof List<?> list) {
+            List<Object> copy = new ArrayList<>(list.size());
+            for (Object element : list) {
+                copy.add(freeze(element));
+            }
+            return Collections.unmodifiableList(copy);
+        }
+        return value;
+    }
+
+    /**
+     * This helper method creates a modifiable deep copy of a frozen JSON map.
+     *
+     * @param map a frozen JSON map
+     * @return a modifiable deep copy of the passed map
+     */
+    private static HashMap<String, Object> thawMap(Map<String, Object> map) {
+        HashMap<String, Object> copy = new HashMap<>();
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            copy.put(entry.getKey(), thaw(entry.getValue()));
+        }
+        return copy;
+    }
+
+    /**
+     * This helper method creates a modifiable deep copy of a frozen JSON value.
+     *
+     * @param value a frozen JSON value
+     * @return a modifiable deep copy of the passed value
+     */
+    @SuppressWarnings("unchecked")
+    private static Object thaw(Object value) {
+        if (value instanceof Map<?, ?> map) {
+            return thawMap((Map<String, Object>) map);
+        } else if (value instanceof List<?> list) {
+            ArrayList<Object> copy = new ArrayList<>(list.size());
+            for (Object element : list) {
+                copy.add(thaw(element));
+            }
+            return copy;
+        }
+        return value;
+    }
+
+}
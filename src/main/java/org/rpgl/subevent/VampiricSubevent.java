@@ -1,8 +1,10 @@
 package org.rpgl.subevent;
 
 import org.rpgl.core.RPGLContext;
+import org.rpgl.json.JsonArena;
 import org.rpgl.json.JsonArray;
 import org.rpgl.json.JsonObject;
+import org.rpgl.json.JsonObjectBuilder;
 
 import java.util.Map;
 
@@ -36,30 +38,24 @@ public final class VampiricSubevent {
 
         if (vampiricHealing > 0) {
             HealingCollection vampiricHealingCollection = new HealingCollection();
-            vampiricHealingCollection.joinSubeventData(new JsonObject() {{
-                this.putJsonArray("tags", new JsonArray() {{
-                    this.asList().addAll(subevent.json.getJsonArray("tags").asList());
-                    this.addString("vampiric");
-                }});
-            }});
+            vampiricHealingCollection.joinSubeventData(JsonObjectBuilder.createTransient()
+                    .putJsonArray("tags", subevent.nestedTags("vampiric"))
+                    .build());
             vampiricHealingCollection.setOriginItem(subevent.getOriginItem());
             vampiricHealingCollection.setSource(subevent.getSource());
             vampiricHealingCollection.prepare(context, originPoint);
-            vampiricHealingCollection.addHealing(new JsonObject() {{
-                this.putJsonArray("dice", new JsonArray());
-                this.putInteger("bonus", vampiricHealing);
-            }});
+            vampiricHealingCollection.addHealing(JsonObjectBuilder.createTransient()
+                    .putJsonArray("dice", JsonArena.newJsonArray())
+                    .putInteger("bonus", vampiricHealing)
+                    .build());
             vampiricHealingCollection.setTarget(subevent.getSource());
             vampiricHealingCollection.invoke(context, originPoint);
 
             HealingRoll vampiricHealingRoll = new HealingRoll();
-            vampiricHealingRoll.joinSubeventData(new JsonObject() {{
-                this.putJsonArray("healing", vampiricHealingCollection.getHealingCollection());
-                this.putJsonArray("tags", new JsonArray() {{
-                    this.asList().addAll(subevent.json.getJsonArray("tags").asList());
-                    this.addString("vampiric");
-                }});
-            }});
+            vampiricHealingRoll.joinSubeventData(JsonObjectBuilder.createTransient()
+                    .putJsonArray("healing", vampiricHealingCollection.getHealingCollection())
+                    .putJsonArray("tags", subevent.nestedTags("vampiric"))
+                    .build());
             vampiricHealingRoll.setOriginItem(subevent.getOriginItem());
             vampiricHealingRoll.setSource(subevent.getSource());
             vampiricHealingRoll.prepare(context, originPoint);
@@ -67,13 +63,10 @@ public final class VampiricSubevent {
             vampiricHealingRoll.invoke(context, originPoint);
 
             HealingDelivery vampiricHealingDelivery = new HealingDelivery();
-            vampiricHealingDelivery.joinSubeventData(new JsonObject() {{
-                this.putJsonArray("healing", vampiricHealingRoll.getHealing());
-                this.putJsonArray("tags", new JsonArray() {{
-                    this.asList().addAll(subevent.json.getJsonArray("tags").asList());
-                    this.addString("vampiric");
-                }});
-            }});
+            vampiricHealingDelivery.joinSubeventData(JsonObjectBuilder.createTransient()
+                    .putJsonArray("healing", vampiricHealingRoll.getHealing())
+                    .putJsonArray("tags", subevent.nestedTags("vampiric"))
+                    .build());
             vampiricHealingDelivery.setOriginItem(subevent.getOriginItem());
             vampiricHealingDelivery.setSource(subevent.getSource());
             vampiricHealingDelivery.prepare(context, originPoint);
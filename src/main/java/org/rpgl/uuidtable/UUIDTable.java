@@ -1,9 +1,12 @@
 package org.rpgl.uuidtable;
 
+import org.rpgl.core.RPGLContext;
 import org.rpgl.core.RPGLEffect;
 import org.rpgl.core.RPGLItem;
 import org.rpgl.core.RPGLObject;
 import org.rpgl.core.RPGLResource;
+import org.rpgl.core.RPGLRuntime;
+import org.rpgl.core.RPGLTransaction;
 import org.rpgl.datapack.RPGLEffectTO;
 import org.rpgl.datapack.RPGLItemTO;
 import org.rpgl.datapack.RPGLObjectTO;
@@ -19,17 +22,24 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This class is dedicated to tracking all JsonObject objects which persist during runtime. Objects are given UUID's so
  * that they may reference them without the risk of generating an infinitely large JSON structure via mutual reference.
+ * Each RPGLRuntime has a UUIDTable of its own, and this class operates on the table of the current RPGLRuntime.
  *
  * @author Calvin Withun
  */
 public final class UUIDTable {
 
-    private static final Map<String, UUIDTableElement> UUID_TABLE = new ConcurrentHashMap<>();
+    /**
+     * This helper method returns the UUIDTable contents of the current RPGLRuntime.
+     *
+     * @return a Map of UUIDTableElements by UUID
+     */
+    private static Map<String, UUIDTableElement> table() {
+        return RPGLRuntime.current().getUuidTable();
+    }
 
     /**
      * This method assigns a UUIDTableElement a UUID and registers it with the UUIDTable. If the passed object already
@@ -41,11 +51,13 @@ public final class UUIDTable {
      */
     public static void register(UUIDTableElement uuidTableElement) {
         String uuid = uuidTableElement.getUuid();
-        while (uuid == null || UUID_TABLE.containsKey(uuid)) {
+        while (uuid == null || table().containsKey(uuid)) {
             uuid = UUID.randomUUID().toString();
         }
-        UUID_TABLE.put(uuid, uuidTableElement);
+        table().put(uuid, uuidTableElement);
         uuidTableElement.setUuid(uuid);
+        RPGLTransaction.logRegistration(uuidTableElement);
+        RPGLContext.invalidateSubscriptions();
     }
 
     /**
@@ -55,8 +67,9 @@ public final class UUIDTable {
      * @param uuid the UUID of a registered UUIDTableElement
      */
     public static UUIDTableElement unregister(String uuid) {
-        UUIDTableElement uuidTableElement = UUID_TABLE.remove(uuid);
+        UUIDTableElement uuidTableElement = table().remove(uuid);
         if (uuidTableElement != null) {
+            RPGLTransaction.logRemoval(uuidTableElement);
             uuidTableElement.deleteUuid();
         }
         return uuidTableElement;
@@ -68,7 +81,7 @@ public final class UUIDTable {
      * UUIDTableElement objects may result in errors.
      */
     public static void clear() {
-        UUID_TABLE.clear();
+        table().clear();
     }
 
     /**
@@ -80,8 +93,9 @@ public final class UUIDTable {
      */
     public static RPGLEffect getEffect(String uuid) {
         if (uuid != null) {
-            UUIDTableElement element = UUID_TABLE.get(uuid);
+            UUIDTableElement element = table().get(uuid);
             if (element instanceof RPGLEffect effect) {
+                RPGLTransaction.track(effect);
                 return effect;
             }
         }
@@ -97,8 +111,9 @@ public final class UUIDTable {
      */
     public static RPGLItem getItem(String uuid) {
         if (uuid != null) {
-            UUIDTableElement element = UUID_TABLE.get(uuid);
+            UUIDTableElement element = table().get(uuid);
             if (element instanceof RPGLItem item) {
+                RPGLTransaction.track(item);
                 return item;
             }
         }
@@ -114,8 +129,9 @@ public final class UUIDTable {
      */
     public static RPGLObject getObject(String uuid) {
         if (uuid != null) {
-            UUIDTableElement element = UUID_TABLE.get(uuid);
+            UUIDTableElement element = table().get(uuid);
             if (element instanceof RPGLObject object) {
+                RPGLTransaction.track(object);
                 return object;
             }
         }
@@ -131,8 +147,9 @@ public final class UUIDTable {
      */
     public static RPGLResource getResource(String uuid) {
         if (uuid != null) {
-            UUIDTableElement element = UUID_TABLE.get(uuid);
+            UUIDTableElement element = table().get(uuid);
             if (element instanceof RPGLResource resource) {
+                RPGLTransaction.track(resource);
                 return resource;
             }
         }
@@ -145,7 +162,7 @@ public final class UUIDTable {
      * @return the number of UUIDTableElement objects stored in UUIDTable
      */
     public static int size() {
-        return UUID_TABLE.size();
+        return table().size();
     }
 
     /**
@@ -169,7 +186,7 @@ public final class UUIDTable {
 
         BufferedWriter writer;
 
-        for (Map.Entry<String, UUIDTableElement> entry : UUID_TABLE.entrySet()) {
+        for (Map.Entry<String, UUIDTableElement> entry : table().entrySet()) {
             UUIDTableElement element = entry.getValue();
             if (element instanceof RPGLEffect effect) {
                 writer = new BufferedWriter(new FileWriter(effectsDirectory.getAbsolutePath() + File.separator + effect.getUuid() + ".json"));
@@ -239,7 +256,7 @@ public final class UUIDTable {
      */
     public static List<RPGLObject> getObjectsByUserId(String userId) {
         List<RPGLObject> objects = new ArrayList<>();
-        for (String uuid : UUID_TABLE.keySet()) {
+        for (String uuid : table().keySet()) {
             RPGLObject object = getObject(uuid);
             if (object != null && object.getUserId().equals(userId)) {
                 objects.add(object);
@@ -255,7 +272,7 @@ public final class UUIDTable {
      */
     public static List<RPGLObject> getObjects() {
         List<RPGLObject> objects = new ArrayList<>();
-        for (String uuid : UUID_TABLE.keySet()) {
+        for (String uuid : table().keySet()) {
             RPGLObject object = getObject(uuid);
             if (object != null) {
                 objects.add(object);
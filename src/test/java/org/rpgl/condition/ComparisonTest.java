@@ -0,0 +1,52 @@
+package org.rpgl.condition;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testing class for the org.rpgl.condition.Comparison class.
+ *
+ * @author Calvin Withun
+ */
+public class ComparisonTest {
+
+    @Test
+    @DisplayName("parses operators")
+    void parsesOperators() throws Exception {
+        for (Comparison comparison : Comparison.values()) {
+            assertEquals(comparison, Comparison.fromOperator(comparison.getOperator()),
+                    "operator " + comparison.getOperator() + " should parse to " + comparison
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("errors on unknown operator")
+    void errorsOnUnknownOperator() {
+        assertThrows(Exception.class,
+                () -> Comparison.fromOperator("!="),
+                "unknown operators should not be parsed"
+        );
+    }
+
+    @Test
+    @DisplayName("compares values")
+    void comparesValues() {
+        assertTrue(Comparison.EQUAL.test(1, 1), "1 = 1");
+        assertFalse(Comparison.EQUAL.test(1, 2), "1 = 2");
+        assertTrue(Comparison.GREATER.test(2, 1), "2 > 1");
+        assertFalse(Comparison.GREATER.test(1, 1), "1 > 1");
+        assertTrue(Comparison.LESS.test(1, 2), "1 < 2");
+        assertFalse(Comparison.LESS.test(1, 1), "1 < 1");
+        assertTrue(Comparison.GREATER_OR_EQUAL.test(1, 1), "1 >= 1");
+        assertFalse(Comparison.GREATER_OR_EQUAL.test(1, 2), "1 >= 2");
+        assertTrue(Comparison.LESS_OR_EQUAL.test(1, 1), "1 <= 1");
+        assertFalse(Comparison.LESS_OR_EQUAL.test(2, 1), "2 <= 1");
+    }
+
+}
@@ -0,0 +1,158 @@
+package org.rpgl.condition;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.rpgl.core.RPGLCore;
+import org.rpgl.core.RPGLEffect;
+import org.rpgl.core.RPGLFactory;
+import org.rpgl.core.RPGLObject;
+import org.rpgl.datapack.DatapackLoader;
+import org.rpgl.json.JsonObject;
+import org.rpgl.subevent.DummySubevent;
+import org.rpgl.testUtils.DummyContext;
+import org.rpgl.testUtils.TestUtils;
+import org.rpgl.uuidtable.UUIDTable;
+
+import java.io.File;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testing class for the org.rpgl.condition.ConditionBatch class.
+ *
+ * @author Calvin Withun
+ */
+public class ConditionBatchTest {
+
+    @BeforeAll
+    static void beforeAll() {
+        DatapackLoader.loadDatapacks(
+                new File("src/test/resources/datapacks".replace("/", File.separator))
+        );
+        RPGLCore.initializeTesting();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        DatapackLoader.DATAPACKS.clear();
+    }
+
+    @AfterEach
+    void afterEach() {
+        UUIDTable.clear();
+    }
+
+    @Test
+    @DisplayName("reuses results of target-independent conditions")
+    void reusesResultsOfTargetIndependentConditions() throws Exception {
+        RPGLObject object = RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER);
+        RPGLObject otherObject = RPGLFactory.newObject("debug:dummy", "Other User");
+
+        RPGLEffect dummyEffect = new RPGLEffect();
+        dummyEffect.setSource(object);
+
+        ConditionBatch conditionBatch = new ConditionBatch();
+        DummySubevent firstSubevent = new DummySubevent();
+        firstSubevent.setSource(object);
+        firstSubevent.setConditionBatch(conditionBatch);
+        DummySubevent secondSubevent = new DummySubevent();
+        secondSubevent.setSource(otherObject);
+        secondSubevent.setConditionBatch(conditionBatch);
+
+        JsonObject conditionJson = new JsonObject() {{
+            /*{
+                "condition": "user_ids_match",
+                "effect": "source",
+                "subevent": "source"
+            }*/
+            this.putString("condition", "user_ids_match");
+            this.putString("effect", "source");
+            this.putString("subevent", "source");
+        }};
+
+        assertTrue(new UserIdsMatch().evaluate(dummyEffect, firstSubevent, conditionJson, new DummyContext(), TestUtils.TEST_ARRAY_0_0_0),
+                "condition should evaluate true for the first subevent"
+        );
+        assertTrue(new UserIdsMatch().evaluate(dummyEffect, secondSubevent, conditionJson, new DummyContext(), TestUtils.TEST_ARRAY_0_0_0),
+                "condition should reuse the result stored by the batch rather than being evaluated again"
+        );
+    }
+
+    @Test
+    @DisplayName("does not reuse results of target-dependent conditions")
+    void doesNotReuseResultsOfTargetDependentConditions() throws Exception {
+        RPGLObject object = RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER);
+        RPGLObject otherObject = RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER);
+
+        RPGLEffect dummyEffect = new RPGLEffect();
+        dummyEffect.setTarget(object);
+
+        ConditionBatch conditionBatch = new ConditionBatch();
+        DummySubevent firstSubevent = new DummySubevent();
+        firstSubevent.setTarget(object);
+        firstSubevent.setConditionBatch(conditionBatch);
+        DummySubevent secondSubevent = new DummySubevent();
+        secondSubevent.setTarget(otherObject);
+        secondSubevent.setConditionBatch(conditionBatch);
+
+        JsonObject conditionJson = new JsonObject() {{
+            /*{
+                "condition": "objects_match",
+                "effect": "target",
+                "subevent": "target"
+            }*/
+            this.putString("condition", "objects_match");
+            this.putString("effect", "target");
+            this.putString("subevent", "target");
+        }};
+
+        assertTrue(new ObjectsMatch().evaluate(dummyEffect, firstSubevent, conditionJson, new DummyContext(), TestUtils.TEST_ARRAY_0_0_0),
+                "condition should evaluate true for the first subevent"
+        );
+        assertFalse(new ObjectsMatch().evaluate(dummyEffect, secondSubevent, conditionJson, new DummyContext(), TestUtils.TEST_ARRAY_0_0_0),
+                "condition should be evaluated again for the second subevent"
+        );
+    }
+
+    @Test
+    @DisplayName("discards results when inputs change")
+    void discardsResultsWhenInputsChange() throws Exception {
+        RPGLObject object = RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER);
+        RPGLObject otherObject = RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER);
+
+        RPGLEffect dummyEffect = new RPGLEffect();
+        dummyEffect.setSource(object);
+
+        ConditionBatch conditionBatch = new ConditionBatch();
+        DummySubevent firstSubevent = new DummySubevent();
+        firstSubevent.setSource(otherObject);
+        firstSubevent.setConditionBatch(conditionBatch);
+        DummySubevent secondSubevent = new DummySubevent();
+        secondSubevent.setSource(otherObject);
+        secondSubevent.setConditionBatch(conditionBatch);
+
+        JsonObject conditionJson = new JsonObject() {{
+            /*{
+                "condition": "user_ids_match",
+                "effect": "source",
+                "subevent": "source"
+            }*/
+            this.putString("condition", "user_ids_match");
+            this.putString("effect", "source");
+            this.putString("subevent", "source");
+        }};
+
+        assertTrue(new UserIdsMatch().evaluate(dummyEffect, firstSubevent, conditionJson, new DummyContext(), TestUtils.TEST_ARRAY_0_0_0),
+                "condition should evaluate true before the user id changes"
+        );
+        otherObject.setUserId("Other User");
+        assertFalse(new UserIdsMatch().evaluate(dummyEffect, secondSubevent, conditionJson, new DummyContext(), TestUtils.TEST_ARRAY_0_0_0),
+                "condition should be evaluated again after the user id changes"
+        );
+    }
+
+}
@@ -0,0 +1,150 @@
+package org.rpgl.condition;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.rpgl.core.RPGLCore;
+import org.rpgl.core.RPGLFactory;
+import org.rpgl.core.RPGLObject;
+import org.rpgl.datapack.DatapackLoader;
+import org.rpgl.exception.ConditionMismatchException;
+import org.rpgl.json.JsonArray;
+import org.rpgl.json.JsonObject;
+import org.rpgl.subevent.DummySubevent;
+import org.rpgl.testUtils.DummyContext;
+import org.rpgl.testUtils.TestUtils;
+import org.rpgl.uuidtable.UUIDTable;
+
+import java.io.File;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testing class for the org.rpgl.condition.ConditionNode class.
+ *
+ * @author Calvin Withun
+ */
+public class ConditionNodeTest {
+
+    @BeforeAll
+    static void beforeAll() {
+        DatapackLoader.loadDatapacks(
+                new File("src/test/resources/datapacks".replace("/", File.separator))
+        );
+        RPGLCore.initializeTesting();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        DatapackLoader.DATAPACKS.clear();
+    }
+
+    @AfterEach
+    void afterEach() {
+        UUIDTable.clear();
+    }
+
+    @Test
+    @DisplayName("errors on unknown condition")
+    void errorsOnUnknownCondition() {
+        assertThrows(ConditionMismatchException.class,
+                () -> ConditionNode.compile(new JsonObject() {{
+                    /*{
+                        "condition": "not_a_condition"
+                    }*/
+                    this.putString("condition", "not_a_condition");
+                }}),
+                "compiling an unknown condition should throw a ConditionMismatchException"
+        );
+    }
+
+    @Test
+    @DisplayName("binds condition and parameters")
+    void bindsConditionAndParameters() throws Exception {
+        ConditionNode conditionNode = ConditionNode.compile(new JsonObject() {{
+            /*{
+                "condition": "subevent_has_tag",
+                "tag": "test_tag"
+            }*/
+            this.putString("condition", "subevent_has_tag");
+            this.putString("tag", "test_tag");
+        }});
+
+        assertSame(Condition.CONDITIONS.get("subevent_has_tag"), conditionNode.getCondition(),
+                "node should be bound to the condition it names"
+        );
+        assertEquals("test_tag", conditionNode.getParameters(),
+                "node should hold the pre-parsed tag"
+        );
+    }
+
+    @Test
+    @DisplayName("evaluates nested conditions")
+    void evaluatesNestedConditions() throws Exception {
+        RPGLObject object = RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER);
+        object.getAbilityScores().putInteger("str", 15);
+
+        DummySubevent dummySubevent = new DummySubevent();
+        dummySubevent.setSource(object);
+
+        ConditionNode conditionNode = ConditionNode.compile(new JsonObject() {{
+            /*{
+                "condition": "all",
+                "conditions": [
+                    {
+                        "condition": "check_ability_score",
+                        "object": {
+                            "from": "subevent",
+                            "object": "source"
+                        },
+                        "ability": "str",
+                        "comparison": ">=",
+                        "compare_to": 15
+                    },
+                    {
+                        "condition": "invert",
+                        "invert": {
+                            "condition": "false"
+                        }
+                    }
+                ]
+            }*/
+            this.putString("condition", "all");
+            this.putJsonArray("conditions", new JsonArray() {{
+                this.addJsonObject(new JsonObject() {{
+                    this.putString("condition", "check_ability_score");
+                    this.putJsonObject("object", new JsonObject() {{
+                        this.putString("from", "subevent");
+                        this.putString("object", "source");
+                    }});
+                    this.putString("ability", "str");
+                    this.putString("comparison", ">=");
+                    this.putInteger("compare_to", 15);
+                }});
+                this.addJsonObject(new JsonObject() {{
+                    this.putString("condition", "invert");
+                    this.putJsonObject("invert", new JsonObject() {{
+                        this.putString("condition", "false");
+                    }});
+                }});
+            }});
+        }});
+
+        assertTrue(conditionNode.evaluate(null, dummySubevent, new DummyContext(), TestUtils.TEST_ARRAY_0_0_0),
+                "compiled conditions should evaluate true"
+        );
+
+        object.getAbilityScores().putInteger("str", 14);
+
+        assertFalse(conditionNode.evaluate(null, dummySubevent, new DummyContext(), TestUtils.TEST_ARRAY_0_0_0),
+                "compiled conditions should read ability scores when evaluated"
+        );
+    }
+
+}
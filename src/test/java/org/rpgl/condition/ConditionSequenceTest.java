@@ -0,0 +1,245 @@
+package org.rpgl.condition;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.rpgl.core.RPGLContext;
+import org.rpgl.core.RPGLCore;
+import org.rpgl.core.RPGLEffect;
+import org.rpgl.datapack.DatapackLoader;
+import org.rpgl.json.JsonArray;
+import org.rpgl.json.JsonObject;
+import org.rpgl.subevent.DummySubevent;
+import org.rpgl.subevent.Subevent;
+import org.rpgl.testUtils.DummyContext;
+import org.rpgl.testUtils.TestUtils;
+import org.rpgl.uuidtable.UUIDTable;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Testing class for the org.rpgl.condition.ConditionSequence class.
+ *
+ * @author Calvin Withun
+ */
+public class ConditionSequenceTest {
+
+    @BeforeAll
+    static void beforeAll() {
+        DatapackLoader.loadDatapacks(
+                new File("src/test/resources/datapacks".replace("/", File.separator))
+        );
+        RPGLCore.initializeTesting();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        DatapackLoader.DATAPACKS.clear();
+    }
+
+    @AfterEach
+    void afterEach() {
+        UUIDTable.clear();
+    }
+
+    @Test
+    @DisplayName("orders conditions by cost")
+    void ordersConditionsByCost() throws Exception {
+        ConditionSequence conditionSequence = ConditionSequence.compile(new JsonArray() {{
+            /*[
+                {
+                    "condition": "check_ability_score",
+                    "object": {
+                        "from": "subevent",
+                        "object": "source"
+                    },
+                    "ability": "str",
+                    "comparison": ">=",
+                    "compare_to": 10
+                },
+                {
+                    "condition": "subevent_has_tag",
+                    "tag": "dummy_subevent"
+                },
+                {
+                    "condition": "true"
+                }
+            ]*/
+            this.addJsonObject(checkAbilityScore("str"));
+            this.addJsonObject(subeventHasTag("dummy_subevent"));
+            this.addJsonObject(new JsonObject() {{
+                this.putString("condition", "true");
+            }});
+        }});
+
+        ConditionNode[] evaluationOrder = conditionSequence.getEvaluationOrder();
+        assertEquals("true", evaluationOrder[0].getConditionJson().getString("condition"),
+                "constant conditions should be evaluated first"
+        );
+        assertEquals("subevent_has_tag", evaluationOrder[1].getConditionJson().getString("condition"),
+                "subevent conditions should be evaluated second"
+        );
+        assertEquals("check_ability_score", evaluationOrder[2].getConditionJson().getString("condition"),
+                "dispatching conditions should be evaluated last"
+        );
+    }
+
+    @Test
+    @DisplayName("short-circuits failed conditions")
+    void shortCircuitsFailedConditions() throws Exception {
+        // the dummy subevent has no source, so check_ability_score would throw if it were evaluated
+        ConditionSequence conditionSequence = ConditionSequence.compile(new JsonArray() {{
+            this.addJsonObject(checkAbilityScore("str"));
+            this.addJsonObject(subeventHasTag("not_a_tag"));
+        }});
+
+        assertFalse(conditionSequence.evaluate(null, new DummySubevent(), new DummyContext(), TestUtils.TEST_ARRAY_0_0_0),
+                "sequence should fail without evaluating check_ability_score"
+        );
+    }
+
+    @Test
+    @DisplayName("keeps dispatching conditions in declared order")
+    void keepsDispatchingConditionsInDeclaredOrder() throws Exception {
+        ConditionSequence conditionSequence = ConditionSequence.compile(new JsonArray() {{
+            this.addJsonObject(checkAbilityScore("str"));
+            this.addJsonObject(checkAbilityScore("dex"));
+            this.addJsonObject(checkAbilityScore("con"));
+        }});
+
+        ConditionNode[] evaluationOrder = conditionSequence.getEvaluationOrder();
+        assertEquals("str", evaluationOrder[0].getConditionJson().getString("ability"),
+                "dispatching conditions should not be reordered"
+        );
+        assertEquals("dex", evaluationOrder[1].getConditionJson().getString("ability"),
+                "dispatching conditions should not be reordered"
+        );
+        assertEquals("con", evaluationOrder[2].getConditionJson().getString("ability"),
+                "dispatching conditions should not be reordered"
+        );
+    }
+
+    @Test
+    @DisplayName("reorders conditions by profile")
+    void reordersConditionsByProfile() throws Exception {
+        ConditionSequence conditionSequence = ConditionSequence.compile(new JsonArray() {{
+            this.addJsonObject(subeventHasTag("dummy_subevent"));
+            this.addJsonObject(subeventHasTag("not_a_tag"));
+        }});
+        DummySubevent dummySubevent = new DummySubevent();
+        dummySubevent.prepare(new DummyContext(), TestUtils.TEST_ARRAY_0_0_0);
+
+        assertEquals("dummy_subevent", conditionSequence.getEvaluationOrder()[0].getConditionJson().getString("tag"),
+                "conditions of equal cost should start in declared order"
+        );
+
+        for (int i = 0; i < ConditionSequence.REORDER_INTERVAL; i++) {
+            conditionSequence.evaluate(null, dummySubevent, new DummyContext(), TestUtils.TEST_ARRAY_0_0_0);
+        }
+
+        assertEquals("not_a_tag", conditionSequence.getEvaluationOrder()[0].getConditionJson().getString("tag"),
+                "the condition which always fails should be evaluated first once profiled"
+        );
+    }
+
+    @Test
+    @DisplayName("keeps custom conditions in declared order")
+    void keepsCustomConditionsInDeclaredOrder() throws Exception {
+        Condition customCondition = new Condition("custom") {
+            @Override
+            public boolean run(RPGLEffect effect, Subevent subevent, JsonObject conditionJson, RPGLContext context, JsonArray originPoint) {
+                return false;
+            }
+        };
+        ConditionSequence conditionSequence = new ConditionSequence(new ConditionNode[] {
+                customCondition.compile(new JsonObject() {{
+                    this.putString("condition", "custom");
+                }}),
+                ConditionNode.compile(subeventHasTag("not_a_tag")),
+        });
+        DummySubevent dummySubevent = new DummySubevent();
+        dummySubevent.prepare(new DummyContext(), TestUtils.TEST_ARRAY_0_0_0);
+
+        for (int i = 0; i < ConditionSequence.REORDER_INTERVAL; i++) {
+            conditionSequence.evaluate(null, dummySubevent, new DummyContext(), TestUtils.TEST_ARRAY_0_0_0);
+        }
+
+        ConditionNode[] evaluationOrder = conditionSequence.getEvaluationOrder();
+        assertEquals(ConditionCost.DISPATCH, evaluationOrder[1].getCost(),
+                "conditions which do not declare a cost should be assumed to have side effects"
+        );
+        assertEquals("custom", evaluationOrder[1].getConditionJson().getString("condition"),
+                "conditions which may have side effects should be evaluated last"
+        );
+    }
+
+    @Test
+    @DisplayName("reorders conditions evaluated from several threads by profile")
+    void reordersConditionsEvaluatedFromSeveralThreadsByProfile() throws Exception {
+        ConditionSequence conditionSequence = ConditionSequence.compile(new JsonArray() {{
+            this.addJsonObject(subeventHasTag("dummy_subevent"));
+            this.addJsonObject(subeventHasTag("not_a_tag"));
+        }});
+        DummySubevent dummySubevent = new DummySubevent();
+        dummySubevent.prepare(new DummyContext(), TestUtils.TEST_ARRAY_0_0_0);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> evaluations = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                evaluations.add(executor.submit(() -> {
+                    for (int i = 0; i < ConditionSequence.REORDER_INTERVAL; i++) {
+                        assertFalse(conditionSequence.evaluate(null, dummySubevent, new DummyContext(), TestUtils.TEST_ARRAY_0_0_0),
+                                "sequence should never be satisfied"
+                        );
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> evaluation : evaluations) {
+                evaluation.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals("not_a_tag", conditionSequence.getEvaluationOrder()[0].getConditionJson().getString("tag"),
+                "the condition which always fails should be evaluated first once profiled"
+        );
+        assertEquals(1.0, conditionSequence.getEvaluationOrder()[0].getFailureRate(),
+                "every evaluation of the failing condition should be recorded as a failure"
+        );
+    }
+
+    private static JsonObject checkAbilityScore(String ability) {
+        return new JsonObject() {{
+            this.putString("condition", "check_ability_score");
+            this.putJsonObject("object", new JsonObject() {{
+                this.putString("from", "subevent");
+                this.putString("object", "source");
+            }});
+            this.putString("ability", ability);
+            this.putString("comparison", ">=");
+            this.putInteger("compare_to", 10);
+        }};
+    }
+
+    private static JsonObject subeventHasTag(String tag) {
+        return new JsonObject() {{
+            this.putString("condition", "subevent_has_tag");
+            this.putString("tag", tag);
+        }};
+    }
+
+}
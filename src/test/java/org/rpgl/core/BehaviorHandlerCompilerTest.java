@@ -0,0 +1,384 @@
+package org.rpgl.core;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.rpgl.condition.Condition;
+import org.rpgl.condition.ConditionNode;
+import org.rpgl.datapack.Datapack;
+import org.rpgl.datapack.DatapackLoader;
+import org.rpgl.function.DummyFunction;
+import org.rpgl.function.Function;
+import org.rpgl.function.FunctionNode;
+import org.rpgl.json.JsonArray;
+import org.rpgl.json.JsonObject;
+import org.rpgl.subevent.DummySubevent;
+import org.rpgl.subevent.Subevent;
+import org.rpgl.testUtils.DummyContext;
+import org.rpgl.testUtils.TestUtils;
+import org.rpgl.uuidtable.UUIDTable;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testing class for the org.rpgl.core.BehaviorHandlerCompiler class.
+ *
+ * @author Calvin Withun
+ */
+public class BehaviorHandlerCompilerTest {
+
+    @BeforeAll
+    static void beforeAll() {
+        DatapackLoader.loadDatapacks(
+                new File("src/test/resources/datapacks".replace("/", File.separator))
+        );
+        RPGLCore.initializeTesting();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        DatapackLoader.DATAPACKS.clear();
+    }
+
+    @AfterEach
+    void afterEach() {
+        BehaviorHandlerCompiler.setEnabled(false);
+        UUIDTable.clear();
+        DummySubevent.resetCounter();
+        DummyFunction.resetCounter();
+    }
+
+    @Test
+    @DisplayName("does not compile while disabled")
+    void doesNotCompileWhileDisabled() throws Exception {
+        assertNull(BehaviorHandlerCompiler.compile(
+                ConditionNode.compileAll(createConditions("true")),
+                FunctionNode.compileAll(createFunctions())
+        ), "no handler should be generated while the compiler is disabled");
+    }
+
+    @Test
+    @DisplayName("generates handlers which run conditions and functions")
+    void generatesHandlersWhichRunConditionsAndFunctions() throws Exception {
+        BehaviorHandlerCompiler.setEnabled(true);
+        BehaviorHandler satisfiedHandler = BehaviorHandlerCompiler.compile(
+                ConditionNode.compileAll(createConditions("true", "true")),
+                FunctionNode.compileAll(createFunctions())
+        );
+        BehaviorHandler unsatisfiedHandler = BehaviorHandlerCompiler.compile(
+                ConditionNode.compileAll(createConditions("true", "false")),
+                FunctionNode.compileAll(createFunctions())
+        );
+        assertNotNull(satisfiedHandler,
+                "a handler should be generated for built-in conditions and functions"
+        );
+        assertNotNull(unsatisfiedHandler,
+                "a handler should be generated for built-in conditions and functions"
+        );
+
+        Subevent subevent = new DummySubevent();
+        subevent.prepare(new DummyContext(), TestUtils.TEST_ARRAY_0_0_0);
+        RPGLEffect effect = new RPGLEffect();
+
+        assertTrue(satisfiedHandler.evaluateConditions(effect, subevent, new DummyContext(), TestUtils.TEST_ARRAY_0_0_0),
+                "handler should be satisfied when every condition is satisfied"
+        );
+        assertFalse(unsatisfiedHandler.evaluateConditions(effect, subevent, new DummyContext(), TestUtils.TEST_ARRAY_0_0_0),
+                "handler should not be satisfied when any condition is not satisfied"
+        );
+
+        satisfiedHandler.executeFunctions(effect, subevent, new DummyContext(), TestUtils.TEST_ARRAY_0_0_0);
+        assertEquals(2, DummyFunction.counter,
+                "handler should execute every function"
+        );
+    }
+
+    @Test
+    @DisplayName("shares handler classes between behaviors of the same shape")
+    void sharesHandlerClassesBetweenBehaviorsOfTheSameShape() throws Exception {
+        BehaviorHandlerCompiler.setEnabled(true);
+        BehaviorHandler handler = BehaviorHandlerCompiler.compile(
+                ConditionNode.compileAll(createConditions("true", "true", "false")),
+                FunctionNode.compileAll(createFunctions())
+        );
+        int handlerClassCount = BehaviorHandlerCompiler.getHandlerClassCount();
+        BehaviorHandler otherHandler = BehaviorHandlerCompiler.compile(
+                ConditionNode.compileAll(createConditions("true", "true", "false")),
+                FunctionNode.compileAll(createFunctions())
+        );
+
+        assertNotNull(handler,
+                "a handler should be generated"
+        );
+        assertEquals(handler.getClass(), otherHandler.getClass(),
+                "behaviors of the same shape should share a handler class"
+        );
+        assertEquals(handlerClassCount, BehaviorHandlerCompiler.getHandlerClassCount(),
+                "no handler class should be generated for a shape which was already compiled"
+        );
+    }
+
+    @Test
+    @DisplayName("does not compile conditions it can not link against")
+    void doesNotCompileConditionsItCanNotLinkAgainst() throws Exception {
+        BehaviorHandlerCompiler.setEnabled(true);
+        Condition condition = new Condition("local_condition") {
+            @Override
+            public boolean run(RPGLEffect effect, Subevent subevent, JsonObject conditionJson, RPGLContext context, JsonArray originPoint) {
+                return true;
+            }
+        };
+        ConditionNode conditionNode = condition.compile(new JsonObject() {{
+            /*{
+                "condition": "local_condition"
+            }*/
+            this.putString("condition", "local_condition");
+        }});
+
+        assertNull(BehaviorHandlerCompiler.compile(new ConditionNode[] { conditionNode }, new FunctionNode[0]),
+                "no handler should be generated for a non-public condition"
+        );
+    }
+
+    @Test
+    @DisplayName("processes subevents through generated handlers")
+    void processesSubeventsThroughGeneratedHandlers() throws Exception {
+        BehaviorHandlerCompiler.setEnabled(true);
+        RPGLEffect effect = new RPGLEffect();
+        effect.setSubeventFilters(new JsonObject() {{
+            /*{
+                "dummy_subevent": [
+                    {
+                        "conditions": [
+                            { "condition": "true" }
+                        ],
+                        "functions": [
+                            { "function": "dummy_function" },
+                            { "function": "dummy_function" }
+                        ]
+                    }
+                ]
+            }*/
+            this.putJsonArray("dummy_subevent", new JsonArray() {{
+                this.addJsonObject(new JsonObject() {{
+                    this.putJsonArray("conditions", createConditions("true"));
+                    this.putJsonArray("functions", createFunctions());
+                }});
+            }});
+        }});
+
+        assertNotNull(effect.getCompiledSubeventFilters().get("dummy_subevent").get(0).handler(),
+                "compiled behavior should have a generated handler"
+        );
+
+        Subevent subevent = new DummySubevent();
+        subevent.prepare(new DummyContext(), TestUtils.TEST_ARRAY_0_0_0);
+        assertTrue(effect.processSubevent(subevent, new DummyContext(), TestUtils.TEST_ARRAY_0_0_0),
+                "effect should process the subevent"
+        );
+        assertEquals(2, DummyFunction.counter,
+                "both instances of dummy_function should be executed"
+        );
+    }
+
+    @Test
+    @DisplayName("generates verifiable calls to every condition and function")
+    void generatesVerifiableCallsToEveryConditionAndFunction() throws Exception {
+        // defining the class links it, so the JVM verifies the call generated for every Condition and Function
+        Class<?> handlerClass = BehaviorHandlerCompiler.generateHandlerClass(
+                Condition.CONDITIONS.values(),
+                Function.FUNCTIONS.values()
+        );
+
+        assertTrue(BehaviorHandler.class.isAssignableFrom(handlerClass),
+                "generated class should implement BehaviorHandler"
+        );
+    }
+
+    @Test
+    @DisplayName("generates handlers for every behavior of loaded effects")
+    void generatesHandlersForEveryBehaviorOfLoadedEffects() {
+        RPGLRuntime runtime = new RPGLRuntime();
+        runtime.initializeTesting();
+        runtime.loadDatapacks(new File("src/test/resources/datapacks".replace("/", File.separator)));
+        BehaviorHandlerCompiler.setEnabled(true);
+        try (RPGLRuntime.Binding binding = runtime.bind()) {
+            int behaviors = 0;
+            for (Map.Entry<String, Datapack> datapack : runtime.getDatapacks().entrySet()) {
+                for (String effectId : datapack.getValue().getEffectTemplates().keySet()) {
+                    String datapackEffectId = datapack.getKey() + ":" + effectId;
+                    CompiledSubeventFilters compiledSubeventFilters = RPGLFactory.newEffect(datapackEffectId)
+                            .getCompiledSubeventFilters();
+                    if (compiledSubeventFilters == null) {
+                        // filters naming unregistered Conditions or Functions are always interpreted
+                        continue;
+                    }
+                    for (String subeventId : compiledSubeventFilters.getSubeventIds()) {
+                        for (CompiledSubeventFilters.Behavior behavior : compiledSubeventFilters.get(subeventId)) {
+                            assertNotNull(behavior.handler(),
+                                    "behavior of " + datapackEffectId + " filtering " + subeventId + " should have a generated handler"
+                            );
+                            behaviors++;
+                        }
+                    }
+                }
+            }
+            assertTrue(behaviors > 0,
+                    "loaded datapacks should contain effect behaviors"
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("generated handlers behave the same as interpreted behaviors")
+    void generatedHandlersBehaveTheSameAsInterpretedBehaviors() throws Exception {
+        List<String> interpretedTrace = runWrathfulSmiteScenario(false);
+        List<String> compiledTrace = runWrathfulSmiteScenario(true);
+
+        assertEquals("handlers: false", interpretedTrace.get(0),
+                "interpreted scenario should not run generated handlers"
+        );
+        assertEquals("handlers: true", compiledTrace.get(0),
+                "compiled scenario should run generated handlers"
+        );
+        assertEquals(interpretedTrace.subList(1, interpretedTrace.size()), compiledTrace.subList(1, compiledTrace.size()),
+                "generated handlers should complete the same subevents with the same outcome as interpretation"
+        );
+    }
+
+    /**
+     * This helper method runs the wrathful smite scenario in a new runtime, and traces the subevents it completes
+     * along with the final state of its objects. The first entry of the trace records whether the wrathful smite
+     * effect was given generated handlers.
+     *
+     * @param compileHandlers whether BehaviorHandlerCompiler is enabled during the scenario
+     * @return a trace of the scenario
+     *
+     * @throws Exception if an exception occurs
+     */
+    private static List<String> runWrathfulSmiteScenario(boolean compileHandlers) throws Exception {
+        List<String> trace = new ArrayList<>();
+        RPGLRuntime runtime = new RPGLRuntime();
+        runtime.initializeTesting();
+        runtime.loadDatapacks(new File("src/test/resources/datapacks".replace("/", File.separator)));
+        BehaviorHandlerCompiler.setEnabled(compileHandlers);
+        try (RPGLRuntime.Binding binding = runtime.bind()) {
+            RPGLObject source = RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER);
+            RPGLObject target = RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER);
+            RPGLContext context = new DummyContext() {
+                @Override
+                public void viewCompletedSubevent(Subevent subevent) {
+                    trace.add(subevent.getSubeventId());
+                }
+            };
+            context.add(source);
+            context.add(target);
+
+            source.giveEvent("std:spell/wrathful_smite");
+            source.addResource(RPGLFactory.newResource("std:common/action/01"));
+            source.addResource(RPGLFactory.newResource("std:common/bonus_action/01"));
+            source.addResource(RPGLFactory.newResource("std:common/spell_slot/02"));
+            target.addResource(RPGLFactory.newResource("std:common/action/01"));
+            RPGLItem dagger = RPGLFactory.newItem("std:weapon/melee/simple/dagger");
+            source.giveItem(dagger.getUuid());
+            source.equipItem(dagger.getUuid(), "right_hand");
+            source.getAbilityScores().putInteger("str", 20);
+            source.getAbilityScores().putInteger("cha", 20);
+            target.getAbilityScores().putInteger("wis", 12);
+
+            source.invokeEvent(
+                    source.getPosition(),
+                    new RPGLObject[] {
+                            source
+                    },
+                    TestUtils.getEventById(source.getEventObjects(context), "std:spell/wrathful_smite"),
+                    new ArrayList<>() {{
+                        this.add(source.getResourcesWithTag("bonus_action").get(0));
+                        this.add(source.getResourcesWithTag("spell_slot").get(0));
+                    }},
+                    context
+            );
+            RPGLEffect passive = TestUtils.getEffectById(source.getEffectObjects(), "std:spell/wrathful_smite/passive");
+            trace.add(0, "handlers: " + (passive.getCompiledSubeventFilters().get("damage_collection").get(0).handler() != null));
+
+            source.invokeEvent(
+                    target.getPosition(),
+                    new RPGLObject[] {
+                            target
+                    },
+                    TestUtils.getEventById(source.getEventObjects(context), "std:item/weapon/melee/simple/dagger/melee"),
+                    new ArrayList<>() {{
+                        this.add(source.getResourcesWithTag("action").get(0));
+                    }},
+                    context
+            );
+            source.invokeInfoSubevent(context, "end_turn");
+            for (int wis : new int[] { 12, 20 }) {
+                target.invokeInfoSubevent(context, "start_turn");
+                target.getAbilityScores().putInteger("wis", wis);
+                target.invokeEvent(
+                        target.getPosition(),
+                        new RPGLObject[] {
+                                target
+                        },
+                        TestUtils.getEventById(target.getEventObjects(context), "std:special/spell/wrathful_smite/repeat_save"),
+                        new ArrayList<>() {{
+                            this.add(target.getResourcesWithTag("action").get(0));
+                        }},
+                        context
+                );
+                target.invokeInfoSubevent(context, "end_turn");
+                trace.add("target effects: " + target.getEffectObjects().stream().map(RPGLEffect::getId).sorted().toList());
+            }
+            trace.add("source health: " + source.getHealthData());
+            trace.add("target health: " + target.getHealthData());
+        } finally {
+            BehaviorHandlerCompiler.setEnabled(false);
+        }
+        return trace;
+    }
+
+    /**
+     * This helper method creates a JsonArray of Conditions which take no parameters.
+     *
+     * @param conditionIds the IDs of the Conditions
+     * @return a JsonArray of Conditions
+     */
+    private static JsonArray createConditions(String... conditionIds) {
+        JsonArray conditions = new JsonArray();
+        for (String conditionId : conditionIds) {
+            conditions.addJsonObject(new JsonObject() {{
+                this.putString("condition", conditionId);
+            }});
+        }
+        return conditions;
+    }
+
+    /**
+     * This helper method creates a JsonArray of two dummy Functions.
+     *
+     * @return a JsonArray of Functions
+     */
+    private static JsonArray createFunctions() {
+        return new JsonArray() {{
+            this.addJsonObject(new JsonObject() {{
+                this.putString("function", "dummy_function");
+            }});
+            this.addJsonObject(new JsonObject() {{
+                this.putString("function", "dummy_function");
+            }});
+        }};
+    }
+
+}
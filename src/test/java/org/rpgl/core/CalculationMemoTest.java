@@ -0,0 +1,345 @@
+package org.rpgl.core;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.rpgl.datapack.DatapackAnalyzer;
+import org.rpgl.datapack.DatapackLoader;
+import org.rpgl.json.JsonArray;
+import org.rpgl.json.JsonObject;
+import org.rpgl.subevent.Subevent;
+import org.rpgl.testUtils.DummyContext;
+import org.rpgl.testUtils.TestUtils;
+import org.rpgl.uuidtable.UUIDTable;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Testing class for the org.rpgl.core.CalculationMemo class.
+ *
+ * @author Calvin Withun
+ */
+public class CalculationMemoTest {
+
+    @BeforeAll
+    static void beforeAll() {
+        DatapackLoader.loadDatapacks(
+                new File("src/test/resources/datapacks".replace("/", File.separator))
+        );
+        RPGLCore.initializeTesting();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        DatapackLoader.DATAPACKS.clear();
+    }
+
+    @AfterEach
+    void afterEach() {
+        UUIDTable.clear();
+    }
+
+    @Test
+    @DisplayName("does not memoize outside of a scope")
+    void doesNotMemoizeOutsideOfAScope() throws Exception {
+        RPGLObject object = RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER);
+        DummyContext context = new DummyContext();
+        AtomicInteger calculations = new AtomicInteger();
+
+        CalculationMemo.calculate("calculate_proficiency_bonus", object, null, context, calculations::incrementAndGet);
+        CalculationMemo.calculate("calculate_proficiency_bonus", object, null, context, calculations::incrementAndGet);
+
+        assertEquals(2, calculations.get(),
+                "calculations should not be memoized outside of a scope"
+        );
+    }
+
+    @Test
+    @DisplayName("memoizes within a scope")
+    void memoizesWithinAScope() throws Exception {
+        RPGLObject object = RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER);
+        DummyContext context = new DummyContext();
+        AtomicInteger calculations = new AtomicInteger();
+
+        try (CalculationMemo.Scope scope = CalculationMemo.open()) {
+            assertEquals(1, CalculationMemo.calculate("calculate_proficiency_bonus", object, null, context, calculations::incrementAndGet),
+                    "first calculation should be made"
+            );
+            assertEquals(1, CalculationMemo.calculate("calculate_proficiency_bonus", object, null, context, calculations::incrementAndGet),
+                    "second calculation should be memoized"
+            );
+            assertEquals(2, CalculationMemo.calculate("calculate_proficiency_bonus", object, "other", context, calculations::incrementAndGet),
+                    "calculations with other parameters should be made separately"
+            );
+        }
+
+        assertEquals(2, calculations.get(),
+                "only distinct calculations should be made"
+        );
+    }
+
+    @Test
+    @DisplayName("discards results when invalidated")
+    void discardsResultsWhenInvalidated() throws Exception {
+        RPGLObject object = RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER);
+        DummyContext context = new DummyContext();
+        AtomicInteger calculations = new AtomicInteger();
+
+        try (CalculationMemo.Scope scope = CalculationMemo.open()) {
+            CalculationMemo.calculate("calculate_proficiency_bonus", object, null, context, calculations::incrementAndGet);
+            object.addTag("test_tag");
+            CalculationMemo.calculate("calculate_proficiency_bonus", object, null, context, calculations::incrementAndGet);
+        }
+
+        assertEquals(2, calculations.get(),
+                "changing a tag should discard memoized results"
+        );
+    }
+
+    @Test
+    @DisplayName("discards results when tags are edited directly")
+    void discardsResultsWhenTagsAreEditedDirectly() throws Exception {
+        RPGLObject object = RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER);
+        DummyContext context = new DummyContext();
+        AtomicInteger calculations = new AtomicInteger();
+
+        try (CalculationMemo.Scope scope = CalculationMemo.open()) {
+            CalculationMemo.calculate("calculate_proficiency_bonus", object, null, context, calculations::incrementAndGet);
+            object.getTags().addString("test_tag");
+            CalculationMemo.calculate("calculate_proficiency_bonus", object, null, context, calculations::incrementAndGet);
+        }
+
+        assertEquals(2, calculations.get(),
+                "results should be keyed by the tags of the object they were calculated for"
+        );
+    }
+
+    @Test
+    @DisplayName("discards results when objects are removed from context")
+    void discardsResultsWhenObjectsAreRemovedFromContext() throws Exception {
+        RPGLObject object = RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER);
+        RPGLObject other = RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER);
+        DummyContext context = new DummyContext();
+        context.add(object);
+        context.add(other);
+        AtomicInteger calculations = new AtomicInteger();
+
+        try (CalculationMemo.Scope scope = CalculationMemo.open()) {
+            CalculationMemo.calculate("calculate_proficiency_bonus", object, null, context, calculations::incrementAndGet);
+            context.remove(other);
+            CalculationMemo.calculate("calculate_proficiency_bonus", object, null, context, calculations::incrementAndGet);
+            context.clear();
+            CalculationMemo.calculate("calculate_proficiency_bonus", object, null, context, calculations::incrementAndGet);
+        }
+
+        assertEquals(3, calculations.get(),
+                "removing or clearing objects from context should discard memoized results"
+        );
+    }
+
+    @Test
+    @DisplayName("does not memoize calculations which may loop")
+    void doesNotMemoizeCalculationsWhichMayLoop() throws Exception {
+        RPGLObject object = RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER);
+        DummyContext context = new DummyContext();
+        AtomicInteger calculations = new AtomicInteger();
+
+        // the debug datapack contains condition loops through calculate_ability_score
+        try (CalculationMemo.Scope scope = CalculationMemo.open()) {
+            CalculationMemo.calculate("calculate_ability_score", object, "str", context, calculations::incrementAndGet);
+            CalculationMemo.calculate("calculate_ability_score", object, "str", context, calculations::incrementAndGet);
+        }
+
+        assertEquals(2, calculations.get(),
+                "calculations which may loop should not be memoized"
+        );
+    }
+
+    @Test
+    @DisplayName("discards results when an effect ends itself during calculate_ability_score")
+    void discardsResultsWhenAnEffectEndsItselfDuringCalculateAbilityScore() throws Exception {
+        // the debug datapack makes calculate_ability_score cyclic, so only the std datapack is used here
+        RPGLRuntime runtime = new RPGLRuntime();
+        runtime.initializeTesting();
+
+        try (RPGLRuntime.Binding binding = runtime.bind()) {
+            DatapackLoader.DATAPACKS.put("std", RPGLRuntime.getDefault().getDatapacks().get("std"));
+            DatapackAnalyzer.invalidate();
+
+            RPGLObject object = RPGLFactory.newObject("std:humanoid/commoner", TestUtils.TEST_USER);
+            DummyContext context = new DummyContext();
+            context.add(object);
+            int baseStrength = object.getAbilityScoreFromAbilityName("str", context);
+
+            RPGLEffect effect = RPGLFactory.newEffect("std:common/damage/immunity/fire");
+            effect.setSubeventFilters(new JsonObject() {{
+                /*{
+                    "calculate_ability_score": [
+                        {
+                            "conditions": [ ],
+                            "functions": [
+                                {
+                                    "function": "add_bonus",
+                                    "bonus": [
+                                        {
+                                            "formula": "range",
+                                            "dice": [ ],
+                                            "bonus": 2
+                                        }
+                                    ]
+                                },
+                                {
+                                    "function": "end_effect"
+                                }
+                            ]
+                        }
+                    ]
+                }*/
+                this.putJsonArray("calculate_ability_score", new JsonArray() {{
+                    this.addJsonObject(new JsonObject() {{
+                        this.putJsonArray("conditions", new JsonArray());
+                        this.putJsonArray("functions", new JsonArray() {{
+                            this.addJsonObject(new JsonObject() {{
+                                this.putString("function", "add_bonus");
+                                this.putJsonArray("bonus", new JsonArray() {{
+                                    this.addJsonObject(new JsonObject() {{
+                                        this.putString("formula", "range");
+                                        this.putJsonArray("dice", new JsonArray());
+                                        this.putInteger("bonus", 2);
+                                    }});
+                                }});
+                            }});
+                            this.addJsonObject(new JsonObject() {{
+                                this.putString("function", "end_effect");
+                            }});
+                        }});
+                    }});
+                }});
+            }});
+            effect.setSource(object);
+            effect.setTarget(object);
+            object.addEffect(effect);
+
+            assertFalse(DatapackAnalyzer.isSubeventCyclic("calculate_ability_score"),
+                    "calculate_ability_score should be memoized in this runtime"
+            );
+            try (CalculationMemo.Scope scope = CalculationMemo.open()) {
+                assertEquals(baseStrength + 2, object.getAbilityScoreFromAbilityName("str", context),
+                        "effect should apply its bonus before ending itself"
+                );
+                assertEquals(baseStrength, object.getAbilityScoreFromAbilityName("str", context),
+                        "ability score should not be memoized with the bonus of an effect which has ended"
+                );
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("memoizes calculations of events only in contexts which enable it")
+    void memoizesCalculationsOfEventsOnlyInContextsWhichEnableIt() throws Exception {
+        // the debug datapack makes calculate_ability_score cyclic, so only the std datapack is used here
+        RPGLRuntime runtime = new RPGLRuntime();
+        runtime.initializeTesting();
+
+        try (RPGLRuntime.Binding binding = runtime.bind()) {
+            DatapackLoader.DATAPACKS.put("std", RPGLRuntime.getDefault().getDatapacks().get("std"));
+            DatapackAnalyzer.invalidate();
+            Subevent.SUBEVENTS.put("dummy_subevent", new RepeatedCalculationSubevent());
+
+            RPGLObject object = RPGLFactory.newObject("std:humanoid/commoner", TestUtils.TEST_USER);
+
+            assertEquals(2, countDispatchedAbilityScoreCalculations(object, false),
+                    "each calculation should be dispatched by default"
+            );
+            assertEquals(1, countDispatchedAbilityScoreCalculations(object, true),
+                    "only the first calculation should be dispatched when calculations are memoized"
+            );
+        }
+    }
+
+    /**
+     * This helper method invokes an RPGLEvent which calculates an ability score twice, and counts the ability score
+     * calculations dispatched while doing so.
+     *
+     * @param object the RPGLObject invoking the event
+     * @param memoizedCalculations whether the context should memoize calculations
+     * @return the number of completed calculate_ability_score Subevents
+     *
+     * @throws Exception if an exception occurs
+     */
+    private static int countDispatchedAbilityScoreCalculations(RPGLObject object, boolean memoizedCalculations) throws Exception {
+        AtomicInteger calculations = new AtomicInteger();
+        DummyContext context = new DummyContext() {
+            @Override
+            public void viewCompletedSubevent(Subevent subevent) {
+                if ("calculate_ability_score".equals(subevent.getSubeventId())) {
+                    calculations.incrementAndGet();
+                }
+            }
+        };
+        context.add(object);
+        context.setMemoizedCalculations(memoizedCalculations);
+
+        RPGLEvent event = new RPGLEvent();
+        event.join(new JsonObject() {{
+            /*{
+                "area_of_effect": { },
+                "cost": [ ],
+                "subevents": [
+                    {
+                        "subevent": "dummy_subevent"
+                    }
+                ]
+            }*/
+            this.putJsonObject("area_of_effect", new JsonObject());
+            this.putJsonArray("cost", new JsonArray());
+            this.putJsonArray("subevents", new JsonArray() {{
+                this.addJsonObject(new JsonObject() {{
+                    this.putString("subevent", "dummy_subevent");
+                }});
+            }});
+        }});
+        object.invokeEvent(TestUtils.TEST_ARRAY_0_0_0, new RPGLObject[] { object }, event, List.of(), context);
+        return calculations.get();
+    }
+
+    /**
+     * This Subevent calculates the strength score of its source twice.
+     */
+    private static class RepeatedCalculationSubevent extends Subevent {
+
+        RepeatedCalculationSubevent() {
+            super("dummy_subevent");
+        }
+
+        @Override
+        public Subevent clone() {
+            Subevent clone = new RepeatedCalculationSubevent();
+            clone.joinSubeventData(this.json);
+            return clone;
+        }
+
+        @Override
+        public Subevent clone(JsonObject jsonData) {
+            Subevent clone = new RepeatedCalculationSubevent();
+            clone.joinSubeventData(jsonData);
+            return clone;
+        }
+
+        @Override
+        public Subevent run(RPGLContext context, JsonArray originPoint) throws Exception {
+            this.getSource().getAbilityScoreFromAbilityName("str", context);
+            this.getSource().getAbilityScoreFromAbilityName("str", context);
+            return this;
+        }
+
+    }
+
+}
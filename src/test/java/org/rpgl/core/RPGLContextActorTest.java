@@ -0,0 +1,145 @@
+package org.rpgl.core;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.rpgl.datapack.DatapackLoader;
+import org.rpgl.testUtils.DummyContext;
+import org.rpgl.testUtils.TestUtils;
+import org.rpgl.uuidtable.UUIDTable;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Testing class for the org.rpgl.core.RPGLContextActor class.
+ *
+ * @author Calvin Withun
+ */
+public class RPGLContextActorTest {
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    @BeforeAll
+    static void beforeAll() {
+        DatapackLoader.loadDatapacks(
+                new File("src/test/resources/datapacks".replace("/", File.separator))
+        );
+        RPGLCore.initializeTesting();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        DatapackLoader.DATAPACKS.clear();
+    }
+
+    @AfterEach
+    void afterEach() {
+        UUIDTable.clear();
+    }
+
+    @Test
+    @DisplayName("runs commands in submission order")
+    void runsCommandsInSubmissionOrder() throws Exception {
+        RPGLContextActor actor = new RPGLContextActor(new DummyContext(), POOL);
+        List<Integer> commandOrder = new ArrayList<>();
+
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            int commandIndex = i;
+            futures.add(actor.submit(context -> {
+                commandOrder.add(commandIndex);
+                return commandIndex;
+            }));
+        }
+        for (CompletableFuture<Integer> future : futures) {
+            future.get();
+        }
+
+        for (int i = 0; i < 200; i++) {
+            assertEquals(i, commandOrder.get(i),
+                    "commands should run one at a time in the order they were submitted"
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("completes future exceptionally when command fails")
+    void completesFutureExceptionallyWhenCommandFails() {
+        RPGLContextActor actor = new RPGLContextActor(new DummyContext(), POOL);
+
+        CompletableFuture<Object> future = actor.submit(context -> {
+            throw new Exception("command failed");
+        });
+
+        assertThrows(ExecutionException.class,
+                future::get,
+                "future should be completed exceptionally if its command throws"
+        );
+    }
+
+    @Test
+    @DisplayName("continues running commands after a command throws an error")
+    void continuesRunningCommandsAfterACommandThrowsAnError() throws Exception {
+        RPGLContextActor actor = new RPGLContextActor(new DummyContext(), POOL);
+
+        CompletableFuture<Object> failed = actor.submit(context -> {
+            throw new AssertionError("command failed");
+        });
+        CompletableFuture<String> next = actor.submit(context -> "next");
+
+        assertThrows(ExecutionException.class,
+                () -> failed.get(5, TimeUnit.SECONDS),
+                "future should be completed exceptionally if its command throws an error"
+        );
+        assertEquals("next", next.get(5, TimeUnit.SECONDS),
+                "commands submitted after a failing command should still run"
+        );
+    }
+
+    @Test
+    @DisplayName("invokes events in separate contexts concurrently")
+    void invokesEventsInSeparateContextsConcurrently() throws Exception {
+        List<RPGLObject> targets = new ArrayList<>();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            RPGLObject youngRedDragon = RPGLFactory.newObject("std:dragon/red/young", TestUtils.TEST_USER);
+            RPGLObject target = RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER);
+            DummyContext context = new DummyContext();
+            context.add(youngRedDragon);
+            context.add(target);
+            targets.add(target);
+
+            futures.add(new RPGLContextActor(context, POOL).invokeEvent(
+                    youngRedDragon,
+                    TestUtils.TEST_ARRAY_0_0_0,
+                    new RPGLObject[] { target },
+                    RPGLFactory.newEvent("std:object/dragon/red/young/breath"),
+                    new ArrayList<>() {{
+                        this.add(youngRedDragon.getResourcesWithTag("action").get(0));
+                        this.add(youngRedDragon.getResourcesWithTag("breath_attack").get(0));
+                    }}
+            ));
+        }
+        for (CompletableFuture<Void> future : futures) {
+            future.get();
+        }
+
+        for (RPGLObject target : targets) {
+            assertEquals(1000 /*base*/ -(16*3) /*damage*/, target.getHealthData().getInteger("current"),
+                    "each target should take 48 (16d6) damage from breath attack"
+            );
+        }
+    }
+
+}
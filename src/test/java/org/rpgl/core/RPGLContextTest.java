@@ -0,0 +1,266 @@
+package org.rpgl.core;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.rpgl.datapack.DatapackLoader;
+import org.rpgl.json.JsonArray;
+import org.rpgl.json.JsonObject;
+import org.rpgl.subevent.DummySubevent;
+import org.rpgl.subevent.Subevent;
+import org.rpgl.testUtils.DummyContext;
+import org.rpgl.testUtils.TestUtils;
+import org.rpgl.uuidtable.UUIDTable;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testing class for the org.rpgl.core.RPGLContext class.
+ *
+ * @author Calvin Withun
+ */
+public class RPGLContextTest {
+
+    @BeforeAll
+    static void beforeAll() {
+        DatapackLoader.loadDatapacks(
+                new File("src/test/resources/datapacks".replace("/", File.separator))
+        );
+        RPGLCore.initializeTesting();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        DatapackLoader.DATAPACKS.clear();
+    }
+
+    @AfterEach
+    void afterEach() {
+        UUIDTable.clear();
+    }
+
+    @Test
+    @DisplayName("fans out event to each target")
+    void fansOutEventToEachTarget() throws Exception {
+        RPGLObject youngRedDragon = RPGLFactory.newObject("std:dragon/red/young", TestUtils.TEST_USER);
+        RPGLObject[] targets = new RPGLObject[] {
+                RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER),
+                RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER),
+                RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER),
+                RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER),
+        };
+        DummyContext context = new DummyContext();
+        context.add(youngRedDragon);
+        for (RPGLObject target : targets) {
+            context.add(target);
+        }
+
+        youngRedDragon.invokeEvent(
+                TestUtils.TEST_ARRAY_0_0_0,
+                targets,
+                RPGLFactory.newEvent("std:object/dragon/red/young/breath"),
+                new ArrayList<>() {{
+                    this.add(youngRedDragon.getResourcesWithTag("action").get(0));
+                    this.add(youngRedDragon.getResourcesWithTag("breath_attack").get(0));
+                }},
+                context
+        );
+
+        for (RPGLObject target : targets) {
+            assertEquals(1000 /*base*/ -(16*3) /*damage*/, target.getHealthData().getInteger("current"),
+                    "each target should take 48 (16d6) damage from breath attack"
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("views completed subevents in target order")
+    void viewsCompletedSubeventsInTargetOrder() throws Exception {
+        RPGLObject youngRedDragon = RPGLFactory.newObject("std:dragon/red/young", TestUtils.TEST_USER);
+        RPGLObject[] targets = new RPGLObject[] {
+                RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER),
+                RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER),
+                RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER),
+        };
+        List<String> viewedTargets = new ArrayList<>();
+        DummyContext context = new DummyContext() {
+            @Override
+            public void viewCompletedSubevent(Subevent subevent) {
+                if ("saving_throw".equals(subevent.getSubeventId())) {
+                    viewedTargets.add(subevent.getTarget().getUuid());
+                }
+            }
+        };
+        context.add(youngRedDragon);
+        for (RPGLObject target : targets) {
+            context.add(target);
+        }
+
+        youngRedDragon.invokeEvent(
+                TestUtils.TEST_ARRAY_0_0_0,
+                targets,
+                RPGLFactory.newEvent("std:object/dragon/red/young/breath"),
+                new ArrayList<>() {{
+                    this.add(youngRedDragon.getResourcesWithTag("action").get(0));
+                    this.add(youngRedDragon.getResourcesWithTag("breath_attack").get(0));
+                }},
+                context
+        );
+
+        assertEquals(List.of(targets[0].getUuid(), targets[1].getUuid(), targets[2].getUuid()), viewedTargets,
+                "completed saving throws should be viewed in target order"
+        );
+    }
+
+    @Test
+    @DisplayName("returns fanned out subevents in target order")
+    void returnsFannedOutSubeventsInTargetOrder() throws Exception {
+        RPGLObject source = RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER);
+        RPGLObject[] targets = new RPGLObject[] {
+                RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER),
+                RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER),
+        };
+        DummyContext context = new DummyContext();
+
+        Subevent subevent = Subevent.SUBEVENTS.get("dummy_subevent").clone().setSource(source);
+        List<Subevent> invokedSubevents = context.fanOut(subevent, targets, TestUtils.TEST_ARRAY_0_0_0);
+
+        assertEquals(targets[0].getUuid(), invokedSubevents.get(0).getTarget().getUuid(),
+                "first invoked subevent should belong to the first target"
+        );
+        assertEquals(targets[1].getUuid(), invokedSubevents.get(1).getTarget().getUuid(),
+                "second invoked subevent should belong to the second target"
+        );
+    }
+
+    @Test
+    @DisplayName("fans out subevents which mutate their shared source in target order")
+    void fansOutSubeventsWhichMutateTheirSharedSourceInTargetOrder() throws Exception {
+        RPGLObject source = RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER);
+        source.putJsonArray("branch_log", new JsonArray());
+        RPGLObject[] targets = new RPGLObject[32];
+        for (int i = 0; i < targets.length; i++) {
+            targets[i] = RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER);
+        }
+        DummyContext context = new DummyContext();
+
+        context.fanOut(new SourceMutatingSubevent().setSource(source), targets, TestUtils.TEST_ARRAY_0_0_0);
+
+        JsonArray branchLog = source.getJsonArray("branch_log");
+        assertEquals(targets.length, branchLog.size(),
+                "every target's subevent should record its write to the shared source"
+        );
+        for (int i = 0; i < branchLog.size(); i++) {
+            assertEquals(i, branchLog.getInteger(i),
+                    "each target's subevent should read the shared source as left by the targets before it"
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("tracks subscriptions of effects in context")
+    void tracksSubscriptionsOfEffectsInContext() {
+        RPGLObject object = RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER);
+        DummyContext context = new DummyContext();
+        context.add(object);
+
+        assertFalse(context.isSubscribed("info_subevent"),
+                "no effect in context should be subscribed to info_subevent yet"
+        );
+
+        object.addEffect(RPGLFactory.newEffect("debug:detect_target_invokes_info_subevent"));
+
+        assertTrue(context.isSubscribed("info_subevent"),
+                "new effect in context should be subscribed to info_subevent"
+        );
+    }
+
+    @Test
+    @DisplayName("observes every subevent when viewing completed subevents")
+    void observesEverySubeventWhenViewingCompletedSubevents() {
+        DummyContext context = new DummyContext();
+        DummyContext viewingContext = new DummyContext() {
+            @Override
+            public void viewCompletedSubevent(Subevent subevent) {
+            }
+        };
+
+        assertFalse(context.isObserved("info_subevent"),
+                "subevent should not be observed in an empty context"
+        );
+        assertTrue(viewingContext.isObserved("info_subevent"),
+                "subevent should be observed in a context which views completed subevents"
+        );
+    }
+
+    @Test
+    @DisplayName("dispatches batched subevents with the same results")
+    void dispatchesBatchedSubeventsWithTheSameResults() throws Exception {
+        RPGLObject youngRedDragon = RPGLFactory.newObject("std:dragon/red/young", TestUtils.TEST_USER);
+        RPGLObject[] targets = new RPGLObject[] {
+                RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER),
+                RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER),
+                RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER),
+        };
+        DummyContext context = new DummyContext();
+        context.add(youngRedDragon);
+        for (RPGLObject target : targets) {
+            context.add(target);
+        }
+        context.setBatchedDispatch(true);
+
+        youngRedDragon.invokeEvent(
+                TestUtils.TEST_ARRAY_0_0_0,
+                targets,
+                RPGLFactory.newEvent("std:object/dragon/red/young/breath"),
+                new ArrayList<>() {{
+                    this.add(youngRedDragon.getResourcesWithTag("action").get(0));
+                    this.add(youngRedDragon.getResourcesWithTag("breath_attack").get(0));
+                }},
+                context
+        );
+
+        for (RPGLObject target : targets) {
+            assertEquals(1000 /*base*/ -(16*3) /*damage*/, target.getHealthData().getInteger("current"),
+                    "each target should take 48 (16d6) damage from breath attack"
+            );
+        }
+    }
+
+    /**
+     * This Subevent reads the size of a JSON array stored on its source, and then appends that size to the array.
+     */
+    private static class SourceMutatingSubevent extends DummySubevent {
+
+        @Override
+        public Subevent clone() {
+            Subevent clone = new SourceMutatingSubevent();
+            clone.joinSubeventData(this.json);
+            return clone;
+        }
+
+        @Override
+        public Subevent clone(JsonObject jsonData) {
+            Subevent clone = new SourceMutatingSubevent();
+            clone.joinSubeventData(jsonData);
+            return clone;
+        }
+
+        @Override
+        public DummySubevent run(RPGLContext context, JsonArray originPoint) {
+            JsonArray branchLog = this.getSource().getJsonArray("branch_log");
+            branchLog.addInteger(branchLog.size());
+            return this;
+        }
+
+    }
+
+}
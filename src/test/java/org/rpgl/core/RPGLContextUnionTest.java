@@ -0,0 +1,99 @@
+package org.rpgl.core;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.rpgl.datapack.DatapackLoader;
+import org.rpgl.subevent.Subevent;
+import org.rpgl.testUtils.DummyContext;
+import org.rpgl.testUtils.TestUtils;
+import org.rpgl.uuidtable.UUIDTable;
+
+import java.io.File;
+import java.util.Collection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testing class for the org.rpgl.core.RPGLContextUnion class.
+ *
+ * @author Calvin Withun
+ */
+public class RPGLContextUnionTest {
+
+    @BeforeAll
+    static void beforeAll() {
+        DatapackLoader.loadDatapacks(
+                new File("src/test/resources/datapacks".replace("/", File.separator))
+        );
+        RPGLCore.initializeTesting();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        DatapackLoader.DATAPACKS.clear();
+    }
+
+    @AfterEach
+    void afterEach() {
+        UUIDTable.clear();
+    }
+
+    @Test
+    @DisplayName("dispatches subevents to objects of every member")
+    void dispatchesSubeventsToObjectsOfEveryMember() {
+        RPGLObject firstObject = RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER);
+        RPGLObject secondObject = RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER);
+        DummyContext firstContext = new DummyContext();
+        firstContext.add(firstObject);
+        DummyContext secondContext = new DummyContext();
+        secondContext.add(secondObject);
+
+        Collection<RPGLObject> dispatchObjects = new RPGLContextUnion(firstContext, secondContext).getDispatchObjects(
+                Subevent.SUBEVENTS.get("dummy_subevent").clone(),
+                TestUtils.TEST_ARRAY_0_0_0
+        );
+
+        assertEquals(2, dispatchObjects.size(),
+                "union should dispatch to the objects of both members"
+        );
+    }
+
+    @Test
+    @DisplayName("views member objects without copying")
+    void viewsMemberObjectsWithoutCopying() {
+        DummyContext firstContext = new DummyContext();
+        DummyContext secondContext = new DummyContext();
+        RPGLContextUnion union = new RPGLContextUnion(firstContext, secondContext);
+        RPGLObject object = RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER);
+
+        assertFalse(union.contains(object),
+                "union should not contain an object no member contains"
+        );
+
+        secondContext.add(object);
+
+        assertTrue(union.contains(object),
+                "union should contain an object added to a member after the union was created"
+        );
+    }
+
+    @Test
+    @DisplayName("defers turn order to members")
+    void defersTurnOrderToMembers() {
+        RPGLObject object = RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER);
+        DummyContext firstContext = new DummyContext();
+        DummyContext secondContext = new DummyContext();
+        secondContext.add(object);
+        secondContext.setIsTurn(true);
+
+        assertTrue(new RPGLContextUnion(firstContext, secondContext).isObjectsTurn(object),
+                "union should report the turn order of the member containing the object"
+        );
+    }
+
+}
@@ -8,11 +8,15 @@ import org.junit.jupiter.api.Test;
 import org.rpgl.datapack.DatapackContentTO;
 import org.rpgl.datapack.DatapackLoader;
 import org.rpgl.datapack.RPGLEffectTO;
+import org.rpgl.exception.FrozenDataModificationException;
 import org.rpgl.uuidtable.UUIDTable;
 
 import java.io.File;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * Testing class for the org.rpgl.core.RPGLEffectTemplate class.
@@ -68,4 +72,43 @@ public class RPGLEffectTemplateTest {
         );
     }
 
+    @Test
+    @DisplayName("shares rule definitions between instances")
+    void sharesRuleDefinitionsBetweenInstances() {
+        RPGLEffectTemplate effectTemplate = DatapackLoader.DATAPACKS.get("std")
+                .getEffectTemplate("common/damage/immunity/fire");
+        RPGLEffect effect = effectTemplate.newInstance();
+        RPGLEffect otherEffect = effectTemplate.newInstance();
+
+        assertSame(effectTemplate.getRules(), effect.getRules(),
+                "effect should reference the rule definition of its template"
+        );
+        assertSame(effect.getSubeventFilters().asMap(), otherEffect.getSubeventFilters().asMap(),
+                "instances should share subevent filters"
+        );
+        assertSame(effect.getMetadata().asMap(), otherEffect.getMetadata().asMap(),
+                "instances should share metadata"
+        );
+        assertNotSame(effect.getTags().asList(), otherEffect.getTags().asList(),
+                "instances should not share tags"
+        );
+    }
+
+    @Test
+    @DisplayName("does not allow shared rule definitions to be modified")
+    void doesNotAllowSharedRuleDefinitionsToBeModified() {
+        RPGLEffect effect = DatapackLoader.DATAPACKS.get("std")
+                .getEffectTemplate("common/damage/immunity/fire")
+                .newInstance();
+
+        assertThrows(FrozenDataModificationException.class,
+                () -> effect.getSubeventFilters().putString("key", "value"),
+                "shared subevent filters should not be modifiable"
+        );
+        assertThrows(FrozenDataModificationException.class,
+                () -> effect.getSubeventFilters().getJsonArray("damage_affinity").addString("value"),
+                "shared subevent filters should not be modifiable"
+        );
+    }
+
 }
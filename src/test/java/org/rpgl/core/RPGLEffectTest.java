@@ -19,6 +19,10 @@ import org.rpgl.uuidtable.UUIDTable;
 import java.io.File;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -139,4 +143,57 @@ public class RPGLEffectTest {
         );
     }
 
+    @Test
+    @DisplayName("compiles subevent filters")
+    void compilesSubeventFilters() {
+        CompiledSubeventFilters compiledSubeventFilters = effect.getCompiledSubeventFilters();
+
+        assertNotNull(compiledSubeventFilters,
+                "subevent filters should be compiled"
+        );
+        assertEquals(1, compiledSubeventFilters.get("dummy_subevent").size(),
+                "dummy_subevent should have 1 compiled behavior"
+        );
+        assertEquals(2, compiledSubeventFilters.get("dummy_subevent").get(0).functions().length,
+                "compiled behavior should have 2 functions"
+        );
+        assertTrue(compiledSubeventFilters.get("not_a_subevent").isEmpty(),
+                "unfiltered subevents should have no compiled behaviors"
+        );
+        assertSame(compiledSubeventFilters, effect.getCompiledSubeventFilters(),
+                "subevent filters should only be compiled once"
+        );
+    }
+
+    @Test
+    @DisplayName("recompiles replaced subevent filters")
+    void recompilesReplacedSubeventFilters() throws Exception {
+        CompiledSubeventFilters compiledSubeventFilters = effect.getCompiledSubeventFilters();
+        effect.setSubeventFilters(new JsonObject());
+
+        assertNotSame(compiledSubeventFilters, effect.getCompiledSubeventFilters(),
+                "replaced subevent filters should be recompiled"
+        );
+
+        Subevent subevent = new DummySubevent();
+        subevent.prepare(new DummyContext(), TestUtils.TEST_ARRAY_0_0_0);
+        effect.processSubevent(subevent, new DummyContext(), TestUtils.TEST_ARRAY_0_0_0);
+
+        assertEquals(0, DummyFunction.counter,
+                "no functions should be executed after subevent filters are cleared"
+        );
+    }
+
+    @Test
+    @DisplayName("interprets subevent filters which can not be compiled")
+    void interpretsSubeventFiltersWhichCanNotBeCompiled() {
+        effect.getSubeventFilters().getJsonArray("dummy_subevent").getJsonObject(0).getJsonArray("conditions")
+                .getJsonObject(0).putString("condition", "not_a_condition");
+        effect.setSubeventFilters(effect.getSubeventFilters());
+
+        assertNull(effect.getCompiledSubeventFilters(),
+                "subevent filters naming an unknown condition should not be compiled"
+        );
+    }
+
 }
@@ -7,20 +7,28 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.rpgl.datapack.DatapackLoader;
 import org.rpgl.function.DummyFunction;
+import org.rpgl.json.JsonArena;
 import org.rpgl.json.JsonArray;
 import org.rpgl.json.JsonObject;
 import org.rpgl.subevent.HealingDelivery;
+import org.rpgl.subevent.SubeventRecord;
 import org.rpgl.testUtils.DummyContext;
 import org.rpgl.testUtils.TestUtils;
 import org.rpgl.uuidtable.UUIDTable;
 
 import java.io.File;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeoutException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -197,6 +205,22 @@ public class RPGLObjectTest {
         );
     }
 
+    @Test
+    @DisplayName("gets events asynchronously")
+    void getsEventsAsynchronously() throws Exception {
+        RPGLObject object = RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER);
+        object.giveEvent("std:spell/fire_bolt");
+
+        List<RPGLEvent> events = object.getEventObjectsAsync(new DummyContext(), ForkJoinPool.commonPool()).get();
+
+        assertEquals(1, events.size(),
+                "object should have 1 event"
+        );
+        assertEquals("std:spell/fire_bolt", events.get(0).getId(),
+                "object should have the std:spell/fire_bolt event"
+        );
+    }
+
     @Test
     @DisplayName("gets effects")
     void getsEffects() {
@@ -271,6 +295,120 @@ public class RPGLObjectTest {
         );
     }
 
+    @Test
+    @DisplayName("invokes events asynchronously")
+    void invokesEventsAsynchronously() throws Exception {
+        RPGLObject youngRedDragon = RPGLFactory.newObject("std:dragon/red/young", TestUtils.TEST_USER);
+        RPGLObject target = RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER);
+
+        List<SubeventRecord> subevents = youngRedDragon.invokeEventAsync(
+                TestUtils.TEST_ARRAY_0_0_0,
+                new RPGLObject[] { target },
+                RPGLFactory.newEvent("std:object/dragon/red/young/breath"),
+                new ArrayList<>() {{
+                    this.add(youngRedDragon.getResourcesWithTag("action").get(0));
+                    this.add(youngRedDragon.getResourcesWithTag("breath_attack").get(0));
+                }},
+                new DummyContext(),
+                ForkJoinPool.commonPool()
+        ).get();
+
+        assertEquals(1, subevents.size(),
+                "future should carry one completed subevent"
+        );
+        assertEquals("saving_throw", subevents.get(0).subeventId(),
+                "future should carry the completed saving throw"
+        );
+        assertEquals(1000 /*base*/ -(16*3) /*damage*/, target.getHealthData().getInteger("current"),
+                "target should take 48 (16d6) damage from breath attack"
+        );
+    }
+
+    @Test
+    @DisplayName("returns readable snapshots of asynchronously invoked subevents")
+    void returnsReadableSnapshotsOfAsynchronouslyInvokedSubevents() throws Exception {
+        RPGLObject youngRedDragon = RPGLFactory.newObject("std:dragon/red/young", TestUtils.TEST_USER);
+        RPGLObject target = RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER);
+        DummyContext context = new DummyContext();
+        context.setJsonArena(new JsonArena(true));
+
+        List<SubeventRecord> subevents = youngRedDragon.invokeEventAsync(
+                TestUtils.TEST_ARRAY_0_0_0,
+                new RPGLObject[] { target },
+                RPGLFactory.newEvent("std:object/dragon/red/young/breath"),
+                new ArrayList<>() {{
+                    this.add(youngRedDragon.getResourcesWithTag("action").get(0));
+                    this.add(youngRedDragon.getResourcesWithTag("breath_attack").get(0));
+                }},
+                context,
+                ForkJoinPool.commonPool()
+        ).get();
+
+        assertEquals("saving_throw", subevents.get(0).toJsonObject().getString("subevent"),
+                "snapshot should remain readable after the arena releases the subevent payload"
+        );
+        assertEquals(target.getUuid(), subevents.get(0).target(),
+                "snapshot should record the target of the subevent"
+        );
+    }
+
+    @Test
+    @DisplayName("binds runtime of context for asynchronous invocations")
+    void bindsRuntimeOfContextForAsynchronousInvocations() throws Exception {
+        RPGLRuntime runtime = RPGLRuntime.getDefault().fork();
+        RPGLObject youngRedDragon;
+        RPGLObject target;
+        RPGLEvent event;
+        List<RPGLResource> resources = new ArrayList<>();
+        DummyContext context;
+        try (RPGLRuntime.Binding binding = runtime.bind()) {
+            youngRedDragon = RPGLFactory.newObject("std:dragon/red/young", TestUtils.TEST_USER);
+            target = RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER);
+            event = RPGLFactory.newEvent("std:object/dragon/red/young/breath");
+            resources.add(youngRedDragon.getResourcesWithTag("action").get(0));
+            resources.add(youngRedDragon.getResourcesWithTag("breath_attack").get(0));
+            context = new DummyContext();
+        }
+
+        youngRedDragon.invokeEventAsync(
+                TestUtils.TEST_ARRAY_0_0_0,
+                new RPGLObject[] { target },
+                event,
+                resources,
+                context,
+                ForkJoinPool.commonPool()
+        ).get();
+
+        assertEquals(1000 /*base*/ -(16*3) /*damage*/, target.getHealthData().getInteger("current"),
+                "event should be invoked in the runtime of the context, where its objects are registered"
+        );
+    }
+
+    @Test
+    @DisplayName("times out asynchronous event invocation")
+    void timesOutAsynchronousEventInvocation() {
+        RPGLObject youngRedDragon = RPGLFactory.newObject("std:dragon/red/young", TestUtils.TEST_USER);
+        RPGLObject target = RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER);
+
+        CompletableFuture<List<SubeventRecord>> future = youngRedDragon.invokeEventAsync(
+                TestUtils.TEST_ARRAY_0_0_0,
+                new RPGLObject[] { target },
+                RPGLFactory.newEvent("std:object/dragon/red/young/breath"),
+                new ArrayList<>(),
+                new DummyContext(),
+                task -> {}, // an executor which never runs its tasks
+                Duration.ofMillis(10)
+        );
+
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                future::get,
+                "future should be completed exceptionally once the timeout elapses"
+        );
+        assertTrue(exception.getCause() instanceof TimeoutException,
+                "future should be completed with a TimeoutException"
+        );
+    }
+
     @Test
     @DisplayName("heals")
     void heals() throws Exception {
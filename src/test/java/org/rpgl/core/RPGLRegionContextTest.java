@@ -0,0 +1,130 @@
+package org.rpgl.core;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.rpgl.datapack.DatapackLoader;
+import org.rpgl.json.JsonArray;
+import org.rpgl.subevent.Subevent;
+import org.rpgl.testUtils.TestUtils;
+import org.rpgl.uuidtable.UUIDTable;
+
+import java.io.File;
+import java.util.Collection;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testing class for the org.rpgl.core.RPGLRegionContext class.
+ *
+ * @author Calvin Withun
+ */
+public class RPGLRegionContextTest {
+
+    @BeforeAll
+    static void beforeAll() {
+        DatapackLoader.loadDatapacks(
+                new File("src/test/resources/datapacks".replace("/", File.separator))
+        );
+        RPGLCore.initializeTesting();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        DatapackLoader.DATAPACKS.clear();
+    }
+
+    @AfterEach
+    void afterEach() {
+        UUIDTable.clear();
+    }
+
+    private static RPGLRegionContext newRegionContext() {
+        return new RPGLRegionContext(10d, 30d) {
+            @Override
+            public boolean isObjectsTurn(RPGLObject object) {
+                return false;
+            }
+        };
+    }
+
+    private static JsonArray newPosition(double x, double y, double z) {
+        return new JsonArray() {{
+            this.addDouble(x);
+            this.addDouble(y);
+            this.addDouble(z);
+        }};
+    }
+
+    @Test
+    @DisplayName("dispatches subevents to nearby objects")
+    void dispatchesSubeventsToNearbyObjects() {
+        RPGLObject nearObject = RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER);
+        nearObject.setPosition(newPosition(25d, 0d, 0d));
+        RPGLObject farObject = RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER);
+        farObject.setPosition(newPosition(1000d, 0d, 0d));
+        RPGLRegionContext context = newRegionContext();
+        context.add(nearObject);
+        context.add(farObject);
+
+        Collection<RPGLObject> dispatchObjects = context.getDispatchObjects(
+                Subevent.SUBEVENTS.get("dummy_subevent").clone(),
+                TestUtils.TEST_ARRAY_0_0_0
+        );
+
+        assertTrue(dispatchObjects.contains(nearObject),
+                "object within the dispatch radius should receive the subevent"
+        );
+        assertFalse(dispatchObjects.contains(farObject),
+                "object far outside the dispatch radius should not receive the subevent"
+        );
+    }
+
+    @Test
+    @DisplayName("dispatches subevents to their participants")
+    void dispatchesSubeventsToTheirParticipants() {
+        RPGLObject source = RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER);
+        source.setPosition(newPosition(1000d, 0d, 0d));
+        RPGLObject target = RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER);
+        target.setPosition(newPosition(-1000d, 0d, 0d));
+        RPGLRegionContext context = newRegionContext();
+        context.add(source);
+        context.add(target);
+
+        Collection<RPGLObject> dispatchObjects = context.getDispatchObjects(
+                Subevent.SUBEVENTS.get("dummy_subevent").clone().setSource(source).setTarget(target),
+                TestUtils.TEST_ARRAY_0_0_0
+        );
+
+        assertTrue(dispatchObjects.contains(source),
+                "subevent source should receive the subevent regardless of distance"
+        );
+        assertTrue(dispatchObjects.contains(target),
+                "subevent target should receive the subevent regardless of distance"
+        );
+    }
+
+    @Test
+    @DisplayName("tracks objects as they move")
+    void tracksObjectsAsTheyMove() {
+        RPGLObject object = RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER);
+        object.setPosition(newPosition(1000d, 0d, 0d));
+        RPGLRegionContext context = newRegionContext();
+        context.add(object);
+        Subevent subevent = Subevent.SUBEVENTS.get("dummy_subevent").clone();
+
+        assertFalse(context.getDispatchObjects(subevent, TestUtils.TEST_ARRAY_0_0_0).contains(object),
+                "object should not receive the subevent before it moves"
+        );
+
+        object.setPosition(newPosition(5d, 5d, 5d));
+
+        assertTrue(context.getDispatchObjects(subevent, TestUtils.TEST_ARRAY_0_0_0).contains(object),
+                "object should receive the subevent after it moves nearby"
+        );
+    }
+
+}
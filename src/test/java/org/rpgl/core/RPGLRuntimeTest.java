@@ -0,0 +1,162 @@
+package org.rpgl.core;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.rpgl.condition.Condition;
+import org.rpgl.datapack.DatapackLoader;
+import org.rpgl.json.JsonArray;
+import org.rpgl.math.Die;
+import org.rpgl.testUtils.DummyContext;
+import org.rpgl.testUtils.TestUtils;
+import org.rpgl.uuidtable.UUIDTable;
+
+import java.io.File;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testing class for the org.rpgl.core.RPGLRuntime class.
+ *
+ * @author Calvin Withun
+ */
+public class RPGLRuntimeTest {
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(2);
+
+    @BeforeAll
+    static void beforeAll() {
+        DatapackLoader.loadDatapacks(
+                new File("src/test/resources/datapacks".replace("/", File.separator))
+        );
+        RPGLCore.initializeTesting();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        DatapackLoader.DATAPACKS.clear();
+    }
+
+    @AfterEach
+    void afterEach() {
+        UUIDTable.clear();
+    }
+
+    @Test
+    @DisplayName("uses default runtime when none is bound")
+    void usesDefaultRuntimeWhenNoneIsBound() {
+        assertSame(RPGLRuntime.getDefault(), RPGLRuntime.current(),
+                "the default runtime should be current when no runtime is bound"
+        );
+        assertSame(RPGLRuntime.getDefault().getConditions().get("all"), Condition.CONDITIONS.get("all"),
+                "static registries should operate on the default runtime"
+        );
+    }
+
+    @Test
+    @DisplayName("isolates registries and settings of separate runtimes")
+    void isolatesRegistriesAndSettingsOfSeparateRuntimes() {
+        RPGLRuntime runtime = new RPGLRuntime();
+
+        try (RPGLRuntime.Binding binding = runtime.bind()) {
+            assertSame(runtime, RPGLRuntime.current(),
+                    "a bound runtime should be current"
+            );
+            assertTrue(Condition.CONDITIONS.isEmpty(),
+                    "a new runtime should not have any Conditions"
+            );
+            assertTrue(DatapackLoader.DATAPACKS.isEmpty(),
+                    "a new runtime should not have any datapacks"
+            );
+
+            runtime.initialize();
+            assertNotNull(Condition.CONDITIONS.get("all"),
+                    "an initialized runtime should have Conditions"
+            );
+            assertFalse(runtime.isDieTesting(),
+                    "a runtime initialized for use by a client should not be in testing mode"
+            );
+        }
+
+        assertSame(RPGLRuntime.getDefault(), RPGLRuntime.current(),
+                "closing a binding should restore the previously current runtime"
+        );
+        assertTrue(RPGLRuntime.getDefault().isDieTesting(),
+                "initializing a runtime should not change the settings of other runtimes"
+        );
+        assertFalse(DatapackLoader.DATAPACKS.isEmpty(),
+                "the default runtime should keep its datapacks"
+        );
+        assertEquals(3, Die.roll(6, new JsonArray() {{
+            this.addInteger(3);
+        }}),
+                "the default runtime should still honor determined dice"
+        );
+    }
+
+    @Test
+    @DisplayName("binds runtime of context for actor commands")
+    void bindsRuntimeOfContextForActorCommands() throws Exception {
+        RPGLRuntime runtime = new RPGLRuntime();
+        runtime.loadDatapacks(new File("src/test/resources/datapacks".replace("/", File.separator)));
+        runtime.initializeTesting();
+
+        RPGLContext context;
+        try (RPGLRuntime.Binding binding = runtime.bind()) {
+            context = new DummyContext();
+        }
+        assertSame(runtime, context.getRuntime(),
+                "a context should belong to the runtime which was current when it was created"
+        );
+
+        RPGLContextActor actor = new RPGLContextActor(context, POOL);
+        String uuid = actor.submit(actorContext -> {
+            RPGLObject object = RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER);
+            actorContext.add(object);
+            return object.getUuid();
+        }).get();
+
+        assertNull(UUIDTable.getObject(uuid),
+                "objects created by an actor should not be registered in other runtimes"
+        );
+        try (RPGLRuntime.Binding binding = runtime.bind()) {
+            assertNotNull(UUIDTable.getObject(uuid),
+                    "objects created by an actor should be registered in the runtime of its context"
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("scopes subscription invalidation to the current runtime")
+    void scopesSubscriptionInvalidationToTheCurrentRuntime() {
+        RPGLRuntime runtime = new RPGLRuntime();
+        long defaultVersion = RPGLRuntime.getDefault().getSubscriptionVersion();
+        long defaultEpoch = RPGLRuntime.getDefault().getCalculationEpoch();
+
+        try (RPGLRuntime.Binding binding = runtime.bind()) {
+            RPGLContext.invalidateSubscriptions();
+        }
+
+        assertEquals(1L, runtime.getSubscriptionVersion(),
+                "invalidating subscriptions should advance the subscription version of the current runtime"
+        );
+        assertEquals(1L, runtime.getCalculationEpoch(),
+                "invalidating subscriptions should discard memoized calculations of the current runtime"
+        );
+        assertEquals(defaultVersion, RPGLRuntime.getDefault().getSubscriptionVersion(),
+                "invalidating subscriptions should not affect the subscription version of other runtimes"
+        );
+        assertEquals(defaultEpoch, RPGLRuntime.getDefault().getCalculationEpoch(),
+                "invalidating subscriptions should not discard memoized calculations of other runtimes"
+        );
+    }
+
+}
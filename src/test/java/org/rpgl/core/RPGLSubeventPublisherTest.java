@@ -0,0 +1,193 @@
+package org.rpgl.core;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.rpgl.datapack.DatapackLoader;
+import org.rpgl.subevent.Subevent;
+import org.rpgl.subevent.SubeventRecord;
+import org.rpgl.testUtils.DummyContext;
+import org.rpgl.testUtils.TestUtils;
+import org.rpgl.uuidtable.UUIDTable;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testing class for the org.rpgl.core.RPGLSubeventPublisher class.
+ *
+ * @author Calvin Withun
+ */
+public class RPGLSubeventPublisherTest {
+
+    @BeforeAll
+    static void beforeAll() {
+        DatapackLoader.loadDatapacks(
+                new File("src/test/resources/datapacks".replace("/", File.separator))
+        );
+        RPGLCore.initializeTesting();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        DatapackLoader.DATAPACKS.clear();
+    }
+
+    @AfterEach
+    void afterEach() {
+        UUIDTable.clear();
+    }
+
+    /**
+     * A subscriber which collects every batch it receives.
+     */
+    private static class CollectingSubscriber implements Flow.Subscriber<List<SubeventRecord>> {
+
+        private final List<List<SubeventRecord>> batches = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(List<SubeventRecord> batch) {
+            this.batches.add(batch);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.completed.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed.countDown();
+        }
+
+        void awaitCompletion() throws InterruptedException {
+            this.completed.await(10, TimeUnit.SECONDS);
+        }
+
+    }
+
+    @Test
+    @DisplayName("publishes records of completed subevents")
+    void publishesRecordsOfCompletedSubevents() throws Exception {
+        RPGLObject youngRedDragon = RPGLFactory.newObject("std:dragon/red/young", TestUtils.TEST_USER);
+        RPGLObject target = RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER);
+        RPGLSubeventPublisher publisher = new RPGLSubeventPublisher(
+                ForkJoinPool.commonPool(), 16, 8, RPGLSubeventPublisher.OverflowPolicy.BLOCK
+        );
+        CollectingSubscriber subscriber = new CollectingSubscriber();
+        publisher.subscribe(subscriber);
+        DummyContext context = new DummyContext();
+        context.add(youngRedDragon);
+        context.add(target);
+        context.setSubeventPublisher(publisher);
+
+        youngRedDragon.invokeEvent(
+                TestUtils.TEST_ARRAY_0_0_0,
+                new RPGLObject[] { target },
+                RPGLFactory.newEvent("std:object/dragon/red/young/breath"),
+                new ArrayList<>() {{
+                    this.add(youngRedDragon.getResourcesWithTag("action").get(0));
+                    this.add(youngRedDragon.getResourcesWithTag("breath_attack").get(0));
+                }},
+                context
+        );
+        publisher.close();
+        subscriber.awaitCompletion();
+
+        List<SubeventRecord> records = new ArrayList<>();
+        for (List<SubeventRecord> batch : subscriber.batches) {
+            records.addAll(batch);
+        }
+        SubeventRecord savingThrowRecord = records.get(records.size() - 1);
+        assertEquals("saving_throw", savingThrowRecord.subeventId(),
+                "last record published should be the saving throw of the breath attack"
+        );
+        assertEquals(target.getUuid(), savingThrowRecord.target(),
+                "saving throw record should name its target"
+        );
+    }
+
+    @Test
+    @DisplayName("creates immutable records")
+    void createsImmutableRecords() {
+        Subevent subevent = Subevent.SUBEVENTS.get("dummy_subevent").clone();
+        subevent.addTag("test_tag");
+
+        SubeventRecord record = SubeventRecord.of(subevent);
+        subevent.addTag("later_tag");
+
+        assertTrue(record.tags().contains("test_tag"),
+                "record should contain tags the subevent had when it was created"
+        );
+        assertFalse(record.tags().contains("later_tag"),
+                "record should not reflect changes made to the subevent after it was created"
+        );
+        assertThrows(UnsupportedOperationException.class,
+                () -> record.data().put("key", "value"),
+                "record data should not be modifiable"
+        );
+    }
+
+    @Test
+    @DisplayName("delivers records in batches")
+    void deliversRecordsInBatches() throws Exception {
+        RPGLSubeventPublisher publisher = new RPGLSubeventPublisher(
+                ForkJoinPool.commonPool(), 16, 2, RPGLSubeventPublisher.OverflowPolicy.BLOCK
+        );
+        CollectingSubscriber subscriber = new CollectingSubscriber();
+        publisher.subscribe(subscriber);
+
+        for (int i = 0; i < 3; i++) {
+            publisher.publish(Subevent.SUBEVENTS.get("dummy_subevent").clone());
+        }
+        publisher.close();
+        subscriber.awaitCompletion();
+
+        assertEquals(2, subscriber.batches.size(),
+                "3 records should be delivered in 2 batches"
+        );
+        assertEquals(2, subscriber.batches.get(0).size(),
+                "first batch should be full"
+        );
+        assertEquals(1, subscriber.batches.get(1).size(),
+                "second batch should contain the flushed remainder"
+        );
+    }
+
+    @Test
+    @DisplayName("drops batches when subscriber buffer is full")
+    void dropsBatchesWhenSubscriberBufferIsFull() {
+        RPGLSubeventPublisher publisher = new RPGLSubeventPublisher(
+                task -> {}, 1, 1, RPGLSubeventPublisher.OverflowPolicy.DROP // an executor which never delivers
+        );
+        publisher.subscribe(new CollectingSubscriber());
+
+        for (int i = 0; i < 10; i++) {
+            publisher.publish(Subevent.SUBEVENTS.get("dummy_subevent").clone());
+        }
+
+        assertTrue(publisher.getDroppedBatchCount() > 0,
+                "batches should be dropped rather than blocking the engine"
+        );
+    }
+
+}
@@ -0,0 +1,158 @@
+package org.rpgl.core;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.rpgl.datapack.DatapackLoader;
+import org.rpgl.testUtils.DummyContext;
+import org.rpgl.testUtils.TestUtils;
+import org.rpgl.uuidtable.UUIDTable;
+
+import java.io.File;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Testing class for the org.rpgl.core.RPGLTransaction class.
+ *
+ * @author Calvin Withun
+ */
+public class RPGLTransactionTest {
+
+    @BeforeAll
+    static void beforeAll() {
+        DatapackLoader.loadDatapacks(
+                new File("src/test/resources/datapacks".replace("/", File.separator))
+        );
+        RPGLCore.initializeTesting();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        DatapackLoader.DATAPACKS.clear();
+    }
+
+    @AfterEach
+    void afterEach() {
+        UUIDTable.clear();
+    }
+
+    @Test
+    @DisplayName("rolls back event invocation")
+    void rollsBackEventInvocation() throws Exception {
+        RPGLObject youngRedDragon = RPGLFactory.newObject("std:dragon/red/young", TestUtils.TEST_USER);
+        RPGLObject target = RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER);
+        RPGLResource action = youngRedDragon.getResourcesWithTag("action").get(0);
+        RPGLResource breathAttack = youngRedDragon.getResourcesWithTag("breath_attack").get(0);
+
+        try (RPGLTransaction transaction = RPGLTransaction.begin()) {
+            youngRedDragon.invokeEvent(
+                    TestUtils.TEST_ARRAY_0_0_0,
+                    new RPGLObject[] { target },
+                    RPGLFactory.newEvent("std:object/dragon/red/young/breath"),
+                    new ArrayList<>() {{
+                        this.add(action);
+                        this.add(breathAttack);
+                    }},
+                    new DummyContext()
+            );
+            assertEquals(1000 /*base*/ -(16*3) /*damage*/, target.getHealthData().getInteger("current"),
+                    "target should take 48 (16d6) damage from breath attack during the transaction"
+            );
+            transaction.rollback();
+        }
+
+        assertEquals(1000, target.getHealthData().getInteger("current"),
+                "target should not have taken damage after the transaction is rolled back"
+        );
+        assertFalse(action.getExhausted(),
+                "resource should not be exhausted after the transaction is rolled back"
+        );
+        assertFalse(breathAttack.getExhausted(),
+                "resource should not be exhausted after the transaction is rolled back"
+        );
+    }
+
+    @Test
+    @DisplayName("keeps committed changes")
+    void keepsCommittedChanges() throws Exception {
+        RPGLObject youngRedDragon = RPGLFactory.newObject("std:dragon/red/young", TestUtils.TEST_USER);
+        RPGLObject target = RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER);
+
+        try (RPGLTransaction transaction = RPGLTransaction.begin()) {
+            youngRedDragon.invokeEvent(
+                    TestUtils.TEST_ARRAY_0_0_0,
+                    new RPGLObject[] { target },
+                    RPGLFactory.newEvent("std:object/dragon/red/young/breath"),
+                    new ArrayList<>() {{
+                        this.add(youngRedDragon.getResourcesWithTag("action").get(0));
+                        this.add(youngRedDragon.getResourcesWithTag("breath_attack").get(0));
+                    }},
+                    new DummyContext()
+            );
+            transaction.commit();
+        }
+
+        assertEquals(1000 /*base*/ -(16*3) /*damage*/, target.getHealthData().getInteger("current"),
+                "target should keep damage taken during a committed transaction"
+        );
+    }
+
+    @Test
+    @DisplayName("rolls back registrations")
+    void rollsBackRegistrations() {
+        String uuid;
+        try (RPGLTransaction transaction = RPGLTransaction.begin()) {
+            uuid = RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER).getUuid();
+        }
+
+        assertNull(UUIDTable.getObject(uuid),
+                "object registered during the transaction should be unregistered by the rollback"
+        );
+    }
+
+    @Test
+    @DisplayName("rolls back removals")
+    void rollsBackRemovals() {
+        RPGLObject object = RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER);
+        String uuid = object.getUuid();
+
+        try (RPGLTransaction transaction = RPGLTransaction.begin()) {
+            UUIDTable.unregister(uuid);
+        }
+
+        assertSame(object, UUIDTable.getObject(uuid),
+                "object removed during the transaction should be registered again by the rollback"
+        );
+        assertEquals(uuid, object.getUuid(),
+                "object removed during the transaction should have its uuid restored by the rollback"
+        );
+    }
+
+    @Test
+    @DisplayName("rolls back committed nested transactions")
+    void rollsBackCommittedNestedTransactions() {
+        RPGLObject object = RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER);
+
+        try (RPGLTransaction transaction = RPGLTransaction.begin()) {
+            try (RPGLTransaction nestedTransaction = RPGLTransaction.begin()) {
+                UUIDTable.getObject(object.getUuid()).getHealthData().putInteger("current", 1);
+                nestedTransaction.commit();
+            }
+            assertEquals(1, object.getHealthData().getInteger("current"),
+                    "change made in committed nested transaction should be visible to the enclosing transaction"
+            );
+        }
+
+        assertEquals(1000, object.getHealthData().getInteger("current"),
+                "change made in committed nested transaction should be undone by the enclosing rollback"
+        );
+    }
+
+}
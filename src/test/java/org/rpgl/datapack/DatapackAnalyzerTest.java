@@ -0,0 +1,186 @@
+package org.rpgl.datapack;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.rpgl.condition.Condition;
+import org.rpgl.core.RPGLContext;
+import org.rpgl.core.RPGLCore;
+import org.rpgl.core.RPGLEffect;
+import org.rpgl.core.RPGLRuntime;
+import org.rpgl.json.JsonArray;
+import org.rpgl.json.JsonArrayBuilder;
+import org.rpgl.json.JsonObject;
+import org.rpgl.json.JsonObjectBuilder;
+import org.rpgl.subevent.Subevent;
+import org.rpgl.uuidtable.UUIDTable;
+
+import java.io.File;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testing class for the org.rpgl.datapack.DatapackAnalyzer class.
+ *
+ * @author Calvin Withun
+ */
+public class DatapackAnalyzerTest {
+
+    @BeforeAll
+    static void beforeAll() {
+        DatapackLoader.loadDatapacks(
+                new File("src/test/resources/datapacks".replace("/", File.separator))
+        );
+        RPGLCore.initializeTesting();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        DatapackLoader.DATAPACKS.clear();
+    }
+
+    @AfterEach
+    void afterEach() {
+        UUIDTable.clear();
+    }
+
+    @Test
+    @DisplayName("finds subevent cycles")
+    void findsSubeventCycles() {
+        List<DatapackAnalyzer.SubeventCycle> subeventCycles = DatapackAnalyzer.findSubeventCycles();
+
+        assertTrue(subeventCycles.stream().anyMatch(subeventCycle ->
+                        subeventCycle.subeventIds().contains("calculate_ability_score")
+                                && subeventCycle.effectIds().contains("debug:loop_detection_singleton")
+                ),
+                "loop detection effects should be reported as a cycle through calculate_ability_score"
+        );
+        assertTrue(DatapackAnalyzer.isSubeventCyclic("calculate_ability_score"),
+                "calculate_ability_score should lie on a cycle"
+        );
+    }
+
+    @Test
+    @DisplayName("reports acyclic subevents")
+    void reportsAcyclicSubevents() {
+        assertFalse(DatapackAnalyzer.isSubeventCyclic("calculate_proficiency_bonus"),
+                "calculate_proficiency_bonus should not lie on a cycle"
+        );
+        assertFalse(DatapackAnalyzer.isSubeventCyclic("not_a_subevent"),
+                "unfiltered subevents should not lie on a cycle"
+        );
+    }
+
+    @Test
+    @DisplayName("registers effects not loaded from datapacks")
+    void registersEffectsNotLoadedFromDatapacks() {
+        DatapackAnalyzer.registerSubeventFilters(new JsonObject() {{
+            /*{
+                "get_object_tags": [
+                    {
+                        "conditions": [
+                            {
+                                "condition": "object_has_tag",
+                                "object": {
+                                    "from": "subevent",
+                                    "object": "target"
+                                },
+                                "tag": "test_tag"
+                            }
+                        ],
+                        "functions": [ ]
+                    }
+                ]
+            }*/
+            this.putJsonArray("get_object_tags", new JsonArray() {{
+                this.addJsonObject(new JsonObject() {{
+                    this.putJsonArray("conditions", new JsonArray() {{
+                        this.addJsonObject(new JsonObject() {{
+                            this.putString("condition", "object_has_tag");
+                            this.putJsonObject("object", new JsonObject() {{
+                                this.putString("from", "subevent");
+                                this.putString("object", "target");
+                            }});
+                            this.putString("tag", "test_tag");
+                        }});
+                    }});
+                    this.putJsonArray("functions", new JsonArray());
+                }});
+            }});
+        }});
+
+        assertTrue(DatapackAnalyzer.isSubeventCyclic("get_object_tags"),
+                "an effect checking object tags while filtering get_object_tags should form a cycle"
+        );
+    }
+
+    @Test
+    @DisplayName("assumes custom conditions may invoke any subevent")
+    void assumesCustomConditionsMayInvokeAnySubevent() {
+        RPGLRuntime runtime = new RPGLRuntime();
+        runtime.initializeTesting();
+
+        try (RPGLRuntime.Binding binding = runtime.bind()) {
+            Condition.CONDITIONS.put("custom", new Condition("custom") {
+                @Override
+                public boolean run(RPGLEffect effect, Subevent subevent, JsonObject conditionJson, RPGLContext context, JsonArray originPoint) {
+                    return true;
+                }
+            });
+            DatapackAnalyzer.registerSubeventFilters(subeventFilters("calculate_level", "custom"));
+
+            assertTrue(DatapackAnalyzer.isSubeventCyclic("calculate_level"),
+                    "a condition which does not report the subevents it invokes should be assumed to invoke any subevent"
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("keeps subevent graphs of separate runtimes apart")
+    void keepsSubeventGraphsOfSeparateRuntimesApart() {
+        RPGLRuntime runtime = new RPGLRuntime();
+        runtime.initializeTesting();
+
+        try (RPGLRuntime.Binding binding = runtime.bind()) {
+            DatapackAnalyzer.registerSubeventFilters(subeventFilters("calculate_reach", "exiting_reach"));
+
+            assertTrue(DatapackAnalyzer.isSubeventCyclic("calculate_reach"),
+                    "an effect checking reach while filtering calculate_reach should form a cycle"
+            );
+        }
+        assertFalse(DatapackAnalyzer.isSubeventCyclic("calculate_reach"),
+                "effects registered in one runtime should not form cycles in other runtimes"
+        );
+        assertSame(runtime.getSubeventGraph(), runtime.fork().getSubeventGraph(),
+                "forked runtimes should share the subevent graph of their datapacks"
+        );
+    }
+
+    /**
+     * This helper method creates subevent filters with a single Condition and no Functions.
+     *
+     * @param subeventId the filtered subevent ID
+     * @param conditionId the ID of the Condition
+     * @return a JsonObject of subevent filters
+     */
+    private static JsonObject subeventFilters(String subeventId, String conditionId) {
+        return JsonObjectBuilder.create()
+                .putJsonArray(subeventId, JsonArrayBuilder.create()
+                        .addJsonObject(JsonObjectBuilder.create()
+                                .putJsonArray("conditions", JsonArrayBuilder.create()
+                                        .addJsonObject(JsonObjectBuilder.create()
+                                                .putString("condition", conditionId)
+                                                .build())
+                                        .build())
+                                .putJsonArray("functions", new JsonArray())
+                                .build())
+                        .build())
+                .build();
+    }
+
+}
@@ -133,4 +133,51 @@ public class AddBonusTest {
         );
     }
 
+    @Test
+    @DisplayName("adds bonus (compiled)")
+    void addsBonus_compiled() throws Exception {
+        RPGLObject object = RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER);
+
+        calculation.setSource(object);
+        calculation.prepare(new DummyContext(), TestUtils.TEST_ARRAY_0_0_0);
+
+        new AddBonus().compile(new JsonObject() {{
+            /*{
+                "function": "add_bonus",
+                "bonus": [
+                    {
+                        "formula": "range",
+                        "damage_type": "fire",
+                        "dice": [
+                            { "count": 1, "size": 6, "determined": [ 3 ] }
+                        ],
+                        "bonus": 2
+                    }
+                ]
+            }*/
+            this.putString("function", "add_bonus");
+            this.putJsonArray("bonus", new JsonArray() {{
+                this.addJsonObject(new JsonObject() {{
+                    this.putString("formula", "range");
+                    this.putJsonArray("dice", new JsonArray() {{
+                        this.addJsonObject(new JsonObject() {{
+                            this.putInteger("count", 1);
+                            this.putInteger("size", 6);
+                            this.putJsonArray("determined", new JsonArray() {{
+                                this.addInteger(3);
+                            }});
+                        }});
+                    }});
+                    this.putInteger("bonus", 2);
+                }});
+            }});
+        }}).execute(null, calculation, new DummyContext(), TestUtils.TEST_ARRAY_0_0_0);
+
+        String expected = """
+                [{"bonus":2,"dice":[{"determined":[3],"size":6}],"scale":{"denominator":1,"numerator":1,"round_up":false}}]""";
+        assertEquals(expected, calculation.getBonuses().toString(),
+                "execute should add appropriate damage range to collection"
+        );
+    }
+
 }
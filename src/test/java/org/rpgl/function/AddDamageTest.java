@@ -178,6 +178,73 @@ public class AddDamageTest {
         );
     }
 
+    @Test
+    @DisplayName("adds typeless damage (damage collection, compiled)")
+    void addsTypelessDamage_damageCollection_compiled() throws Exception {
+        RPGLObject object = RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER);
+
+        DamageCollection damageCollection = new DamageCollection();
+        damageCollection.setSource(object);
+        damageCollection.prepare(new DummyContext(), TestUtils.TEST_ARRAY_0_0_0);
+        damageCollection.addDamage(new JsonObject() {{
+            /*{
+                "damage_type": "fire",
+                "dice": [ ],
+                "bonus": 5,
+                "scale": {
+                    "numerator": 1,
+                    "denominator": 1,
+                    "round_up": false
+                }
+            }*/
+            this.putString("damage_type", "fire");
+            this.putJsonArray("dice", new JsonArray());
+            this.putInteger("bonus", 5);
+            this.putJsonObject("scale", new JsonObject() {{
+                this.putInteger("numerator", 1);
+                this.putInteger("denominator", 1);
+                this.putBoolean("round_up", false);
+            }});
+        }});
+
+        new AddDamage().compile(new JsonObject() {{
+            /*{
+                "function": "add_damage",
+                "damage": [
+                    {
+                        "formula": "range",
+                        "dice": [
+                            { "count": 1, "size": 6, "determined": [ 3 ] }
+                        ],
+                        "bonus": 0
+                    }
+                ]
+            }*/
+            this.putString("function", "add_damage");
+            this.putJsonArray("damage", new JsonArray() {{
+                this.addJsonObject(new JsonObject() {{
+                    this.putString("formula", "range");
+                    this.putJsonArray("dice", new JsonArray() {{
+                        this.addJsonObject(new JsonObject() {{
+                            this.putInteger("count", 1);
+                            this.putInteger("size", 6);
+                            this.putJsonArray("determined", new JsonArray() {{
+                                this.addInteger(3);
+                            }});
+                        }});
+                    }});
+                    this.putInteger("bonus", 0);
+                }});
+            }});
+        }}).execute(null, damageCollection, new DummyContext(), TestUtils.TEST_ARRAY_0_0_0);
+
+        String expected = """
+                [{"bonus":5,"damage_type":"fire","dice":[],"scale":{"denominator":1,"numerator":1,"round_up":false}},{"bonus":0,"damage_type":"fire","dice":[{"determined":[3],"size":6}],"scale":{"denominator":1,"numerator":1,"round_up":false}}]""";
+        assertEquals(expected, damageCollection.getDamageCollection().toString(),
+                "execute should add appropriate damage range to collection"
+        );
+    }
+
     @Test
     @DisplayName("adds typed damage (critical hit damage collection)")
     void addsTypedDamage_criticalHitDamageCollection() throws Exception {
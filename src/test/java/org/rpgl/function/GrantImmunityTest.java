@@ -89,6 +89,34 @@ public class GrantImmunityTest {
         );
     }
 
+    @Test
+    @DisplayName("grants immunity (specific damage type, compiled)")
+    void grantsImmunity_specificDamageType_compiled() throws Exception {
+        RPGLObject object = RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER);
+
+        DamageAffinity damageAffinity = new DamageAffinity();
+        damageAffinity.setSource(object);
+        damageAffinity.addDamageType("fire");
+        damageAffinity.addDamageType("cold");
+        damageAffinity.prepare(new DummyContext(), TestUtils.TEST_ARRAY_0_0_0);
+
+        new GrantImmunity().compile(new JsonObject() {{
+            /*{
+                "function": "grant_immunity",
+                "damage_type": "fire"
+            }*/
+            this.putString("function", "grant_immunity");
+            this.putString("damage_type", "fire");
+        }}).execute(null, damageAffinity, new DummyContext(), TestUtils.TEST_ARRAY_0_0_0);
+
+        assertTrue(damageAffinity.isImmune("fire"),
+                "execute should grant immunity to fire damage"
+        );
+        assertFalse(damageAffinity.isImmune("cold"),
+                "execute should not grant immunity to other damage types"
+        );
+    }
+
     @Test
     @DisplayName("grants immunity (all damage types)")
     void grantsImmunity_allDamageTypes() throws Exception {
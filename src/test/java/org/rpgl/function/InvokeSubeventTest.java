@@ -109,4 +109,50 @@ public class InvokeSubeventTest {
         );
     }
 
+    @Test
+    @DisplayName("invokes subevent (compiled)")
+    void invokesSubevent_compiled() throws Exception {
+        RPGLObject object = RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER);
+
+        RPGLEffect effect = new RPGLEffect();
+        effect.setSource(object);
+
+        new InvokeSubevent().compile(new JsonObject() {{
+            /*{
+                "function": "invoke_subevent",
+                "subevent": {
+                  "subevent": "dummy_subevent"
+                },
+                "source": {
+                  "from": "effect",
+                  "object": "source"
+                },
+                "targets": [
+                  {
+                    "from": "effect",
+                    "object": "source"
+                  }
+                ]
+            }*/
+            this.putString("function", "invoke_subevent");
+            this.putJsonObject("subevent", new JsonObject() {{
+                this.putString("subevent", "dummy_subevent");
+            }});
+            this.putJsonObject("source", new JsonObject() {{
+                this.putString("from", "effect");
+                this.putString("object", "source");
+            }});
+            this.putJsonArray("targets", new JsonArray() {{
+                this.addJsonObject(new JsonObject() {{
+                    this.putString("from", "effect");
+                    this.putString("object", "source");
+                }});
+            }});
+        }}).execute(effect, new DummySubevent(), new DummyContext(), TestUtils.TEST_ARRAY_0_0_0);
+
+        assertEquals(1, DummySubevent.counter,
+                "execute should invoke dummy subevent"
+        );
+    }
+
 }
@@ -170,6 +170,61 @@ public class RepeatDamageDiceTest {
         );
     }
 
+    @Test
+    @DisplayName("repeats damage dice (count specified, compiled)")
+    void repeatsDamageDice_countSpecified_compiled() throws Exception {
+        RPGLObject object = RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER);
+
+        DamageCollection damageCollection = new DamageCollection();
+        damageCollection.joinSubeventData(new JsonObject() {{
+            /*{
+                "damage": [
+                    {
+                        "formula": "range",
+                        "damage_type": "fire",
+                        "dice": [
+                            { "count": 1, "size": 10, "determined": [ 5 ] }
+                        ],
+                        "bonus": 0
+                    }
+                ]
+            }*/
+            this.putJsonArray("damage", new JsonArray() {{
+                this.addJsonObject(new JsonObject() {{
+                    this.putString("formula", "range");
+                    this.putString("damage_type", "fire");
+                    this.putJsonArray("dice", new JsonArray() {{
+                        this.addJsonObject(new JsonObject() {{
+                            this.putInteger("count", 1);
+                            this.putInteger("size", 10);
+                            this.putJsonArray("determined", new JsonArray() {{
+                                this.addInteger(5);
+                            }});
+                        }});
+                    }});
+                    this.putInteger("bonus", 0);
+                }});
+            }});
+        }});
+        damageCollection.setSource(object);
+        damageCollection.prepare(new DummyContext(), TestUtils.TEST_ARRAY_0_0_0);
+
+        new RepeatDamageDice().compile(new JsonObject() {{
+            /*{
+                "function": "repeat_damage_dice",
+                "count": 2
+            }*/
+            this.putString("function", "repeat_damage_dice");
+            this.putInteger("count", 2);
+        }}).execute(null, damageCollection, new DummyContext(), TestUtils.TEST_ARRAY_0_0_0);
+
+        String expected = """
+                [{"bonus":0,"damage_type":"fire","dice":[{"determined":[5],"size":10},{"determined":[5],"size":10},{"determined":[5],"size":10}],"scale":{"denominator":1,"numerator":1,"round_up":false}}]""";
+        assertEquals(expected, damageCollection.getDamageCollection().toString(),
+                "damage die should be repeated the specified number of times"
+        );
+    }
+
     @Test
     @DisplayName("repeats damage dice (critical hit damage collection)")
     void repeatsDamageDice_criticalHitDamageCollection() throws Exception {
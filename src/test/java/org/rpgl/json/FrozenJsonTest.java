@@ -0,0 +1,93 @@
+package org.rpgl.json;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.rpgl.exception.FrozenDataModificationException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testing class for the org.rpgl.json.FrozenJson class.
+ *
+ * @author Calvin Withun
+ */
+public class FrozenJsonTest {
+
+    @Test
+    @DisplayName("freezes nested data")
+    void freezesNestedData() {
+        JsonObject jsonObject = new JsonObject() {{
+            /*{
+                "key": "value",
+                "object": {
+                    "array": [ 1, 2 ]
+                }
+            }*/
+            this.putString("key", "value");
+            this.putJsonObject("object", new JsonObject() {{
+                this.putJsonArray("array", new JsonArray() {{
+                    this.addInteger(1);
+                    this.addInteger(2);
+                }});
+            }});
+        }};
+        JsonObject frozen = FrozenJson.freeze(jsonObject);
+
+        assertEquals(jsonObject.toString(), frozen.toString(),
+                "frozen data should be equal to the original data"
+        );
+        assertTrue(FrozenJson.isFrozen(frozen),
+                "frozen data should be frozen"
+        );
+        assertFalse(FrozenJson.isFrozen(jsonObject),
+                "original data should not be frozen"
+        );
+        assertSame(frozen, FrozenJson.freeze(frozen),
+                "frozen data should not be copied again"
+        );
+        assertThrows(FrozenDataModificationException.class,
+                () -> frozen.putString("key", "other value"),
+                "frozen maps should not be modifiable"
+        );
+        assertThrows(FrozenDataModificationException.class,
+                () -> frozen.getJsonObject("object").getJsonArray("array").addInteger(3),
+                "nested frozen lists should not be modifiable"
+        );
+        assertThrows(UnsupportedOperationException.class,
+                () -> frozen.asMap().keySet().remove("key"),
+                "frozen map views should not be modifiable"
+        );
+    }
+
+    @Test
+    @DisplayName("deep clones frozen data as modifiable data")
+    void deepClonesFrozenDataAsModifiableData() {
+        JsonObject frozen = FrozenJson.freeze(new JsonObject() {{
+            /*{
+                "object": {
+                    "key": "value"
+                }
+            }*/
+            this.putJsonObject("object", new JsonObject() {{
+                this.putString("key", "value");
+            }});
+        }});
+        JsonObject clone = frozen.deepClone();
+        clone.getJsonObject("object").putString("key", "other value");
+
+        assertFalse(FrozenJson.isFrozen(clone),
+                "deep clones of frozen data should not be frozen"
+        );
+        assertEquals("other value", clone.getJsonObject("object").getString("key"),
+                "deep clones of frozen data should be modifiable"
+        );
+        assertEquals("value", frozen.getJsonObject("object").getString("key"),
+                "modifying a deep clone should not modify frozen data"
+        );
+    }
+
+}
@@ -0,0 +1,139 @@
+package org.rpgl.json;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.rpgl.core.RPGLCore;
+import org.rpgl.core.RPGLFactory;
+import org.rpgl.core.RPGLObject;
+import org.rpgl.datapack.DatapackLoader;
+import org.rpgl.exception.UseAfterReleaseException;
+import org.rpgl.subevent.Subevent;
+import org.rpgl.testUtils.DummyContext;
+import org.rpgl.testUtils.TestUtils;
+import org.rpgl.uuidtable.UUIDTable;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Testing class for the org.rpgl.json.JsonArena class.
+ *
+ * @author Calvin Withun
+ */
+public class JsonArenaTest {
+
+    @BeforeAll
+    static void beforeAll() {
+        DatapackLoader.loadDatapacks(
+                new File("src/test/resources/datapacks".replace("/", File.separator))
+        );
+        RPGLCore.initializeTesting();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        DatapackLoader.DATAPACKS.clear();
+    }
+
+    @AfterEach
+    void afterEach() {
+        UUIDTable.clear();
+    }
+
+    @Test
+    @DisplayName("recycles data after scope closes")
+    void recyclesDataAfterScopeCloses() {
+        JsonArena arena = new JsonArena(false);
+
+        JsonObject first;
+        try (JsonArena.Scope scope = arena.open()) {
+            first = JsonArena.newJsonObject();
+            first.putString("key", "value");
+        }
+
+        JsonObject second;
+        try (JsonArena.Scope scope = arena.open()) {
+            second = JsonArena.newJsonObject();
+        }
+
+        assertSame(first.asMap(), second.asMap(),
+                "map released by the first scope should be leased again by the second scope"
+        );
+        assertNull(second.getString("key"),
+                "recycled map should be empty when leased"
+        );
+    }
+
+    @Test
+    @DisplayName("does not lease data outside of a scope")
+    void doesNotLeaseDataOutsideOfAScope() {
+        new JsonArena(false);
+
+        assertNull(JsonArena.current(),
+                "no arena should be current outside of a scope"
+        );
+    }
+
+    @Test
+    @DisplayName("detects use after release in debug mode")
+    void detectsUseAfterReleaseInDebugMode() {
+        JsonArena arena = new JsonArena(true);
+
+        JsonObject json;
+        try (JsonArena.Scope scope = arena.open()) {
+            json = JsonArena.newJsonObject();
+            json.putString("key", "value");
+        }
+
+        assertThrows(UseAfterReleaseException.class,
+                () -> json.getString("key"),
+                "released map should not be accessible in debug mode"
+        );
+    }
+
+    @Test
+    @DisplayName("pools subevent payloads during event invocation")
+    void poolsSubeventPayloadsDuringEventInvocation() throws Exception {
+        RPGLObject youngRedDragon = RPGLFactory.newObject("std:dragon/red/young", TestUtils.TEST_USER);
+        RPGLObject target = RPGLFactory.newObject("debug:dummy", TestUtils.TEST_USER);
+        List<Subevent> viewedSubevents = new ArrayList<>();
+        DummyContext context = new DummyContext() {
+            @Override
+            public void viewCompletedSubevent(Subevent subevent) {
+                viewedSubevents.add(subevent);
+            }
+        };
+        context.add(youngRedDragon);
+        context.add(target);
+        context.setJsonArena(new JsonArena(true));
+
+        youngRedDragon.invokeEvent(
+                TestUtils.TEST_ARRAY_0_0_0,
+                new RPGLObject[] { target },
+                RPGLFactory.newEvent("std:object/dragon/red/young/breath"),
+                new ArrayList<>() {{
+                    this.add(youngRedDragon.getResourcesWithTag("action").get(0));
+                    this.add(youngRedDragon.getResourcesWithTag("breath_attack").get(0));
+                }},
+                context
+        );
+
+        assertEquals(1000 /*base*/ -(16*3) /*damage*/, target.getHealthData().getInteger("current"),
+                "target should take 48 (16d6) damage from breath attack"
+        );
+        assertThrows(UseAfterReleaseException.class,
+                () -> viewedSubevents.get(0).getTags(),
+                "retained subevent should not be accessible once the event invocation completes"
+        );
+    }
+
+}
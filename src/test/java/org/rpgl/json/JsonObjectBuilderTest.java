@@ -0,0 +1,63 @@
+package org.rpgl.json;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Testing class for the org.rpgl.json.JsonObjectBuilder class.
+ *
+ * @author Calvin Withun
+ */
+public class JsonObjectBuilderTest {
+
+    @Test
+    @DisplayName("builds plain json object")
+    void buildsPlainJsonObject() {
+        JsonObject jsonObject = JsonObjectBuilder.create()
+                .putString("string", "value")
+                .putInteger("integer", 1)
+                .putDouble("double", 1.5)
+                .putBoolean("boolean", true)
+                .putJsonObject("object", JsonObjectBuilder.create().build())
+                .putJsonArray("array", JsonArrayBuilder.create()
+                        .addString("value")
+                        .addInteger(1)
+                        .build())
+                .build();
+
+        assertEquals(JsonObject.class, jsonObject.getClass(),
+                "builder should not produce an anonymous JsonObject subclass"
+        );
+        assertEquals("""
+                {"array":["value",1],"boolean":true,"double":1.5,"integer":1,"object":{},"string":"value"}""",
+                jsonObject.toString(),
+                "builder should assign every value to the built JsonObject"
+        );
+    }
+
+    @Test
+    @DisplayName("leases transient json object from arena")
+    void leasesTransientJsonObjectFromArena() {
+        JsonArena arena = new JsonArena(false);
+
+        JsonObject first;
+        try (JsonArena.Scope scope = arena.open()) {
+            first = JsonObjectBuilder.createTransient()
+                    .putString("key", "value")
+                    .build();
+        }
+
+        JsonObject second;
+        try (JsonArena.Scope scope = arena.open()) {
+            second = JsonArena.newJsonObject();
+        }
+
+        assertSame(first.asMap(), second.asMap(),
+                "transient builder should lease its map from the current arena"
+        );
+    }
+
+}
@@ -0,0 +1,172 @@
+package org.rpgl.math;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.rpgl.core.RPGLCore;
+import org.rpgl.datapack.DatapackLoader;
+import org.rpgl.json.JsonArray;
+import org.rpgl.json.JsonObject;
+import org.rpgl.uuidtable.UUIDTable;
+
+import java.io.File;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testing class for the org.rpgl.math.DicePool class.
+ *
+ * @author Calvin Withun
+ */
+public class DicePoolTest {
+
+    private JsonArray dice;
+
+    @BeforeAll
+    static void beforeAll() {
+        DatapackLoader.loadDatapacks(
+                new File("src/test/resources/datapacks".replace("/", File.separator))
+        );
+        RPGLCore.initializeTesting();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        DatapackLoader.DATAPACKS.clear();
+    }
+
+    @BeforeEach
+    void beforeEach() {
+        dice = new JsonArray() {{
+            /*[
+                { "size": 6, "roll": 1, "determined": [ 5 ] },
+                { "size": 6, "roll": 2, "determined": [ 5 ] },
+                { "size": 6, "roll": 3, "determined": [ 5 ] }
+            ]*/
+            this.addJsonObject(new JsonObject() {{
+                this.putInteger("size", 6);
+                this.putInteger("roll", 1);
+                this.putJsonArray("determined", new JsonArray() {{
+                    this.addInteger(5);
+                }});
+            }});
+            this.addJsonObject(new JsonObject() {{
+                this.putInteger("size", 6);
+                this.putInteger("roll", 2);
+                this.putJsonArray("determined", new JsonArray() {{
+                    this.addInteger(5);
+                }});
+            }});
+            this.addJsonObject(new JsonObject() {{
+                this.putInteger("size", 6);
+                this.putInteger("roll", 3);
+                this.putJsonArray("determined", new JsonArray() {{
+                    this.addInteger(5);
+                }});
+            }});
+        }};
+    }
+
+    @AfterEach
+    void afterEach() {
+        UUIDTable.clear();
+    }
+
+    @Test
+    @DisplayName("reads rolled dice from json")
+    void readsRolledDiceFromJson() {
+        DicePool dicePool = DicePool.fromJson(dice);
+
+        assertEquals(3, dicePool.count(),
+                "pool should hold one die per json die"
+        );
+        assertEquals(6, dicePool.sum(),
+                "pool should keep the rolled values of json dice (1+2+3)"
+        );
+    }
+
+    @Test
+    @DisplayName("rolls dice in bulk")
+    void rollsDiceInBulk() {
+        DicePool dicePool = DicePool.fromJson(dice).roll();
+        dicePool.writeTo(dice);
+
+        String expected = """
+                [{"determined":[],"roll":5,"size":6},{"determined":[],"roll":5,"size":6},{"determined":[],"roll":5,"size":6}]""";
+        assertEquals(expected, dice.toString(),
+                "every die should roll its determined value, consuming it from the json die"
+        );
+    }
+
+    @Test
+    @DisplayName("rolls dice within bounds")
+    void rollsDiceWithinBounds() {
+        DicePool dicePool = DicePool.of(8, 100).roll();
+
+        for (int i = 0; i < dicePool.count(); i++) {
+            assertTrue(dicePool.getRoll(i) >= 1 && dicePool.getRoll(i) <= 8,
+                    "rolled value should be from 1 to the die size"
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("re-rolls low dice")
+    void rerollsLowDice() {
+        DicePool dicePool = DicePool.fromJson(dice).rerollMatchingOrBelow(2);
+        dicePool.writeTo(dice);
+
+        String expected = """
+                [{"determined":[],"roll":5,"size":6},{"determined":[],"roll":5,"size":6},{"determined":[5],"roll":3,"size":6}]""";
+        assertEquals(expected, dice.toString(),
+                "dice which rolled 2 or lower should be re-rolled"
+        );
+    }
+
+    @Test
+    @DisplayName("sets low dice")
+    void setsLowDice() {
+        DicePool dicePool = DicePool.fromJson(dice).setMatchingOrBelow(2, 4);
+
+        assertEquals(11, dicePool.sum(),
+                "dice which rolled 2 or lower should be set to 4 (4+4+3)"
+        );
+    }
+
+    @Test
+    @DisplayName("maximizes dice")
+    void maximizesDice() {
+        DicePool dicePool = DicePool.fromJson(dice).maximize();
+
+        assertEquals(18, dicePool.sum(),
+                "every die should be set to its maximum face value (6+6+6)"
+        );
+    }
+
+    @Test
+    @DisplayName("repeats die")
+    void repeatsDie() {
+        DicePool dicePool = DicePool.fromJson(dice).repeat(0, 2);
+        dicePool.writeTo(dice);
+
+        String expected = """
+                [{"determined":[5],"roll":1,"size":6},{"determined":[5],"roll":2,"size":6},{"determined":[5],"roll":3,"size":6},{"determined":[5],"roll":1,"size":6},{"determined":[5],"roll":1,"size":6}]""";
+        assertEquals(expected, dice.toString(),
+                "repeated dice should be appended to the json dice"
+        );
+    }
+
+    @Test
+    @DisplayName("converts unrolled dice to json")
+    void convertsUnrolledDiceToJson() {
+        assertEquals("""
+                [{"size":4},{"size":4}]""", DicePool.of(4, 2).toJson().toString(),
+                "unrolled dice should not have a roll"
+        );
+    }
+
+}
@@ -0,0 +1,189 @@
+package org.rpgl.math;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.rpgl.core.RPGLContext;
+import org.rpgl.core.RPGLContextActor;
+import org.rpgl.core.RPGLCore;
+import org.rpgl.core.RPGLRuntime;
+import org.rpgl.datapack.DatapackLoader;
+import org.rpgl.testUtils.DummyContext;
+import org.rpgl.uuidtable.UUIDTable;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testing class for the org.rpgl.math.DiceSource class.
+ *
+ * @author Calvin Withun
+ */
+public class DiceSourceTest {
+
+    @BeforeAll
+    static void beforeAll() {
+        DatapackLoader.loadDatapacks(
+                new File("src/test/resources/datapacks".replace("/", File.separator))
+        );
+        RPGLCore.initializeTesting();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        DatapackLoader.DATAPACKS.clear();
+    }
+
+    @AfterEach
+    void afterEach() {
+        UUIDTable.clear();
+    }
+
+    @Test
+    @DisplayName("rolls same values for same seed")
+    void rollsSameValuesForSameSeed() {
+        assertEquals(rolls(DiceSource.seeded(42L), 20), rolls(DiceSource.seeded(42L), 20),
+                "dice sources with the same seed should roll the same values"
+        );
+    }
+
+    @Test
+    @DisplayName("splits independent reproducible streams")
+    void splitsIndependentReproducibleStreams() {
+        DiceSource first = DiceSource.seeded(42L);
+        DiceSource second = DiceSource.seeded(42L);
+
+        List<Integer> firstChildRolls = rolls(first.split(), 20);
+        List<Integer> secondChildRolls = rolls(first.split(), 20);
+
+        assertNotEquals(firstChildRolls, secondChildRolls,
+                "separate splits should produce separate streams"
+        );
+        assertEquals(firstChildRolls, rolls(second.split(), 20),
+                "splits made in the same order should produce the same streams"
+        );
+        assertEquals(secondChildRolls, rolls(second.split(), 20),
+                "splits made in the same order should produce the same streams"
+        );
+    }
+
+    @Test
+    @DisplayName("rolls within die bounds")
+    void rollsWithinDieBounds() {
+        DiceSource diceSource = DiceSource.seeded(42L);
+        for (int i = 0; i < 1000; i++) {
+            int roll = diceSource.roll(6);
+            assertTrue(roll >= 1 && roll <= 6,
+                    "rolled value should be from 1 to the die size"
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("draws from bound dice source")
+    void drawsFromBoundDiceSource() {
+        List<Integer> expected = rolls(DiceSource.seeded(7L), 10);
+
+        List<Integer> actual = new ArrayList<>();
+        try (Die.Binding binding = Die.bind(DiceSource.seeded(7L))) {
+            for (int i = 0; i < 10; i++) {
+                actual.add(Die.roll(100, null));
+            }
+        }
+
+        assertEquals(expected, actual,
+                "Die should draw from the dice source bound to the current thread"
+        );
+        assertSame(RPGLRuntime.getDefault().getDiceSource(), Die.getDiceSource(),
+                "closing a binding should restore the dice source of the current runtime"
+        );
+    }
+
+    @Test
+    @DisplayName("splits context dice source from runtime")
+    void splitsContextDiceSourceFromRuntime() {
+        RPGLRuntime first = new RPGLRuntime().setDiceSource(DiceSource.seeded(42L));
+        RPGLRuntime second = new RPGLRuntime().setDiceSource(DiceSource.seeded(42L));
+
+        RPGLContext firstContext;
+        try (RPGLRuntime.Binding binding = first.bind()) {
+            firstContext = new DummyContext();
+        }
+        RPGLContext secondContext;
+        try (RPGLRuntime.Binding binding = second.bind()) {
+            secondContext = new DummyContext();
+        }
+
+        assertEquals(rolls(firstContext.getDiceSource(), 20), rolls(secondContext.getDiceSource(), 20),
+                "contexts of runtimes with the same seed should roll the same values"
+        );
+    }
+
+    @Test
+    @DisplayName("shuffles list reproducibly")
+    void shufflesListReproducibly() {
+        List<Integer> first = new ArrayList<>(List.of(1, 2, 3, 4, 5, 6, 7, 8));
+        List<Integer> second = new ArrayList<>(List.of(1, 2, 3, 4, 5, 6, 7, 8));
+
+        DiceSource.seeded(42L).shuffle(first);
+        DiceSource.seeded(42L).shuffle(second);
+
+        assertEquals(first, second,
+                "dice sources with the same seed should shuffle lists the same way"
+        );
+        assertEquals(36, first.stream().mapToInt(Integer::intValue).sum(),
+                "shuffling should not add or remove elements"
+        );
+    }
+
+    @Test
+    @DisplayName("rolls same values for same seed across threads")
+    void rollsSameValuesForSameSeedAcrossThreads() throws Exception {
+        DiceSource diceSource = DiceSource.seeded(42L);
+        List<Integer> actual = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            // each draw is made on a new thread, after the previous draw has completed
+            Thread thread = new Thread(() -> actual.add(diceSource.roll(100)));
+            thread.start();
+            thread.join();
+        }
+
+        assertEquals(rolls(DiceSource.seeded(42L), 20), actual,
+                "a seeded dice source should roll the same values regardless of the threads drawing from it"
+        );
+    }
+
+    @Test
+    @DisplayName("rolls same values for seeded context driven by actor")
+    void rollsSameValuesForSeededContextDrivenByActor() throws Exception {
+        RPGLContext context = new DummyContext();
+        context.setDiceSource(DiceSource.seeded(42L));
+        // every command drains on a new thread, so consecutive draws are made from different threads
+        RPGLContextActor actor = new RPGLContextActor(context, runnable -> new Thread(runnable).start());
+        List<Integer> actual = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            actual.add(actor.submit(actorContext -> actorContext.getDiceSource().roll(100)).get());
+        }
+
+        assertEquals(rolls(DiceSource.seeded(42L), 20), actual,
+                "a seeded context should roll the same values regardless of the threads its actor runs on"
+        );
+    }
+
+    private static List<Integer> rolls(DiceSource diceSource, int count) {
+        List<Integer> rolls = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            rolls.add(diceSource.roll(100));
+        }
+        return rolls;
+    }
+
+}
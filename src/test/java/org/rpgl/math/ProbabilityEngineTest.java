@@ -0,0 +1,179 @@
+package org.rpgl.math;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.rpgl.json.JsonArray;
+import org.rpgl.json.JsonObject;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testing class for the org.rpgl.math.ProbabilityEngine class.
+ *
+ * @author Calvin Withun
+ */
+public class ProbabilityEngineTest {
+
+    private static final double DELTA = 1e-9;
+
+    @Test
+    @DisplayName("computes d20 with advantage and disadvantage")
+    void computesD20WithAdvantageAndDisadvantage() {
+        assertEquals(0.05, ProbabilityEngine.d20(true, true).probability(20), DELTA,
+                "advantage and disadvantage should cancel out"
+        );
+        assertEquals(39.0 / 400.0, ProbabilityEngine.d20(true, false).probability(20), DELTA,
+                "a 20 should be rolled with advantage 39 times in 400"
+        );
+        assertEquals(39.0 / 400.0, ProbabilityEngine.d20(false, true).probability(1), DELTA,
+                "a 1 should be rolled with disadvantage 39 times in 400"
+        );
+        assertEquals(13.825, ProbabilityEngine.d20(true, false).mean(), DELTA,
+                "the mean d20 face with advantage should be 13.825"
+        );
+    }
+
+    @Test
+    @DisplayName("computes attack odds")
+    void computesAttackOdds() {
+        ProbabilityEngine.AttackOdds attackOdds = ProbabilityEngine.attack(5, 15, 20, false, false);
+
+        assertEquals(0.45, attackOdds.miss(), DELTA,
+                "faces 1 through 9 should miss"
+        );
+        assertEquals(0.50, attackOdds.hit(), DELTA,
+                "faces 10 through 19 should hit"
+        );
+        assertEquals(0.05, attackOdds.criticalHit(), DELTA,
+                "a face of 20 should be a critical hit"
+        );
+    }
+
+    @Test
+    @DisplayName("computes attack odds (lowered critical hit threshold)")
+    void computesAttackOdds_loweredCriticalHitThreshold() {
+        ProbabilityEngine.AttackOdds attackOdds = ProbabilityEngine.attack(0, 30, 19, false, false);
+
+        assertEquals(0.90, attackOdds.miss(), DELTA,
+                "faces which are not critical hits should miss an unreachable armor class"
+        );
+        assertEquals(0.10, attackOdds.criticalHit(), DELTA,
+                "faces of 19 and 20 should be critical hits regardless of armor class"
+        );
+    }
+
+    @Test
+    @DisplayName("computes attack odds (bonus dice)")
+    void computesAttackOdds_bonusDice() {
+        Distribution bonus = ProbabilityEngine.dice(4, 1, ProbabilityEngine.DiceModifiers.NONE).plus(5);
+        ProbabilityEngine.AttackOdds attackOdds = ProbabilityEngine.attack(bonus, 20, 20, false, false);
+
+        // hits: face 11 needs a 4, face 12 needs 3+, face 13 needs 2+, faces 14-19 always hit
+        assertEquals((0.25 + 0.50 + 0.75 + 6) * 0.05, attackOdds.hit(), DELTA,
+                "bonus dice should be convolved with the d20"
+        );
+    }
+
+    @Test
+    @DisplayName("computes saving throw failure")
+    void computesSavingThrowFailure() {
+        assertEquals(0.45, ProbabilityEngine.savingThrowFailure(2, 12, false, false), DELTA,
+                "faces 1 through 9 should fail"
+        );
+    }
+
+    @Test
+    @DisplayName("computes dice distribution")
+    void computesDiceDistribution() {
+        Distribution distribution = ProbabilityEngine.dice(6, 2, ProbabilityEngine.DiceModifiers.NONE);
+
+        assertEquals(6.0 / 36.0, distribution.probability(7), DELTA,
+                "2d6 should total 7 six times in 36"
+        );
+        assertEquals(7.0, distribution.mean(), DELTA,
+                "2d6 should total 7 on average"
+        );
+        assertSame(distribution, ProbabilityEngine.dice(6, 2, ProbabilityEngine.DiceModifiers.NONE),
+                "dice distributions should be cached by signature"
+        );
+    }
+
+    @Test
+    @DisplayName("bounds cached dice distributions")
+    void boundsCachedDiceDistributions() {
+        Distribution recentlyUsed = ProbabilityEngine.dice(4, 3, ProbabilityEngine.DiceModifiers.NONE);
+        for (int size = 1; size <= ProbabilityEngine.MAX_CACHED_DICE + 100; size++) {
+            ProbabilityEngine.dice(size, 1, ProbabilityEngine.DiceModifiers.NONE);
+            assertSame(recentlyUsed, ProbabilityEngine.dice(4, 3, ProbabilityEngine.DiceModifiers.NONE),
+                    "recently used dice distributions should remain cached"
+            );
+        }
+
+        assertTrue(ProbabilityEngine.getCachedDiceCount() <= ProbabilityEngine.MAX_CACHED_DICE,
+                "the dice cache should not grow past its maximum size"
+        );
+        assertEquals(500.5, ProbabilityEngine.dice(1000, 1, ProbabilityEngine.DiceModifiers.NONE).mean(), DELTA,
+                "evicted dice distributions should be computed again"
+        );
+    }
+
+    @Test
+    @DisplayName("computes dice distribution (modifiers)")
+    void computesDiceDistribution_modifiers() {
+        assertEquals(25.0 / 6.0, ProbabilityEngine.dice(6, 1, new ProbabilityEngine.DiceModifiers(2, 0, 0, false)).mean(), DELTA,
+                "re-rolling a d6 which rolls 2 or lower should average 25/6"
+        );
+        assertEquals(0.5, ProbabilityEngine.dice(4, 1, new ProbabilityEngine.DiceModifiers(0, 1, 2, false)).probability(2), DELTA,
+                "setting a d4 which rolls 1 to 2 should roll 2 half of the time"
+        );
+        assertEquals(1.0, ProbabilityEngine.dice(8, 3, new ProbabilityEngine.DiceModifiers(2, 0, 0, true)).probability(24), DELTA,
+                "maximized dice should always total their maximum face values"
+        );
+    }
+
+    @Test
+    @DisplayName("computes damage distribution")
+    void computesDamageDistribution() {
+        JsonArray damage = new JsonArray() {{
+            /*[
+                {
+                    "damage_type": "fire",
+                    "bonus": 1,
+                    "dice": [
+                        { "size": 6 },
+                        { "size": 6 }
+                    ]
+                }
+            ]*/
+            this.addJsonObject(new JsonObject() {{
+                this.putString("damage_type", "fire");
+                this.putInteger("bonus", 1);
+                this.putJsonArray("dice", new JsonArray() {{
+                    this.addJsonObject(new JsonObject() {{
+                        this.putInteger("size", 6);
+                    }});
+                    this.addJsonObject(new JsonObject() {{
+                        this.putInteger("size", 6);
+                    }});
+                }});
+            }});
+        }};
+
+        assertEquals(8.0, ProbabilityEngine.damage(damage, ProbabilityEngine.DiceModifiers.NONE, "all").mean(), DELTA,
+                "2d6+1 should deal 8 damage on average"
+        );
+        Distribution halfDamage = ProbabilityEngine.damage(damage, ProbabilityEngine.DiceModifiers.NONE, "half");
+        assertEquals(1, halfDamage.getMinimum(),
+                "half damage should be rounded down"
+        );
+        assertEquals(6, halfDamage.getMaximum(),
+                "half damage should be rounded down"
+        );
+        assertEquals(0.0, ProbabilityEngine.damage(damage, ProbabilityEngine.DiceModifiers.NONE, "none").mean(), DELTA,
+                "no damage should be dealt"
+        );
+    }
+
+}
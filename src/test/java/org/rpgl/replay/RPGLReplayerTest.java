@@ -0,0 +1,163 @@
+package org.rpgl.replay;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.rpgl.core.RPGLCore;
+import org.rpgl.core.RPGLEvent;
+import org.rpgl.core.RPGLFactory;
+import org.rpgl.core.RPGLObject;
+import org.rpgl.core.RPGLRuntime;
+import org.rpgl.datapack.DatapackLoader;
+import org.rpgl.exception.ReplayDivergenceException;
+import org.rpgl.json.JsonObject;
+import org.rpgl.math.Die;
+import org.rpgl.testUtils.DummyContext;
+import org.rpgl.testUtils.TestUtils;
+import org.rpgl.uuidtable.UUIDTable;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Testing class for the org.rpgl.replay.RPGLReplayer class.
+ *
+ * @author Calvin Withun
+ */
+public class RPGLReplayerTest {
+
+    private static final String LONGSWORD_ATTACK = "std:item/weapon/melee/martial/longsword/melee";
+
+    private ReplayLog log;
+    private String defenderUuid;
+    private List<Integer> recordedHitPoints;
+
+    @BeforeAll
+    static void beforeAll() {
+        DatapackLoader.loadDatapacks(
+                new File("src/test/resources/datapacks".replace("/", File.separator))
+        );
+        RPGLCore.initializeTesting();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        DatapackLoader.DATAPACKS.clear();
+    }
+
+    @BeforeEach
+    void beforeEach() throws Exception {
+        // determined dice would be honored without drawing, so real draws are made for the recording to capture
+        Die.setTesting(false);
+        RPGLObject attacker = RPGLFactory.newObject("std:humanoid/knight", TestUtils.TEST_USER);
+        RPGLObject defender = RPGLFactory.newObject("std:humanoid/knight", TestUtils.TEST_USER);
+        DummyContext context = new DummyContext();
+        context.add(attacker);
+        context.add(defender);
+
+        RPGLRecorder recorder = new RPGLRecorder(context);
+        recordedHitPoints = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            RPGLEvent event = null;
+            for (RPGLEvent attackerEvent : attacker.getEventObjects(context)) {
+                if (LONGSWORD_ATTACK.equals(attackerEvent.getId())) {
+                    event = attackerEvent;
+                }
+            }
+            recorder.invokeEvent(
+                    attacker,
+                    attacker.getPosition(),
+                    new RPGLObject[] { defender },
+                    event,
+                    attacker.getResourcesWithTag("action")
+            );
+            recordedHitPoints.add(defender.getHealthData().getInteger("current"));
+        }
+        log = recorder.getLog();
+        defenderUuid = defender.getUuid();
+    }
+
+    @AfterEach
+    void afterEach() {
+        Die.setTesting(true);
+        UUIDTable.clear();
+    }
+
+    @Test
+    @DisplayName("replays recorded encounter")
+    void replaysRecordedEncounter() throws Exception {
+        RPGLReplayer replayer = new RPGLReplayer(log, DummyContext::new);
+        replayer.replayAll();
+
+        assertEquals(recordedHitPoints.get(4), hitPoints(replayer),
+                "replayed defender should end with the recorded hit points"
+        );
+    }
+
+    @Test
+    @DisplayName("replays recorded encounter (from json)")
+    void replaysRecordedEncounter_fromJson() throws Exception {
+        RPGLReplayer replayer = new RPGLReplayer(ReplayLog.fromJson(log.toJson()), DummyContext::new);
+        replayer.replayAll();
+
+        assertEquals(recordedHitPoints.get(4), hitPoints(replayer),
+                "replayed defender should end with the recorded hit points"
+        );
+    }
+
+    @Test
+    @DisplayName("seeks to step")
+    void seeksToStep() throws Exception {
+        RPGLReplayer replayer = new RPGLReplayer(log, DummyContext::new);
+
+        replayer.seek(3);
+        assertEquals(recordedHitPoints.get(2), hitPoints(replayer),
+                "defender should have the hit points recorded after 3 steps"
+        );
+
+        replayer.seek(1);
+        assertEquals(1, replayer.getPosition(),
+                "replay should move back to step 1"
+        );
+        assertEquals(recordedHitPoints.get(0), hitPoints(replayer),
+                "defender should have the hit points recorded after 1 step"
+        );
+    }
+
+    @Test
+    @DisplayName("detects divergence")
+    void detectsDivergence() {
+        JsonObject logJson = log.toJson();
+        logJson.putJsonObject("draws", new JsonObject() {{
+            /*{
+                "draws": ""
+            }*/
+            this.putString("draws", "");
+        }});
+        RPGLReplayer replayer = new RPGLReplayer(ReplayLog.fromJson(logJson), DummyContext::new);
+
+        assertThrows(ReplayDivergenceException.class, replayer::step,
+                "replay should fail once it runs out of recorded draws"
+        );
+    }
+
+    /**
+     * This helper method returns the current hit points of the defender in a replay.
+     *
+     * @param replayer a RPGLReplayer
+     * @return the defender's current hit points
+     */
+    private int hitPoints(RPGLReplayer replayer) {
+        try (RPGLRuntime.Binding ignored = replayer.getRuntime().bind()) {
+            return UUIDTable.getObject(defenderUuid).getHealthData().getInteger("current");
+        }
+    }
+
+}
@@ -0,0 +1,92 @@
+package org.rpgl.simulation;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.rpgl.core.RPGLCore;
+import org.rpgl.datapack.DatapackLoader;
+import org.rpgl.uuidtable.UUIDTable;
+
+import java.io.File;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testing class for the org.rpgl.simulation.EncounterSimulator class.
+ *
+ * @author Calvin Withun
+ */
+public class EncounterSimulatorTest {
+
+    private static final String LONGSWORD_ATTACK = "std:item/weapon/melee/martial/longsword/melee";
+
+    @BeforeAll
+    static void beforeAll() {
+        DatapackLoader.loadDatapacks(
+                new File("src/test/resources/datapacks".replace("/", File.separator))
+        );
+        RPGLCore.initializeTesting();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        DatapackLoader.DATAPACKS.clear();
+    }
+
+    @AfterEach
+    void afterEach() {
+        UUIDTable.clear();
+    }
+
+    @Test
+    @DisplayName("simulates one-sided encounter")
+    void simulatesOneSidedEncounter() throws Exception {
+        SimulationResult result = new EncounterSimulator()
+                .addCombatant("std:humanoid/knight", "knights", TurnPolicy.useEvent(LONGSWORD_ATTACK))
+                .addCombatant("std:humanoid/commoner", "commoners", TurnPolicy.idle())
+                .setRuns(20)
+                .setSeed(1L)
+                .simulate();
+
+        assertEquals(1.0, result.getWinRate("knights"), 0.0,
+                "knights should win every encounter against a commoner who does nothing"
+        );
+        assertTrue(result.getAverageDamageDealt("knights") > 0.0,
+                "knights should deal damage"
+        );
+        assertEquals(0.0, result.getAverageDamageDealt("commoners"), 0.0,
+                "commoners should not deal damage"
+        );
+        assertEquals(result.getAverageRounds(), result.getAverageResourcesSpent("knights"), 0.0,
+                "knights should spend one action per round"
+        );
+    }
+
+    @Test
+    @DisplayName("simulates reproducibly for seed")
+    void simulatesReproduciblyForSeed() throws Exception {
+        EncounterSimulator simulator = new EncounterSimulator()
+                .addCombatant("std:humanoid/knight", "red", TurnPolicy.useEvent(LONGSWORD_ATTACK))
+                .addCombatant("std:humanoid/knight", "blue", TurnPolicy.useEvent(LONGSWORD_ATTACK))
+                .setRuns(50)
+                .setSeed(42L);
+
+        SimulationResult first = simulator.setForkJoinPool(new ForkJoinPool(4)).simulate();
+        SimulationResult second = simulator.setForkJoinPool(new ForkJoinPool(1)).simulate();
+
+        assertEquals(first.getRunResults(), second.getRunResults(),
+                "runs should be identical for the same seed, regardless of parallelism"
+        );
+        assertEquals(1.0, first.getWinRate("red") + first.getWinRate("blue") + first.getDrawRate(), 1e-9,
+                "every run should end in a win or a draw"
+        );
+        assertTrue(first.getAverageDamageDealt("red") > 0.0 && first.getAverageDamageDealt("blue") > 0.0,
+                "both teams should deal damage"
+        );
+    }
+
+}
@@ -0,0 +1,130 @@
+package org.rpgl.subevent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.rpgl.json.JsonArray;
+import org.rpgl.json.JsonObject;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testing class for the org.rpgl.subevent.Formula class.
+ *
+ * @author Calvin Withun
+ */
+public class FormulaTest {
+
+    @Test
+    @DisplayName("parses formulas")
+    void parsesFormulas() {
+        assertTrue(Formula.parse(Formulas.range(2)) instanceof Formula.Range,
+                "range formula should be parsed as a Range"
+        );
+        assertTrue(Formula.parse(Formulas.modifier("dex", Formulas.subeventObject("source"))) instanceof Formula.Modifier,
+                "modifier formula should be parsed as a Modifier"
+        );
+        assertTrue(Formula.parse(Formulas.proficiency(Formulas.subeventObject("source"))) instanceof Formula.Proficiency,
+                "proficiency formula should be parsed as a Proficiency"
+        );
+        assertEquals(new Formula.Number(5, Formula.Scale.IDENTITY), Formula.parse(Formulas.number(5)),
+                "number formula should be parsed as a Number"
+        );
+    }
+
+    @Test
+    @DisplayName("parses unexpected formula")
+    void parsesUnexpectedFormula() {
+        JsonObject formulaData = new JsonObject() {{
+            /*{
+                "formula": "not-a-formula"
+            }*/
+            this.putString("formula", "not-a-formula");
+        }};
+
+        assertEquals(new Formula.Number(0, Formula.Scale.IDENTITY), Formula.parse(formulaData),
+                "unexpected formula should be parsed as a Number of 0"
+        );
+    }
+
+    @Test
+    @DisplayName("parses scale")
+    void parsesScale() {
+        assertSame(Formula.Scale.IDENTITY, Formula.Scale.parse(Formulas.defaultScale()),
+                "default scale should be parsed as the identity scale"
+        );
+        assertEquals(new Formula.Scale(1, 2, true), Formula.Scale.parse(new JsonObject() {{
+                    /*{
+                        "round_up": true
+                    }*/
+                    this.putBoolean("round_up", true);
+                }}),
+                "missing scale fields should default to one half"
+        );
+    }
+
+    @Test
+    @DisplayName("parses identity scales as the identity scale")
+    void parsesIdentityScalesAsTheIdentityScale() {
+        JsonObject bonus = Formulas.bonus(2, new JsonArray(), Formulas.defaultScale());
+
+        assertSame(Formula.Scale.IDENTITY, Formula.Scale.parse(bonus.getJsonObject("scale")),
+                "default scale read back from a bonus should be parsed as the identity scale"
+        );
+        assertSame(Formula.Scale.IDENTITY, Formula.Scale.parse(new JsonObject() {{
+                    /*{
+                        "numerator": 1,
+                        "denominator": 1,
+                        "round_up": false
+                    }*/
+                    this.putInteger("numerator", 1);
+                    this.putInteger("denominator", 1);
+                    this.putBoolean("round_up", false);
+                }}),
+                "scale data describing the identity scale should be parsed as the identity scale"
+        );
+        assertEquals(7, new Formula.Scale(1, 1, false).apply(7),
+                "identity scales should leave values unchanged"
+        );
+    }
+
+    @Test
+    @DisplayName("converts to bonus")
+    void convertsToBonus() throws Exception {
+        JsonObject formulaData = new JsonObject() {{
+            /*{
+                "formula": "range",
+                "bonus": 3,
+                "dice": [
+                    { "count": 2, "size": 4 }
+                ],
+                "scale": {
+                    "numerator": 1,
+                    "denominator": 2,
+                    "round_up": false
+                }
+            }*/
+            this.putString("formula", "range");
+            this.putInteger("bonus", 3);
+            this.putJsonArray("dice", new JsonArray() {{
+                this.addJsonObject(new JsonObject() {{
+                    this.putInteger("count", 2);
+                    this.putInteger("size", 4);
+                }});
+            }});
+            this.putJsonObject("scale", new JsonObject() {{
+                this.putInteger("numerator", 1);
+                this.putInteger("denominator", 2);
+                this.putBoolean("round_up", false);
+            }});
+        }};
+
+        String expected = """
+                {"bonus":3,"dice":[{"size":4},{"size":4}],"scale":{"denominator":2,"numerator":1,"round_up":false}}""";
+        assertEquals(expected, Formula.parse(formulaData).toBonus(null, null, null).toString(),
+                "range should be converted to a bonus with unpacked dice and its scale"
+        );
+    }
+
+}